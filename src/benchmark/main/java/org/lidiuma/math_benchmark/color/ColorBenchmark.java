@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.color;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.color.ColorF32;
+import org.lidiuma.math.color.Colors;
+import org.lidiuma.math.rotation.Rotations;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the colors were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class ColorBenchmark {
+
+    private static final UnaryOperator<Float> LINEAR = alpha -> alpha;
+
+    private float r1, g1, b1, a1;
+    private float r2, g2, b2, a2;
+    private float alpha;
+    private int packed;
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        r1 = random.nextFloat(); g1 = random.nextFloat(); b1 = random.nextFloat(); a1 = random.nextFloat();
+        r2 = random.nextFloat(); g2 = random.nextFloat(); b2 = random.nextFloat(); a2 = random.nextFloat();
+        alpha = random.nextFloat();
+        packed = random.nextInt();
+    }
+
+    @Benchmark
+    public void rgba(Blackhole hole) {
+        consume(hole, Colors.rgbaF32(packed));
+    }
+
+    @Benchmark
+    public void rgbaPrimitive(Blackhole hole) {
+        hole.consume(((packed >>> 24) & 0xFF) / 255f);
+        hole.consume(((packed >>> 16) & 0xFF) / 255f);
+        hole.consume(((packed >>> 8) & 0xFF) / 255f);
+        hole.consume((packed & 0xFF) / 255f);
+    }
+
+    @Benchmark
+    public void interpolate(Blackhole hole) {
+        consume(hole, Colors.interpolate(new ColorF32(r1, g1, b1, a1), new ColorF32(r2, g2, b2, a2), alpha, LINEAR));
+    }
+
+    @Benchmark
+    public void interpolatePrimitive(Blackhole hole) {
+        hole.consume(r1 + (r2 - r1) * alpha);
+        hole.consume(g1 + (g2 - g1) * alpha);
+        hole.consume(b1 + (b2 - b1) * alpha);
+        hole.consume(a1 + (a2 - a1) * alpha);
+    }
+
+    @Benchmark
+    public void clamp(Blackhole hole) {
+        consume(hole, Colors.clamp(new ColorF32(r1, g1, b1, a1), new ColorF32(.25f, .25f, .25f, .25f), new ColorF32(.75f, .75f, .75f, .75f)));
+    }
+
+    @Benchmark
+    public void clampPrimitive(Blackhole hole) {
+        hole.consume(Math.clamp(r1, .25f, .75f));
+        hole.consume(Math.clamp(g1, .25f, .75f));
+        hole.consume(Math.clamp(b1, .25f, .75f));
+        hole.consume(Math.clamp(a1, .25f, .75f));
+    }
+
+    @Benchmark
+    public void hsv(Blackhole hole) {
+        consume(hole, Colors.hsvF32(Rotations.radians(alpha * 6f), g1, b1));
+    }
+
+    @Benchmark
+    public void hsvPrimitive(Blackhole hole) {
+        final float hue = alpha * 6f;
+        final float x = (float) ((hue % Math.TAU) / (Math.TAU / 6f));
+        final int zone = (int) x;
+        final float remainder = x - zone;
+        final float p = b1 * (1f - g1);
+        final float q = b1 * (1f - g1 * remainder);
+        final float t = b1 * (1f - g1 * (1f - remainder));
+        switch (zone) {
+            case 0 -> { hole.consume(b1); hole.consume(t); hole.consume(p); }
+            case 1 -> { hole.consume(q); hole.consume(b1); hole.consume(p); }
+            case 2 -> { hole.consume(p); hole.consume(b1); hole.consume(t); }
+            case 3 -> { hole.consume(p); hole.consume(q); hole.consume(b1); }
+            case 4 -> { hole.consume(t); hole.consume(p); hole.consume(b1); }
+            default -> { hole.consume(b1); hole.consume(p); hole.consume(q); }
+        }
+        hole.consume(1f);
+    }
+
+    // Feeding the color directly will force it to go onto the heap, killing performance.
+    private static void consume(Blackhole hole, ColorF32 c) {
+        hole.consume(c.red());
+        hole.consume(c.green());
+        hole.consume(c.blue());
+        hole.consume(c.alpha());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.color;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.color.ColorF64;
+import org.lidiuma.math.color.Colors;
+import org.lidiuma.math.rotation.Rotations;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+/// The F64 twin of [ColorBenchmark], the double precision types have their own specialized `Ops`.\
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the colors were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class ColorF64Benchmark {
+
+    private static final UnaryOperator<Double> LINEAR = alpha -> alpha;
+
+    private double r1, g1, b1, a1;
+    private double r2, g2, b2, a2;
+    private double alpha;
+    private int packed;
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        r1 = random.nextDouble(); g1 = random.nextDouble(); b1 = random.nextDouble(); a1 = random.nextDouble();
+        r2 = random.nextDouble(); g2 = random.nextDouble(); b2 = random.nextDouble(); a2 = random.nextDouble();
+        alpha = random.nextDouble();
+        packed = random.nextInt();
+    }
+
+    @Benchmark
+    public void rgba(Blackhole hole) {
+        consume(hole, Colors.rgbaF64(packed));
+    }
+
+    @Benchmark
+    public void rgbaPrimitive(Blackhole hole) {
+        hole.consume(((packed >>> 24) & 0xFF) / 255d);
+        hole.consume(((packed >>> 16) & 0xFF) / 255d);
+        hole.consume(((packed >>> 8) & 0xFF) / 255d);
+        hole.consume((packed & 0xFF) / 255d);
+    }
+
+    @Benchmark
+    public void interpolate(Blackhole hole) {
+        consume(hole, Colors.interpolate(new ColorF64(r1, g1, b1, a1), new ColorF64(r2, g2, b2, a2), alpha, LINEAR));
+    }
+
+    @Benchmark
+    public void interpolatePrimitive(Blackhole hole) {
+        hole.consume(r1 + (r2 - r1) * alpha);
+        hole.consume(g1 + (g2 - g1) * alpha);
+        hole.consume(b1 + (b2 - b1) * alpha);
+        hole.consume(a1 + (a2 - a1) * alpha);
+    }
+
+    @Benchmark
+    public void clamp(Blackhole hole) {
+        consume(hole, Colors.clamp(new ColorF64(r1, g1, b1, a1), new ColorF64(.25d, .25d, .25d, .25d), new ColorF64(.75d, .75d, .75d, .75d)));
+    }
+
+    @Benchmark
+    public void clampPrimitive(Blackhole hole) {
+        hole.consume(Math.clamp(r1, .25d, .75d));
+        hole.consume(Math.clamp(g1, .25d, .75d));
+        hole.consume(Math.clamp(b1, .25d, .75d));
+        hole.consume(Math.clamp(a1, .25d, .75d));
+    }
+
+    @Benchmark
+    public void hsv(Blackhole hole) {
+        consume(hole, Colors.hsvF64(Rotations.radians(alpha * 6d), g1, b1));
+    }
+
+    @Benchmark
+    public void hsvPrimitive(Blackhole hole) {
+        final double hue = alpha * 6d;
+        final double x = (hue % Math.TAU) / (Math.TAU / 6d);
+        final int zone = (int) x;
+        final double remainder = x - zone;
+        final double p = b1 * (1d - g1);
+        final double q = b1 * (1d - g1 * remainder);
+        final double t = b1 * (1d - g1 * (1d - remainder));
+        switch (zone) {
+            case 0 -> { hole.consume(b1); hole.consume(t); hole.consume(p); }
+            case 1 -> { hole.consume(q); hole.consume(b1); hole.consume(p); }
+            case 2 -> { hole.consume(p); hole.consume(b1); hole.consume(t); }
+            case 3 -> { hole.consume(p); hole.consume(q); hole.consume(b1); }
+            case 4 -> { hole.consume(t); hole.consume(p); hole.consume(b1); }
+            default -> { hole.consume(b1); hole.consume(p); hole.consume(q); }
+        }
+        hole.consume(1d);
+    }
+
+    // Feeding the color directly will force it to go onto the heap, killing performance.
+    private static void consume(Blackhole hole, ColorF64 c) {
+        hole.consume(c.red());
+        hole.consume(c.green());
+        hole.consume(c.blue());
+        hole.consume(c.alpha());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.matrix;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.matrix.Affine3F64;
+import org.lidiuma.math.matrix.Matrices;
+import org.lidiuma.math.rotation.Rotations;
+import org.lidiuma.math.vector.Vectors;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// The F64 twin of [AffineBenchmark], the double precision types have their own specialized `Ops`.\
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the matrices were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class AffineF64Benchmark {
+
+    private double angle;
+    private double x, y, z;
+    private double scale;
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        angle = random.nextDouble();
+        x = random.nextDouble(); y = random.nextDouble(); z = random.nextDouble();
+        scale = random.nextDouble() + .5d;
+    }
+
+    @Benchmark
+    public void fromRotation2D(Blackhole hole) {
+        final var m = Matrices.fromRotation(Rotations.radians(angle));
+        hole.consume(m.m00()); hole.consume(m.m01()); hole.consume(m.m02());
+        hole.consume(m.m10()); hole.consume(m.m11()); hole.consume(m.m12());
+    }
+
+    @Benchmark
+    public void fromRotation2DPrimitive(Blackhole hole) {
+        final double cos = Math.cos(angle);
+        final double sin = Math.sin(angle);
+        hole.consume(cos); hole.consume(-sin); hole.consume(0d);
+        hole.consume(sin); hole.consume(cos); hole.consume(0d);
+    }
+
+    @Benchmark
+    public void fromTRS(Blackhole hole) {
+        final var rotation = Rotations.fromAxisAngle(Vectors.vec3(0d, 1d, 0d), Rotations.radians(angle));
+        consume(hole, Matrices.fromTRS(Vectors.vec3(x, y, z), rotation, Vectors.vec3(scale, scale, scale)));
+    }
+
+    @Benchmark
+    public void fromTRSPrimitive(Blackhole hole) {
+        // A rotation around the y axis, so the quaternion matrix reduces to cos/sin.
+        final double cos = Math.cos(angle);
+        final double sin = Math.sin(angle);
+        hole.consume(cos * scale); hole.consume(0d); hole.consume(sin * scale); hole.consume(x);
+        hole.consume(0d); hole.consume(scale); hole.consume(0d); hole.consume(y);
+        hole.consume(-sin * scale); hole.consume(0d); hole.consume(cos * scale); hole.consume(z);
+    }
+
+    @Benchmark
+    public void transform(Blackhole hole) {
+        final var rotation = Rotations.fromAxisAngle(Vectors.vec3(0d, 1d, 0d), Rotations.radians(angle));
+        final var r = Matrices.multiply(Matrices.fromTRS(Vectors.vec3(x, y, z), rotation, Vectors.vec3(scale, scale, scale)), Vectors.vec3(z, x, y));
+        hole.consume(r.x());
+        hole.consume(r.y());
+        hole.consume(r.z());
+    }
+
+    @Benchmark
+    public void transformPrimitive(Blackhole hole) {
+        final double cos = Math.cos(angle) * scale;
+        final double sin = Math.sin(angle) * scale;
+        hole.consume(cos * z + sin * y + x);
+        hole.consume(scale * x + y);
+        hole.consume(-sin * z + cos * y + z);
+    }
+
+    // Feeding the matrix directly will force it to go onto the heap, killing performance.
+    private static void consume(Blackhole hole, Affine3F64 m) {
+        hole.consume(m.m00()); hole.consume(m.m01()); hole.consume(m.m02()); hole.consume(m.m03());
+        hole.consume(m.m10()); hole.consume(m.m11()); hole.consume(m.m12()); hole.consume(m.m13());
+        hole.consume(m.m20()); hole.consume(m.m21()); hole.consume(m.m22()); hole.consume(m.m23());
+    }
+}
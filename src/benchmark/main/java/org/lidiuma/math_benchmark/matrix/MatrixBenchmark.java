@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.matrix;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.matrix.Matrices;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.vector.Vec4F32;
+import org.lidiuma.math.vector.Vectors;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the matrices were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class MatrixBenchmark {
+
+    private final float[] a = new float[16];
+    private final float[] b = new float[16];
+    private final float[] v = new float[4];
+    // Default values, not actually used.
+    private Matrix4F32 matrixA = Matrices.identityMatrix4F32();
+    private Matrix4F32 matrixB = Matrices.identityMatrix4F32();
+    private Vec4F32 vector = Vectors.zeroVec4F32();
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        for (int i = 0; i < 16; i++) {
+            a[i] = random.nextFloat();
+            b[i] = random.nextFloat();
+        }
+        for (int i = 0; i < 4; i++) v[i] = random.nextFloat();
+        matrixA = matrix(a);
+        matrixB = matrix(b);
+        vector = new Vec4F32(v[0], v[1], v[2], v[3]);
+    }
+
+    @Benchmark
+    public void multiply(Blackhole hole) {
+        final var m = Matrices.multiply(matrixA, matrixB);
+        hole.consume(m.m00()); hole.consume(m.m01()); hole.consume(m.m02()); hole.consume(m.m03());
+        hole.consume(m.m10()); hole.consume(m.m11()); hole.consume(m.m12()); hole.consume(m.m13());
+        hole.consume(m.m20()); hole.consume(m.m21()); hole.consume(m.m22()); hole.consume(m.m23());
+        hole.consume(m.m30()); hole.consume(m.m31()); hole.consume(m.m32()); hole.consume(m.m33());
+    }
+
+    @Benchmark
+    public void multiplyPrimitive(Blackhole hole) {
+        for (int row = 0; row < 4; row++) {
+            for (int column = 0; column < 4; column++) {
+                hole.consume(a[row * 4] * b[column] + a[row * 4 + 1] * b[4 + column] + a[row * 4 + 2] * b[8 + column] + a[row * 4 + 3] * b[12 + column]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void multiplyVector(Blackhole hole) {
+        final var r = Matrices.multiply(matrixA, vector);
+        hole.consume(r.x());
+        hole.consume(r.y());
+        hole.consume(r.z());
+        hole.consume(r.w());
+    }
+
+    @Benchmark
+    public void multiplyVectorPrimitive(Blackhole hole) {
+        for (int row = 0; row < 4; row++) {
+            hole.consume(a[row * 4] * v[0] + a[row * 4 + 1] * v[1] + a[row * 4 + 2] * v[2] + a[row * 4 + 3] * v[3]);
+        }
+    }
+
+    @Benchmark
+    public void determinant(Blackhole hole) {
+        final float determinant = Matrices.determinant(matrixA);
+        hole.consume(determinant);
+    }
+
+    @Benchmark
+    public void determinantPrimitive(Blackhole hole) {
+        final float s0 = a[0] * a[5] - a[4] * a[1];
+        final float s1 = a[0] * a[6] - a[4] * a[2];
+        final float s2 = a[0] * a[7] - a[4] * a[3];
+        final float s3 = a[1] * a[6] - a[5] * a[2];
+        final float s4 = a[1] * a[7] - a[5] * a[3];
+        final float s5 = a[2] * a[7] - a[6] * a[3];
+        final float c5 = a[10] * a[15] - a[14] * a[11];
+        final float c4 = a[9] * a[15] - a[13] * a[11];
+        final float c3 = a[9] * a[14] - a[13] * a[10];
+        final float c2 = a[8] * a[15] - a[12] * a[11];
+        final float c1 = a[8] * a[14] - a[12] * a[10];
+        final float c0 = a[8] * a[13] - a[12] * a[9];
+        hole.consume(s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0);
+    }
+
+    private static Matrix4F32 matrix(float[] m) {
+        return new Matrix4F32(
+                m[0], m[1], m[2], m[3],
+                m[4], m[5], m[6], m[7],
+                m[8], m[9], m[10], m[11],
+                m[12], m[13], m[14], m[15]
+        );
+    }
+}
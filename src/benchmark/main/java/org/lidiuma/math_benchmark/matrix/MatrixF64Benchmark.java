@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.matrix;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.matrix.Matrices;
+import org.lidiuma.math.matrix.Matrix4F64;
+import org.lidiuma.math.vector.Vec4F64;
+import org.lidiuma.math.vector.Vectors;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// The F64 twin of [MatrixBenchmark], the double precision types have their own specialized `Ops`.\
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the matrices were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class MatrixF64Benchmark {
+
+    private final double[] a = new double[16];
+    private final double[] b = new double[16];
+    private final double[] v = new double[4];
+    // Default values, not actually used.
+    private Matrix4F64 matrixA = Matrices.identityMatrix4F64();
+    private Matrix4F64 matrixB = Matrices.identityMatrix4F64();
+    private Vec4F64 vector = Vectors.zeroVec4F64();
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        for (int i = 0; i < 16; i++) {
+            a[i] = random.nextDouble();
+            b[i] = random.nextDouble();
+        }
+        for (int i = 0; i < 4; i++) v[i] = random.nextDouble();
+        matrixA = matrix(a);
+        matrixB = matrix(b);
+        vector = new Vec4F64(v[0], v[1], v[2], v[3]);
+    }
+
+    @Benchmark
+    public void multiply(Blackhole hole) {
+        final var m = Matrices.multiply(matrixA, matrixB);
+        hole.consume(m.m00()); hole.consume(m.m01()); hole.consume(m.m02()); hole.consume(m.m03());
+        hole.consume(m.m10()); hole.consume(m.m11()); hole.consume(m.m12()); hole.consume(m.m13());
+        hole.consume(m.m20()); hole.consume(m.m21()); hole.consume(m.m22()); hole.consume(m.m23());
+        hole.consume(m.m30()); hole.consume(m.m31()); hole.consume(m.m32()); hole.consume(m.m33());
+    }
+
+    @Benchmark
+    public void multiplyPrimitive(Blackhole hole) {
+        for (int row = 0; row < 4; row++) {
+            for (int column = 0; column < 4; column++) {
+                hole.consume(a[row * 4] * b[column] + a[row * 4 + 1] * b[4 + column] + a[row * 4 + 2] * b[8 + column] + a[row * 4 + 3] * b[12 + column]);
+            }
+        }
+    }
+
+    @Benchmark
+    public void multiplyVector(Blackhole hole) {
+        final var r = Matrices.multiply(matrixA, vector);
+        hole.consume(r.x());
+        hole.consume(r.y());
+        hole.consume(r.z());
+        hole.consume(r.w());
+    }
+
+    @Benchmark
+    public void multiplyVectorPrimitive(Blackhole hole) {
+        for (int row = 0; row < 4; row++) {
+            hole.consume(a[row * 4] * v[0] + a[row * 4 + 1] * v[1] + a[row * 4 + 2] * v[2] + a[row * 4 + 3] * v[3]);
+        }
+    }
+
+    @Benchmark
+    public void determinant(Blackhole hole) {
+        final double determinant = Matrices.determinant(matrixA);
+        hole.consume(determinant);
+    }
+
+    @Benchmark
+    public void determinantPrimitive(Blackhole hole) {
+        final double s0 = a[0] * a[5] - a[4] * a[1];
+        final double s1 = a[0] * a[6] - a[4] * a[2];
+        final double s2 = a[0] * a[7] - a[4] * a[3];
+        final double s3 = a[1] * a[6] - a[5] * a[2];
+        final double s4 = a[1] * a[7] - a[5] * a[3];
+        final double s5 = a[2] * a[7] - a[6] * a[3];
+        final double c5 = a[10] * a[15] - a[14] * a[11];
+        final double c4 = a[9] * a[15] - a[13] * a[11];
+        final double c3 = a[9] * a[14] - a[13] * a[10];
+        final double c2 = a[8] * a[15] - a[12] * a[11];
+        final double c1 = a[8] * a[14] - a[12] * a[10];
+        final double c0 = a[8] * a[13] - a[12] * a[9];
+        hole.consume(s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0);
+    }
+
+    private static Matrix4F64 matrix(double[] m) {
+        return new Matrix4F64(
+                m[0], m[1], m[2], m[3],
+                m[4], m[5], m[6], m[7],
+                m[8], m[9], m[10], m[11],
+                m[12], m[13], m[14], m[15]
+        );
+    }
+}
@@ -0,0 +1,638 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math_benchmark.matrix;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.api.traits.matrix.Affine2Ops;
+import org.lidiuma.math.api.traits.matrix.Affine3Ops;
+import org.lidiuma.math.api.traits.matrix.Matrix3Ops;
+import org.lidiuma.math.api.traits.matrix.Matrix4Ops;
+import org.lidiuma.math.matrix.Affine2F32;
+import org.lidiuma.math.matrix.Affine2F64;
+import org.lidiuma.math.matrix.Affine3F32;
+import org.lidiuma.math.matrix.Affine3F64;
+import org.lidiuma.math.matrix.Matrix3F32;
+import org.lidiuma.math.matrix.Matrix3F64;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.matrix.Matrix4F64;
+import org.lidiuma.math.matrix.Matrices;
+import org.lidiuma.math.vector.Vec2F32;
+import org.lidiuma.math.vector.Vec2F64;
+import org.lidiuma.math.vector.Vec3F32;
+import org.lidiuma.math.vector.Vec3F64;
+import org.lidiuma.math.vector.Vec4F32;
+import org.lidiuma.math.vector.Vec4F64;
+import org.lidiuma.math.vector.Vectors;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// Compares the hand-specialized `multiply` overrides against the generic defaults they replace.\
+/// The generic defaults are too large to inline, so every `multiply(M, M)` and `multiply(M, V)` of the matrix `Ops` is unrolled by hand,
+///  and each override has a pair of benchmarks here.
+/// The inherited variants go through an `Ops` implementing only the abstract methods of the trait.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class MultiplyBenchmark {
+
+    private static final InheritedMatrix4F32 INHERITED_MATRIX4_F32 = new InheritedMatrix4F32();
+    private static final InheritedMatrix4F64 INHERITED_MATRIX4_F64 = new InheritedMatrix4F64();
+    private static final InheritedAffine3F32 INHERITED_AFFINE3_F32 = new InheritedAffine3F32();
+    private static final InheritedAffine3F64 INHERITED_AFFINE3_F64 = new InheritedAffine3F64();
+    private static final InheritedMatrix3F32 INHERITED_MATRIX3_F32 = new InheritedMatrix3F32();
+    private static final InheritedMatrix3F64 INHERITED_MATRIX3_F64 = new InheritedMatrix3F64();
+    private static final InheritedAffine2F32 INHERITED_AFFINE2_F32 = new InheritedAffine2F32();
+    private static final InheritedAffine2F64 INHERITED_AFFINE2_F64 = new InheritedAffine2F64();
+
+    // Default values, not actually used.
+    private Matrix4F32 matrix4F32A = Matrices.identityMatrix4F32();
+    private Matrix4F32 matrix4F32B = Matrices.identityMatrix4F32();
+    private Vec4F32 matrix4F32Vector = Vectors.zeroVec4F32();
+    private Matrix4F64 matrix4F64A = Matrices.identityMatrix4F64();
+    private Matrix4F64 matrix4F64B = Matrices.identityMatrix4F64();
+    private Vec4F64 matrix4F64Vector = Vectors.zeroVec4F64();
+    private Affine3F32 affine3F32A = Matrices.identityAffine3F32();
+    private Affine3F32 affine3F32B = Matrices.identityAffine3F32();
+    private Vec3F32 affine3F32Vector = Vectors.zeroVec3F32();
+    private Affine3F64 affine3F64A = Matrices.identityAffine3F64();
+    private Affine3F64 affine3F64B = Matrices.identityAffine3F64();
+    private Vec3F64 affine3F64Vector = Vectors.zeroVec3F64();
+    private Matrix3F32 matrix3F32A = Matrices.identityMatrix3F32();
+    private Matrix3F32 matrix3F32B = Matrices.identityMatrix3F32();
+    private Vec3F32 matrix3F32Vector = Vectors.zeroVec3F32();
+    private Matrix3F64 matrix3F64A = Matrices.identityMatrix3F64();
+    private Matrix3F64 matrix3F64B = Matrices.identityMatrix3F64();
+    private Vec3F64 matrix3F64Vector = Vectors.zeroVec3F64();
+    private Affine2F32 affine2F32A = Matrices.identityAffine2F32();
+    private Affine2F32 affine2F32B = Matrices.identityAffine2F32();
+    private Vec2F32 affine2F32Vector = Vectors.zeroVec2F32();
+    private Affine2F64 affine2F64A = Matrices.identityAffine2F64();
+    private Affine2F64 affine2F64B = Matrices.identityAffine2F64();
+    private Vec2F64 affine2F64Vector = Vectors.zeroVec2F64();
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        matrix4F32A = randomMatrix4F32(random);
+        matrix4F32B = randomMatrix4F32(random);
+        matrix4F32Vector = randomVec4F32(random);
+        matrix4F64A = randomMatrix4F64(random);
+        matrix4F64B = randomMatrix4F64(random);
+        matrix4F64Vector = randomVec4F64(random);
+        affine3F32A = randomAffine3F32(random);
+        affine3F32B = randomAffine3F32(random);
+        affine3F32Vector = randomVec3F32(random);
+        affine3F64A = randomAffine3F64(random);
+        affine3F64B = randomAffine3F64(random);
+        affine3F64Vector = randomVec3F64(random);
+        matrix3F32A = randomMatrix3F32(random);
+        matrix3F32B = randomMatrix3F32(random);
+        matrix3F32Vector = randomVec3F32(random);
+        matrix3F64A = randomMatrix3F64(random);
+        matrix3F64B = randomMatrix3F64(random);
+        matrix3F64Vector = randomVec3F64(random);
+        affine2F32A = randomAffine2F32(random);
+        affine2F32B = randomAffine2F32(random);
+        affine2F32Vector = randomVec2F32(random);
+        affine2F64A = randomAffine2F64(random);
+        affine2F64B = randomAffine2F64(random);
+        affine2F64Vector = randomVec2F64(random);
+    }
+
+    @Benchmark
+    public void matrix4F32Specialized(Blackhole hole) {
+        consume(hole, Matrix4F32.OPS.multiply(matrix4F32A, matrix4F32B));
+    }
+
+    @Benchmark
+    public void matrix4F32VectorSpecialized(Blackhole hole) {
+        consume(hole, Matrix4F32.OPS.multiply(matrix4F32A, matrix4F32Vector));
+    }
+
+    @Benchmark
+    public void matrix4F32Inherited(Blackhole hole) {
+        consume(hole, INHERITED_MATRIX4_F32.multiply(matrix4F32A, matrix4F32B));
+    }
+
+    @Benchmark
+    public void matrix4F32VectorInherited(Blackhole hole) {
+        consume(hole, INHERITED_MATRIX4_F32.multiply(matrix4F32A, matrix4F32Vector));
+    }
+
+    @Benchmark
+    public void matrix4F64Specialized(Blackhole hole) {
+        consume(hole, Matrix4F64.OPS.multiply(matrix4F64A, matrix4F64B));
+    }
+
+    @Benchmark
+    public void matrix4F64VectorSpecialized(Blackhole hole) {
+        consume(hole, Matrix4F64.OPS.multiply(matrix4F64A, matrix4F64Vector));
+    }
+
+    @Benchmark
+    public void matrix4F64Inherited(Blackhole hole) {
+        consume(hole, INHERITED_MATRIX4_F64.multiply(matrix4F64A, matrix4F64B));
+    }
+
+    @Benchmark
+    public void matrix4F64VectorInherited(Blackhole hole) {
+        consume(hole, INHERITED_MATRIX4_F64.multiply(matrix4F64A, matrix4F64Vector));
+    }
+
+    @Benchmark
+    public void affine3F32Specialized(Blackhole hole) {
+        consume(hole, Affine3F32.OPS.multiply(affine3F32A, affine3F32B));
+    }
+
+    @Benchmark
+    public void affine3F32VectorSpecialized(Blackhole hole) {
+        consume(hole, Affine3F32.OPS.multiply(affine3F32A, affine3F32Vector));
+    }
+
+    @Benchmark
+    public void affine3F32Inherited(Blackhole hole) {
+        consume(hole, INHERITED_AFFINE3_F32.multiply(affine3F32A, affine3F32B));
+    }
+
+    @Benchmark
+    public void affine3F32VectorInherited(Blackhole hole) {
+        consume(hole, INHERITED_AFFINE3_F32.multiply(affine3F32A, affine3F32Vector));
+    }
+
+    @Benchmark
+    public void affine3F64Specialized(Blackhole hole) {
+        consume(hole, Affine3F64.OPS.multiply(affine3F64A, affine3F64B));
+    }
+
+    @Benchmark
+    public void affine3F64VectorSpecialized(Blackhole hole) {
+        consume(hole, Affine3F64.OPS.multiply(affine3F64A, affine3F64Vector));
+    }
+
+    @Benchmark
+    public void affine3F64Inherited(Blackhole hole) {
+        consume(hole, INHERITED_AFFINE3_F64.multiply(affine3F64A, affine3F64B));
+    }
+
+    @Benchmark
+    public void affine3F64VectorInherited(Blackhole hole) {
+        consume(hole, INHERITED_AFFINE3_F64.multiply(affine3F64A, affine3F64Vector));
+    }
+
+    @Benchmark
+    public void matrix3F32Specialized(Blackhole hole) {
+        consume(hole, Matrix3F32.OPS.multiply(matrix3F32A, matrix3F32B));
+    }
+
+    @Benchmark
+    public void matrix3F32VectorSpecialized(Blackhole hole) {
+        consume(hole, Matrix3F32.OPS.multiply(matrix3F32A, matrix3F32Vector));
+    }
+
+    @Benchmark
+    public void matrix3F32Inherited(Blackhole hole) {
+        consume(hole, INHERITED_MATRIX3_F32.multiply(matrix3F32A, matrix3F32B));
+    }
+
+    @Benchmark
+    public void matrix3F32VectorInherited(Blackhole hole) {
+        consume(hole, INHERITED_MATRIX3_F32.multiply(matrix3F32A, matrix3F32Vector));
+    }
+
+    @Benchmark
+    public void matrix3F64Specialized(Blackhole hole) {
+        consume(hole, Matrix3F64.OPS.multiply(matrix3F64A, matrix3F64B));
+    }
+
+    @Benchmark
+    public void matrix3F64VectorSpecialized(Blackhole hole) {
+        consume(hole, Matrix3F64.OPS.multiply(matrix3F64A, matrix3F64Vector));
+    }
+
+    @Benchmark
+    public void matrix3F64Inherited(Blackhole hole) {
+        consume(hole, INHERITED_MATRIX3_F64.multiply(matrix3F64A, matrix3F64B));
+    }
+
+    @Benchmark
+    public void matrix3F64VectorInherited(Blackhole hole) {
+        consume(hole, INHERITED_MATRIX3_F64.multiply(matrix3F64A, matrix3F64Vector));
+    }
+
+    @Benchmark
+    public void affine2F32Specialized(Blackhole hole) {
+        consume(hole, Affine2F32.OPS.multiply(affine2F32A, affine2F32B));
+    }
+
+    @Benchmark
+    public void affine2F32VectorSpecialized(Blackhole hole) {
+        consume(hole, Affine2F32.OPS.multiply(affine2F32A, affine2F32Vector));
+    }
+
+    @Benchmark
+    public void affine2F32Inherited(Blackhole hole) {
+        consume(hole, INHERITED_AFFINE2_F32.multiply(affine2F32A, affine2F32B));
+    }
+
+    @Benchmark
+    public void affine2F32VectorInherited(Blackhole hole) {
+        consume(hole, INHERITED_AFFINE2_F32.multiply(affine2F32A, affine2F32Vector));
+    }
+
+    @Benchmark
+    public void affine2F64Specialized(Blackhole hole) {
+        consume(hole, Affine2F64.OPS.multiply(affine2F64A, affine2F64B));
+    }
+
+    @Benchmark
+    public void affine2F64VectorSpecialized(Blackhole hole) {
+        consume(hole, Affine2F64.OPS.multiply(affine2F64A, affine2F64Vector));
+    }
+
+    @Benchmark
+    public void affine2F64Inherited(Blackhole hole) {
+        consume(hole, INHERITED_AFFINE2_F64.multiply(affine2F64A, affine2F64B));
+    }
+
+    @Benchmark
+    public void affine2F64VectorInherited(Blackhole hole) {
+        consume(hole, INHERITED_AFFINE2_F64.multiply(affine2F64A, affine2F64Vector));
+    }
+
+    private static Matrix4F32 randomMatrix4F32(Random random) {
+        return new Matrix4F32(
+                random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat()
+        );
+    }
+
+    private static Matrix4F64 randomMatrix4F64(Random random) {
+        return new Matrix4F64(
+                random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble()
+        );
+    }
+
+    private static Affine3F32 randomAffine3F32(Random random) {
+        return new Affine3F32(
+                random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat()
+        );
+    }
+
+    private static Affine3F64 randomAffine3F64(Random random) {
+        return new Affine3F64(
+                random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble()
+        );
+    }
+
+    private static Vec4F32 randomVec4F32(Random random) {
+        return new Vec4F32(
+                random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat()
+        );
+    }
+
+    private static Vec4F64 randomVec4F64(Random random) {
+        return new Vec4F64(
+                random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble()
+        );
+    }
+
+    private static Vec3F32 randomVec3F32(Random random) {
+        return new Vec3F32(
+                random.nextFloat(), random.nextFloat(), random.nextFloat()
+        );
+    }
+
+    private static Vec3F64 randomVec3F64(Random random) {
+        return new Vec3F64(
+                random.nextDouble(), random.nextDouble(), random.nextDouble()
+        );
+    }
+
+    private static Matrix3F32 randomMatrix3F32(Random random) {
+        return new Matrix3F32(
+                random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                random.nextFloat(), random.nextFloat(), random.nextFloat()
+        );
+    }
+
+    private static Affine2F32 randomAffine2F32(Random random) {
+        return new Affine2F32(
+                random.nextFloat(), random.nextFloat(), random.nextFloat(),
+                random.nextFloat(), random.nextFloat(), random.nextFloat()
+        );
+    }
+
+    private static Vec2F32 randomVec2F32(Random random) {
+        return new Vec2F32(
+                random.nextFloat(), random.nextFloat()
+        );
+    }
+
+    private static Matrix3F64 randomMatrix3F64(Random random) {
+        return new Matrix3F64(
+                random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                random.nextDouble(), random.nextDouble(), random.nextDouble()
+        );
+    }
+
+    private static Affine2F64 randomAffine2F64(Random random) {
+        return new Affine2F64(
+                random.nextDouble(), random.nextDouble(), random.nextDouble(),
+                random.nextDouble(), random.nextDouble(), random.nextDouble()
+        );
+    }
+
+    private static Vec2F64 randomVec2F64(Random random) {
+        return new Vec2F64(
+                random.nextDouble(), random.nextDouble()
+        );
+    }
+
+    // Feeding the result directly will force it to go onto the heap, so every component is consumed.
+    private static void consume(Blackhole hole, Matrix4F32 m) {
+        hole.consume(m.m00());
+        hole.consume(m.m01());
+        hole.consume(m.m02());
+        hole.consume(m.m03());
+        hole.consume(m.m10());
+        hole.consume(m.m11());
+        hole.consume(m.m12());
+        hole.consume(m.m13());
+        hole.consume(m.m20());
+        hole.consume(m.m21());
+        hole.consume(m.m22());
+        hole.consume(m.m23());
+        hole.consume(m.m30());
+        hole.consume(m.m31());
+        hole.consume(m.m32());
+        hole.consume(m.m33());
+    }
+
+    private static void consume(Blackhole hole, Vec4F32 v) {
+        hole.consume(v.x());
+        hole.consume(v.y());
+        hole.consume(v.z());
+        hole.consume(v.w());
+    }
+
+    private static void consume(Blackhole hole, Matrix4F64 m) {
+        hole.consume(m.m00());
+        hole.consume(m.m01());
+        hole.consume(m.m02());
+        hole.consume(m.m03());
+        hole.consume(m.m10());
+        hole.consume(m.m11());
+        hole.consume(m.m12());
+        hole.consume(m.m13());
+        hole.consume(m.m20());
+        hole.consume(m.m21());
+        hole.consume(m.m22());
+        hole.consume(m.m23());
+        hole.consume(m.m30());
+        hole.consume(m.m31());
+        hole.consume(m.m32());
+        hole.consume(m.m33());
+    }
+
+    private static void consume(Blackhole hole, Vec4F64 v) {
+        hole.consume(v.x());
+        hole.consume(v.y());
+        hole.consume(v.z());
+        hole.consume(v.w());
+    }
+
+    private static void consume(Blackhole hole, Affine3F32 m) {
+        hole.consume(m.m00());
+        hole.consume(m.m01());
+        hole.consume(m.m02());
+        hole.consume(m.m03());
+        hole.consume(m.m10());
+        hole.consume(m.m11());
+        hole.consume(m.m12());
+        hole.consume(m.m13());
+        hole.consume(m.m20());
+        hole.consume(m.m21());
+        hole.consume(m.m22());
+        hole.consume(m.m23());
+    }
+
+    private static void consume(Blackhole hole, Vec3F32 v) {
+        hole.consume(v.x());
+        hole.consume(v.y());
+        hole.consume(v.z());
+    }
+
+    private static void consume(Blackhole hole, Affine3F64 m) {
+        hole.consume(m.m00());
+        hole.consume(m.m01());
+        hole.consume(m.m02());
+        hole.consume(m.m03());
+        hole.consume(m.m10());
+        hole.consume(m.m11());
+        hole.consume(m.m12());
+        hole.consume(m.m13());
+        hole.consume(m.m20());
+        hole.consume(m.m21());
+        hole.consume(m.m22());
+        hole.consume(m.m23());
+    }
+
+    private static void consume(Blackhole hole, Vec3F64 v) {
+        hole.consume(v.x());
+        hole.consume(v.y());
+        hole.consume(v.z());
+    }
+
+    private static void consume(Blackhole hole, Matrix3F32 m) {
+        hole.consume(m.m00());
+        hole.consume(m.m01());
+        hole.consume(m.m02());
+        hole.consume(m.m10());
+        hole.consume(m.m11());
+        hole.consume(m.m12());
+        hole.consume(m.m20());
+        hole.consume(m.m21());
+        hole.consume(m.m22());
+    }
+
+    private static void consume(Blackhole hole, Affine2F32 m) {
+        hole.consume(m.m00());
+        hole.consume(m.m01());
+        hole.consume(m.m02());
+        hole.consume(m.m10());
+        hole.consume(m.m11());
+        hole.consume(m.m12());
+    }
+
+    private static void consume(Blackhole hole, Vec2F32 v) {
+        hole.consume(v.x());
+        hole.consume(v.y());
+    }
+
+    private static void consume(Blackhole hole, Matrix3F64 m) {
+        hole.consume(m.m00());
+        hole.consume(m.m01());
+        hole.consume(m.m02());
+        hole.consume(m.m10());
+        hole.consume(m.m11());
+        hole.consume(m.m12());
+        hole.consume(m.m20());
+        hole.consume(m.m21());
+        hole.consume(m.m22());
+    }
+
+    private static void consume(Blackhole hole, Affine2F64 m) {
+        hole.consume(m.m00());
+        hole.consume(m.m01());
+        hole.consume(m.m02());
+        hole.consume(m.m10());
+        hole.consume(m.m11());
+        hole.consume(m.m12());
+    }
+
+    private static void consume(Blackhole hole, Vec2F64 v) {
+        hole.consume(v.x());
+        hole.consume(v.y());
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Matrix4Ops].
+    private static final value class InheritedMatrix4F32 implements Matrix4Ops<Matrix4F32, Vec4F32, Float> {
+
+        @Override
+        public Matrix4F32 of(Float m00, Float m01, Float m02, Float m03, Float m10, Float m11, Float m12, Float m13, Float m20, Float m21, Float m22, Float m23, Float m30, Float m31, Float m32, Float m33) {
+            return new Matrix4F32(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+        }
+
+        @Override
+        public Vec4F32.Ops vectorOps() {
+            return Vec4F32.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Matrix4Ops].
+    private static final value class InheritedMatrix4F64 implements Matrix4Ops<Matrix4F64, Vec4F64, Double> {
+
+        @Override
+        public Matrix4F64 of(Double m00, Double m01, Double m02, Double m03, Double m10, Double m11, Double m12, Double m13, Double m20, Double m21, Double m22, Double m23, Double m30, Double m31, Double m32, Double m33) {
+            return new Matrix4F64(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+        }
+
+        @Override
+        public Vec4F64.Ops vectorOps() {
+            return Vec4F64.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Affine3Ops].
+    private static final value class InheritedAffine3F32 implements Affine3Ops<Affine3F32, Vec3F32, Float> {
+
+        @Override
+        public Affine3F32 of(Float m00, Float m01, Float m02, Float m03, Float m10, Float m11, Float m12, Float m13, Float m20, Float m21, Float m22, Float m23) {
+            return new Affine3F32(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23);
+        }
+
+        @Override
+        public Vec3F32.Ops vectorOps() {
+            return Vec3F32.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Affine3Ops].
+    private static final value class InheritedAffine3F64 implements Affine3Ops<Affine3F64, Vec3F64, Double> {
+
+        @Override
+        public Affine3F64 of(Double m00, Double m01, Double m02, Double m03, Double m10, Double m11, Double m12, Double m13, Double m20, Double m21, Double m22, Double m23) {
+            return new Affine3F64(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23);
+        }
+
+        @Override
+        public Vec3F64.Ops vectorOps() {
+            return Vec3F64.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Matrix3Ops].
+    private static final value class InheritedMatrix3F32 implements Matrix3Ops<Matrix3F32, Vec3F32, Float> {
+
+        @Override
+        public Matrix3F32 of(Float m00, Float m01, Float m02, Float m10, Float m11, Float m12, Float m20, Float m21, Float m22) {
+            return new Matrix3F32(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+        }
+
+        @Override
+        public Vec3F32.Ops vectorOps() {
+            return Vec3F32.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Affine2Ops].
+    private static final value class InheritedAffine2F32 implements Affine2Ops<Affine2F32, Vec2F32, Float> {
+
+        @Override
+        public Affine2F32 of(Float m00, Float m01, Float m02, Float m10, Float m11, Float m12) {
+            return new Affine2F32(m00, m01, m02, m10, m11, m12);
+        }
+
+        @Override
+        public Vec2F32.Ops vectorOps() {
+            return Vec2F32.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Matrix3Ops].
+    private static final value class InheritedMatrix3F64 implements Matrix3Ops<Matrix3F64, Vec3F64, Double> {
+
+        @Override
+        public Matrix3F64 of(Double m00, Double m01, Double m02, Double m10, Double m11, Double m12, Double m20, Double m21, Double m22) {
+            return new Matrix3F64(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+        }
+
+        @Override
+        public Vec3F64.Ops vectorOps() {
+            return Vec3F64.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Affine2Ops].
+    private static final value class InheritedAffine2F64 implements Affine2Ops<Affine2F64, Vec2F64, Double> {
+
+        @Override
+        public Affine2F64 of(Double m00, Double m01, Double m02, Double m10, Double m11, Double m12) {
+            return new Affine2F64(m00, m01, m02, m10, m11, m12);
+        }
+
+        @Override
+        public Vec2F64.Ops vectorOps() {
+            return Vec2F64.OPS;
+        }
+    }
+}
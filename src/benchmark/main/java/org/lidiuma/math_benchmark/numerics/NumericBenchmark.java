@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.numerics;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.api.traits.numeric.OrderableFloatingNumerical;
+import org.lidiuma.math.numerics.FloatNumeric;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// The numeric type-classes are what every generic default method goes through,
+///  so the boxed `Float` must disappear once inlined.\
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the boxes were not eliminated.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class NumericBenchmark {
+
+    private float a, b, c;
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        a = random.nextFloat(); b = random.nextFloat(); c = random.nextFloat() + 1f;
+    }
+
+    @Benchmark
+    public void arithmetic(Blackhole hole) {
+        final float result = arithmetic(FloatNumeric.OPS, a, b, c);
+        hole.consume(result);
+    }
+
+    @Benchmark
+    public void arithmeticPrimitive(Blackhole hole) {
+        hole.consume((float) Math.sqrt((a + b) * c / c - a));
+    }
+
+    @Benchmark
+    public void floorCeil(Blackhole hole) {
+        final var ops = FloatNumeric.OPS;
+        final float result = ops.add(ops.floor(a * 10f), ops.ceil(b * 10f));
+        hole.consume(result);
+    }
+
+    @Benchmark
+    public void floorCeilPrimitive(Blackhole hole) {
+        hole.consume((float) Math.floor(a * 10f) + (float) Math.ceil(b * 10f));
+    }
+
+    // Written against the trait, like the generic default methods are.
+    private static <N> N arithmetic(OrderableFloatingNumerical<N> ops, N a, N b, N c) {
+        return ops.sqrt(ops.add(ops.divide(ops.multiply(ops.add(a, b), c), c), ops.negated(a)));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math_benchmark.numerics;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.api.traits.numeric.OrderableNumerical;
+import org.lidiuma.math.numerics.IntegerNumeric;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// The I32 twin of [NumericBenchmark], the integer vectors go through [IntegerNumeric],
+///  so the boxed `Integer` must disappear once inlined.\
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the boxes were not eliminated.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class NumericI32Benchmark {
+
+    private int a, b, c;
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        // Outside the Integer cache, so a box that survives is a real allocation.
+        a = random.nextInt(1024, 4096); b = random.nextInt(1024, 4096); c = random.nextInt(1024, 4096);
+    }
+
+    @Benchmark
+    public void arithmetic(Blackhole hole) {
+        final int result = arithmetic(IntegerNumeric.OPS, a, b, c);
+        hole.consume(result);
+    }
+
+    @Benchmark
+    public void arithmeticPrimitive(Blackhole hole) {
+        hole.consume((a + b) * c / c % a - b);
+    }
+
+    @Benchmark
+    public void compare(Blackhole hole) {
+        final var ops = IntegerNumeric.OPS;
+        final int result = ops.lessThan(a, b) ? ops.add(a, c) : ops.add(b, c);
+        hole.consume(result);
+    }
+
+    @Benchmark
+    public void comparePrimitive(Blackhole hole) {
+        hole.consume(a < b ? a + c : b + c);
+    }
+
+    // Written against the trait, like the generic default methods are.
+    private static <N> N arithmetic(OrderableNumerical<N> ops, N a, N b, N c) {
+        return ops.add(ops.remainder(ops.divide(ops.multiply(ops.add(a, b), c), c), a), ops.negated(b));
+    }
+}
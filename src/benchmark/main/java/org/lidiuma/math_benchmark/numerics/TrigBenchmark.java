@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.numerics;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.numerics.TrigPrecision;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// Compares the [TrigPrecision] tiers in both precisions, the primitive baseline is [Math#sin(double)] and [Math#cos(double)].\
+/// [TrigPrecision#STRICT] should match the baseline, [TrigPrecision#FAST] and [TrigPrecision#TABLE] are only worth their error if they beat it.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class TrigBenchmark {
+
+    private float angleF32;
+    private double angleF64;
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        angleF32 = (random.nextFloat() * 2f - 1f) * 10f; // A few turns, so the reduction is not a no-op.
+        angleF64 = (random.nextDouble() * 2d - 1d) * 10d;
+    }
+
+    @Benchmark
+    public void sinF32Strict(Blackhole hole) {
+        hole.consume(TrigPrecision.STRICT.sin(angleF32));
+    }
+
+    @Benchmark
+    public void sinF32Fast(Blackhole hole) {
+        hole.consume(TrigPrecision.FAST.sin(angleF32));
+    }
+
+    @Benchmark
+    public void sinF32Table(Blackhole hole) {
+        hole.consume(TrigPrecision.TABLE.sin(angleF32));
+    }
+
+    @Benchmark
+    public void sinF32Primitive(Blackhole hole) {
+        hole.consume((float) Math.sin(angleF32));
+    }
+
+    @Benchmark
+    public void sinCosF32Strict(Blackhole hole) {
+        final var sinCos = TrigPrecision.STRICT.sinCos(angleF32);
+        hole.consume(sinCos.sin());
+        hole.consume(sinCos.cos());
+    }
+
+    @Benchmark
+    public void sinCosF32Fast(Blackhole hole) {
+        final var sinCos = TrigPrecision.FAST.sinCos(angleF32);
+        hole.consume(sinCos.sin());
+        hole.consume(sinCos.cos());
+    }
+
+    @Benchmark
+    public void sinCosF32Table(Blackhole hole) {
+        final var sinCos = TrigPrecision.TABLE.sinCos(angleF32);
+        hole.consume(sinCos.sin());
+        hole.consume(sinCos.cos());
+    }
+
+    @Benchmark
+    public void sinCosF32Primitive(Blackhole hole) {
+        hole.consume((float) Math.sin(angleF32));
+        hole.consume((float) Math.cos(angleF32));
+    }
+
+    @Benchmark
+    public void sinF64Strict(Blackhole hole) {
+        hole.consume(TrigPrecision.STRICT.sin(angleF64));
+    }
+
+    @Benchmark
+    public void sinF64Fast(Blackhole hole) {
+        hole.consume(TrigPrecision.FAST.sin(angleF64));
+    }
+
+    @Benchmark
+    public void sinF64Table(Blackhole hole) {
+        hole.consume(TrigPrecision.TABLE.sin(angleF64));
+    }
+
+    @Benchmark
+    public void sinF64Primitive(Blackhole hole) {
+        hole.consume(Math.sin(angleF64));
+    }
+
+    @Benchmark
+    public void sinCosF64Strict(Blackhole hole) {
+        final var sinCos = TrigPrecision.STRICT.sinCos(angleF64);
+        hole.consume(sinCos.sin());
+        hole.consume(sinCos.cos());
+    }
+
+    @Benchmark
+    public void sinCosF64Fast(Blackhole hole) {
+        final var sinCos = TrigPrecision.FAST.sinCos(angleF64);
+        hole.consume(sinCos.sin());
+        hole.consume(sinCos.cos());
+    }
+
+    @Benchmark
+    public void sinCosF64Table(Blackhole hole) {
+        final var sinCos = TrigPrecision.TABLE.sinCos(angleF64);
+        hole.consume(sinCos.sin());
+        hole.consume(sinCos.cos());
+    }
+
+    @Benchmark
+    public void sinCosF64Primitive(Blackhole hole) {
+        hole.consume(Math.sin(angleF64));
+        hole.consume(Math.cos(angleF64));
+    }
+}
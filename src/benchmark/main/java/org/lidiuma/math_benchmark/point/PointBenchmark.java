@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.point;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.point.Point3F32;
+import org.lidiuma.math.point.Points;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the points were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class PointBenchmark {
+
+    private static final UnaryOperator<Float> LINEAR = alpha -> alpha;
+
+    private float x1, y1, z1;
+    private float x2, y2, z2;
+    private float alpha;
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        x1 = random.nextFloat(); y1 = random.nextFloat(); z1 = random.nextFloat();
+        x2 = random.nextFloat(); y2 = random.nextFloat(); z2 = random.nextFloat();
+        alpha = random.nextFloat();
+    }
+
+    @Benchmark
+    public void distance(Blackhole hole) {
+        final float distance = Points.distance(new Point3F32(x1, y1, z1), new Point3F32(x2, y2, z2));
+        hole.consume(distance);
+    }
+
+    @Benchmark
+    public void distancePrimitive(Blackhole hole) {
+        final float dx = x2 - x1, dy = y2 - y1, dz = z2 - z1;
+        hole.consume((float) Math.sqrt(dx * dx + dy * dy + dz * dz));
+    }
+
+    @Benchmark
+    public void interpolate(Blackhole hole) {
+        consume(hole, Points.interpolate(new Point3F32(x1, y1, z1), new Point3F32(x2, y2, z2), alpha, LINEAR));
+    }
+
+    @Benchmark
+    public void interpolatePrimitive(Blackhole hole) {
+        hole.consume(x1 + (x2 - x1) * alpha);
+        hole.consume(y1 + (y2 - y1) * alpha);
+        hole.consume(z1 + (z2 - z1) * alpha);
+    }
+
+    // Feeding the point directly will force it to go onto the heap, killing performance.
+    private static void consume(Blackhole hole, Point3F32 p) {
+        hole.consume(p.x());
+        hole.consume(p.y());
+        hole.consume(p.z());
+    }
+}
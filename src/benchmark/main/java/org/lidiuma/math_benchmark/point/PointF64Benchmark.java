@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.point;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.point.Point3F64;
+import org.lidiuma.math.point.Points;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+/// The F64 twin of [PointBenchmark], the double precision types have their own specialized `Ops`.\
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the points were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class PointF64Benchmark {
+
+    private static final UnaryOperator<Double> LINEAR = alpha -> alpha;
+
+    private double x1, y1, z1;
+    private double x2, y2, z2;
+    private double alpha;
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        x1 = random.nextDouble(); y1 = random.nextDouble(); z1 = random.nextDouble();
+        x2 = random.nextDouble(); y2 = random.nextDouble(); z2 = random.nextDouble();
+        alpha = random.nextDouble();
+    }
+
+    @Benchmark
+    public void distance(Blackhole hole) {
+        final double distance = Points.distance(new Point3F64(x1, y1, z1), new Point3F64(x2, y2, z2));
+        hole.consume(distance);
+    }
+
+    @Benchmark
+    public void distancePrimitive(Blackhole hole) {
+        final double dx = x2 - x1, dy = y2 - y1, dz = z2 - z1;
+        hole.consume(Math.sqrt(dx * dx + dy * dy + dz * dz));
+    }
+
+    @Benchmark
+    public void interpolate(Blackhole hole) {
+        consume(hole, Points.interpolate(new Point3F64(x1, y1, z1), new Point3F64(x2, y2, z2), alpha, LINEAR));
+    }
+
+    @Benchmark
+    public void interpolatePrimitive(Blackhole hole) {
+        hole.consume(x1 + (x2 - x1) * alpha);
+        hole.consume(y1 + (y2 - y1) * alpha);
+        hole.consume(z1 + (z2 - z1) * alpha);
+    }
+
+    // Feeding the point directly will force it to go onto the heap, killing performance.
+    private static void consume(Blackhole hole, Point3F64 p) {
+        hole.consume(p.x());
+        hole.consume(p.y());
+        hole.consume(p.z());
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.rotation;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.rotation.AngleF32;
+import org.lidiuma.math.rotation.Rotations;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the angles were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class AngleBenchmark {
+
+    private float value;
+
+    @Setup
+    public void setup() {
+        value = (new Random().nextFloat() - .5f) * 1000f;
+    }
+
+    @Benchmark
+    public void degrees(Blackhole hole) {
+        final AngleF32 angle = Rotations.degrees(value);
+        final float degree = angle.degree();
+        hole.consume(degree);
+    }
+
+    @Benchmark
+    public void degreesPrimitive(Blackhole hole) {
+        final float radian = (float) Math.toRadians(value);
+        hole.consume((float) Math.toDegrees(radian));
+    }
+
+    @Benchmark
+    public void normalize(Blackhole hole) {
+        final float radian = AngleF32.normalize(Rotations.radians(value)).radian();
+        hole.consume(radian);
+    }
+
+    @Benchmark
+    public void normalizePrimitive(Blackhole hole) {
+        final float normalized = (float) (value % Math.TAU);
+        hole.consume((float) (normalized + (normalized < 0f ? Math.TAU : 0f)));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.rotation;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.numerics.TrigPrecision;
+import org.lidiuma.math.rotation.AngleF32;
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.rotation.Rotations;
+import org.lidiuma.math.vector.Vec3F32;
+import org.lidiuma.math.vector.Vectors;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the quaternions were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class QuaternionBenchmark {
+
+    private float angle1, angle2, angle3;
+    private float x, y, z;
+    private float alpha;
+    // Default values, not actually used.
+    private QuaternionF32 quat1 = Rotations.identityF32();
+    private QuaternionF32 quat2 = Rotations.identityF32();
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        angle1 = random.nextFloat(); angle2 = random.nextFloat(); angle3 = random.nextFloat();
+        x = random.nextFloat(); y = random.nextFloat(); z = random.nextFloat();
+        alpha = random.nextFloat();
+        quat1 = Rotations.fromAxisAngle(Vectors.normalize(Vectors.vec3(x, y, z)), Rotations.radians(angle1));
+        quat2 = Rotations.fromAxisAngle(Vectors.normalize(Vectors.vec3(z, x, y)), Rotations.radians(angle2));
+    }
+
+    @Benchmark
+    public void fromAxisAngle(Blackhole hole) {
+        consume(hole, Rotations.fromAxisAngle(Vectors.vec3(x, y, z), Rotations.radians(angle1)));
+    }
+
+    @Benchmark
+    public void fromAxisAnglePrimitive(Blackhole hole) {
+        final float half = angle1 * .5f;
+        final float sin = (float) Math.sin(half);
+        hole.consume(x * sin);
+        hole.consume(y * sin);
+        hole.consume(z * sin);
+        hole.consume((float) Math.cos(half));
+    }
+
+    @Benchmark
+    public void fromEulerAngle(Blackhole hole) {
+        consume(hole, Rotations.fromEulerAngle(Rotations.radians(angle1), Rotations.radians(angle2), Rotations.radians(angle3)));
+    }
+
+    @Benchmark
+    public void fromEulerAngleFast(Blackhole hole) {
+        consume(hole, Rotations.fromEulerAngle(Rotations.radians(angle1), Rotations.radians(angle2), Rotations.radians(angle3), TrigPrecision.FAST));
+    }
+
+    @Benchmark
+    public void fromEulerAngleTable(Blackhole hole) {
+        consume(hole, Rotations.fromEulerAngle(Rotations.radians(angle1), Rotations.radians(angle2), Rotations.radians(angle3), TrigPrecision.TABLE));
+    }
+
+    @Benchmark
+    public void fromEulerAnglePrimitive(Blackhole hole) {
+        final float shr = (float) Math.sin(angle3 * .5f), chr = (float) Math.cos(angle3 * .5f);
+        final float shp = (float) Math.sin(angle2 * .5f), chp = (float) Math.cos(angle2 * .5f);
+        final float shy = (float) Math.sin(angle1 * .5f), chy = (float) Math.cos(angle1 * .5f);
+        hole.consume(chy * shp * chr + shy * chp * shr);
+        hole.consume(shy * chp * chr - chy * shp * shr);
+        hole.consume(chy * chp * shr - shy * shp * chr);
+        hole.consume(chy * chp * chr + shy * shp * shr);
+    }
+
+    @Benchmark
+    public void multiply(Blackhole hole) {
+        consume(hole, Rotations.multiply(quat1, quat2));
+    }
+
+    @Benchmark
+    public void multiplyPrimitive(Blackhole hole) {
+        final float x1 = quat1.x(), y1 = quat1.y(), z1 = quat1.z(), w1 = quat1.w();
+        final float x2 = quat2.x(), y2 = quat2.y(), z2 = quat2.z(), w2 = quat2.w();
+        hole.consume(w1 * x2 + x1 * w2 + y1 * z2 - z1 * y2);
+        hole.consume(w1 * y2 + y1 * w2 + z1 * x2 - x1 * z2);
+        hole.consume(w1 * z2 + z1 * w2 + x1 * y2 - y1 * x2);
+        hole.consume(w1 * w2 - x1 * x2 - y1 * y2 - z1 * z2);
+    }
+
+    @Benchmark
+    public void rotate(Blackhole hole) {
+        consume(hole, Rotations.rotate(quat1, Vectors.vec3(x, y, z)));
+    }
+
+    @Benchmark
+    public void rotatePrimitive(Blackhole hole) {
+        final float qx = quat1.x(), qy = quat1.y(), qz = quat1.z(), qw = quat1.w();
+        // v + 2w(q x v) + 2q x (q x v)
+        final float tx = 2f * (qy * z - qz * y);
+        final float ty = 2f * (qz * x - qx * z);
+        final float tz = 2f * (qx * y - qy * x);
+        hole.consume(x + qw * tx + (qy * tz - qz * ty));
+        hole.consume(y + qw * ty + (qz * tx - qx * tz));
+        hole.consume(z + qw * tz + (qx * ty - qy * tx));
+    }
+
+    @Benchmark
+    public void slerp(Blackhole hole) {
+        consume(hole, Rotations.slerp(quat1, quat2, alpha));
+    }
+
+    @Benchmark
+    public void slerpPrimitive(Blackhole hole) {
+        final float x1 = quat1.x(), y1 = quat1.y(), z1 = quat1.z(), w1 = quat1.w();
+        float x2 = quat2.x(), y2 = quat2.y(), z2 = quat2.z(), w2 = quat2.w();
+        float dot = x1 * x2 + y1 * y2 + z1 * z2 + w1 * w2;
+        if (dot < 0f) {
+            dot = -dot;
+            x2 = -x2; y2 = -y2; z2 = -z2; w2 = -w2;
+        }
+        final float angle = (float) Math.acos(Math.min(dot, 1f));
+        final float invSin = 1f / (float) Math.sin(angle);
+        final float scale0 = (float) Math.sin((1f - alpha) * angle) * invSin;
+        final float scale1 = (float) Math.sin(alpha * angle) * invSin;
+        hole.consume(x1 * scale0 + x2 * scale1);
+        hole.consume(y1 * scale0 + y2 * scale1);
+        hole.consume(z1 * scale0 + z2 * scale1);
+        hole.consume(w1 * scale0 + w2 * scale1);
+    }
+
+    // Feeding the quaternion directly will force it to go onto the heap, killing performance.
+    private static void consume(Blackhole hole, QuaternionF32 q) {
+        hole.consume(q.x());
+        hole.consume(q.y());
+        hole.consume(q.z());
+        hole.consume(q.w());
+    }
+
+    private static void consume(Blackhole hole, Vec3F32 v) {
+        hole.consume(v.x());
+        hole.consume(v.y());
+        hole.consume(v.z());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.rotation;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.numerics.TrigPrecision;
+import org.lidiuma.math.rotation.AngleF64;
+import org.lidiuma.math.rotation.QuaternionF64;
+import org.lidiuma.math.rotation.Rotations;
+import org.lidiuma.math.vector.Vec3F64;
+import org.lidiuma.math.vector.Vectors;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// The F64 twin of [QuaternionBenchmark], the double precision types have their own specialized `Ops`.\
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the quaternions were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class QuaternionF64Benchmark {
+
+    private double angle1, angle2, angle3;
+    private double x, y, z;
+    private double alpha;
+    // Default values, not actually used.
+    private QuaternionF64 quat1 = Rotations.identityF64();
+    private QuaternionF64 quat2 = Rotations.identityF64();
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        angle1 = random.nextDouble(); angle2 = random.nextDouble(); angle3 = random.nextDouble();
+        x = random.nextDouble(); y = random.nextDouble(); z = random.nextDouble();
+        alpha = random.nextDouble();
+        quat1 = Rotations.fromAxisAngle(Vectors.normalize(Vectors.vec3(x, y, z)), Rotations.radians(angle1));
+        quat2 = Rotations.fromAxisAngle(Vectors.normalize(Vectors.vec3(z, x, y)), Rotations.radians(angle2));
+    }
+
+    @Benchmark
+    public void fromAxisAngle(Blackhole hole) {
+        consume(hole, Rotations.fromAxisAngle(Vectors.vec3(x, y, z), Rotations.radians(angle1)));
+    }
+
+    @Benchmark
+    public void fromAxisAnglePrimitive(Blackhole hole) {
+        final double half = angle1 * .5d;
+        final double sin = Math.sin(half);
+        hole.consume(x * sin);
+        hole.consume(y * sin);
+        hole.consume(z * sin);
+        hole.consume(Math.cos(half));
+    }
+
+    @Benchmark
+    public void fromEulerAngle(Blackhole hole) {
+        consume(hole, Rotations.fromEulerAngle(Rotations.radians(angle1), Rotations.radians(angle2), Rotations.radians(angle3)));
+    }
+
+    @Benchmark
+    public void fromEulerAngleFast(Blackhole hole) {
+        consume(hole, Rotations.fromEulerAngle(Rotations.radians(angle1), Rotations.radians(angle2), Rotations.radians(angle3), TrigPrecision.FAST));
+    }
+
+    @Benchmark
+    public void fromEulerAngleTable(Blackhole hole) {
+        consume(hole, Rotations.fromEulerAngle(Rotations.radians(angle1), Rotations.radians(angle2), Rotations.radians(angle3), TrigPrecision.TABLE));
+    }
+
+    @Benchmark
+    public void fromEulerAnglePrimitive(Blackhole hole) {
+        final double shr = Math.sin(angle3 * .5d), chr = Math.cos(angle3 * .5d);
+        final double shp = Math.sin(angle2 * .5d), chp = Math.cos(angle2 * .5d);
+        final double shy = Math.sin(angle1 * .5d), chy = Math.cos(angle1 * .5d);
+        hole.consume(chy * shp * chr + shy * chp * shr);
+        hole.consume(shy * chp * chr - chy * shp * shr);
+        hole.consume(chy * chp * shr - shy * shp * chr);
+        hole.consume(chy * chp * chr + shy * shp * shr);
+    }
+
+    @Benchmark
+    public void multiply(Blackhole hole) {
+        consume(hole, Rotations.multiply(quat1, quat2));
+    }
+
+    @Benchmark
+    public void multiplyPrimitive(Blackhole hole) {
+        final double x1 = quat1.x(), y1 = quat1.y(), z1 = quat1.z(), w1 = quat1.w();
+        final double x2 = quat2.x(), y2 = quat2.y(), z2 = quat2.z(), w2 = quat2.w();
+        hole.consume(w1 * x2 + x1 * w2 + y1 * z2 - z1 * y2);
+        hole.consume(w1 * y2 + y1 * w2 + z1 * x2 - x1 * z2);
+        hole.consume(w1 * z2 + z1 * w2 + x1 * y2 - y1 * x2);
+        hole.consume(w1 * w2 - x1 * x2 - y1 * y2 - z1 * z2);
+    }
+
+    @Benchmark
+    public void rotate(Blackhole hole) {
+        consume(hole, Rotations.rotate(quat1, Vectors.vec3(x, y, z)));
+    }
+
+    @Benchmark
+    public void rotatePrimitive(Blackhole hole) {
+        final double qx = quat1.x(), qy = quat1.y(), qz = quat1.z(), qw = quat1.w();
+        // v + 2w(q x v) + 2q x (q x v)
+        final double tx = 2d * (qy * z - qz * y);
+        final double ty = 2d * (qz * x - qx * z);
+        final double tz = 2d * (qx * y - qy * x);
+        hole.consume(x + qw * tx + (qy * tz - qz * ty));
+        hole.consume(y + qw * ty + (qz * tx - qx * tz));
+        hole.consume(z + qw * tz + (qx * ty - qy * tx));
+    }
+
+    @Benchmark
+    public void slerp(Blackhole hole) {
+        consume(hole, Rotations.slerp(quat1, quat2, alpha));
+    }
+
+    @Benchmark
+    public void slerpPrimitive(Blackhole hole) {
+        final double x1 = quat1.x(), y1 = quat1.y(), z1 = quat1.z(), w1 = quat1.w();
+        double x2 = quat2.x(), y2 = quat2.y(), z2 = quat2.z(), w2 = quat2.w();
+        double dot = x1 * x2 + y1 * y2 + z1 * z2 + w1 * w2;
+        if (dot < 0d) {
+            dot = -dot;
+            x2 = -x2; y2 = -y2; z2 = -z2; w2 = -w2;
+        }
+        final double angle = Math.acos(Math.min(dot, 1d));
+        final double invSin = 1d / Math.sin(angle);
+        final double scale0 = Math.sin((1d - alpha) * angle) * invSin;
+        final double scale1 = Math.sin(alpha * angle) * invSin;
+        hole.consume(x1 * scale0 + x2 * scale1);
+        hole.consume(y1 * scale0 + y2 * scale1);
+        hole.consume(z1 * scale0 + z2 * scale1);
+        hole.consume(w1 * scale0 + w2 * scale1);
+    }
+
+    // Feeding the quaternion directly will force it to go onto the heap, killing performance.
+    private static void consume(Blackhole hole, QuaternionF64 q) {
+        hole.consume(q.x());
+        hole.consume(q.y());
+        hole.consume(q.z());
+        hole.consume(q.w());
+    }
+
+    private static void consume(Blackhole hole, Vec3F64 v) {
+        hole.consume(v.x());
+        hole.consume(v.y());
+        hole.consume(v.z());
+    }
+}
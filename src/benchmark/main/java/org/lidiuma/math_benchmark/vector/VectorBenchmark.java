@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.vector;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.vector.Vec3F32;
+import org.lidiuma.math.vector.Vectors;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the vectors were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class VectorBenchmark {
+
+    private float x1, y1, z1;
+    private float x2, y2, z2;
+    private float scalar;
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        x1 = random.nextFloat(); y1 = random.nextFloat(); z1 = random.nextFloat();
+        x2 = random.nextFloat(); y2 = random.nextFloat(); z2 = random.nextFloat();
+        scalar = random.nextFloat();
+    }
+
+    @Benchmark
+    public void add(Blackhole hole) {
+        consume(hole, Vectors.add(Vectors.vec3(x1, y1, z1), Vectors.vec3(x2, y2, z2)));
+    }
+
+    @Benchmark
+    public void addPrimitive(Blackhole hole) {
+        hole.consume(x1 + x2);
+        hole.consume(y1 + y2);
+        hole.consume(z1 + z2);
+    }
+
+    @Benchmark
+    public void subtract(Blackhole hole) {
+        consume(hole, Vectors.subtract(Vectors.vec3(x1, y1, z1), Vectors.vec3(x2, y2, z2)));
+    }
+
+    @Benchmark
+    public void subtractPrimitive(Blackhole hole) {
+        hole.consume(x1 - x2);
+        hole.consume(y1 - y2);
+        hole.consume(z1 - z2);
+    }
+
+    @Benchmark
+    public void scale(Blackhole hole) {
+        consume(hole, Vectors.multiply(Vectors.vec3(x1, y1, z1), scalar));
+    }
+
+    @Benchmark
+    public void scalePrimitive(Blackhole hole) {
+        hole.consume(x1 * scalar);
+        hole.consume(y1 * scalar);
+        hole.consume(z1 * scalar);
+    }
+
+    @Benchmark
+    public void dot(Blackhole hole) {
+        final float dot = Vectors.dot(Vectors.vec3(x1, y1, z1), Vectors.vec3(x2, y2, z2));
+        hole.consume(dot);
+    }
+
+    @Benchmark
+    public void dotPrimitive(Blackhole hole) {
+        hole.consume(x1 * x2 + y1 * y2 + z1 * z2);
+    }
+
+    @Benchmark
+    public void cross(Blackhole hole) {
+        consume(hole, Vectors.cross(Vectors.vec3(x1, y1, z1), Vectors.vec3(x2, y2, z2)));
+    }
+
+    @Benchmark
+    public void crossPrimitive(Blackhole hole) {
+        hole.consume(y1 * z2 - z1 * y2);
+        hole.consume(z1 * x2 - x1 * z2);
+        hole.consume(x1 * y2 - y1 * x2);
+    }
+
+    @Benchmark
+    public void normalize(Blackhole hole) {
+        consume(hole, Vectors.normalize(Vectors.vec3(x1, y1, z1)));
+    }
+
+    @Benchmark
+    public void normalizePrimitive(Blackhole hole) {
+        final float inverse = 1f / (float) Math.sqrt(x1 * x1 + y1 * y1 + z1 * z1);
+        hole.consume(x1 * inverse);
+        hole.consume(y1 * inverse);
+        hole.consume(z1 * inverse);
+    }
+
+    // Feeding the vector directly will force it to go onto the heap, killing performance.
+    private static void consume(Blackhole hole, Vec3F32 v) {
+        hole.consume(v.x());
+        hole.consume(v.y());
+        hole.consume(v.z());
+    }
+}
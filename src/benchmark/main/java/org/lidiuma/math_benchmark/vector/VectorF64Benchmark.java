@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math_benchmark.vector;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.vector.Vec3F64;
+import org.lidiuma.math.vector.Vectors;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// The F64 twin of [VectorBenchmark], the double precision types have their own specialized `Ops`.\
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the vectors were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class VectorF64Benchmark {
+
+    private double x1, y1, z1;
+    private double x2, y2, z2;
+    private double scalar;
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        x1 = random.nextDouble(); y1 = random.nextDouble(); z1 = random.nextDouble();
+        x2 = random.nextDouble(); y2 = random.nextDouble(); z2 = random.nextDouble();
+        scalar = random.nextDouble();
+    }
+
+    @Benchmark
+    public void add(Blackhole hole) {
+        consume(hole, Vectors.add(Vectors.vec3(x1, y1, z1), Vectors.vec3(x2, y2, z2)));
+    }
+
+    @Benchmark
+    public void addPrimitive(Blackhole hole) {
+        hole.consume(x1 + x2);
+        hole.consume(y1 + y2);
+        hole.consume(z1 + z2);
+    }
+
+    @Benchmark
+    public void subtract(Blackhole hole) {
+        consume(hole, Vectors.subtract(Vectors.vec3(x1, y1, z1), Vectors.vec3(x2, y2, z2)));
+    }
+
+    @Benchmark
+    public void subtractPrimitive(Blackhole hole) {
+        hole.consume(x1 - x2);
+        hole.consume(y1 - y2);
+        hole.consume(z1 - z2);
+    }
+
+    @Benchmark
+    public void scale(Blackhole hole) {
+        consume(hole, Vectors.multiply(Vectors.vec3(x1, y1, z1), scalar));
+    }
+
+    @Benchmark
+    public void scalePrimitive(Blackhole hole) {
+        hole.consume(x1 * scalar);
+        hole.consume(y1 * scalar);
+        hole.consume(z1 * scalar);
+    }
+
+    @Benchmark
+    public void dot(Blackhole hole) {
+        final double dot = Vectors.dot(Vectors.vec3(x1, y1, z1), Vectors.vec3(x2, y2, z2));
+        hole.consume(dot);
+    }
+
+    @Benchmark
+    public void dotPrimitive(Blackhole hole) {
+        hole.consume(x1 * x2 + y1 * y2 + z1 * z2);
+    }
+
+    @Benchmark
+    public void cross(Blackhole hole) {
+        consume(hole, Vectors.cross(Vectors.vec3(x1, y1, z1), Vectors.vec3(x2, y2, z2)));
+    }
+
+    @Benchmark
+    public void crossPrimitive(Blackhole hole) {
+        hole.consume(y1 * z2 - z1 * y2);
+        hole.consume(z1 * x2 - x1 * z2);
+        hole.consume(x1 * y2 - y1 * x2);
+    }
+
+    @Benchmark
+    public void normalize(Blackhole hole) {
+        consume(hole, Vectors.normalize(Vectors.vec3(x1, y1, z1)));
+    }
+
+    @Benchmark
+    public void normalizePrimitive(Blackhole hole) {
+        final double inverse = 1d / Math.sqrt(x1 * x1 + y1 * y1 + z1 * z1);
+        hole.consume(x1 * inverse);
+        hole.consume(y1 * inverse);
+        hole.consume(z1 * inverse);
+    }
+
+    // Feeding the vector directly will force it to go onto the heap, killing performance.
+    private static void consume(Blackhole hole, Vec3F64 v) {
+        hole.consume(v.x());
+        hole.consume(v.y());
+        hole.consume(v.z());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math_benchmark.vector;
+
+import org.jspecify.annotations.NullMarked;
+import org.lidiuma.math.vector.Vec3I32;
+import org.lidiuma.math.vector.Vectors;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import java.util.Random;
+
+/// The I32 twin of [VectorBenchmark], without the floating point only operations like `normalize`.\
+/// Every operation is paired with a hand-written primitive baseline,
+///  run with `-prof=gc` a non-zero allocation rate means the vectors were not scalarized.
+@NullMarked
+@State(Scope.Thread)
+@Warmup(iterations = 1, time = 20)
+@Measurement(iterations = 1, time = 20)
+@Fork(1)
+@SuppressWarnings("unused")
+public class VectorI32Benchmark {
+
+    private int x1, y1, z1;
+    private int x2, y2, z2;
+    private int scalar;
+
+    @Setup
+    public void setup() {
+        final var random = new Random();
+        // Kept small, so the products never overflow.
+        x1 = random.nextInt(1024); y1 = random.nextInt(1024); z1 = random.nextInt(1024);
+        x2 = random.nextInt(1024); y2 = random.nextInt(1024); z2 = random.nextInt(1024);
+        scalar = random.nextInt(1024);
+    }
+
+    @Benchmark
+    public void add(Blackhole hole) {
+        consume(hole, Vectors.add(new Vec3I32(x1, y1, z1), new Vec3I32(x2, y2, z2)));
+    }
+
+    @Benchmark
+    public void addPrimitive(Blackhole hole) {
+        hole.consume(x1 + x2);
+        hole.consume(y1 + y2);
+        hole.consume(z1 + z2);
+    }
+
+    @Benchmark
+    public void subtract(Blackhole hole) {
+        consume(hole, Vectors.subtract(new Vec3I32(x1, y1, z1), new Vec3I32(x2, y2, z2)));
+    }
+
+    @Benchmark
+    public void subtractPrimitive(Blackhole hole) {
+        hole.consume(x1 - x2);
+        hole.consume(y1 - y2);
+        hole.consume(z1 - z2);
+    }
+
+    @Benchmark
+    public void scale(Blackhole hole) {
+        consume(hole, Vectors.multiply(new Vec3I32(x1, y1, z1), scalar));
+    }
+
+    @Benchmark
+    public void scalePrimitive(Blackhole hole) {
+        hole.consume(x1 * scalar);
+        hole.consume(y1 * scalar);
+        hole.consume(z1 * scalar);
+    }
+
+    @Benchmark
+    public void dot(Blackhole hole) {
+        final int dot = Vectors.dot(new Vec3I32(x1, y1, z1), new Vec3I32(x2, y2, z2));
+        hole.consume(dot);
+    }
+
+    @Benchmark
+    public void dotPrimitive(Blackhole hole) {
+        hole.consume(x1 * x2 + y1 * y2 + z1 * z2);
+    }
+
+    @Benchmark
+    public void cross(Blackhole hole) {
+        consume(hole, Vectors.cross(new Vec3I32(x1, y1, z1), new Vec3I32(x2, y2, z2)));
+    }
+
+    @Benchmark
+    public void crossPrimitive(Blackhole hole) {
+        hole.consume(y1 * z2 - z1 * y2);
+        hole.consume(z1 * x2 - x1 * z2);
+        hole.consume(x1 * y2 - y1 * x2);
+    }
+
+    // Feeding the vector directly will force it to go onto the heap, killing performance.
+    private static void consume(Blackhole hole, Vec3I32 v) {
+        hole.consume(v.x());
+        hole.consume(v.y());
+        hole.consume(v.z());
+    }
+}
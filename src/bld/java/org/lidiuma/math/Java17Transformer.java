@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/// Rewrites the Valhalla sources of the math module into sources compilable by Java 17.\
+/// Value records become plain records, the Valhalla annotations are removed, and the few post-17 APIs are replaced.\
+/// Since every record is a heap object on Java 17, I also generate a `Mutable` companion with primitive fields
+///  for the records made of a single scalar type (e.g. `MutableVec3F32`), so hot loops can reuse one instance instead.
+public final class Java17Transformer {
+
+    /// Not available on Java 17, the FFM API is final only since Java 22.
+    private static final Set<String> EXCLUDED_PACKAGES = Set.of("org/lidiuma/math/memory");
+    private static final Set<String> MUTABLE_PACKAGES = Set.of("vector", "point", "rotation", "color", "matrix");
+    private static final Set<String> ARITHMETIC_PACKAGES = Set.of("vector", "point");
+    private static final Map<String, String> PRIMITIVES = Map.of(
+            "Float", "float",
+            "Double", "double",
+            "Integer", "int",
+            "Long", "long"
+    );
+
+    private static final Pattern VALHALLA_IMPORT = Pattern.compile("(?m)^import jdk\\.internal\\.vm\\.annotation\\.\\w+;\\R");
+    private static final Pattern VALHALLA_ANNOTATION = Pattern.compile("@(NullRestricted|LooselyConsistentValue)\\b\\s*");
+    private static final Pattern VALUE_MODIFIER = Pattern.compile("\\bvalue (?=(record|class)\\b)");
+    private static final Pattern EXCLUDED_EXPORT = Pattern.compile("(?m)^\\s*exports org\\.lidiuma\\.math\\.memory;\\R");
+    private static final Pattern RECORD_HEADER = Pattern.compile("public record (\\w+)\\(([^)]*)\\)");
+    private static final Pattern PACKAGE = Pattern.compile("(?m)^package ([\\w.]+);");
+    private static final Pattern LINE_COMMENT = Pattern.compile("//[^\\n]*");
+    private static final Pattern ANNOTATION = Pattern.compile("@\\w+\\s*");
+
+    private Java17Transformer() {}
+
+    /// Transforms every file of `source` into `target`, the previous content of `target` is deleted.
+    public static void transform(Path source, Path target) throws IOException {
+        deleteRecursively(target);
+        final List<Path> files;
+        try (final var walk = Files.walk(source)) {
+            files = walk.filter(Files::isRegularFile).toList();
+        }
+        for (final var file : files) {
+            final var relative = source.relativize(file);
+            if (isExcluded(relative)) continue;
+            final var output = target.resolve(relative);
+            Files.createDirectories(output.getParent());
+            if (!file.toString().endsWith(".java")) {
+                Files.copy(file, output);
+                continue;
+            }
+            final var transformed = transform(Files.readString(file));
+            Files.writeString(output, transformed);
+            final var mutable = mutableCompanion(transformed);
+            if (mutable.isPresent()) {
+                final var name = "Mutable" + output.getFileName();
+                Files.writeString(output.resolveSibling(name), mutable.get());
+            }
+        }
+    }
+
+    /// Rewrites a single Valhalla compilation unit into a Java 17 one.
+    public static String transform(String source) {
+        var result = VALHALLA_IMPORT.matcher(source).replaceAll("");
+        result = VALHALLA_ANNOTATION.matcher(result).replaceAll("");
+        result = VALUE_MODIFIER.matcher(result).replaceAll("");
+        result = EXCLUDED_EXPORT.matcher(result).replaceAll("");
+        // Math.clamp is from Java 21, Math.TAU from Java 19.
+        result = result.replace("Math.clamp(", "org.lidiuma.math.internal.Strict.clamp(");
+        result = result.replace("Math.TAU", "(Math.PI * 2)");
+        return result;
+    }
+
+    /// @param source an already transformed compilation unit.
+    /// @return the mutable companion, if the record is made of a single scalar type and lives in a supported package.
+    static Optional<String> mutableCompanion(String source) {
+
+        final var packageMatcher = PACKAGE.matcher(source);
+        final var headerMatcher = RECORD_HEADER.matcher(source);
+        if (!packageMatcher.find() || !headerMatcher.find()) return Optional.empty();
+
+        final var packageName = packageMatcher.group(1);
+        final var simplePackage = packageName.substring(packageName.lastIndexOf('.') + 1);
+        if (!MUTABLE_PACKAGES.contains(simplePackage)) return Optional.empty();
+
+        final var record = headerMatcher.group(1);
+        final var components = new ArrayList<String>();
+        String boxed = null;
+        final var declaration = LINE_COMMENT.matcher(headerMatcher.group(2)).replaceAll("");
+        for (final var component : declaration.split(",")) {
+            final var parts = ANNOTATION.matcher(component).replaceAll("").trim().split("\\s+");
+            if (parts.length != 2 || !PRIMITIVES.containsKey(parts[0])) return Optional.empty();
+            if (boxed != null && !boxed.equals(parts[0])) return Optional.empty();
+            boxed = parts[0];
+            components.add(parts[1]);
+        }
+        if (boxed == null) return Optional.empty();
+
+        final var primitive = PRIMITIVES.get(boxed);
+        final var mutable = "Mutable" + record;
+        final var out = new StringBuilder();
+        out.append(licenseHeader(source));
+        out.append("package ").append(packageName).append(";\n\n");
+        out.append("/// A mutable companion of [").append(record).append("] with primitive fields, generated for the Java 17 build.\\\n");
+        out.append("/// On Java 17 every [").append(record).append("] is a heap object, so hot loops should reuse an instance of this class instead.\n");
+        out.append("public final class ").append(mutable).append(" {\n\n");
+        for (final var name : components) out.append("    public ").append(primitive).append(' ').append(name).append(";\n");
+
+        out.append("\n    public ").append(mutable).append("() {}\n\n");
+
+        out.append("    public ").append(mutable).append('(').append(parameters(primitive, components)).append(") {\n");
+        out.append("        set(").append(String.join(", ", components)).append(");\n    }\n\n");
+
+        out.append("    public ").append(mutable).append('(').append(record).append(" source) {\n");
+        out.append("        set(source);\n    }\n\n");
+
+        out.append("    public ").append(mutable).append(" set(").append(parameters(primitive, components)).append(") {\n");
+        for (final var name : components) out.append("        this.").append(name).append(" = ").append(name).append(";\n");
+        out.append("        return this;\n    }\n\n");
+
+        out.append("    public ").append(mutable).append(" set(").append(record).append(" source) {\n");
+        out.append("        return set(").append(join(components, "source.", "()")).append(");\n    }\n\n");
+
+        out.append("    public ").append(mutable).append(" set(").append(mutable).append(" source) {\n");
+        out.append("        return set(").append(join(components, "source.", "")).append(");\n    }\n\n");
+
+        out.append("    /// @return a new immutable copy of the current state.\n");
+        out.append("    public ").append(record).append(" immutable() {\n");
+        out.append("        return new ").append(record).append('(').append(String.join(", ", components)).append(");\n    }\n");
+
+        if (ARITHMETIC_PACKAGES.contains(simplePackage)) {
+            appendComponentWise(out, mutable, "add", "+=", components);
+            appendComponentWise(out, mutable, "subtract", "-=", components);
+            out.append("\n    public ").append(mutable).append(" scale(").append(primitive).append(" scalar) {\n");
+            for (final var name : components) out.append("        ").append(name).append(" *= scalar;\n");
+            out.append("        return this;\n    }\n");
+        }
+
+        out.append("\n    @Override\n    public String toString() {\n");
+        out.append("        return \"").append(mutable).append('[');
+        for (int i = 0; i < components.size(); i++) {
+            final var name = components.get(i);
+            out.append(i == 0 ? "" : ", ").append(name).append("=\" + ").append(name).append(" + \"");
+        }
+        out.append("]\";\n    }\n}\n");
+        return Optional.of(out.toString());
+    }
+
+    private static void appendComponentWise(StringBuilder out, String mutable, String method, String operator, List<String> components) {
+        out.append("\n    public ").append(mutable).append(' ').append(method).append('(').append(mutable).append(" other) {\n");
+        for (final var name : components) {
+            out.append("        ").append(name).append(' ').append(operator).append(" other.").append(name).append(";\n");
+        }
+        out.append("        return this;\n    }\n");
+    }
+
+    private static String parameters(String primitive, List<String> components) {
+        return join(components, primitive + " ", "");
+    }
+
+    private static String join(List<String> components, String prefix, String suffix) {
+        final var joined = new StringBuilder();
+        for (int i = 0; i < components.size(); i++) {
+            joined.append(i == 0 ? "" : ", ").append(prefix).append(components.get(i)).append(suffix);
+        }
+        return joined.toString();
+    }
+
+    /// @return the license comment at the top of the source, followed by an empty line.
+    private static String licenseHeader(String source) {
+        if (!source.startsWith("/*")) return "";
+        return source.substring(0, source.indexOf("*/") + 2) + "\n\n";
+    }
+
+    private static boolean isExcluded(Path relative) {
+        final var path = relative.toString().replace('\\', '/');
+        return EXCLUDED_PACKAGES.stream().anyMatch(path::startsWith);
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) return;
+        try (final Stream<Path> walk = Files.walk(directory)) {
+            for (final var path : walk.sorted(Comparator.reverseOrder()).toList()) Files.delete(path);
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.lidiuma.math;
 
 import org.lidiuma.math.modules.BenchmarkBuild;
+import org.lidiuma.math.modules.Java17Build;
 import org.lidiuma.math.modules.MathBuild;
 import org.lidiuma.math.modules.ProcessorBuild;
 import rife.bld.Project;
@@ -25,11 +26,12 @@ import java.util.Arrays;
 
 public interface Math {
 
-    String AVAILABLE = "(Available: \"math\", \"benchmark\", \"processor\")";
+    String AVAILABLE = "(Available: \"math\", \"math17\", \"benchmark\", \"processor\")";
     String GROUP_ID = "org.lidiuma"; // TODO Modify to org.lidiuma.math?
     // Must be declared in this order.
     ProcessorBuild PROCESSOR = new ProcessorBuild();
     MathBuild MATH = new MathBuild();
+    Java17Build MATH_J17 = new Java17Build();
     BenchmarkBuild BENCHMARK = new BenchmarkBuild();
 
     static void main(String... args) {
@@ -42,6 +44,7 @@ public interface Math {
         final String module = args[0].toLowerCase();
         final Project project = switch (module) {
             case "math" -> MATH;
+            case "math17" -> MATH_J17;
             case "benchmark" -> BENCHMARK;
             case "processor" -> PROCESSOR;
             default -> null;
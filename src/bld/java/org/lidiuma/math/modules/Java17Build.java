@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.modules;
+
+import org.lidiuma.math.Java17Transformer;
+import org.lidiuma.math.MathModule;
+import org.lidiuma.math.Util;
+import rife.bld.operations.JavacOptions;
+import java.io.File;
+import java.util.List;
+import static org.lidiuma.math.Math.*;
+import static org.lidiuma.math.PublishUtil.patchDependencies;
+import static org.lidiuma.math.PublishUtil.publishCentralConfiguration;
+import static rife.bld.dependencies.Repository.*;
+import static rife.bld.dependencies.Scope.*;
+
+/// The Java 17 variant of [MathBuild], the sources are generated from the math module by [Java17Transformer].
+public final class Java17Build extends MathModule {
+
+    public Java17Build() {
+
+        name = "Math";
+        pkg = GROUP_ID + "." + name();
+        module = "lidiuma.math";
+        version = version(0, 3, 0, "j17");
+        downloadSources = true;
+        repositories = List.of(MAVEN_CENTRAL, CENTRAL_SNAPSHOTS, RIFE2_RELEASES);
+        assignModuleDirectories("math-j17");
+        // Generated, never edit these sources by hand.
+        srcMainDirectory = new File(buildDirectory(), "transformed/math-j17");
+
+        includeDependencies();
+
+        compileOperation().compileOptions().release(17);
+        addCodeGenerator();
+
+        Util.addAttributesToJar(jarOperation(), version());
+        Util.addAttributesToJar(jarSourcesOperation(), version());
+
+        publishCentralConfiguration(this, false);
+    }
+
+    private void includeDependencies() {
+
+        scope(compile)
+                .include(module("org.jspecify", "jspecify", version(1, 0, 0)))
+                .include(module("org.lidiuma.math", "math-api", version(1, 0, 0, "rc2-j17")))
+                .include(module("org.lidiuma.math", "math-traits", version(0, 1, 1, "j17")));
+
+        final var processorDir = workDirectory()
+                .toPath()
+                .relativize(PROCESSOR.buildDistDirectory().toPath()); // Use absolute when bld 2.3.1 releases.
+        scope(provided).include(localModule(processorDir.toString()));
+    }
+
+    private void addCodeGenerator() {
+        final var generatedSources = buildDirectory().toPath().resolve("annotation-source-j17");
+        compileOperation().compileOptions()
+                .parameters()
+                .process(JavacOptions.Processing.FULL)
+                .sourceOutput(generatedSources)
+                .processorModulePath(PROCESSOR.buildDistDirectory().toPath());
+        jarSourcesOperation().sourceDirectories().add(generatedSources.toFile());
+    }
+
+    @Override
+    public void publish() throws Exception {
+        patchDependencies(this);
+        super.publish();
+    }
+
+    @Override
+    public void publishLocal() throws Exception {
+        patchDependencies(this);
+        super.publishLocal();
+    }
+
+    @Override
+    public void compile() throws Exception {
+        PROCESSOR.jar(); // Dependency.
+        Java17Transformer.transform(MATH.srcMainJavaDirectory().toPath(), srcMainJavaDirectory().toPath());
+        super.compile();
+    }
+}
@@ -18,8 +18,15 @@ package org.lidiuma.math.modules;
 
 import org.lidiuma.math.MathModule;
 import org.lidiuma.math.Util;
+import rife.bld.NamedFile;
 import rife.bld.operations.JavacOptions;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
 import static org.lidiuma.math.Math.*;
 import static org.lidiuma.math.PublishUtil.patchDependencies;
 import static org.lidiuma.math.PublishUtil.publishCentralConfiguration;
@@ -28,6 +35,12 @@ import static rife.bld.dependencies.Scope.*;
 
 public final class MathBuild extends MathModule {
 
+    /// Set to `true` (e.g. in `local.properties`) to build the multi-release jar, see [#jar()].
+    private static final String MULTI_RELEASE_PROPERTY = "math.multi-release";
+    private static final String MULTI_RELEASE_PREFIX = "META-INF/versions/28/";
+    /// Not part of the Java 17 variant, the versioned layer must expose the same packages as the base one.
+    private static final String EXCLUDED_PACKAGE = "org/lidiuma/math/memory/";
+
     public MathBuild() {
 
         name = "Math";
@@ -59,6 +72,8 @@ public final class MathBuild extends MathModule {
 
         // Required for testing, otherwise the different bytecode version will make the test classes non-findable.
         testOperation().javaOptions().add("--enable-preview");
+        // The SIMD kernels only run with the module in the boot layer, otherwise the tests would only cover the scalar fallback.
+        testOperation().javaOptions().add("--add-modules=jdk.incubator.vector");
         final var jUnitVersion = version(6,1,3);
         scope(test)
                 .include(module("org.junit.jupiter", "junit-jupiter", jUnitVersion))
@@ -107,4 +122,50 @@ public final class MathBuild extends MathModule {
         PROCESSOR.jar(); // Dependency.
         super.compile();
     }
+
+    /// Builds the Valhalla jar, like any other module.
+    ///
+    /// When [#MULTI_RELEASE_PROPERTY] is `true`, it builds a multi-release jar instead: the base layer holds the classic classes of [Java17Build],
+    ///  while `META-INF/versions/28` holds the value classes, both behind the same alias API.
+    /// It's opt-in because the versioned classes are preview class files, so they only load on exactly Java 28 with `--enable-preview`:
+    ///  Java 28 without the flag and every later release still select the versioned layer, and fail with `UnsupportedClassVersionError`
+    ///  instead of falling back to the base layer. Only use it when every JVM of the fleet is either below 28, or exactly 28 with the flag.
+    /// The versioned layer has no `module-info` and no `org.lidiuma.math.memory`, so both layers export the same packages.
+    @Override
+    public void jar() throws Exception {
+        if (!Boolean.parseBoolean(property(MULTI_RELEASE_PROPERTY))) {
+            super.jar();
+            return;
+        }
+        compile();
+        MATH_J17.compile();
+        jarOperation().executeOnce(() -> {
+            jarOperation().fromProject(this);
+            jarOperation().manifestAttributes(Map.of(Attributes.Name.MULTI_RELEASE, "true"));
+            final var directories = jarOperation().sourceDirectories();
+            directories.remove(buildMainDirectory());
+            directories.addFirst(MATH_J17.buildMainDirectory());
+            jarOperation().sourceFiles(versionedFiles());
+        });
+    }
+
+    private List<NamedFile> versionedFiles() {
+        final var root = buildMainDirectory().toPath();
+        try (final var walk = Files.walk(root)) {
+            return walk.filter(Files::isRegularFile)
+                    .filter(file -> isVersioned(relativeName(root, file)))
+                    .map(file -> new NamedFile(MULTI_RELEASE_PREFIX + relativeName(root, file), file.toFile()))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isVersioned(String name) {
+        return !name.equals("module-info.class") && !name.startsWith(EXCLUDED_PACKAGE);
+    }
+
+    private static String relativeName(Path root, Path file) {
+        return root.relativize(file).toString().replace('\\', '/');
+    }
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import java.util.List;
 import static org.lidiuma.math.Math.GROUP_ID;
 import static rife.bld.dependencies.Repository.MAVEN_CENTRAL;
 import static rife.bld.dependencies.Repository.RIFE2_RELEASES;
+import static rife.bld.dependencies.Scope.test;
 
 public final class ProcessorBuild extends MathModule {
 
@@ -31,5 +32,10 @@ public final class ProcessorBuild extends MathModule {
         repositories = List.of(MAVEN_CENTRAL, RIFE2_RELEASES);
         version = version(0, 1, 0);
         assignModuleDirectories("processor");
+
+        final var jUnitVersion = version(6,1,3);
+        scope(test)
+                .include(module("org.junit.jupiter", "junit-jupiter", jUnitVersion))
+                .include(module("org.junit.platform", "junit-platform-console-standalone", jUnitVersion));
     }
 }
@@ -20,6 +20,9 @@ import org.jspecify.annotations.NullMarked;
 module lidiuma.math {
     requires static lidiuma.math.processor; // Not required at runtime, compile-time only.
     requires static org.jspecify;
+    // Optional, the SIMD kernels fall back to scalar loops without it.
+    // Javac always prints "using incubating module(s)" for it, the warning is expected and can't be suppressed on its own (only with -nowarn).
+    requires static jdk.incubator.vector;
     requires lidiuma.math.api;
     requires lidiuma.math.api.traits;
     exports org.lidiuma.math.tuple;
@@ -29,7 +32,14 @@ module lidiuma.math {
     exports org.lidiuma.math.vector;
     exports org.lidiuma.math.point;
     exports org.lidiuma.math.color;
+    exports org.lidiuma.math.easing;
+    exports org.lidiuma.math.shapes;
     exports org.lidiuma.math.shapes.rectangle;
     exports org.lidiuma.math.shapes.segment;
+    exports org.lidiuma.math.shapes.triangle;
+    exports org.lidiuma.math.simd;
+    exports org.lidiuma.math.spline;
+    exports org.lidiuma.math.transform;
+    exports org.lidiuma.math.memory;
     // DO NOT EXPORT -> org.lidiuma.math.internal
 }
\ No newline at end of file
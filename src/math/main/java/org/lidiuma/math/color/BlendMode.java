@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.color;
+
+import java.util.Objects;
+
+/// The Porter-Duff compositing operators, plus the separable `MULTIPLY` and `SCREEN` blend modes.\
+/// Every mode works on premultiplied colors, and it's written as `source * Fa + destination * Fb + product * source * destination`,
+///  where `Fa` depends on the destination alpha and `Fb` on the source alpha.
+/// The alpha channel uses the same formula, and the results are clamped to `1`, which only matters for `PLUS`.\
+/// Since there is no branch per pixel, the row kernels are straight loops.
+///
+/// The packed kernels work on premultiplied `0xRRGGBBAA` rows with integer math,
+///  and they round to the nearest 8-bit value, use [ColorBuffer#premultiply(int[], int[])] to convert straight colors.
+public enum BlendMode {
+
+    /// Both the color and the alpha become `0`.
+    CLEAR(0, 0, 0, 0, 0),
+    /// Only the source.
+    SOURCE(1, 0, 0, 0, 0),
+    /// Only the destination.
+    DESTINATION(0, 0, 1, 0, 0),
+    /// The source over the destination, the usual alpha blending.
+    SOURCE_OVER(1, 0, 1, -1, 0),
+    /// The destination over the source.
+    DESTINATION_OVER(1, -1, 1, 0, 0),
+    /// The source where the destination is.
+    SOURCE_IN(0, 1, 0, 0, 0),
+    /// The destination where the source is.
+    DESTINATION_IN(0, 0, 0, 1, 0),
+    /// The source where the destination is not.
+    SOURCE_OUT(1, -1, 0, 0, 0),
+    /// The destination where the source is not.
+    DESTINATION_OUT(0, 0, 1, -1, 0),
+    /// The source where the destination is, and the destination elsewhere.
+    SOURCE_ATOP(0, 1, 1, -1, 0),
+    /// The destination where the source is, and the source elsewhere.
+    DESTINATION_ATOP(1, -1, 0, 1, 0),
+    /// The source and the destination where they do not overlap.
+    XOR(1, -1, 1, -1, 0),
+    /// The additive blending, saturated to `1`.
+    PLUS(1, 0, 1, 0, 0),
+    /// The product of the colors, composited over the destination.
+    MULTIPLY(1, -1, 1, -1, 1),
+    /// The inverse of the product of the inverted colors, composited over the destination.
+    SCREEN(1, 0, 1, 0, -1);
+
+    private final int sourceConstant;
+    private final int sourceAlpha;
+    private final int destinationConstant;
+    private final int destinationAlpha;
+    private final int product;
+
+    /// `Fa = sourceConstant + sourceAlpha * destination.alpha`, `Fb = destinationConstant + destinationAlpha * source.alpha`.
+    BlendMode(int sourceConstant, int sourceAlpha, int destinationConstant, int destinationAlpha, int product) {
+        this.sourceConstant = sourceConstant;
+        this.sourceAlpha = sourceAlpha;
+        this.destinationConstant = destinationConstant;
+        this.destinationAlpha = destinationAlpha;
+        this.product = product;
+    }
+
+    /// Composites two premultiplied colors.
+    /// @return the premultiplied result.
+    public ColorF32 composite(ColorF32 source, ColorF32 destination) {
+        final float sa = source.alpha(), da = destination.alpha();
+        final float fa = sourceConstant + sourceAlpha * da;
+        final float fb = destinationConstant + destinationAlpha * sa;
+        return new ColorF32(
+                channel(source.red(), destination.red(), fa, fb),
+                channel(source.green(), destination.green(), fa, fb),
+                channel(source.blue(), destination.blue(), fa, fb),
+                channel(sa, da, fa, fb)
+        );
+    }
+
+    /// Composites the premultiplied colors of `source` and `destination` into `out`, which may be one of the operands.
+    public void composite(ColorBuffer source, ColorBuffer destination, ColorBuffer out) {
+        final int size = ColorBuffer.checkSize(out.size(), source.size(), destination.size());
+        final float[] sr = source.red(), sg = source.green(), sb = source.blue(), sa = source.alpha();
+        final float[] dr = destination.red(), dg = destination.green(), db = destination.blue(), da = destination.alpha();
+        final float[] or = out.red(), og = out.green(), ob = out.blue(), oa = out.alpha();
+        for (int i = 0; i < size; i++) {
+            final float sourceA = sa[i], destinationA = da[i];
+            final float fa = sourceConstant + sourceAlpha * destinationA;
+            final float fb = destinationConstant + destinationAlpha * sourceA;
+            or[i] = channel(sr[i], dr[i], fa, fb);
+            og[i] = channel(sg[i], dg[i], fa, fb);
+            ob[i] = channel(sb[i], db[i], fa, fb);
+            oa[i] = channel(sourceA, destinationA, fa, fb);
+        }
+    }
+
+    /// Composites a row of premultiplied `0xRRGGBBAA` colors onto the destination row, in place.
+    /// @param length the number of colors to composite.
+    public void compositeRow(int[] source, int sourceOffset, int[] destination, int destinationOffset, int length) {
+        compositeRow(source, sourceOffset, destination, destinationOffset, destination, destinationOffset, length);
+    }
+
+    /// Composites a row of premultiplied `0xRRGGBBAA` colors, `out` may be one of the operands.
+    /// @param length the number of colors to composite.
+    public void compositeRow(int[] source, int sourceOffset,
+                             int[] destination, int destinationOffset,
+                             int[] out, int outOffset,
+                             int length) {
+        Objects.checkFromIndexSize(sourceOffset, length, source.length);
+        Objects.checkFromIndexSize(destinationOffset, length, destination.length);
+        Objects.checkFromIndexSize(outOffset, length, out.length);
+        for (int i = 0; i < length; i++) {
+            final int s = source[sourceOffset + i], d = destination[destinationOffset + i];
+            final int sa = s & 0xFF, da = d & 0xFF;
+            // Both in [0,255], so they're the factors scaled by 255.
+            final int fa = sourceConstant * 255 + sourceAlpha * da;
+            final int fb = destinationConstant * 255 + destinationAlpha * sa;
+            out[outOffset + i] = channel(s >>> 24, d >>> 24, fa, fb) << 24
+                    | channel(s >>> 16 & 0xFF, d >>> 16 & 0xFF, fa, fb) << 16
+                    | channel(s >>> 8 & 0xFF, d >>> 8 & 0xFF, fa, fb) << 8
+                    | channel(sa, da, fa, fb);
+        }
+    }
+
+    private float channel(float source, float destination, float fa, float fb) {
+        return Math.min(source * fa + destination * fb + product * source * destination, 1f);
+    }
+
+    private int channel(int source, int destination, int fa, int fb) {
+        final int scaled = source * fa + destination * fb + product * source * destination;
+        return Math.min(divide255(scaled), 255);
+    }
+
+    /// @return `value / 255` rounded to the nearest, exact up to `65662`.\
+    /// Only `PLUS` goes above `255 * 255`, and the result saturates to `255` anyway.
+    private static int divide255(int value) {
+        final int rounded = value + 128;
+        return (rounded + (rounded >>> 8)) >>> 8;
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.color;
+
+import java.util.Objects;
+
+/// A planar buffer of [ColorF32], each channel is stored in its own `float[]`.\
+/// The bulk conversions work between the planar channels, packed `0xRRGGBBAA` arrays (RGBA8), and HSV/HSL planes.
+/// They are branch-free loops (selects only), so the JIT can auto-vectorize them.
+/// The hues are in radians like [ColorF32#hsv(org.lidiuma.math.rotation.AngleF32, float, float)], any angle is allowed as input,
+///  and the computed ones are in `[0, 2π)`.
+/// @apiNote the buffer is mutable, and the arrays are shared, not copied.
+public final class ColorBuffer {
+
+    private static final float TAU = (float) (Math.PI * 2);
+    private static final float SIXTHS_PER_RADIAN = 6f / TAU;
+    private static final float RADIANS_PER_SIXTH = TAU / 6f;
+    private static final float INVERSE_255 = 1f / 255f;
+
+    private final float[] red;
+    private final float[] green;
+    private final float[] blue;
+    private final float[] alpha;
+
+    /// Creates a buffer of `size` transparent black colors.
+    public ColorBuffer(int size) {
+        this(new float[size], new float[size], new float[size], new float[size]);
+    }
+
+    /// Creates a buffer backed by the provided arrays, they must all have the same length.
+    public ColorBuffer(float[] red, float[] green, float[] blue, float[] alpha) {
+        this.red = Objects.requireNonNull(red);
+        this.green = Objects.requireNonNull(green);
+        this.blue = Objects.requireNonNull(blue);
+        this.alpha = Objects.requireNonNull(alpha);
+        if (red.length != green.length || red.length != blue.length || red.length != alpha.length) throw new IllegalArgumentException("The channel arrays must have the same length.");
+    }
+
+    /// Unpacks the `0xRRGGBBAA` colors into a new buffer.
+    public static ColorBuffer of(int[] rgba) {
+        final var buffer = new ColorBuffer(rgba.length);
+        unpack(rgba, buffer);
+        return buffer;
+    }
+
+    public int size() {
+        return red.length;
+    }
+
+    public float[] red() {
+        return red;
+    }
+
+    public float[] green() {
+        return green;
+    }
+
+    public float[] blue() {
+        return blue;
+    }
+
+    public float[] alpha() {
+        return alpha;
+    }
+
+    public ColorF32 get(int index) {
+        return new ColorF32(red[index], green[index], blue[index], alpha[index]);
+    }
+
+    public void set(int index, ColorF32 color) {
+        set(index, color.red(), color.green(), color.blue(), color.alpha());
+    }
+
+    public void set(int index, float red, float green, float blue, float alpha) {
+        this.red[index] = red;
+        this.green[index] = green;
+        this.blue[index] = blue;
+        this.alpha[index] = alpha;
+    }
+
+    /* ==== Packed ==== */
+
+    /// Unpacks `0xRRGGBBAA` colors, same as [ColorF32#rgba(int)].
+    public static void unpack(int[] rgba, ColorBuffer out) {
+        final int size = checkSize(out.size(), rgba.length);
+        final float[] r = out.red, g = out.green, b = out.blue, a = out.alpha;
+        for (int i = 0; i < size; i++) {
+            final int color = rgba[i];
+            r[i] = (color >>> 24) * INVERSE_255;
+            g[i] = (color >>> 16 & 0xFF) * INVERSE_255;
+            b[i] = (color >>> 8 & 0xFF) * INVERSE_255;
+            a[i] = (color & 0xFF) * INVERSE_255;
+        }
+    }
+
+    /// Packs the colors into `0xRRGGBBAA`, the channels are clamped to `[0,1]` and rounded to the nearest 8-bit value.
+    public static void pack(ColorBuffer colors, int[] out) {
+        final int size = checkSize(colors.size(), out.length);
+        final float[] r = colors.red, g = colors.green, b = colors.blue, a = colors.alpha;
+        for (int i = 0; i < size; i++) {
+            out[i] = toByte(r[i]) << 24 | toByte(g[i]) << 16 | toByte(b[i]) << 8 | toByte(a[i]);
+        }
+    }
+
+    private static int toByte(float channel) {
+        // NaN becomes 0, like the cast does.
+        return (int) (Math.min(Math.max(channel, 0f), 1f) * 255f + .5f);
+    }
+
+    /// Multiplies the color channels by the alpha, `out` may be `colors`.
+    public static void premultiply(ColorBuffer colors, ColorBuffer out) {
+        final int size = checkSize(out.size(), colors.size());
+        final float[] r = colors.red, g = colors.green, b = colors.blue, a = colors.alpha;
+        for (int i = 0; i < size; i++) {
+            final float alpha = a[i];
+            out.red[i] = r[i] * alpha;
+            out.green[i] = g[i] * alpha;
+            out.blue[i] = b[i] * alpha;
+            out.alpha[i] = alpha;
+        }
+    }
+
+    /// Divides the color channels by the alpha, the colors with an alpha of `0` become transparent black, `out` may be `colors`.
+    public static void unpremultiply(ColorBuffer colors, ColorBuffer out) {
+        final int size = checkSize(out.size(), colors.size());
+        final float[] r = colors.red, g = colors.green, b = colors.blue, a = colors.alpha;
+        for (int i = 0; i < size; i++) {
+            final float alpha = a[i];
+            final float inverse = alpha == 0f ? 0f : 1f / alpha;
+            out.red[i] = r[i] * inverse;
+            out.green[i] = g[i] * inverse;
+            out.blue[i] = b[i] * inverse;
+            out.alpha[i] = alpha;
+        }
+    }
+
+    /// Multiplies the color channels of packed `0xRRGGBBAA` colors by the alpha, rounded to the nearest, `out` may be `rgba`.
+    public static void premultiply(int[] rgba, int[] out) {
+        final int size = checkSize(out.length, rgba.length);
+        for (int i = 0; i < size; i++) {
+            final int color = rgba[i];
+            final int a = color & 0xFF;
+            out[i] = multiply255(color >>> 24, a) << 24
+                    | multiply255(color >>> 16 & 0xFF, a) << 16
+                    | multiply255(color >>> 8 & 0xFF, a) << 8
+                    | a;
+        }
+    }
+
+    /// Divides the color channels of premultiplied `0xRRGGBBAA` colors by the alpha, rounded to the nearest, `out` may be `rgba`.\
+    /// The colors with an alpha of `0` become transparent black, and the channels above the alpha are saturated to `255`.
+    public static void unpremultiply(int[] rgba, int[] out) {
+        final int size = checkSize(out.length, rgba.length);
+        for (int i = 0; i < size; i++) {
+            final int color = rgba[i];
+            final int a = color & 0xFF;
+            if (a == 0) {
+                out[i] = 0;
+                continue;
+            }
+            final int half = a >>> 1;
+            out[i] = Math.min(((color >>> 24) * 255 + half) / a, 255) << 24
+                    | Math.min(((color >>> 16 & 0xFF) * 255 + half) / a, 255) << 16
+                    | Math.min(((color >>> 8 & 0xFF) * 255 + half) / a, 255) << 8
+                    | a;
+        }
+    }
+
+    /// @return `channel * alpha / 255` rounded to the nearest.
+    private static int multiply255(int channel, int alpha) {
+        final int product = channel * alpha + 128;
+        return (product + (product >>> 8)) >>> 8;
+    }
+
+    /* ==== sRGB ==== */
+
+    /// Unpacks sRGB encoded `0xRRGGBBAA` colors into linear values, same as [ColorF32#srgba(int)].\
+    /// Each color channel costs one lookup in a 256 entries table.
+    public static void unpackSrgb(int[] srgba, ColorBuffer out) {
+        final int size = checkSize(out.size(), srgba.length);
+        final float[] r = out.red, g = out.green, b = out.blue, a = out.alpha;
+        final float[] decode = Srgb.DECODE_F32;
+        for (int i = 0; i < size; i++) {
+            final int color = srgba[i];
+            r[i] = decode[color >>> 24];
+            g[i] = decode[color >>> 16 & 0xFF];
+            b[i] = decode[color >>> 8 & 0xFF];
+            a[i] = (color & 0xFF) * INVERSE_255;
+        }
+    }
+
+    /// Packs linear colors into sRGB encoded `0xRRGGBBAA`, same as [ColorF32#toSrgba()].\
+    /// Each color channel costs one lookup in a table, the error is below `0.53` of an 8-bit step.
+    public static void packSrgb(ColorBuffer colors, int[] out) {
+        final int size = checkSize(colors.size(), out.length);
+        final float[] r = colors.red, g = colors.green, b = colors.blue, a = colors.alpha;
+        for (int i = 0; i < size; i++) {
+            out[i] = Srgb.encode(r[i]) << 24 | Srgb.encode(g[i]) << 16 | Srgb.encode(b[i]) << 8 | toByte(a[i]);
+        }
+    }
+
+    /* ==== HSV ==== */
+
+    /// Converts HSV planes to RGB, same as [ColorF32#hsv(org.lidiuma.math.rotation.AngleF32, float, float)], the alpha is left untouched.
+    public static void hsvToRgb(float[] hue, float[] saturation, float[] value, ColorBuffer out) {
+        final int size = checkSize(out.size(), hue.length, saturation.length, value.length);
+        final float[] r = out.red, g = out.green, b = out.blue;
+        for (int i = 0; i < size; i++) {
+            // Every channel is `v - v * s * clamp(min(k, 4 - k), 0, 1)`, with `k` the sixth of the hue shifted per channel.
+            final float sixths = sixths(hue[i]);
+            final float v = value[i], chroma = v * saturation[i];
+            r[i] = v - chroma * hsvRamp(sixths + 5f);
+            g[i] = v - chroma * hsvRamp(sixths + 3f);
+            b[i] = v - chroma * hsvRamp(sixths + 1f);
+        }
+    }
+
+    /// Converts RGB to HSV planes, the alpha is ignored.\
+    /// Grays have a hue of `0`, and black also has a saturation of `0`.
+    public static void rgbToHsv(ColorBuffer colors, float[] hue, float[] saturation, float[] value) {
+        final int size = checkSize(colors.size(), hue.length, saturation.length, value.length);
+        final float[] r = colors.red, g = colors.green, b = colors.blue;
+        for (int i = 0; i < size; i++) {
+            final float red = r[i], green = g[i], blue = b[i];
+            final float max = Math.max(red, Math.max(green, blue));
+            final float chroma = max - Math.min(red, Math.min(green, blue));
+            hue[i] = hue(red, green, blue, max, chroma);
+            saturation[i] = max == 0f ? 0f : chroma / max;
+            value[i] = max;
+        }
+    }
+
+    /* ==== HSL ==== */
+
+    /// Converts HSL planes to RGB, same as [ColorF32#hsl(org.lidiuma.math.rotation.AngleF32, float, float)], the alpha is left untouched.
+    public static void hslToRgb(float[] hue, float[] saturation, float[] lightness, ColorBuffer out) {
+        final int size = checkSize(out.size(), hue.length, saturation.length, lightness.length);
+        final float[] r = out.red, g = out.green, b = out.blue;
+        for (int i = 0; i < size; i++) {
+            // Every channel is `l - a * clamp(min(k - 3, 9 - k), -1, 1)`, with `k` the twelfth of the hue shifted per channel.
+            final float twelfths = sixths(hue[i]) * 2f;
+            final float l = lightness[i];
+            final float a = saturation[i] * Math.min(l, 1f - l);
+            r[i] = l - a * hslRamp(twelfths);
+            g[i] = l - a * hslRamp(twelfths + 8f);
+            b[i] = l - a * hslRamp(twelfths + 4f);
+        }
+    }
+
+    /// Converts RGB to HSL planes, the alpha is ignored.\
+    /// Grays have a hue and a saturation of `0`.
+    public static void rgbToHsl(ColorBuffer colors, float[] hue, float[] saturation, float[] lightness) {
+        final int size = checkSize(colors.size(), hue.length, saturation.length, lightness.length);
+        final float[] r = colors.red, g = colors.green, b = colors.blue;
+        for (int i = 0; i < size; i++) {
+            final float red = r[i], green = g[i], blue = b[i];
+            final float max = Math.max(red, Math.max(green, blue));
+            final float min = Math.min(red, Math.min(green, blue));
+            final float chroma = max - min;
+            final float l = (max + min) * .5f;
+            final float divisor = 1f - Math.abs(2f * l - 1f);
+            hue[i] = hue(red, green, blue, max, chroma);
+            saturation[i] = chroma == 0f || divisor == 0f ? 0f : chroma / divisor;
+            lightness[i] = l;
+        }
+    }
+
+    /* ==== Helpers ==== */
+
+    /// @return the hue in sixths of a turn, in `[0, 6)`.
+    private static float sixths(float radians) {
+        final float sixths = radians * SIXTHS_PER_RADIAN;
+        return sixths - 6f * (float) Math.floor(sixths * (1f / 6f));
+    }
+
+    private static float hsvRamp(float shifted) {
+        final float k = shifted >= 6f ? shifted - 6f : shifted;
+        return Math.max(0f, Math.min(Math.min(k, 4f - k), 1f));
+    }
+
+    private static float hslRamp(float shifted) {
+        final float k = shifted >= 12f ? shifted - 12f : shifted;
+        return Math.max(-1f, Math.min(Math.min(k - 3f, 9f - k), 1f));
+    }
+
+    private static float hue(float red, float green, float blue, float max, float chroma) {
+        if (chroma == 0f) return 0f;
+        final float inverse = 1f / chroma;
+        final float sixths = max == red ? (green - blue) * inverse
+                : max == green ? (blue - red) * inverse + 2f
+                : (red - green) * inverse + 4f;
+        return (sixths < 0f ? sixths + 6f : sixths) * RADIANS_PER_SIXTH;
+    }
+
+    static int checkSize(int expected, int actual) {
+        if (expected != actual) throw new IllegalArgumentException("The buffer sizes do not match, expected " + expected + " but got " + actual + ".");
+        return expected;
+    }
+
+    static int checkSize(int expected, int actual1, int actual2) {
+        checkSize(expected, actual1);
+        return checkSize(expected, actual2);
+    }
+
+    static int checkSize(int expected, int actual1, int actual2, int actual3) {
+        checkSize(expected, actual1);
+        checkSize(expected, actual2);
+        return checkSize(expected, actual3);
+    }
+}
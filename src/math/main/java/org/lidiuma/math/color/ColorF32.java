@@ -20,6 +20,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.color.Color;
 import org.lidiuma.math.api.traits.color.ColorOps;
 import org.lidiuma.math.api.tuple.UnaryTuple4;
+import org.lidiuma.math.easing.FloatEasing;
 import org.lidiuma.math.processor.FactoryAlias;
 import org.lidiuma.math.processor.FieldAlias;
 import org.lidiuma.math.processor.MethodAlias;
@@ -51,10 +52,7 @@ public value record ColorF32(
     @MethodAlias(outputClass = COLOR_OUT)
     @NamedAlias(methodName = COLOR_FACTORY + UPPER_HEX_FACTORY + F32)
     public static ColorF32 colorHex(String hexColor) {
-        final String hex = hexColor.startsWith("#") ? hexColor.substring(1) : hexColor;
-        final int length = hex.length();
-        if (length != 6 && length != 8) throw new IllegalArgumentException("The hex length can either be 6 or 8, provided: " + hex + ".");
-        return rgba(Integer.parseUnsignedInt(hex + (length == 6 ? "FF" : ""), 16));
+        return rgba(ColorHex.parse(hexColor));
     }
 
     /// Extracts the `R`, `G`, `B`, and `A` channels from a packed `0xRRGGBBAA` integer.
@@ -98,6 +96,20 @@ public value record ColorF32(
         );
     }
 
+    /// Decodes the `R`, `G`, and `B` channels of a packed sRGB `0xRRGGBBAA` integer into linear values through a lookup table,
+    ///  the `A` channel is already linear, so it's only normalized like [#rgba(int)].
+    /// @return the linear color.
+    @MethodAlias(outputClass = COLOR_OUT)
+    @NamedAlias(methodName = SRGBA_FACTORY + F32)
+    public static ColorF32 srgba(int srgba) {
+        return new ColorF32(
+                Srgb.DECODE_F32[srgba >>> 24],
+                Srgb.DECODE_F32[srgba >>> 16 & 0xFF],
+                Srgb.DECODE_F32[srgba >>> 8 & 0xFF],
+                (srgba & 0xFF) / 255f
+        );
+    }
+
     /// Converts the HSV to a color.
     /// @param hue the angle of the hue, any angle is allowed.
     /// @param saturation the saturation in the range [0,1].
@@ -164,6 +176,47 @@ public value record ColorF32(
         };
     }
 
+    /// Encodes this linear color into a packed sRGB `0xRRGGBBAA` integer, the inverse of [#srgba(int)].\
+    /// The channels are clamped to `[0,1]`, and the `R`, `G`, and `B` ones go through a lookup table,
+    ///  their error is below `0.53` of an 8-bit step.
+    public int toSrgba() {
+        final int a = (int) (Math.min(Math.max(alpha, 0f), 1f) * 255f + .5f);
+        return Srgb.encode(red) << 24 | Srgb.encode(green) << 16 | Srgb.encode(blue) << 8 | a;
+    }
+
+    /// Converts this sRGB encoded color to linear with the exact transfer function, the alpha is left untouched.
+    public ColorF32 toLinear() {
+        return new ColorF32(
+                (float) Srgb.toLinear(red),
+                (float) Srgb.toLinear(green),
+                (float) Srgb.toLinear(blue),
+                alpha
+        );
+    }
+
+    /// Converts this linear color to sRGB with the exact transfer function, the alpha is left untouched.
+    public ColorF32 toSrgb() {
+        return new ColorF32(
+                (float) Srgb.toSrgb(red),
+                (float) Srgb.toSrgb(green),
+                (float) Srgb.toSrgb(blue),
+                alpha
+        );
+    }
+
+    /// @return the color with the color channels multiplied by the alpha.
+    public ColorF32 premultiply() {
+        return new ColorF32(red * alpha, green * alpha, blue * alpha, alpha);
+    }
+
+    /// The inverse of [#premultiply()].
+    /// @return the color with the color channels divided by the alpha, or transparent black if the alpha is `0`.
+    public ColorF32 unpremultiply() {
+        if (alpha == 0f) return new ColorF32(0f, 0f, 0f, 0f);
+        final float inverse = 1f / alpha;
+        return new ColorF32(red * inverse, green * inverse, blue * inverse, alpha);
+    }
+
     public static final value class Ops implements ColorOps<ColorF32, Float> {
 
         // I use Vec4.Ops to avoid re-doing the math, which is error-prone.
@@ -187,5 +240,21 @@ public value record ColorF32(
         public ColorF32 interpolate(ColorF32 start, ColorF32 end, Float alpha, UnaryOperator<Float> easing) {
             return c(Vec4F32.OPS.interpolate(v(start), v(end), alpha, easing));
         }
+
+        /// Same as [#interpolate(ColorF32, ColorF32, Float, UnaryOperator)], but the easing does not box.
+        public ColorF32 interpolate(ColorF32 start, ColorF32 end, float alpha, FloatEasing easing) {
+            final float eased = easing.ease(alpha);
+            return new ColorF32(
+                    start.red() + (end.red() - start.red()) * eased,
+                    start.green() + (end.green() - start.green()) * eased,
+                    start.blue() + (end.blue() - start.blue()) * eased,
+                    start.alpha() + (end.alpha() - start.alpha()) * eased
+            );
+        }
+
+        /// Composites two premultiplied colors, same as [BlendMode#composite(ColorF32, ColorF32)].
+        public ColorF32 composite(ColorF32 source, ColorF32 destination, BlendMode mode) {
+            return mode.composite(source, destination);
+        }
     }
 }
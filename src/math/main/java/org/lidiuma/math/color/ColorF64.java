@@ -20,6 +20,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.color.Color;
 import org.lidiuma.math.api.traits.color.ColorOps;
 import org.lidiuma.math.api.tuple.UnaryTuple4;
+import org.lidiuma.math.easing.DoubleEasing;
 import org.lidiuma.math.processor.FactoryAlias;
 import org.lidiuma.math.processor.FieldAlias;
 import org.lidiuma.math.processor.MethodAlias;
@@ -51,10 +52,7 @@ public value record ColorF64(
     @MethodAlias(outputClass = COLOR_OUT)
     @NamedAlias(methodName = COLOR_FACTORY + UPPER_HEX_FACTORY + F64)
     public static ColorF64 colorHex(String hexColor) {
-        final String hex = hexColor.startsWith("#") ? hexColor.substring(1) : hexColor;
-        final int length = hex.length();
-        if (length != 6 && length != 8) throw new IllegalArgumentException("The hex length can either be 6 or 8, provided: " + hex + ".");
-        return rgba(Integer.parseUnsignedInt(hex + (length == 6 ? "FF" : ""), 16));
+        return rgba(ColorHex.parse(hexColor));
     }
 
     /// Extracts the `R`, `G`, `B`, and `A` channels from a packed `0xRRGGBBAA` integer.
@@ -98,6 +96,20 @@ public value record ColorF64(
         );
     }
 
+    /// Decodes the `R`, `G`, and `B` channels of a packed sRGB `0xRRGGBBAA` integer into linear values through a lookup table,
+    ///  the `A` channel is already linear, so it's only normalized like [#rgba(int)].
+    /// @return the linear color.
+    @MethodAlias(outputClass = COLOR_OUT)
+    @NamedAlias(methodName = SRGBA_FACTORY + F64)
+    public static ColorF64 srgba(int srgba) {
+        return new ColorF64(
+                Srgb.DECODE_F64[srgba >>> 24],
+                Srgb.DECODE_F64[srgba >>> 16 & 0xFF],
+                Srgb.DECODE_F64[srgba >>> 8 & 0xFF],
+                (srgba & 0xFF) / 255d
+        );
+    }
+
     /// Converts the HSV to a color.
     /// @param hue the angle of the hue, any angle is allowed.
     /// @param saturation the saturation in the range [0,1].
@@ -164,6 +176,34 @@ public value record ColorF64(
         };
     }
 
+    /// Encodes this linear color into a packed sRGB `0xRRGGBBAA` integer, the inverse of [#srgba(int)].\
+    /// The channels are clamped to `[0,1]`, and the `R`, `G`, and `B` ones go through a lookup table,
+    ///  their error is below `0.53` of an 8-bit step.
+    public int toSrgba() {
+        final int a = (int) (Math.min(Math.max(alpha, 0d), 1d) * 255d + .5d);
+        return Srgb.encode(red) << 24 | Srgb.encode(green) << 16 | Srgb.encode(blue) << 8 | a;
+    }
+
+    /// Converts this sRGB encoded color to linear with the exact transfer function, the alpha is left untouched.
+    public ColorF64 toLinear() {
+        return new ColorF64(
+                Srgb.toLinear(red),
+                Srgb.toLinear(green),
+                Srgb.toLinear(blue),
+                alpha
+        );
+    }
+
+    /// Converts this linear color to sRGB with the exact transfer function, the alpha is left untouched.
+    public ColorF64 toSrgb() {
+        return new ColorF64(
+                Srgb.toSrgb(red),
+                Srgb.toSrgb(green),
+                Srgb.toSrgb(blue),
+                alpha
+        );
+    }
+
     public static final value class Ops implements ColorOps<ColorF64, Double> {
 
         // I use Vec4.Ops to avoid re-doing the math, which is error-prone.
@@ -187,5 +227,16 @@ public value record ColorF64(
         public ColorF64 interpolate(ColorF64 start, ColorF64 end, Double alpha, UnaryOperator<Double> easing) {
             return c(Vec4F64.OPS.interpolate(v(start), v(end), alpha, easing));
         }
+
+        /// Same as [#interpolate(ColorF64, ColorF64, Double, UnaryOperator)], but the easing does not box.
+        public ColorF64 interpolate(ColorF64 start, ColorF64 end, double alpha, DoubleEasing easing) {
+            final double eased = easing.ease(alpha);
+            return new ColorF64(
+                    start.red() + (end.red() - start.red()) * eased,
+                    start.green() + (end.green() - start.green()) * eased,
+                    start.blue() + (end.blue() - start.blue()) * eased,
+                    start.alpha() + (end.alpha() - start.alpha()) * eased
+            );
+        }
     }
 }
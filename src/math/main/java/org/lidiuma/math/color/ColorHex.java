@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.color;
+
+/// A hex color parser working on the characters directly, without substrings or concatenations.
+final class ColorHex {
+
+    private ColorHex() {}
+
+    /// Parses `RRGGBB` or `RRGGBBAA`, optionally prefixed by `#`, a missing alpha is opaque.
+    /// @return the packed `0xRRGGBBAA` color.
+    static int parse(CharSequence hexColor) {
+        final int start = hexColor.length() > 0 && hexColor.charAt(0) == '#' ? 1 : 0;
+        final int length = hexColor.length() - start;
+        if (length != 6 && length != 8) throw new IllegalArgumentException("The hex length can either be 6 or 8, provided: " + hexColor.subSequence(start, hexColor.length()) + ".");
+        int rgba = 0;
+        for (int i = start; i < hexColor.length(); i++) {
+            final int digit = digit(hexColor.charAt(i));
+            if (digit < 0) throw new NumberFormatException("Invalid hex digit '" + hexColor.charAt(i) + "' in " + hexColor + ".");
+            rgba = rgba << 4 | digit;
+        }
+        return length == 6 ? rgba << 8 | 0xFF : rgba;
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+        final int lower = c | 0x20; // ASCII letters only differ by this bit.
+        if (lower >= 'a' && lower <= 'f') return lower - 'a' + 10;
+        return -1;
+    }
+}
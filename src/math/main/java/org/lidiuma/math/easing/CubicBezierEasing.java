@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.easing;
+
+import jdk.internal.vm.annotation.LooselyConsistentValue;
+import jdk.internal.vm.annotation.NullRestricted;
+
+/// A cubic Bézier easing, like the CSS `cubic-bezier(x1, y1, x2, y2)` timing function.\
+/// The curve goes from `(0,0)` to `(1,1)` through the two control points, and the progress is its `x` coordinate.
+/// I find the `t` of the curve with a few Newton iterations, falling back to bisection when the slope is too flat.
+/// @param x1 the `x` of the first control point, in `[0,1]`.
+/// @param y1 the `y` of the first control point, any value is allowed (overshoot).
+/// @param x2 the `x` of the second control point, in `[0,1]`.
+/// @param y2 the `y` of the second control point, any value is allowed (overshoot).
+@LooselyConsistentValue
+public value record CubicBezierEasing(
+        @NullRestricted Double x1,
+        @NullRestricted Double y1,
+        @NullRestricted Double x2,
+        @NullRestricted Double y2
+) implements FloatEasing, DoubleEasing {
+
+    public static final CubicBezierEasing EASE = new CubicBezierEasing(.25d, .1d, .25d, 1d);
+    public static final CubicBezierEasing EASE_IN = new CubicBezierEasing(.42d, 0d, 1d, 1d);
+    public static final CubicBezierEasing EASE_OUT = new CubicBezierEasing(0d, 0d, .58d, 1d);
+    public static final CubicBezierEasing EASE_IN_OUT = new CubicBezierEasing(.42d, 0d, .58d, 1d);
+
+    private static final int NEWTON_ITERATIONS = 8;
+    private static final int BISECTION_ITERATIONS = 48;
+    private static final double EPSILON = 1e-9d;
+    private static final double MIN_SLOPE = 1e-6d;
+
+    public CubicBezierEasing {
+        if (!(x1 >= 0d && x1 <= 1d)) throw new IllegalArgumentException("The x1 must be in [0,1], but got " + x1 + ".");
+        if (!(x2 >= 0d && x2 <= 1d)) throw new IllegalArgumentException("The x2 must be in [0,1], but got " + x2 + ".");
+    }
+
+    @Override
+    public float ease(float progress) {
+        return (float) ease((double) progress);
+    }
+
+    @Override
+    public double ease(double progress) {
+        if (progress <= 0d) return 0d;
+        if (progress >= 1d) return 1d;
+        return sample(y1, y2, solve(progress));
+    }
+
+    /// @return the `t` of the curve whose `x` coordinate is `x`.
+    private double solve(double x) {
+        final double x1 = this.x1, x2 = this.x2;
+        double t = x;
+        for (int i = 0; i < NEWTON_ITERATIONS; i++) {
+            final double error = sample(x1, x2, t) - x;
+            if (Math.abs(error) < EPSILON) return t;
+            final double slope = slope(x1, x2, t);
+            if (Math.abs(slope) < MIN_SLOPE) break;
+            t -= error / slope;
+        }
+        // The x coordinate is monotonic in [0,1], since both control points have an x in [0,1].
+        double low = 0d, high = 1d;
+        t = x;
+        for (int i = 0; i < BISECTION_ITERATIONS; i++) {
+            final double error = sample(x1, x2, t) - x;
+            if (Math.abs(error) < EPSILON) return t;
+            if (error > 0d) high = t;
+            else low = t;
+            t = (low + high) * .5d;
+        }
+        return t;
+    }
+
+    /// @return the coordinate of the curve at `t`, given the coordinates of the control points.
+    private static double sample(double p1, double p2, double t) {
+        // The Bernstein form with p0 = 0 and p3 = 1, expanded into a polynomial of t.
+        final double c = 3d * p1;
+        final double b = 3d * (p2 - p1) - c;
+        final double a = 1d - c - b;
+        return ((a * t + b) * t + c) * t;
+    }
+
+    private static double slope(double p1, double p2, double t) {
+        final double c = 3d * p1;
+        final double b = 3d * (p2 - p1) - c;
+        final double a = 1d - c - b;
+        return (3d * a * t + 2d * b) * t + c;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.easing;
+
+/// The common easing curves, with the same definitions as [easings.net](https://easings.net/).\
+/// Every curve is a constant of this single enum class, and [#ease(double)] switches over them,
+///  so a call site receiving different curves stays monomorphic, unlike one receiving many lambdas.
+/// The `float` version evaluates the curve in `double`.
+public enum Easing implements FloatEasing, DoubleEasing {
+
+    LINEAR,
+    QUAD_IN,
+    QUAD_OUT,
+    QUAD_IN_OUT,
+    CUBIC_IN,
+    CUBIC_OUT,
+    CUBIC_IN_OUT,
+    QUART_IN,
+    QUART_OUT,
+    QUART_IN_OUT,
+    SINE_IN,
+    SINE_OUT,
+    SINE_IN_OUT,
+    EXPO_IN,
+    EXPO_OUT,
+    EXPO_IN_OUT,
+    CIRC_IN,
+    CIRC_OUT,
+    CIRC_IN_OUT,
+    /// Overshoots below `0` at the start.
+    BACK_IN,
+    /// Overshoots above `1` at the end.
+    BACK_OUT,
+    BACK_IN_OUT,
+    ELASTIC_IN,
+    ELASTIC_OUT,
+    ELASTIC_IN_OUT,
+    BOUNCE_IN,
+    BOUNCE_OUT,
+    BOUNCE_IN_OUT;
+
+    private static final double BACK = 1.70158d;
+    private static final double BACK_IN_OUT_FACTOR = BACK * 1.525d;
+    private static final double ELASTIC = Math.TAU / 3d;
+    private static final double ELASTIC_IN_OUT_FACTOR = Math.TAU / 4.5d;
+
+    @Override
+    public float ease(float progress) {
+        return (float) ease((double) progress);
+    }
+
+    @Override
+    public double ease(double t) {
+        return switch (this) {
+            case LINEAR -> t;
+            case QUAD_IN -> t * t;
+            case QUAD_OUT -> 1d - square(1d - t);
+            case QUAD_IN_OUT -> t < .5d ? 2d * t * t : 1d - square(-2d * t + 2d) / 2d;
+            case CUBIC_IN -> t * t * t;
+            case CUBIC_OUT -> 1d - cube(1d - t);
+            case CUBIC_IN_OUT -> t < .5d ? 4d * t * t * t : 1d - cube(-2d * t + 2d) / 2d;
+            case QUART_IN -> square(t * t);
+            case QUART_OUT -> 1d - square(square(1d - t));
+            case QUART_IN_OUT -> t < .5d ? 8d * square(t * t) : 1d - square(square(-2d * t + 2d)) / 2d;
+            case SINE_IN -> 1d - Math.cos(t * Math.PI / 2d);
+            case SINE_OUT -> Math.sin(t * Math.PI / 2d);
+            case SINE_IN_OUT -> -(Math.cos(Math.PI * t) - 1d) / 2d;
+            case EXPO_IN -> t == 0d ? 0d : Math.pow(2d, 10d * t - 10d);
+            case EXPO_OUT -> t == 1d ? 1d : 1d - Math.pow(2d, -10d * t);
+            case EXPO_IN_OUT -> {
+                if (t == 0d || t == 1d) yield t;
+                yield t < .5d ? Math.pow(2d, 20d * t - 10d) / 2d : (2d - Math.pow(2d, -20d * t + 10d)) / 2d;
+            }
+            case CIRC_IN -> 1d - Math.sqrt(1d - t * t);
+            case CIRC_OUT -> Math.sqrt(1d - square(t - 1d));
+            case CIRC_IN_OUT -> t < .5d
+                    ? (1d - Math.sqrt(1d - square(2d * t))) / 2d
+                    : (Math.sqrt(1d - square(-2d * t + 2d)) + 1d) / 2d;
+            case BACK_IN -> (BACK + 1d) * t * t * t - BACK * t * t;
+            case BACK_OUT -> 1d + (BACK + 1d) * cube(t - 1d) + BACK * square(t - 1d);
+            case BACK_IN_OUT -> t < .5d
+                    ? square(2d * t) * ((BACK_IN_OUT_FACTOR + 1d) * 2d * t - BACK_IN_OUT_FACTOR) / 2d
+                    : (square(2d * t - 2d) * ((BACK_IN_OUT_FACTOR + 1d) * (2d * t - 2d) + BACK_IN_OUT_FACTOR) + 2d) / 2d;
+            case ELASTIC_IN -> {
+                if (t == 0d || t == 1d) yield t;
+                yield -Math.pow(2d, 10d * t - 10d) * Math.sin((10d * t - 10.75d) * ELASTIC);
+            }
+            case ELASTIC_OUT -> {
+                if (t == 0d || t == 1d) yield t;
+                yield Math.pow(2d, -10d * t) * Math.sin((10d * t - .75d) * ELASTIC) + 1d;
+            }
+            case ELASTIC_IN_OUT -> {
+                if (t == 0d || t == 1d) yield t;
+                final double sin = Math.sin((20d * t - 11.125d) * ELASTIC_IN_OUT_FACTOR);
+                yield t < .5d
+                        ? -(Math.pow(2d, 20d * t - 10d) * sin) / 2d
+                        : Math.pow(2d, -20d * t + 10d) * sin / 2d + 1d;
+            }
+            case BOUNCE_IN -> 1d - bounceOut(1d - t);
+            case BOUNCE_OUT -> bounceOut(t);
+            case BOUNCE_IN_OUT -> t < .5d
+                    ? (1d - bounceOut(1d - 2d * t)) / 2d
+                    : (1d + bounceOut(2d * t - 1d)) / 2d;
+        };
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    private static double cube(double value) {
+        return value * value * value;
+    }
+
+    private static double bounceOut(double t) {
+        final double n = 7.5625d, d = 2.75d;
+        if (t < 1d / d) return n * t * t;
+        if (t < 2d / d) return n * square(t - 1.5d / d) + .75d;
+        if (t < 2.5d / d) return n * square(t - 2.25d / d) + .9375d;
+        return n * square(t - 2.625d / d) + .984375d;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.easing;
+
+/// A primitive `float` easing, it maps the progress of an interpolation to the eased progress without boxing.\
+/// The progress is usually in `[0,1]`, and most easings map `0` to `0` and `1` to `1`.
+@FunctionalInterface
+public interface FloatEasing {
+
+    /// Leaves the progress untouched.
+    FloatEasing LINEAR = progress -> progress;
+
+    float ease(float progress);
+}
@@ -58,6 +58,7 @@ public final class AnnotationConst {
     public static final String COLOR_OUT = "Colors";
     public static final String COLOR_FACTORY = "color";
     public static final String RGBA_FACTORY = "rgba";
+    public static final String SRGBA_FACTORY = "srgba";
     public static final String HSV_FACTORY = "hsv";
     public static final String HSL_FACTORY = "hsl";
     public static final String UPPER_HEX_FACTORY = "Hex";
@@ -76,6 +77,8 @@ public final class AnnotationConst {
     public static final String QUATERNION_FACTORY = "quaternion";
     public static final String AXIS_ANGLE_FACTORY = "axisAngle";
     public static final String SWING_TWIST_FACTORY = "swingTwist";
+    public static final String DUAL_QUATERNION_FACTORY = "dualQuaternion";
+    public static final String UPPER_DUAL_QUATERNION_FACTORY = "DualQuaternion";
     public static final String ANGLE_FACTORY = "angle";
     /* == Shapes-related == */
     // I cannot get this programmatically otherwise it's not const anymore.
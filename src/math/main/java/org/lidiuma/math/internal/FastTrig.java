@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math.internal;
+
+import org.lidiuma.math.numerics.SinCosF32;
+import org.lidiuma.math.numerics.SinCosF64;
+
+/// Polynomial sine and cosine, behind [org.lidiuma.math.numerics.TrigPrecision#FAST].
+///
+/// The angle is reduced into `[-π/4, π/4]` by `π/2` in `double`, then the quadrant picks between the sine and cosine kernels.
+/// The kernels are minimax polynomials of a lower degree than [Math#sin(double)] uses, fitted with the Remez algorithm on the absolute error over `[-π/4, π/4]`:
+/// - `float`: degree 5 for the sine (`9.4e-7`) and 6 for the cosine (`6.7e-8`), instead of the 7 and 8 of Cephes `sinf`/`cosf`.
+/// - `double`: degree 9 for the sine (`1.8e-9`) and 10 for the cosine (`9.6e-11`), instead of the 13 and 14 of fdlibm.
+///
+/// The reduction error is far below those, so they are also the error bounds of the whole functions, before the final rounding.\
+/// Angles outside the reduction range (and `NaN`/infinities) fall back to [Math#sin(double)] and [Math#cos(double)].
+public final class FastTrig {
+
+    /// Above these, the error of the reduction would grow past the one of the polynomials.
+    private static final float MAX_F32 = 1e6f;
+    private static final double MAX_F64 = 8e5d;
+
+    private static final double TWO_OVER_PI = 2d / Math.PI;
+    private static final double PIO2 = Math.PI / 2d;
+
+    private static final float SF1 = -1.6662834e-1f, SF2 = 8.1529924e-3f;
+    private static final float CF1 = 4.1661279e-2f, CF2 = -1.3652450e-3f;
+
+    private static final double S1 = -1.66666506692941700e-01, S2 = 8.33197866315684400e-03, S3 = -1.94956362376456350e-04;
+    private static final double C1 = 4.16666468664425860e-02, C2 = -1.38873675157314620e-03, C3 = 2.44384515925292020e-05;
+
+    private FastTrig() {}
+
+    public static float sin(float value) {
+        if (!(Math.abs(value) <= MAX_F32)) return (float) Math.sin(value);
+        final double quadrant = Math.rint(value * TWO_OVER_PI);
+        final float r = (float) (value - quadrant * PIO2);
+        final int q = (int) quadrant;
+        final float result = (q & 1) == 0 ? sinKernel(r) : cosKernel(r);
+        return (q & 2) == 0 ? result : -result;
+    }
+
+    public static float cos(float value) {
+        if (!(Math.abs(value) <= MAX_F32)) return (float) Math.cos(value);
+        final double quadrant = Math.rint(value * TWO_OVER_PI);
+        final float r = (float) (value - quadrant * PIO2);
+        final int q = (int) quadrant;
+        final float result = (q & 1) == 0 ? cosKernel(r) : sinKernel(r);
+        return ((q + 1) & 2) == 0 ? result : -result;
+    }
+
+    /// Computes both with a single reduction.
+    public static SinCosF32 sinCos(float value) {
+        if (!(Math.abs(value) <= MAX_F32)) return new SinCosF32((float) Math.sin(value), (float) Math.cos(value));
+        final double quadrant = Math.rint(value * TWO_OVER_PI);
+        final float r = (float) (value - quadrant * PIO2);
+        final int q = (int) quadrant;
+        final float s = sinKernel(r);
+        final float c = cosKernel(r);
+        final float sin = (q & 1) == 0 ? s : c;
+        final float cos = (q & 1) == 0 ? c : s;
+        return new SinCosF32((q & 2) == 0 ? sin : -sin, ((q + 1) & 2) == 0 ? cos : -cos);
+    }
+
+    public static double sin(double value) {
+        if (!(Math.abs(value) <= MAX_F64)) return Math.sin(value);
+        final double quadrant = Math.rint(value * TWO_OVER_PI);
+        final double r = value - quadrant * PIO2;
+        final int q = (int) quadrant;
+        final double result = (q & 1) == 0 ? sinKernel(r) : cosKernel(r);
+        return (q & 2) == 0 ? result : -result;
+    }
+
+    public static double cos(double value) {
+        if (!(Math.abs(value) <= MAX_F64)) return Math.cos(value);
+        final double quadrant = Math.rint(value * TWO_OVER_PI);
+        final double r = value - quadrant * PIO2;
+        final int q = (int) quadrant;
+        final double result = (q & 1) == 0 ? cosKernel(r) : sinKernel(r);
+        return ((q + 1) & 2) == 0 ? result : -result;
+    }
+
+    /// Computes both with a single reduction.
+    public static SinCosF64 sinCos(double value) {
+        if (!(Math.abs(value) <= MAX_F64)) return new SinCosF64(Math.sin(value), Math.cos(value));
+        final double quadrant = Math.rint(value * TWO_OVER_PI);
+        final double r = value - quadrant * PIO2;
+        final int q = (int) quadrant;
+        final double s = sinKernel(r);
+        final double c = cosKernel(r);
+        final double sin = (q & 1) == 0 ? s : c;
+        final double cos = (q & 1) == 0 ? c : s;
+        return new SinCosF64((q & 2) == 0 ? sin : -sin, ((q + 1) & 2) == 0 ? cos : -cos);
+    }
+
+    private static float sinKernel(float x) {
+        final float z = x * x;
+        return x + x * z * (SF1 + z * SF2);
+    }
+
+    private static float cosKernel(float x) {
+        final float z = x * x;
+        return 1f - 0.5f * z + z * z * (CF1 + z * CF2);
+    }
+
+    private static double sinKernel(double x) {
+        final double z = x * x;
+        return x + x * z * (S1 + z * (S2 + z * S3));
+    }
+
+    private static double cosKernel(double x) {
+        final double z = x * x;
+        return 1d - 0.5d * z + z * z * (C1 + z * (C2 + z * C3));
+    }
+}
@@ -16,6 +16,9 @@
 
 package org.lidiuma.math.internal;
 
+import org.lidiuma.math.numerics.SinCosF32;
+import org.lidiuma.math.numerics.SinCosF64;
+
 public final class Strict {
 
     public static final float EPSILON_F32 = 1e-6f;
@@ -44,4 +47,24 @@ public final class Strict {
     public static float sin(float value) {
         return fix((float) Math.sin(value)); // If I cast after the sin(), the cast loses precision and goes bellow epsilon.
     }
+
+    public static SinCosF32 sinCos(float value) {
+        return new SinCosF32(sin(value), cos(value));
+    }
+
+    public static SinCosF64 sinCos(double value) {
+        return new SinCosF64(sin(value), cos(value));
+    }
+
+    /// Same as `Math.clamp`, which is not available on Java 17 (the j17 build rewrites the calls to this method).
+    public static float clamp(float value, float min, float max) {
+        if (min > max) throw new IllegalArgumentException(min + " > " + max);
+        return Math.min(max, Math.max(value, min));
+    }
+
+    /// Same as `Math.clamp`, which is not available on Java 17 (the j17 build rewrites the calls to this method).
+    public static double clamp(double value, double min, double max) {
+        if (min > max) throw new IllegalArgumentException(min + " > " + max);
+        return Math.min(max, Math.max(value, min));
+    }
 }
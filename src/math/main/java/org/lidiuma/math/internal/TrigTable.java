@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math.internal;
+
+import org.lidiuma.math.numerics.SinCosF32;
+import org.lidiuma.math.numerics.SinCosF64;
+
+/// Lookup table sine and cosine, behind [org.lidiuma.math.numerics.TrigPrecision#TABLE].
+///
+/// A full turn is sampled into [#SIZE] entries and linearly interpolated,
+///  the cosine reads the same table shifted by a quarter turn.\
+/// The tables are only built when this class is first used.
+/// Angles outside the table range (and `NaN`/infinities) fall back to [Math#sin(double)] and [Math#cos(double)].
+public final class TrigTable {
+
+    public static final int SIZE = 4096;
+    private static final int MASK = SIZE - 1;
+    private static final int QUARTER = SIZE / 4;
+    private static final double SCALE = SIZE / Math.TAU;
+    /// Above this the fractional part of the index loses too much precision.
+    private static final double MAX = 1e6d;
+
+    private static final float[] SIN_F32 = new float[SIZE];
+    private static final double[] SIN_F64 = new double[SIZE];
+
+    static {
+        for (int i = 0; i < SIZE; i++) {
+            SIN_F64[i] = Math.sin(i * Math.TAU / SIZE);
+            SIN_F32[i] = (float) SIN_F64[i];
+        }
+    }
+
+    private TrigTable() {}
+
+    public static float sin(float value) {
+        if (!(Math.abs(value) <= MAX)) return (float) Math.sin(value);
+        final double index = value * SCALE;
+        final double floor = Math.floor(index);
+        return lookup((int) (long) floor, (float) (index - floor));
+    }
+
+    public static float cos(float value) {
+        if (!(Math.abs(value) <= MAX)) return (float) Math.cos(value);
+        final double index = value * SCALE;
+        final double floor = Math.floor(index);
+        return lookup((int) (long) floor + QUARTER, (float) (index - floor));
+    }
+
+    /// Computes both with a single index computation.
+    public static SinCosF32 sinCos(float value) {
+        if (!(Math.abs(value) <= MAX)) return new SinCosF32((float) Math.sin(value), (float) Math.cos(value));
+        final double index = value * SCALE;
+        final double floor = Math.floor(index);
+        final int i = (int) (long) floor;
+        final float fraction = (float) (index - floor);
+        return new SinCosF32(lookup(i, fraction), lookup(i + QUARTER, fraction));
+    }
+
+    public static double sin(double value) {
+        if (!(Math.abs(value) <= MAX)) return Math.sin(value);
+        final double index = value * SCALE;
+        final double floor = Math.floor(index);
+        return lookup((int) (long) floor, index - floor);
+    }
+
+    public static double cos(double value) {
+        if (!(Math.abs(value) <= MAX)) return Math.cos(value);
+        final double index = value * SCALE;
+        final double floor = Math.floor(index);
+        return lookup((int) (long) floor + QUARTER, index - floor);
+    }
+
+    /// Computes both with a single index computation.
+    public static SinCosF64 sinCos(double value) {
+        if (!(Math.abs(value) <= MAX)) return new SinCosF64(Math.sin(value), Math.cos(value));
+        final double index = value * SCALE;
+        final double floor = Math.floor(index);
+        final int i = (int) (long) floor;
+        final double fraction = index - floor;
+        return new SinCosF64(lookup(i, fraction), lookup(i + QUARTER, fraction));
+    }
+
+    // The mask also wraps negative indices, since they are in two's complement.
+    private static float lookup(int index, float fraction) {
+        final float a = SIN_F32[index & MASK];
+        final float b = SIN_F32[(index + 1) & MASK];
+        return a + (b - a) * fraction;
+    }
+
+    private static double lookup(int index, double fraction) {
+        final double a = SIN_F64[index & MASK];
+        final double b = SIN_F64[(index + 1) & MASK];
+        return a + (b - a) * fraction;
+    }
+}
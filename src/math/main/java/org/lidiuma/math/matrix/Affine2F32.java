@@ -20,7 +20,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.matrix.Affine2;
 import org.lidiuma.math.api.traits.matrix.Affine2Ops;
 import org.lidiuma.math.api.traits.matrix.FloatingAffineOps;
-import org.lidiuma.math.internal.Strict;
+import org.lidiuma.math.numerics.TrigPrecision;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
 import org.lidiuma.math.processor.FieldAlias;
@@ -81,8 +81,14 @@ public value record Affine2F32(
 
         @Override
         public Affine2F32 fromRotation(AngleF32 angle) {
-            final float cos = Strict.cos(angle.radian());
-            final float sin = Strict.sin(angle.radian());
+            return fromRotation(angle, TrigPrecision.STRICT);
+        }
+
+        /// Like [#fromRotation(AngleF32)], using the trigonometric functions of the provided precision.
+        public Affine2F32 fromRotation(AngleF32 angle, TrigPrecision precision) {
+            final var sinCos = precision.sinCos(angle.radian());
+            final float cos = sinCos.cos();
+            final float sin = sinCos.sin();
             return new Affine2F32(
                     cos, -sin, 0f,
                     sin, cos, 0f
@@ -121,5 +127,28 @@ public value record Affine2F32(
         public Vec2F32.Ops vectorOps() {
             return Vec2F32.OPS;
         }
+
+        /* ==== Handcrafted Optimizations ==== */
+
+        @Override
+        public Affine2F32 multiply(Affine2F32 op1, Affine2F32 op2) {
+            return new Affine2F32(
+                    op1.m00() * op2.m00() + op1.m01() * op2.m10(),
+                    op1.m00() * op2.m01() + op1.m01() * op2.m11(),
+                    op1.m00() * op2.m02() + op1.m01() * op2.m12() + op1.m02(),
+                    op1.m10() * op2.m00() + op1.m11() * op2.m10(),
+                    op1.m10() * op2.m01() + op1.m11() * op2.m11(),
+                    op1.m10() * op2.m02() + op1.m11() * op2.m12() + op1.m12()
+            );
+        }
+
+        /// The translation is applied, the vector is treated as homogeneous with `w = 1`.
+        @Override
+        public Vec2F32 multiply(Affine2F32 matrix, Vec2F32 vector) {
+            return new Vec2F32(
+                    matrix.m00() * vector.x() + matrix.m01() * vector.y() + matrix.m02(),
+                    matrix.m10() * vector.x() + matrix.m11() * vector.y() + matrix.m12()
+            );
+        }
     }
 }
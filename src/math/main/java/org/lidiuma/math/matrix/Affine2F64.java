@@ -20,7 +20,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.matrix.Affine2;
 import org.lidiuma.math.api.traits.matrix.Affine2Ops;
 import org.lidiuma.math.api.traits.matrix.FloatingAffineOps;
-import org.lidiuma.math.internal.Strict;
+import org.lidiuma.math.numerics.TrigPrecision;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
 import org.lidiuma.math.processor.FieldAlias;
@@ -81,8 +81,14 @@ public value record Affine2F64(
 
         @Override
         public Affine2F64 fromRotation(AngleF64 angle) {
-            final double cos = Strict.cos(angle.radian());
-            final double sin = Strict.sin(angle.radian());
+            return fromRotation(angle, TrigPrecision.STRICT);
+        }
+
+        /// Like [#fromRotation(AngleF64)], using the trigonometric functions of the provided precision.
+        public Affine2F64 fromRotation(AngleF64 angle, TrigPrecision precision) {
+            final var sinCos = precision.sinCos(angle.radian());
+            final double cos = sinCos.cos();
+            final double sin = sinCos.sin();
             return new Affine2F64(
                     cos, -sin, 0d,
                     sin, cos, 0d
@@ -121,5 +127,28 @@ public value record Affine2F64(
         public Vec2F64.Ops vectorOps() {
             return Vec2F64.OPS;
         }
+
+        /* ==== Handcrafted Optimizations ==== */
+
+        @Override
+        public Affine2F64 multiply(Affine2F64 op1, Affine2F64 op2) {
+            return new Affine2F64(
+                    op1.m00() * op2.m00() + op1.m01() * op2.m10(),
+                    op1.m00() * op2.m01() + op1.m01() * op2.m11(),
+                    op1.m00() * op2.m02() + op1.m01() * op2.m12() + op1.m02(),
+                    op1.m10() * op2.m00() + op1.m11() * op2.m10(),
+                    op1.m10() * op2.m01() + op1.m11() * op2.m11(),
+                    op1.m10() * op2.m02() + op1.m11() * op2.m12() + op1.m12()
+            );
+        }
+
+        /// The translation is applied, the vector is treated as homogeneous with `w = 1`.
+        @Override
+        public Vec2F64 multiply(Affine2F64 matrix, Vec2F64 vector) {
+            return new Vec2F64(
+                    matrix.m00() * vector.x() + matrix.m01() * vector.y() + matrix.m02(),
+                    matrix.m10() * vector.x() + matrix.m11() * vector.y() + matrix.m12()
+            );
+        }
     }
 }
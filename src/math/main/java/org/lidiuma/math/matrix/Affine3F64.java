@@ -138,5 +138,72 @@ public value record Affine3F64(
         public Vec3F64.Ops vectorOps() {
             return Vec3F64.OPS;
         }
+
+        /* ==== Handcrafted Optimizations ==== */
+
+        /// Computes the determinant of the linear 3x3 part, the implicit `[0 0 0 1]` row does not change it.
+        /// @return the determinant of the matrix.
+        @Override
+        public Double determinant(Affine3F64 affine) {
+            final double m00 = affine.m00(), m01 = affine.m01(), m02 = affine.m02();
+            final double m10 = affine.m10(), m11 = affine.m11(), m12 = affine.m12();
+            final double m20 = affine.m20(), m21 = affine.m21(), m22 = affine.m22();
+            return m00 * (m11 * m22 - m12 * m21) + m01 * (m12 * m20 - m10 * m22) + m02 * (m10 * m21 - m11 * m20);
+        }
+
+        /// Inverts the matrix by exploiting the implicit `[0 0 0 1]` last row.\
+        /// Only the linear 3x3 part is inverted, the translation is the inverted linear part applied to the negated translation.
+        /// @return the inverse of the matrix.
+        /// @throws ArithmeticException if the matrix is singular (its determinant is `0`).
+        @Override
+        public Affine3F64 inverse(Affine3F64 affine) {
+            final double m00 = affine.m00(), m01 = affine.m01(), m02 = affine.m02(), m03 = affine.m03();
+            final double m10 = affine.m10(), m11 = affine.m11(), m12 = affine.m12(), m13 = affine.m13();
+            final double m20 = affine.m20(), m21 = affine.m21(), m22 = affine.m22(), m23 = affine.m23();
+
+            // The cofactors of the first row are re-used by the determinant.
+            final double c00 = m11 * m22 - m12 * m21, c01 = m12 * m20 - m10 * m22, c02 = m10 * m21 - m11 * m20;
+            final double determinant = m00 * c00 + m01 * c01 + m02 * c02;
+            if (determinant == 0d) throw new ArithmeticException("The matrix is singular, it cannot be inverted.");
+            final double inv = 1d / determinant;
+
+            final double i00 = c00 * inv, i01 = (m02 * m21 - m01 * m22) * inv, i02 = (m01 * m12 - m02 * m11) * inv;
+            final double i10 = c01 * inv, i11 = (m00 * m22 - m02 * m20) * inv, i12 = (m02 * m10 - m00 * m12) * inv;
+            final double i20 = c02 * inv, i21 = (m01 * m20 - m00 * m21) * inv, i22 = (m00 * m11 - m01 * m10) * inv;
+
+            return new Affine3F64(
+                    i00, i01, i02, -(i00 * m03 + i01 * m13 + i02 * m23),
+                    i10, i11, i12, -(i10 * m03 + i11 * m13 + i12 * m23),
+                    i20, i21, i22, -(i20 * m03 + i21 * m13 + i22 * m23)
+            );
+        }
+
+        @Override
+        public Affine3F64 multiply(Affine3F64 op1, Affine3F64 op2) {
+            return new Affine3F64(
+                    op1.m00() * op2.m00() + op1.m01() * op2.m10() + op1.m02() * op2.m20(),
+                    op1.m00() * op2.m01() + op1.m01() * op2.m11() + op1.m02() * op2.m21(),
+                    op1.m00() * op2.m02() + op1.m01() * op2.m12() + op1.m02() * op2.m22(),
+                    op1.m00() * op2.m03() + op1.m01() * op2.m13() + op1.m02() * op2.m23() + op1.m03(),
+                    op1.m10() * op2.m00() + op1.m11() * op2.m10() + op1.m12() * op2.m20(),
+                    op1.m10() * op2.m01() + op1.m11() * op2.m11() + op1.m12() * op2.m21(),
+                    op1.m10() * op2.m02() + op1.m11() * op2.m12() + op1.m12() * op2.m22(),
+                    op1.m10() * op2.m03() + op1.m11() * op2.m13() + op1.m12() * op2.m23() + op1.m13(),
+                    op1.m20() * op2.m00() + op1.m21() * op2.m10() + op1.m22() * op2.m20(),
+                    op1.m20() * op2.m01() + op1.m21() * op2.m11() + op1.m22() * op2.m21(),
+                    op1.m20() * op2.m02() + op1.m21() * op2.m12() + op1.m22() * op2.m22(),
+                    op1.m20() * op2.m03() + op1.m21() * op2.m13() + op1.m22() * op2.m23() + op1.m23()
+            );
+        }
+
+        /// The translation is applied, the vector is treated as homogeneous with `w = 1`.
+        @Override
+        public Vec3F64 multiply(Affine3F64 matrix, Vec3F64 vector) {
+            return new Vec3F64(
+                    matrix.m00() * vector.x() + matrix.m01() * vector.y() + matrix.m02() * vector.z() + matrix.m03(),
+                    matrix.m10() * vector.x() + matrix.m11() * vector.y() + matrix.m12() * vector.z() + matrix.m13(),
+                    matrix.m20() * vector.x() + matrix.m21() * vector.y() + matrix.m22() * vector.z() + matrix.m23()
+            );
+        }
     }
 }
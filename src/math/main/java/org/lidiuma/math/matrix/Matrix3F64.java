@@ -88,5 +88,31 @@ public value record Matrix3F64(
         public Vec3F64.Ops vectorOps() {
             return Vec3F64.OPS;
         }
+
+        /* ==== Handcrafted Optimizations ==== */
+
+        @Override
+        public Matrix3F64 multiply(Matrix3F64 op1, Matrix3F64 op2) {
+            return new Matrix3F64(
+                    op1.m00() * op2.m00() + op1.m01() * op2.m10() + op1.m02() * op2.m20(),
+                    op1.m00() * op2.m01() + op1.m01() * op2.m11() + op1.m02() * op2.m21(),
+                    op1.m00() * op2.m02() + op1.m01() * op2.m12() + op1.m02() * op2.m22(),
+                    op1.m10() * op2.m00() + op1.m11() * op2.m10() + op1.m12() * op2.m20(),
+                    op1.m10() * op2.m01() + op1.m11() * op2.m11() + op1.m12() * op2.m21(),
+                    op1.m10() * op2.m02() + op1.m11() * op2.m12() + op1.m12() * op2.m22(),
+                    op1.m20() * op2.m00() + op1.m21() * op2.m10() + op1.m22() * op2.m20(),
+                    op1.m20() * op2.m01() + op1.m21() * op2.m11() + op1.m22() * op2.m21(),
+                    op1.m20() * op2.m02() + op1.m21() * op2.m12() + op1.m22() * op2.m22()
+            );
+        }
+
+        @Override
+        public Vec3F64 multiply(Matrix3F64 matrix, Vec3F64 vector) {
+            return new Vec3F64(
+                    matrix.m00() * vector.x() + matrix.m01() * vector.y() + matrix.m02() * vector.z(),
+                    matrix.m10() * vector.x() + matrix.m11() * vector.y() + matrix.m12() * vector.z(),
+                    matrix.m20() * vector.x() + matrix.m21() * vector.y() + matrix.m22() * vector.z()
+            );
+        }
     }
 }
@@ -92,5 +92,82 @@ public value record Matrix4F64(
         public Vec4F64.Ops vectorOps() {
             return Vec4F64.OPS;
         }
+
+        /* ==== Handcrafted Optimizations ==== */
+
+        /// Computes the determinant through the Laplace expansion of the 2x2 sub-determinants.
+        /// @return the determinant of the matrix.
+        @Override
+        public Double determinant(Matrix4F64 matrix) {
+            final double a00 = matrix.m00(), a01 = matrix.m01(), a02 = matrix.m02(), a03 = matrix.m03();
+            final double a10 = matrix.m10(), a11 = matrix.m11(), a12 = matrix.m12(), a13 = matrix.m13();
+            final double a20 = matrix.m20(), a21 = matrix.m21(), a22 = matrix.m22(), a23 = matrix.m23();
+            final double a30 = matrix.m30(), a31 = matrix.m31(), a32 = matrix.m32(), a33 = matrix.m33();
+
+            final double s0 = a00 * a11 - a10 * a01, s1 = a00 * a12 - a10 * a02, s2 = a00 * a13 - a10 * a03;
+            final double s3 = a01 * a12 - a11 * a02, s4 = a01 * a13 - a11 * a03, s5 = a02 * a13 - a12 * a03;
+            final double c0 = a20 * a31 - a30 * a21, c1 = a20 * a32 - a30 * a22, c2 = a20 * a33 - a30 * a23;
+            final double c3 = a21 * a32 - a31 * a22, c4 = a21 * a33 - a31 * a23, c5 = a22 * a33 - a32 * a23;
+            return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        }
+
+        /// Computes the inverse through the Laplace expansion, the 2x2 sub-determinants are shared by the determinant and the adjugate.
+        /// @return the inverse of the matrix.
+        /// @throws ArithmeticException if the matrix is singular (its determinant is `0`).
+        @Override
+        public Matrix4F64 inverse(Matrix4F64 matrix) {
+            final double a00 = matrix.m00(), a01 = matrix.m01(), a02 = matrix.m02(), a03 = matrix.m03();
+            final double a10 = matrix.m10(), a11 = matrix.m11(), a12 = matrix.m12(), a13 = matrix.m13();
+            final double a20 = matrix.m20(), a21 = matrix.m21(), a22 = matrix.m22(), a23 = matrix.m23();
+            final double a30 = matrix.m30(), a31 = matrix.m31(), a32 = matrix.m32(), a33 = matrix.m33();
+
+            final double s0 = a00 * a11 - a10 * a01, s1 = a00 * a12 - a10 * a02, s2 = a00 * a13 - a10 * a03;
+            final double s3 = a01 * a12 - a11 * a02, s4 = a01 * a13 - a11 * a03, s5 = a02 * a13 - a12 * a03;
+            final double c0 = a20 * a31 - a30 * a21, c1 = a20 * a32 - a30 * a22, c2 = a20 * a33 - a30 * a23;
+            final double c3 = a21 * a32 - a31 * a22, c4 = a21 * a33 - a31 * a23, c5 = a22 * a33 - a32 * a23;
+
+            final double determinant = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+            if (determinant == 0d) throw new ArithmeticException("The matrix is singular, it cannot be inverted.");
+            final double inv = 1d / determinant;
+
+            return new Matrix4F64(
+                    ( a11 * c5 - a12 * c4 + a13 * c3) * inv, (-a01 * c5 + a02 * c4 - a03 * c3) * inv, ( a31 * s5 - a32 * s4 + a33 * s3) * inv, (-a21 * s5 + a22 * s4 - a23 * s3) * inv,
+                    (-a10 * c5 + a12 * c2 - a13 * c1) * inv, ( a00 * c5 - a02 * c2 + a03 * c1) * inv, (-a30 * s5 + a32 * s2 - a33 * s1) * inv, ( a20 * s5 - a22 * s2 + a23 * s1) * inv,
+                    ( a10 * c4 - a11 * c2 + a13 * c0) * inv, (-a00 * c4 + a01 * c2 - a03 * c0) * inv, ( a30 * s4 - a31 * s2 + a33 * s0) * inv, (-a20 * s4 + a21 * s2 - a23 * s0) * inv,
+                    (-a10 * c3 + a11 * c1 - a12 * c0) * inv, ( a00 * c3 - a01 * c1 + a02 * c0) * inv, (-a30 * s3 + a31 * s1 - a32 * s0) * inv, ( a20 * s3 - a21 * s1 + a22 * s0) * inv
+            );
+        }
+
+        @Override
+        public Matrix4F64 multiply(Matrix4F64 op1, Matrix4F64 op2) {
+            return new Matrix4F64(
+                    op1.m00() * op2.m00() + op1.m01() * op2.m10() + op1.m02() * op2.m20() + op1.m03() * op2.m30(),
+                    op1.m00() * op2.m01() + op1.m01() * op2.m11() + op1.m02() * op2.m21() + op1.m03() * op2.m31(),
+                    op1.m00() * op2.m02() + op1.m01() * op2.m12() + op1.m02() * op2.m22() + op1.m03() * op2.m32(),
+                    op1.m00() * op2.m03() + op1.m01() * op2.m13() + op1.m02() * op2.m23() + op1.m03() * op2.m33(),
+                    op1.m10() * op2.m00() + op1.m11() * op2.m10() + op1.m12() * op2.m20() + op1.m13() * op2.m30(),
+                    op1.m10() * op2.m01() + op1.m11() * op2.m11() + op1.m12() * op2.m21() + op1.m13() * op2.m31(),
+                    op1.m10() * op2.m02() + op1.m11() * op2.m12() + op1.m12() * op2.m22() + op1.m13() * op2.m32(),
+                    op1.m10() * op2.m03() + op1.m11() * op2.m13() + op1.m12() * op2.m23() + op1.m13() * op2.m33(),
+                    op1.m20() * op2.m00() + op1.m21() * op2.m10() + op1.m22() * op2.m20() + op1.m23() * op2.m30(),
+                    op1.m20() * op2.m01() + op1.m21() * op2.m11() + op1.m22() * op2.m21() + op1.m23() * op2.m31(),
+                    op1.m20() * op2.m02() + op1.m21() * op2.m12() + op1.m22() * op2.m22() + op1.m23() * op2.m32(),
+                    op1.m20() * op2.m03() + op1.m21() * op2.m13() + op1.m22() * op2.m23() + op1.m23() * op2.m33(),
+                    op1.m30() * op2.m00() + op1.m31() * op2.m10() + op1.m32() * op2.m20() + op1.m33() * op2.m30(),
+                    op1.m30() * op2.m01() + op1.m31() * op2.m11() + op1.m32() * op2.m21() + op1.m33() * op2.m31(),
+                    op1.m30() * op2.m02() + op1.m31() * op2.m12() + op1.m32() * op2.m22() + op1.m33() * op2.m32(),
+                    op1.m30() * op2.m03() + op1.m31() * op2.m13() + op1.m32() * op2.m23() + op1.m33() * op2.m33()
+            );
+        }
+
+        @Override
+        public Vec4F64 multiply(Matrix4F64 matrix, Vec4F64 vector) {
+            return new Vec4F64(
+                    matrix.m00() * vector.x() + matrix.m01() * vector.y() + matrix.m02() * vector.z() + matrix.m03() * vector.w(),
+                    matrix.m10() * vector.x() + matrix.m11() * vector.y() + matrix.m12() * vector.z() + matrix.m13() * vector.w(),
+                    matrix.m20() * vector.x() + matrix.m21() * vector.y() + matrix.m22() * vector.z() + matrix.m23() * vector.w(),
+                    matrix.m30() * vector.x() + matrix.m31() * vector.y() + matrix.m32() * vector.z() + matrix.m33() * vector.w()
+            );
+        }
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.memory;
+
+import org.lidiuma.math.color.ColorF32;
+import org.lidiuma.math.color.ColorF64;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+/// [SegmentView]s of the colors, the channels are laid out in `RGBA` order without padding.
+public final class ColorViews {
+
+    public static final ColorF32View COLOR_F32 = new ColorF32View();
+    public static final ColorF64View COLOR_F64 = new ColorF64View();
+
+    private ColorViews() {}
+
+    public static final value class ColorF32View implements SegmentView<ColorF32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("red"),
+                JAVA_FLOAT.withName("green"),
+                JAVA_FLOAT.withName("blue"),
+                JAVA_FLOAT.withName("alpha")
+        ).withName("ColorF32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private ColorF32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public ColorF32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new ColorF32(
+                    segment.get(JAVA_FLOAT, offset),
+                    segment.get(JAVA_FLOAT, offset + 4),
+                    segment.get(JAVA_FLOAT, offset + 8),
+                    segment.get(JAVA_FLOAT, offset + 12)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, ColorF32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.red());
+            segment.set(JAVA_FLOAT, offset + 4, value.green());
+            segment.set(JAVA_FLOAT, offset + 8, value.blue());
+            segment.set(JAVA_FLOAT, offset + 12, value.alpha());
+        }
+    }
+
+    public static final value class ColorF64View implements SegmentView<ColorF64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("red"),
+                JAVA_DOUBLE.withName("green"),
+                JAVA_DOUBLE.withName("blue"),
+                JAVA_DOUBLE.withName("alpha")
+        ).withName("ColorF64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private ColorF64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public ColorF64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new ColorF64(
+                    segment.get(JAVA_DOUBLE, offset),
+                    segment.get(JAVA_DOUBLE, offset + 8),
+                    segment.get(JAVA_DOUBLE, offset + 16),
+                    segment.get(JAVA_DOUBLE, offset + 24)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, ColorF64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.red());
+            segment.set(JAVA_DOUBLE, offset + 8, value.green());
+            segment.set(JAVA_DOUBLE, offset + 16, value.blue());
+            segment.set(JAVA_DOUBLE, offset + 24, value.alpha());
+        }
+    }
+}
@@ -0,0 +1,708 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.memory;
+
+import org.lidiuma.math.matrix.Affine2F32;
+import org.lidiuma.math.matrix.Affine2F64;
+import org.lidiuma.math.matrix.Affine3F32;
+import org.lidiuma.math.matrix.Affine3F64;
+import org.lidiuma.math.matrix.Matrix3F32;
+import org.lidiuma.math.matrix.Matrix3F64;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.matrix.Matrix4F64;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+/// [SegmentView]s of the matrices, the elements are laid out in row-major order (`m00`, `m01`, ...) without padding.\
+/// Affine matrices only store their explicit rows, the implicit last row is not written.\
+/// GPU APIs expecting column-major matrices need the transposed matrix.
+public final class MatrixViews {
+
+    public static final Affine2F32View AFFINE2_F32 = new Affine2F32View();
+    public static final Affine2F64View AFFINE2_F64 = new Affine2F64View();
+    public static final Affine3F32View AFFINE3_F32 = new Affine3F32View();
+    public static final Affine3F64View AFFINE3_F64 = new Affine3F64View();
+    public static final Matrix3F32View MATRIX3_F32 = new Matrix3F32View();
+    public static final Matrix3F64View MATRIX3_F64 = new Matrix3F64View();
+    public static final Matrix4F32View MATRIX4_F32 = new Matrix4F32View();
+    public static final Matrix4F64View MATRIX4_F64 = new Matrix4F64View();
+
+    private MatrixViews() {}
+
+    public static final value class Affine2F32View implements SegmentView<Affine2F32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("m00"),
+                JAVA_FLOAT.withName("m01"),
+                JAVA_FLOAT.withName("m02"),
+                JAVA_FLOAT.withName("m10"),
+                JAVA_FLOAT.withName("m11"),
+                JAVA_FLOAT.withName("m12")
+        ).withName("Affine2F32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Affine2F32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Affine2F32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Affine2F32(
+                    segment.get(JAVA_FLOAT, offset),
+                    segment.get(JAVA_FLOAT, offset + 4),
+                    segment.get(JAVA_FLOAT, offset + 8),
+                    segment.get(JAVA_FLOAT, offset + 12),
+                    segment.get(JAVA_FLOAT, offset + 16),
+                    segment.get(JAVA_FLOAT, offset + 20)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Affine2F32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.m00());
+            segment.set(JAVA_FLOAT, offset + 4, value.m01());
+            segment.set(JAVA_FLOAT, offset + 8, value.m02());
+            segment.set(JAVA_FLOAT, offset + 12, value.m10());
+            segment.set(JAVA_FLOAT, offset + 16, value.m11());
+            segment.set(JAVA_FLOAT, offset + 20, value.m12());
+        }
+
+        /// Replaces the `count` matrices starting at `from` with `matrix * element`, directly inside the segment.\
+        /// The implicit last rows are `[0, ..., 0, 1]`, so the result is the composition of the two affine transforms.
+        public void transform(MemorySegment segment, long from, long count, Affine2F32 matrix) {
+            final float a00 = matrix.m00(), a01 = matrix.m01(), a02 = matrix.m02();
+            final float a10 = matrix.m10(), a11 = matrix.m11(), a12 = matrix.m12();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final float e00 = segment.get(JAVA_FLOAT, offset), e01 = segment.get(JAVA_FLOAT, offset + 4), e02 = segment.get(JAVA_FLOAT, offset + 8);
+                final float e10 = segment.get(JAVA_FLOAT, offset + 12), e11 = segment.get(JAVA_FLOAT, offset + 16), e12 = segment.get(JAVA_FLOAT, offset + 20);
+                segment.set(JAVA_FLOAT, offset, a00 * e00 + a01 * e10);
+                segment.set(JAVA_FLOAT, offset + 4, a00 * e01 + a01 * e11);
+                segment.set(JAVA_FLOAT, offset + 8, a00 * e02 + a01 * e12 + a02);
+                segment.set(JAVA_FLOAT, offset + 12, a10 * e00 + a11 * e10);
+                segment.set(JAVA_FLOAT, offset + 16, a10 * e01 + a11 * e11);
+                segment.set(JAVA_FLOAT, offset + 20, a10 * e02 + a11 * e12 + a12);
+            }
+        }
+    }
+
+    public static final value class Affine2F64View implements SegmentView<Affine2F64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("m00"),
+                JAVA_DOUBLE.withName("m01"),
+                JAVA_DOUBLE.withName("m02"),
+                JAVA_DOUBLE.withName("m10"),
+                JAVA_DOUBLE.withName("m11"),
+                JAVA_DOUBLE.withName("m12")
+        ).withName("Affine2F64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Affine2F64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Affine2F64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Affine2F64(
+                    segment.get(JAVA_DOUBLE, offset),
+                    segment.get(JAVA_DOUBLE, offset + 8),
+                    segment.get(JAVA_DOUBLE, offset + 16),
+                    segment.get(JAVA_DOUBLE, offset + 24),
+                    segment.get(JAVA_DOUBLE, offset + 32),
+                    segment.get(JAVA_DOUBLE, offset + 40)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Affine2F64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.m00());
+            segment.set(JAVA_DOUBLE, offset + 8, value.m01());
+            segment.set(JAVA_DOUBLE, offset + 16, value.m02());
+            segment.set(JAVA_DOUBLE, offset + 24, value.m10());
+            segment.set(JAVA_DOUBLE, offset + 32, value.m11());
+            segment.set(JAVA_DOUBLE, offset + 40, value.m12());
+        }
+
+        /// Replaces the `count` matrices starting at `from` with `matrix * element`, directly inside the segment.\
+        /// The implicit last rows are `[0, ..., 0, 1]`, so the result is the composition of the two affine transforms.
+        public void transform(MemorySegment segment, long from, long count, Affine2F64 matrix) {
+            final double a00 = matrix.m00(), a01 = matrix.m01(), a02 = matrix.m02();
+            final double a10 = matrix.m10(), a11 = matrix.m11(), a12 = matrix.m12();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final double e00 = segment.get(JAVA_DOUBLE, offset), e01 = segment.get(JAVA_DOUBLE, offset + 8), e02 = segment.get(JAVA_DOUBLE, offset + 16);
+                final double e10 = segment.get(JAVA_DOUBLE, offset + 24), e11 = segment.get(JAVA_DOUBLE, offset + 32), e12 = segment.get(JAVA_DOUBLE, offset + 40);
+                segment.set(JAVA_DOUBLE, offset, a00 * e00 + a01 * e10);
+                segment.set(JAVA_DOUBLE, offset + 8, a00 * e01 + a01 * e11);
+                segment.set(JAVA_DOUBLE, offset + 16, a00 * e02 + a01 * e12 + a02);
+                segment.set(JAVA_DOUBLE, offset + 24, a10 * e00 + a11 * e10);
+                segment.set(JAVA_DOUBLE, offset + 32, a10 * e01 + a11 * e11);
+                segment.set(JAVA_DOUBLE, offset + 40, a10 * e02 + a11 * e12 + a12);
+            }
+        }
+    }
+
+    public static final value class Affine3F32View implements SegmentView<Affine3F32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("m00"),
+                JAVA_FLOAT.withName("m01"),
+                JAVA_FLOAT.withName("m02"),
+                JAVA_FLOAT.withName("m03"),
+                JAVA_FLOAT.withName("m10"),
+                JAVA_FLOAT.withName("m11"),
+                JAVA_FLOAT.withName("m12"),
+                JAVA_FLOAT.withName("m13"),
+                JAVA_FLOAT.withName("m20"),
+                JAVA_FLOAT.withName("m21"),
+                JAVA_FLOAT.withName("m22"),
+                JAVA_FLOAT.withName("m23")
+        ).withName("Affine3F32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Affine3F32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Affine3F32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Affine3F32(
+                    segment.get(JAVA_FLOAT, offset),
+                    segment.get(JAVA_FLOAT, offset + 4),
+                    segment.get(JAVA_FLOAT, offset + 8),
+                    segment.get(JAVA_FLOAT, offset + 12),
+                    segment.get(JAVA_FLOAT, offset + 16),
+                    segment.get(JAVA_FLOAT, offset + 20),
+                    segment.get(JAVA_FLOAT, offset + 24),
+                    segment.get(JAVA_FLOAT, offset + 28),
+                    segment.get(JAVA_FLOAT, offset + 32),
+                    segment.get(JAVA_FLOAT, offset + 36),
+                    segment.get(JAVA_FLOAT, offset + 40),
+                    segment.get(JAVA_FLOAT, offset + 44)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Affine3F32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.m00());
+            segment.set(JAVA_FLOAT, offset + 4, value.m01());
+            segment.set(JAVA_FLOAT, offset + 8, value.m02());
+            segment.set(JAVA_FLOAT, offset + 12, value.m03());
+            segment.set(JAVA_FLOAT, offset + 16, value.m10());
+            segment.set(JAVA_FLOAT, offset + 20, value.m11());
+            segment.set(JAVA_FLOAT, offset + 24, value.m12());
+            segment.set(JAVA_FLOAT, offset + 28, value.m13());
+            segment.set(JAVA_FLOAT, offset + 32, value.m20());
+            segment.set(JAVA_FLOAT, offset + 36, value.m21());
+            segment.set(JAVA_FLOAT, offset + 40, value.m22());
+            segment.set(JAVA_FLOAT, offset + 44, value.m23());
+        }
+
+        /// Replaces the `count` matrices starting at `from` with `matrix * element`, directly inside the segment.\
+        /// The implicit last rows are `[0, ..., 0, 1]`, so the result is the composition of the two affine transforms.
+        public void transform(MemorySegment segment, long from, long count, Affine3F32 matrix) {
+            final float a00 = matrix.m00(), a01 = matrix.m01(), a02 = matrix.m02(), a03 = matrix.m03();
+            final float a10 = matrix.m10(), a11 = matrix.m11(), a12 = matrix.m12(), a13 = matrix.m13();
+            final float a20 = matrix.m20(), a21 = matrix.m21(), a22 = matrix.m22(), a23 = matrix.m23();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final float e00 = segment.get(JAVA_FLOAT, offset), e01 = segment.get(JAVA_FLOAT, offset + 4), e02 = segment.get(JAVA_FLOAT, offset + 8), e03 = segment.get(JAVA_FLOAT, offset + 12);
+                final float e10 = segment.get(JAVA_FLOAT, offset + 16), e11 = segment.get(JAVA_FLOAT, offset + 20), e12 = segment.get(JAVA_FLOAT, offset + 24), e13 = segment.get(JAVA_FLOAT, offset + 28);
+                final float e20 = segment.get(JAVA_FLOAT, offset + 32), e21 = segment.get(JAVA_FLOAT, offset + 36), e22 = segment.get(JAVA_FLOAT, offset + 40), e23 = segment.get(JAVA_FLOAT, offset + 44);
+                segment.set(JAVA_FLOAT, offset, a00 * e00 + a01 * e10 + a02 * e20);
+                segment.set(JAVA_FLOAT, offset + 4, a00 * e01 + a01 * e11 + a02 * e21);
+                segment.set(JAVA_FLOAT, offset + 8, a00 * e02 + a01 * e12 + a02 * e22);
+                segment.set(JAVA_FLOAT, offset + 12, a00 * e03 + a01 * e13 + a02 * e23 + a03);
+                segment.set(JAVA_FLOAT, offset + 16, a10 * e00 + a11 * e10 + a12 * e20);
+                segment.set(JAVA_FLOAT, offset + 20, a10 * e01 + a11 * e11 + a12 * e21);
+                segment.set(JAVA_FLOAT, offset + 24, a10 * e02 + a11 * e12 + a12 * e22);
+                segment.set(JAVA_FLOAT, offset + 28, a10 * e03 + a11 * e13 + a12 * e23 + a13);
+                segment.set(JAVA_FLOAT, offset + 32, a20 * e00 + a21 * e10 + a22 * e20);
+                segment.set(JAVA_FLOAT, offset + 36, a20 * e01 + a21 * e11 + a22 * e21);
+                segment.set(JAVA_FLOAT, offset + 40, a20 * e02 + a21 * e12 + a22 * e22);
+                segment.set(JAVA_FLOAT, offset + 44, a20 * e03 + a21 * e13 + a22 * e23 + a23);
+            }
+        }
+    }
+
+    public static final value class Affine3F64View implements SegmentView<Affine3F64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("m00"),
+                JAVA_DOUBLE.withName("m01"),
+                JAVA_DOUBLE.withName("m02"),
+                JAVA_DOUBLE.withName("m03"),
+                JAVA_DOUBLE.withName("m10"),
+                JAVA_DOUBLE.withName("m11"),
+                JAVA_DOUBLE.withName("m12"),
+                JAVA_DOUBLE.withName("m13"),
+                JAVA_DOUBLE.withName("m20"),
+                JAVA_DOUBLE.withName("m21"),
+                JAVA_DOUBLE.withName("m22"),
+                JAVA_DOUBLE.withName("m23")
+        ).withName("Affine3F64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Affine3F64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Affine3F64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Affine3F64(
+                    segment.get(JAVA_DOUBLE, offset),
+                    segment.get(JAVA_DOUBLE, offset + 8),
+                    segment.get(JAVA_DOUBLE, offset + 16),
+                    segment.get(JAVA_DOUBLE, offset + 24),
+                    segment.get(JAVA_DOUBLE, offset + 32),
+                    segment.get(JAVA_DOUBLE, offset + 40),
+                    segment.get(JAVA_DOUBLE, offset + 48),
+                    segment.get(JAVA_DOUBLE, offset + 56),
+                    segment.get(JAVA_DOUBLE, offset + 64),
+                    segment.get(JAVA_DOUBLE, offset + 72),
+                    segment.get(JAVA_DOUBLE, offset + 80),
+                    segment.get(JAVA_DOUBLE, offset + 88)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Affine3F64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.m00());
+            segment.set(JAVA_DOUBLE, offset + 8, value.m01());
+            segment.set(JAVA_DOUBLE, offset + 16, value.m02());
+            segment.set(JAVA_DOUBLE, offset + 24, value.m03());
+            segment.set(JAVA_DOUBLE, offset + 32, value.m10());
+            segment.set(JAVA_DOUBLE, offset + 40, value.m11());
+            segment.set(JAVA_DOUBLE, offset + 48, value.m12());
+            segment.set(JAVA_DOUBLE, offset + 56, value.m13());
+            segment.set(JAVA_DOUBLE, offset + 64, value.m20());
+            segment.set(JAVA_DOUBLE, offset + 72, value.m21());
+            segment.set(JAVA_DOUBLE, offset + 80, value.m22());
+            segment.set(JAVA_DOUBLE, offset + 88, value.m23());
+        }
+
+        /// Replaces the `count` matrices starting at `from` with `matrix * element`, directly inside the segment.\
+        /// The implicit last rows are `[0, ..., 0, 1]`, so the result is the composition of the two affine transforms.
+        public void transform(MemorySegment segment, long from, long count, Affine3F64 matrix) {
+            final double a00 = matrix.m00(), a01 = matrix.m01(), a02 = matrix.m02(), a03 = matrix.m03();
+            final double a10 = matrix.m10(), a11 = matrix.m11(), a12 = matrix.m12(), a13 = matrix.m13();
+            final double a20 = matrix.m20(), a21 = matrix.m21(), a22 = matrix.m22(), a23 = matrix.m23();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final double e00 = segment.get(JAVA_DOUBLE, offset), e01 = segment.get(JAVA_DOUBLE, offset + 8), e02 = segment.get(JAVA_DOUBLE, offset + 16), e03 = segment.get(JAVA_DOUBLE, offset + 24);
+                final double e10 = segment.get(JAVA_DOUBLE, offset + 32), e11 = segment.get(JAVA_DOUBLE, offset + 40), e12 = segment.get(JAVA_DOUBLE, offset + 48), e13 = segment.get(JAVA_DOUBLE, offset + 56);
+                final double e20 = segment.get(JAVA_DOUBLE, offset + 64), e21 = segment.get(JAVA_DOUBLE, offset + 72), e22 = segment.get(JAVA_DOUBLE, offset + 80), e23 = segment.get(JAVA_DOUBLE, offset + 88);
+                segment.set(JAVA_DOUBLE, offset, a00 * e00 + a01 * e10 + a02 * e20);
+                segment.set(JAVA_DOUBLE, offset + 8, a00 * e01 + a01 * e11 + a02 * e21);
+                segment.set(JAVA_DOUBLE, offset + 16, a00 * e02 + a01 * e12 + a02 * e22);
+                segment.set(JAVA_DOUBLE, offset + 24, a00 * e03 + a01 * e13 + a02 * e23 + a03);
+                segment.set(JAVA_DOUBLE, offset + 32, a10 * e00 + a11 * e10 + a12 * e20);
+                segment.set(JAVA_DOUBLE, offset + 40, a10 * e01 + a11 * e11 + a12 * e21);
+                segment.set(JAVA_DOUBLE, offset + 48, a10 * e02 + a11 * e12 + a12 * e22);
+                segment.set(JAVA_DOUBLE, offset + 56, a10 * e03 + a11 * e13 + a12 * e23 + a13);
+                segment.set(JAVA_DOUBLE, offset + 64, a20 * e00 + a21 * e10 + a22 * e20);
+                segment.set(JAVA_DOUBLE, offset + 72, a20 * e01 + a21 * e11 + a22 * e21);
+                segment.set(JAVA_DOUBLE, offset + 80, a20 * e02 + a21 * e12 + a22 * e22);
+                segment.set(JAVA_DOUBLE, offset + 88, a20 * e03 + a21 * e13 + a22 * e23 + a23);
+            }
+        }
+    }
+
+    public static final value class Matrix3F32View implements SegmentView<Matrix3F32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("m00"),
+                JAVA_FLOAT.withName("m01"),
+                JAVA_FLOAT.withName("m02"),
+                JAVA_FLOAT.withName("m10"),
+                JAVA_FLOAT.withName("m11"),
+                JAVA_FLOAT.withName("m12"),
+                JAVA_FLOAT.withName("m20"),
+                JAVA_FLOAT.withName("m21"),
+                JAVA_FLOAT.withName("m22")
+        ).withName("Matrix3F32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Matrix3F32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Matrix3F32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Matrix3F32(
+                    segment.get(JAVA_FLOAT, offset),
+                    segment.get(JAVA_FLOAT, offset + 4),
+                    segment.get(JAVA_FLOAT, offset + 8),
+                    segment.get(JAVA_FLOAT, offset + 12),
+                    segment.get(JAVA_FLOAT, offset + 16),
+                    segment.get(JAVA_FLOAT, offset + 20),
+                    segment.get(JAVA_FLOAT, offset + 24),
+                    segment.get(JAVA_FLOAT, offset + 28),
+                    segment.get(JAVA_FLOAT, offset + 32)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Matrix3F32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.m00());
+            segment.set(JAVA_FLOAT, offset + 4, value.m01());
+            segment.set(JAVA_FLOAT, offset + 8, value.m02());
+            segment.set(JAVA_FLOAT, offset + 12, value.m10());
+            segment.set(JAVA_FLOAT, offset + 16, value.m11());
+            segment.set(JAVA_FLOAT, offset + 20, value.m12());
+            segment.set(JAVA_FLOAT, offset + 24, value.m20());
+            segment.set(JAVA_FLOAT, offset + 28, value.m21());
+            segment.set(JAVA_FLOAT, offset + 32, value.m22());
+        }
+
+        /// Replaces the `count` matrices starting at `from` with `matrix * element`, directly inside the segment.
+        public void transform(MemorySegment segment, long from, long count, Matrix3F32 matrix) {
+            final float a00 = matrix.m00(), a01 = matrix.m01(), a02 = matrix.m02();
+            final float a10 = matrix.m10(), a11 = matrix.m11(), a12 = matrix.m12();
+            final float a20 = matrix.m20(), a21 = matrix.m21(), a22 = matrix.m22();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final float e00 = segment.get(JAVA_FLOAT, offset), e01 = segment.get(JAVA_FLOAT, offset + 4), e02 = segment.get(JAVA_FLOAT, offset + 8);
+                final float e10 = segment.get(JAVA_FLOAT, offset + 12), e11 = segment.get(JAVA_FLOAT, offset + 16), e12 = segment.get(JAVA_FLOAT, offset + 20);
+                final float e20 = segment.get(JAVA_FLOAT, offset + 24), e21 = segment.get(JAVA_FLOAT, offset + 28), e22 = segment.get(JAVA_FLOAT, offset + 32);
+                segment.set(JAVA_FLOAT, offset, a00 * e00 + a01 * e10 + a02 * e20);
+                segment.set(JAVA_FLOAT, offset + 4, a00 * e01 + a01 * e11 + a02 * e21);
+                segment.set(JAVA_FLOAT, offset + 8, a00 * e02 + a01 * e12 + a02 * e22);
+                segment.set(JAVA_FLOAT, offset + 12, a10 * e00 + a11 * e10 + a12 * e20);
+                segment.set(JAVA_FLOAT, offset + 16, a10 * e01 + a11 * e11 + a12 * e21);
+                segment.set(JAVA_FLOAT, offset + 20, a10 * e02 + a11 * e12 + a12 * e22);
+                segment.set(JAVA_FLOAT, offset + 24, a20 * e00 + a21 * e10 + a22 * e20);
+                segment.set(JAVA_FLOAT, offset + 28, a20 * e01 + a21 * e11 + a22 * e21);
+                segment.set(JAVA_FLOAT, offset + 32, a20 * e02 + a21 * e12 + a22 * e22);
+            }
+        }
+    }
+
+    public static final value class Matrix3F64View implements SegmentView<Matrix3F64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("m00"),
+                JAVA_DOUBLE.withName("m01"),
+                JAVA_DOUBLE.withName("m02"),
+                JAVA_DOUBLE.withName("m10"),
+                JAVA_DOUBLE.withName("m11"),
+                JAVA_DOUBLE.withName("m12"),
+                JAVA_DOUBLE.withName("m20"),
+                JAVA_DOUBLE.withName("m21"),
+                JAVA_DOUBLE.withName("m22")
+        ).withName("Matrix3F64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Matrix3F64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Matrix3F64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Matrix3F64(
+                    segment.get(JAVA_DOUBLE, offset),
+                    segment.get(JAVA_DOUBLE, offset + 8),
+                    segment.get(JAVA_DOUBLE, offset + 16),
+                    segment.get(JAVA_DOUBLE, offset + 24),
+                    segment.get(JAVA_DOUBLE, offset + 32),
+                    segment.get(JAVA_DOUBLE, offset + 40),
+                    segment.get(JAVA_DOUBLE, offset + 48),
+                    segment.get(JAVA_DOUBLE, offset + 56),
+                    segment.get(JAVA_DOUBLE, offset + 64)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Matrix3F64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.m00());
+            segment.set(JAVA_DOUBLE, offset + 8, value.m01());
+            segment.set(JAVA_DOUBLE, offset + 16, value.m02());
+            segment.set(JAVA_DOUBLE, offset + 24, value.m10());
+            segment.set(JAVA_DOUBLE, offset + 32, value.m11());
+            segment.set(JAVA_DOUBLE, offset + 40, value.m12());
+            segment.set(JAVA_DOUBLE, offset + 48, value.m20());
+            segment.set(JAVA_DOUBLE, offset + 56, value.m21());
+            segment.set(JAVA_DOUBLE, offset + 64, value.m22());
+        }
+
+        /// Replaces the `count` matrices starting at `from` with `matrix * element`, directly inside the segment.
+        public void transform(MemorySegment segment, long from, long count, Matrix3F64 matrix) {
+            final double a00 = matrix.m00(), a01 = matrix.m01(), a02 = matrix.m02();
+            final double a10 = matrix.m10(), a11 = matrix.m11(), a12 = matrix.m12();
+            final double a20 = matrix.m20(), a21 = matrix.m21(), a22 = matrix.m22();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final double e00 = segment.get(JAVA_DOUBLE, offset), e01 = segment.get(JAVA_DOUBLE, offset + 8), e02 = segment.get(JAVA_DOUBLE, offset + 16);
+                final double e10 = segment.get(JAVA_DOUBLE, offset + 24), e11 = segment.get(JAVA_DOUBLE, offset + 32), e12 = segment.get(JAVA_DOUBLE, offset + 40);
+                final double e20 = segment.get(JAVA_DOUBLE, offset + 48), e21 = segment.get(JAVA_DOUBLE, offset + 56), e22 = segment.get(JAVA_DOUBLE, offset + 64);
+                segment.set(JAVA_DOUBLE, offset, a00 * e00 + a01 * e10 + a02 * e20);
+                segment.set(JAVA_DOUBLE, offset + 8, a00 * e01 + a01 * e11 + a02 * e21);
+                segment.set(JAVA_DOUBLE, offset + 16, a00 * e02 + a01 * e12 + a02 * e22);
+                segment.set(JAVA_DOUBLE, offset + 24, a10 * e00 + a11 * e10 + a12 * e20);
+                segment.set(JAVA_DOUBLE, offset + 32, a10 * e01 + a11 * e11 + a12 * e21);
+                segment.set(JAVA_DOUBLE, offset + 40, a10 * e02 + a11 * e12 + a12 * e22);
+                segment.set(JAVA_DOUBLE, offset + 48, a20 * e00 + a21 * e10 + a22 * e20);
+                segment.set(JAVA_DOUBLE, offset + 56, a20 * e01 + a21 * e11 + a22 * e21);
+                segment.set(JAVA_DOUBLE, offset + 64, a20 * e02 + a21 * e12 + a22 * e22);
+            }
+        }
+    }
+
+    public static final value class Matrix4F32View implements SegmentView<Matrix4F32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("m00"),
+                JAVA_FLOAT.withName("m01"),
+                JAVA_FLOAT.withName("m02"),
+                JAVA_FLOAT.withName("m03"),
+                JAVA_FLOAT.withName("m10"),
+                JAVA_FLOAT.withName("m11"),
+                JAVA_FLOAT.withName("m12"),
+                JAVA_FLOAT.withName("m13"),
+                JAVA_FLOAT.withName("m20"),
+                JAVA_FLOAT.withName("m21"),
+                JAVA_FLOAT.withName("m22"),
+                JAVA_FLOAT.withName("m23"),
+                JAVA_FLOAT.withName("m30"),
+                JAVA_FLOAT.withName("m31"),
+                JAVA_FLOAT.withName("m32"),
+                JAVA_FLOAT.withName("m33")
+        ).withName("Matrix4F32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Matrix4F32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Matrix4F32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Matrix4F32(
+                    segment.get(JAVA_FLOAT, offset),
+                    segment.get(JAVA_FLOAT, offset + 4),
+                    segment.get(JAVA_FLOAT, offset + 8),
+                    segment.get(JAVA_FLOAT, offset + 12),
+                    segment.get(JAVA_FLOAT, offset + 16),
+                    segment.get(JAVA_FLOAT, offset + 20),
+                    segment.get(JAVA_FLOAT, offset + 24),
+                    segment.get(JAVA_FLOAT, offset + 28),
+                    segment.get(JAVA_FLOAT, offset + 32),
+                    segment.get(JAVA_FLOAT, offset + 36),
+                    segment.get(JAVA_FLOAT, offset + 40),
+                    segment.get(JAVA_FLOAT, offset + 44),
+                    segment.get(JAVA_FLOAT, offset + 48),
+                    segment.get(JAVA_FLOAT, offset + 52),
+                    segment.get(JAVA_FLOAT, offset + 56),
+                    segment.get(JAVA_FLOAT, offset + 60)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Matrix4F32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.m00());
+            segment.set(JAVA_FLOAT, offset + 4, value.m01());
+            segment.set(JAVA_FLOAT, offset + 8, value.m02());
+            segment.set(JAVA_FLOAT, offset + 12, value.m03());
+            segment.set(JAVA_FLOAT, offset + 16, value.m10());
+            segment.set(JAVA_FLOAT, offset + 20, value.m11());
+            segment.set(JAVA_FLOAT, offset + 24, value.m12());
+            segment.set(JAVA_FLOAT, offset + 28, value.m13());
+            segment.set(JAVA_FLOAT, offset + 32, value.m20());
+            segment.set(JAVA_FLOAT, offset + 36, value.m21());
+            segment.set(JAVA_FLOAT, offset + 40, value.m22());
+            segment.set(JAVA_FLOAT, offset + 44, value.m23());
+            segment.set(JAVA_FLOAT, offset + 48, value.m30());
+            segment.set(JAVA_FLOAT, offset + 52, value.m31());
+            segment.set(JAVA_FLOAT, offset + 56, value.m32());
+            segment.set(JAVA_FLOAT, offset + 60, value.m33());
+        }
+
+        /// Replaces the `count` matrices starting at `from` with `matrix * element`, directly inside the segment.
+        public void transform(MemorySegment segment, long from, long count, Matrix4F32 matrix) {
+            final float a00 = matrix.m00(), a01 = matrix.m01(), a02 = matrix.m02(), a03 = matrix.m03();
+            final float a10 = matrix.m10(), a11 = matrix.m11(), a12 = matrix.m12(), a13 = matrix.m13();
+            final float a20 = matrix.m20(), a21 = matrix.m21(), a22 = matrix.m22(), a23 = matrix.m23();
+            final float a30 = matrix.m30(), a31 = matrix.m31(), a32 = matrix.m32(), a33 = matrix.m33();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final float e00 = segment.get(JAVA_FLOAT, offset), e01 = segment.get(JAVA_FLOAT, offset + 4), e02 = segment.get(JAVA_FLOAT, offset + 8), e03 = segment.get(JAVA_FLOAT, offset + 12);
+                final float e10 = segment.get(JAVA_FLOAT, offset + 16), e11 = segment.get(JAVA_FLOAT, offset + 20), e12 = segment.get(JAVA_FLOAT, offset + 24), e13 = segment.get(JAVA_FLOAT, offset + 28);
+                final float e20 = segment.get(JAVA_FLOAT, offset + 32), e21 = segment.get(JAVA_FLOAT, offset + 36), e22 = segment.get(JAVA_FLOAT, offset + 40), e23 = segment.get(JAVA_FLOAT, offset + 44);
+                final float e30 = segment.get(JAVA_FLOAT, offset + 48), e31 = segment.get(JAVA_FLOAT, offset + 52), e32 = segment.get(JAVA_FLOAT, offset + 56), e33 = segment.get(JAVA_FLOAT, offset + 60);
+                segment.set(JAVA_FLOAT, offset, a00 * e00 + a01 * e10 + a02 * e20 + a03 * e30);
+                segment.set(JAVA_FLOAT, offset + 4, a00 * e01 + a01 * e11 + a02 * e21 + a03 * e31);
+                segment.set(JAVA_FLOAT, offset + 8, a00 * e02 + a01 * e12 + a02 * e22 + a03 * e32);
+                segment.set(JAVA_FLOAT, offset + 12, a00 * e03 + a01 * e13 + a02 * e23 + a03 * e33);
+                segment.set(JAVA_FLOAT, offset + 16, a10 * e00 + a11 * e10 + a12 * e20 + a13 * e30);
+                segment.set(JAVA_FLOAT, offset + 20, a10 * e01 + a11 * e11 + a12 * e21 + a13 * e31);
+                segment.set(JAVA_FLOAT, offset + 24, a10 * e02 + a11 * e12 + a12 * e22 + a13 * e32);
+                segment.set(JAVA_FLOAT, offset + 28, a10 * e03 + a11 * e13 + a12 * e23 + a13 * e33);
+                segment.set(JAVA_FLOAT, offset + 32, a20 * e00 + a21 * e10 + a22 * e20 + a23 * e30);
+                segment.set(JAVA_FLOAT, offset + 36, a20 * e01 + a21 * e11 + a22 * e21 + a23 * e31);
+                segment.set(JAVA_FLOAT, offset + 40, a20 * e02 + a21 * e12 + a22 * e22 + a23 * e32);
+                segment.set(JAVA_FLOAT, offset + 44, a20 * e03 + a21 * e13 + a22 * e23 + a23 * e33);
+                segment.set(JAVA_FLOAT, offset + 48, a30 * e00 + a31 * e10 + a32 * e20 + a33 * e30);
+                segment.set(JAVA_FLOAT, offset + 52, a30 * e01 + a31 * e11 + a32 * e21 + a33 * e31);
+                segment.set(JAVA_FLOAT, offset + 56, a30 * e02 + a31 * e12 + a32 * e22 + a33 * e32);
+                segment.set(JAVA_FLOAT, offset + 60, a30 * e03 + a31 * e13 + a32 * e23 + a33 * e33);
+            }
+        }
+    }
+
+    public static final value class Matrix4F64View implements SegmentView<Matrix4F64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("m00"),
+                JAVA_DOUBLE.withName("m01"),
+                JAVA_DOUBLE.withName("m02"),
+                JAVA_DOUBLE.withName("m03"),
+                JAVA_DOUBLE.withName("m10"),
+                JAVA_DOUBLE.withName("m11"),
+                JAVA_DOUBLE.withName("m12"),
+                JAVA_DOUBLE.withName("m13"),
+                JAVA_DOUBLE.withName("m20"),
+                JAVA_DOUBLE.withName("m21"),
+                JAVA_DOUBLE.withName("m22"),
+                JAVA_DOUBLE.withName("m23"),
+                JAVA_DOUBLE.withName("m30"),
+                JAVA_DOUBLE.withName("m31"),
+                JAVA_DOUBLE.withName("m32"),
+                JAVA_DOUBLE.withName("m33")
+        ).withName("Matrix4F64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Matrix4F64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Matrix4F64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Matrix4F64(
+                    segment.get(JAVA_DOUBLE, offset),
+                    segment.get(JAVA_DOUBLE, offset + 8),
+                    segment.get(JAVA_DOUBLE, offset + 16),
+                    segment.get(JAVA_DOUBLE, offset + 24),
+                    segment.get(JAVA_DOUBLE, offset + 32),
+                    segment.get(JAVA_DOUBLE, offset + 40),
+                    segment.get(JAVA_DOUBLE, offset + 48),
+                    segment.get(JAVA_DOUBLE, offset + 56),
+                    segment.get(JAVA_DOUBLE, offset + 64),
+                    segment.get(JAVA_DOUBLE, offset + 72),
+                    segment.get(JAVA_DOUBLE, offset + 80),
+                    segment.get(JAVA_DOUBLE, offset + 88),
+                    segment.get(JAVA_DOUBLE, offset + 96),
+                    segment.get(JAVA_DOUBLE, offset + 104),
+                    segment.get(JAVA_DOUBLE, offset + 112),
+                    segment.get(JAVA_DOUBLE, offset + 120)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Matrix4F64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.m00());
+            segment.set(JAVA_DOUBLE, offset + 8, value.m01());
+            segment.set(JAVA_DOUBLE, offset + 16, value.m02());
+            segment.set(JAVA_DOUBLE, offset + 24, value.m03());
+            segment.set(JAVA_DOUBLE, offset + 32, value.m10());
+            segment.set(JAVA_DOUBLE, offset + 40, value.m11());
+            segment.set(JAVA_DOUBLE, offset + 48, value.m12());
+            segment.set(JAVA_DOUBLE, offset + 56, value.m13());
+            segment.set(JAVA_DOUBLE, offset + 64, value.m20());
+            segment.set(JAVA_DOUBLE, offset + 72, value.m21());
+            segment.set(JAVA_DOUBLE, offset + 80, value.m22());
+            segment.set(JAVA_DOUBLE, offset + 88, value.m23());
+            segment.set(JAVA_DOUBLE, offset + 96, value.m30());
+            segment.set(JAVA_DOUBLE, offset + 104, value.m31());
+            segment.set(JAVA_DOUBLE, offset + 112, value.m32());
+            segment.set(JAVA_DOUBLE, offset + 120, value.m33());
+        }
+
+        /// Replaces the `count` matrices starting at `from` with `matrix * element`, directly inside the segment.
+        public void transform(MemorySegment segment, long from, long count, Matrix4F64 matrix) {
+            final double a00 = matrix.m00(), a01 = matrix.m01(), a02 = matrix.m02(), a03 = matrix.m03();
+            final double a10 = matrix.m10(), a11 = matrix.m11(), a12 = matrix.m12(), a13 = matrix.m13();
+            final double a20 = matrix.m20(), a21 = matrix.m21(), a22 = matrix.m22(), a23 = matrix.m23();
+            final double a30 = matrix.m30(), a31 = matrix.m31(), a32 = matrix.m32(), a33 = matrix.m33();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final double e00 = segment.get(JAVA_DOUBLE, offset), e01 = segment.get(JAVA_DOUBLE, offset + 8), e02 = segment.get(JAVA_DOUBLE, offset + 16), e03 = segment.get(JAVA_DOUBLE, offset + 24);
+                final double e10 = segment.get(JAVA_DOUBLE, offset + 32), e11 = segment.get(JAVA_DOUBLE, offset + 40), e12 = segment.get(JAVA_DOUBLE, offset + 48), e13 = segment.get(JAVA_DOUBLE, offset + 56);
+                final double e20 = segment.get(JAVA_DOUBLE, offset + 64), e21 = segment.get(JAVA_DOUBLE, offset + 72), e22 = segment.get(JAVA_DOUBLE, offset + 80), e23 = segment.get(JAVA_DOUBLE, offset + 88);
+                final double e30 = segment.get(JAVA_DOUBLE, offset + 96), e31 = segment.get(JAVA_DOUBLE, offset + 104), e32 = segment.get(JAVA_DOUBLE, offset + 112), e33 = segment.get(JAVA_DOUBLE, offset + 120);
+                segment.set(JAVA_DOUBLE, offset, a00 * e00 + a01 * e10 + a02 * e20 + a03 * e30);
+                segment.set(JAVA_DOUBLE, offset + 8, a00 * e01 + a01 * e11 + a02 * e21 + a03 * e31);
+                segment.set(JAVA_DOUBLE, offset + 16, a00 * e02 + a01 * e12 + a02 * e22 + a03 * e32);
+                segment.set(JAVA_DOUBLE, offset + 24, a00 * e03 + a01 * e13 + a02 * e23 + a03 * e33);
+                segment.set(JAVA_DOUBLE, offset + 32, a10 * e00 + a11 * e10 + a12 * e20 + a13 * e30);
+                segment.set(JAVA_DOUBLE, offset + 40, a10 * e01 + a11 * e11 + a12 * e21 + a13 * e31);
+                segment.set(JAVA_DOUBLE, offset + 48, a10 * e02 + a11 * e12 + a12 * e22 + a13 * e32);
+                segment.set(JAVA_DOUBLE, offset + 56, a10 * e03 + a11 * e13 + a12 * e23 + a13 * e33);
+                segment.set(JAVA_DOUBLE, offset + 64, a20 * e00 + a21 * e10 + a22 * e20 + a23 * e30);
+                segment.set(JAVA_DOUBLE, offset + 72, a20 * e01 + a21 * e11 + a22 * e21 + a23 * e31);
+                segment.set(JAVA_DOUBLE, offset + 80, a20 * e02 + a21 * e12 + a22 * e22 + a23 * e32);
+                segment.set(JAVA_DOUBLE, offset + 88, a20 * e03 + a21 * e13 + a22 * e23 + a23 * e33);
+                segment.set(JAVA_DOUBLE, offset + 96, a30 * e00 + a31 * e10 + a32 * e20 + a33 * e30);
+                segment.set(JAVA_DOUBLE, offset + 104, a30 * e01 + a31 * e11 + a32 * e21 + a33 * e31);
+                segment.set(JAVA_DOUBLE, offset + 112, a30 * e02 + a31 * e12 + a32 * e22 + a33 * e32);
+                segment.set(JAVA_DOUBLE, offset + 120, a30 * e03 + a31 * e13 + a32 * e23 + a33 * e33);
+            }
+        }
+    }
+}
@@ -0,0 +1,656 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.memory;
+
+import org.lidiuma.math.matrix.Affine2F32;
+import org.lidiuma.math.matrix.Affine2F64;
+import org.lidiuma.math.matrix.Affine3F32;
+import org.lidiuma.math.matrix.Affine3F64;
+import org.lidiuma.math.point.Point1F32;
+import org.lidiuma.math.point.Point1F64;
+import org.lidiuma.math.point.Point1I32;
+import org.lidiuma.math.point.Point1I64;
+import org.lidiuma.math.point.Point2F32;
+import org.lidiuma.math.point.Point2F64;
+import org.lidiuma.math.point.Point2I32;
+import org.lidiuma.math.point.Point2I64;
+import org.lidiuma.math.point.Point3F32;
+import org.lidiuma.math.point.Point3F64;
+import org.lidiuma.math.point.Point3I32;
+import org.lidiuma.math.point.Point3I64;
+import org.lidiuma.math.point.Point4F32;
+import org.lidiuma.math.point.Point4F64;
+import org.lidiuma.math.point.Point4I32;
+import org.lidiuma.math.point.Point4I64;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/// [SegmentView]s of the points, the components are laid out in order (`x`, `y`, `z`, `w`) without padding.
+public final class PointViews {
+
+    public static final Point1F32View POINT1_F32 = new Point1F32View();
+    public static final Point1F64View POINT1_F64 = new Point1F64View();
+    public static final Point1I32View POINT1_I32 = new Point1I32View();
+    public static final Point1I64View POINT1_I64 = new Point1I64View();
+    public static final Point2F32View POINT2_F32 = new Point2F32View();
+    public static final Point2F64View POINT2_F64 = new Point2F64View();
+    public static final Point2I32View POINT2_I32 = new Point2I32View();
+    public static final Point2I64View POINT2_I64 = new Point2I64View();
+    public static final Point3F32View POINT3_F32 = new Point3F32View();
+    public static final Point3F64View POINT3_F64 = new Point3F64View();
+    public static final Point3I32View POINT3_I32 = new Point3I32View();
+    public static final Point3I64View POINT3_I64 = new Point3I64View();
+    public static final Point4F32View POINT4_F32 = new Point4F32View();
+    public static final Point4F64View POINT4_F64 = new Point4F64View();
+    public static final Point4I32View POINT4_I32 = new Point4I32View();
+    public static final Point4I64View POINT4_I64 = new Point4I64View();
+
+    private PointViews() {}
+
+    public static final value class Point1F32View implements SegmentView<Point1F32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("x")
+        ).withName("Point1F32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point1F32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point1F32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point1F32(
+                    segment.get(JAVA_FLOAT, offset)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point1F32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.x());
+        }
+    }
+
+    public static final value class Point1F64View implements SegmentView<Point1F64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("x")
+        ).withName("Point1F64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point1F64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point1F64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point1F64(
+                    segment.get(JAVA_DOUBLE, offset)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point1F64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.x());
+        }
+    }
+
+    public static final value class Point1I32View implements SegmentView<Point1I32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_INT.withName("x")
+        ).withName("Point1I32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point1I32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point1I32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point1I32(
+                    segment.get(JAVA_INT, offset)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point1I32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_INT, offset, value.x());
+        }
+    }
+
+    public static final value class Point1I64View implements SegmentView<Point1I64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_LONG.withName("x")
+        ).withName("Point1I64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point1I64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point1I64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point1I64(
+                    segment.get(JAVA_LONG, offset)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point1I64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_LONG, offset, value.x());
+        }
+    }
+
+    public static final value class Point2F32View implements SegmentView<Point2F32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("x"),
+                JAVA_FLOAT.withName("y")
+        ).withName("Point2F32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point2F32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point2F32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point2F32(
+                    segment.get(JAVA_FLOAT, offset),
+                    segment.get(JAVA_FLOAT, offset + 4)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point2F32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.x());
+            segment.set(JAVA_FLOAT, offset + 4, value.y());
+        }
+
+        /// Transforms the `count` points starting at `from` by the affine matrix (translation included), directly inside the segment.
+        public void transform(MemorySegment segment, long from, long count, Affine2F32 matrix) {
+            final float m00 = matrix.m00(), m01 = matrix.m01(), m02 = matrix.m02();
+            final float m10 = matrix.m10(), m11 = matrix.m11(), m12 = matrix.m12();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final float vx = segment.get(JAVA_FLOAT, offset), vy = segment.get(JAVA_FLOAT, offset + 4);
+                segment.set(JAVA_FLOAT, offset, m00 * vx + m01 * vy + m02);
+                segment.set(JAVA_FLOAT, offset + 4, m10 * vx + m11 * vy + m12);
+            }
+        }
+    }
+
+    public static final value class Point2F64View implements SegmentView<Point2F64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("x"),
+                JAVA_DOUBLE.withName("y")
+        ).withName("Point2F64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point2F64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point2F64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point2F64(
+                    segment.get(JAVA_DOUBLE, offset),
+                    segment.get(JAVA_DOUBLE, offset + 8)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point2F64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.x());
+            segment.set(JAVA_DOUBLE, offset + 8, value.y());
+        }
+
+        /// Transforms the `count` points starting at `from` by the affine matrix (translation included), directly inside the segment.
+        public void transform(MemorySegment segment, long from, long count, Affine2F64 matrix) {
+            final double m00 = matrix.m00(), m01 = matrix.m01(), m02 = matrix.m02();
+            final double m10 = matrix.m10(), m11 = matrix.m11(), m12 = matrix.m12();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final double vx = segment.get(JAVA_DOUBLE, offset), vy = segment.get(JAVA_DOUBLE, offset + 8);
+                segment.set(JAVA_DOUBLE, offset, m00 * vx + m01 * vy + m02);
+                segment.set(JAVA_DOUBLE, offset + 8, m10 * vx + m11 * vy + m12);
+            }
+        }
+    }
+
+    public static final value class Point2I32View implements SegmentView<Point2I32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_INT.withName("x"),
+                JAVA_INT.withName("y")
+        ).withName("Point2I32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point2I32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point2I32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point2I32(
+                    segment.get(JAVA_INT, offset),
+                    segment.get(JAVA_INT, offset + 4)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point2I32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_INT, offset, value.x());
+            segment.set(JAVA_INT, offset + 4, value.y());
+        }
+    }
+
+    public static final value class Point2I64View implements SegmentView<Point2I64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_LONG.withName("x"),
+                JAVA_LONG.withName("y")
+        ).withName("Point2I64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point2I64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point2I64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point2I64(
+                    segment.get(JAVA_LONG, offset),
+                    segment.get(JAVA_LONG, offset + 8)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point2I64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_LONG, offset, value.x());
+            segment.set(JAVA_LONG, offset + 8, value.y());
+        }
+    }
+
+    public static final value class Point3F32View implements SegmentView<Point3F32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("x"),
+                JAVA_FLOAT.withName("y"),
+                JAVA_FLOAT.withName("z")
+        ).withName("Point3F32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point3F32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point3F32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point3F32(
+                    segment.get(JAVA_FLOAT, offset),
+                    segment.get(JAVA_FLOAT, offset + 4),
+                    segment.get(JAVA_FLOAT, offset + 8)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point3F32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.x());
+            segment.set(JAVA_FLOAT, offset + 4, value.y());
+            segment.set(JAVA_FLOAT, offset + 8, value.z());
+        }
+
+        /// Transforms the `count` points starting at `from` by the affine matrix (translation included), directly inside the segment.
+        public void transform(MemorySegment segment, long from, long count, Affine3F32 matrix) {
+            final float m00 = matrix.m00(), m01 = matrix.m01(), m02 = matrix.m02(), m03 = matrix.m03();
+            final float m10 = matrix.m10(), m11 = matrix.m11(), m12 = matrix.m12(), m13 = matrix.m13();
+            final float m20 = matrix.m20(), m21 = matrix.m21(), m22 = matrix.m22(), m23 = matrix.m23();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final float vx = segment.get(JAVA_FLOAT, offset), vy = segment.get(JAVA_FLOAT, offset + 4), vz = segment.get(JAVA_FLOAT, offset + 8);
+                segment.set(JAVA_FLOAT, offset, m00 * vx + m01 * vy + m02 * vz + m03);
+                segment.set(JAVA_FLOAT, offset + 4, m10 * vx + m11 * vy + m12 * vz + m13);
+                segment.set(JAVA_FLOAT, offset + 8, m20 * vx + m21 * vy + m22 * vz + m23);
+            }
+        }
+    }
+
+    public static final value class Point3F64View implements SegmentView<Point3F64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("x"),
+                JAVA_DOUBLE.withName("y"),
+                JAVA_DOUBLE.withName("z")
+        ).withName("Point3F64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point3F64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point3F64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point3F64(
+                    segment.get(JAVA_DOUBLE, offset),
+                    segment.get(JAVA_DOUBLE, offset + 8),
+                    segment.get(JAVA_DOUBLE, offset + 16)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point3F64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.x());
+            segment.set(JAVA_DOUBLE, offset + 8, value.y());
+            segment.set(JAVA_DOUBLE, offset + 16, value.z());
+        }
+
+        /// Transforms the `count` points starting at `from` by the affine matrix (translation included), directly inside the segment.
+        public void transform(MemorySegment segment, long from, long count, Affine3F64 matrix) {
+            final double m00 = matrix.m00(), m01 = matrix.m01(), m02 = matrix.m02(), m03 = matrix.m03();
+            final double m10 = matrix.m10(), m11 = matrix.m11(), m12 = matrix.m12(), m13 = matrix.m13();
+            final double m20 = matrix.m20(), m21 = matrix.m21(), m22 = matrix.m22(), m23 = matrix.m23();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final double vx = segment.get(JAVA_DOUBLE, offset), vy = segment.get(JAVA_DOUBLE, offset + 8), vz = segment.get(JAVA_DOUBLE, offset + 16);
+                segment.set(JAVA_DOUBLE, offset, m00 * vx + m01 * vy + m02 * vz + m03);
+                segment.set(JAVA_DOUBLE, offset + 8, m10 * vx + m11 * vy + m12 * vz + m13);
+                segment.set(JAVA_DOUBLE, offset + 16, m20 * vx + m21 * vy + m22 * vz + m23);
+            }
+        }
+    }
+
+    public static final value class Point3I32View implements SegmentView<Point3I32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_INT.withName("x"),
+                JAVA_INT.withName("y"),
+                JAVA_INT.withName("z")
+        ).withName("Point3I32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point3I32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point3I32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point3I32(
+                    segment.get(JAVA_INT, offset),
+                    segment.get(JAVA_INT, offset + 4),
+                    segment.get(JAVA_INT, offset + 8)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point3I32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_INT, offset, value.x());
+            segment.set(JAVA_INT, offset + 4, value.y());
+            segment.set(JAVA_INT, offset + 8, value.z());
+        }
+    }
+
+    public static final value class Point3I64View implements SegmentView<Point3I64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_LONG.withName("x"),
+                JAVA_LONG.withName("y"),
+                JAVA_LONG.withName("z")
+        ).withName("Point3I64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point3I64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point3I64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point3I64(
+                    segment.get(JAVA_LONG, offset),
+                    segment.get(JAVA_LONG, offset + 8),
+                    segment.get(JAVA_LONG, offset + 16)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point3I64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_LONG, offset, value.x());
+            segment.set(JAVA_LONG, offset + 8, value.y());
+            segment.set(JAVA_LONG, offset + 16, value.z());
+        }
+    }
+
+    public static final value class Point4F32View implements SegmentView<Point4F32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("x"),
+                JAVA_FLOAT.withName("y"),
+                JAVA_FLOAT.withName("z"),
+                JAVA_FLOAT.withName("w")
+        ).withName("Point4F32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point4F32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point4F32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point4F32(
+                    segment.get(JAVA_FLOAT, offset),
+                    segment.get(JAVA_FLOAT, offset + 4),
+                    segment.get(JAVA_FLOAT, offset + 8),
+                    segment.get(JAVA_FLOAT, offset + 12)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point4F32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.x());
+            segment.set(JAVA_FLOAT, offset + 4, value.y());
+            segment.set(JAVA_FLOAT, offset + 8, value.z());
+            segment.set(JAVA_FLOAT, offset + 12, value.w());
+        }
+    }
+
+    public static final value class Point4F64View implements SegmentView<Point4F64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("x"),
+                JAVA_DOUBLE.withName("y"),
+                JAVA_DOUBLE.withName("z"),
+                JAVA_DOUBLE.withName("w")
+        ).withName("Point4F64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point4F64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point4F64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point4F64(
+                    segment.get(JAVA_DOUBLE, offset),
+                    segment.get(JAVA_DOUBLE, offset + 8),
+                    segment.get(JAVA_DOUBLE, offset + 16),
+                    segment.get(JAVA_DOUBLE, offset + 24)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point4F64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.x());
+            segment.set(JAVA_DOUBLE, offset + 8, value.y());
+            segment.set(JAVA_DOUBLE, offset + 16, value.z());
+            segment.set(JAVA_DOUBLE, offset + 24, value.w());
+        }
+    }
+
+    public static final value class Point4I32View implements SegmentView<Point4I32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_INT.withName("x"),
+                JAVA_INT.withName("y"),
+                JAVA_INT.withName("z"),
+                JAVA_INT.withName("w")
+        ).withName("Point4I32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point4I32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point4I32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point4I32(
+                    segment.get(JAVA_INT, offset),
+                    segment.get(JAVA_INT, offset + 4),
+                    segment.get(JAVA_INT, offset + 8),
+                    segment.get(JAVA_INT, offset + 12)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point4I32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_INT, offset, value.x());
+            segment.set(JAVA_INT, offset + 4, value.y());
+            segment.set(JAVA_INT, offset + 8, value.z());
+            segment.set(JAVA_INT, offset + 12, value.w());
+        }
+    }
+
+    public static final value class Point4I64View implements SegmentView<Point4I64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_LONG.withName("x"),
+                JAVA_LONG.withName("y"),
+                JAVA_LONG.withName("z"),
+                JAVA_LONG.withName("w")
+        ).withName("Point4I64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Point4I64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Point4I64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Point4I64(
+                    segment.get(JAVA_LONG, offset),
+                    segment.get(JAVA_LONG, offset + 8),
+                    segment.get(JAVA_LONG, offset + 16),
+                    segment.get(JAVA_LONG, offset + 24)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Point4I64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_LONG, offset, value.x());
+            segment.set(JAVA_LONG, offset + 8, value.y());
+            segment.set(JAVA_LONG, offset + 16, value.z());
+            segment.set(JAVA_LONG, offset + 24, value.w());
+        }
+    }
+}
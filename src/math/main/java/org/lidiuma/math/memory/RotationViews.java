@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.memory;
+
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.rotation.QuaternionF64;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+
+/// [SegmentView]s of the rotations, the components are laid out in `x`, `y`, `z`, `w` order without padding.
+public final class RotationViews {
+
+    public static final QuaternionF32View QUATERNION_F32 = new QuaternionF32View();
+    public static final QuaternionF64View QUATERNION_F64 = new QuaternionF64View();
+
+    private RotationViews() {}
+
+    public static final value class QuaternionF32View implements SegmentView<QuaternionF32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("x"),
+                JAVA_FLOAT.withName("y"),
+                JAVA_FLOAT.withName("z"),
+                JAVA_FLOAT.withName("w")
+        ).withName("QuaternionF32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private QuaternionF32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public QuaternionF32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new QuaternionF32(
+                    segment.get(JAVA_FLOAT, offset),
+                    segment.get(JAVA_FLOAT, offset + 4),
+                    segment.get(JAVA_FLOAT, offset + 8),
+                    segment.get(JAVA_FLOAT, offset + 12)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, QuaternionF32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.x());
+            segment.set(JAVA_FLOAT, offset + 4, value.y());
+            segment.set(JAVA_FLOAT, offset + 8, value.z());
+            segment.set(JAVA_FLOAT, offset + 12, value.w());
+        }
+    }
+
+    public static final value class QuaternionF64View implements SegmentView<QuaternionF64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("x"),
+                JAVA_DOUBLE.withName("y"),
+                JAVA_DOUBLE.withName("z"),
+                JAVA_DOUBLE.withName("w")
+        ).withName("QuaternionF64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private QuaternionF64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public QuaternionF64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new QuaternionF64(
+                    segment.get(JAVA_DOUBLE, offset),
+                    segment.get(JAVA_DOUBLE, offset + 8),
+                    segment.get(JAVA_DOUBLE, offset + 16),
+                    segment.get(JAVA_DOUBLE, offset + 24)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, QuaternionF64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.x());
+            segment.set(JAVA_DOUBLE, offset + 8, value.y());
+            segment.set(JAVA_DOUBLE, offset + 16, value.z());
+            segment.set(JAVA_DOUBLE, offset + 24, value.w());
+        }
+    }
+}
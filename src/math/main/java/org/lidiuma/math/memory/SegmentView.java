@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.memory;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+
+/// Reads and writes values as structs inside a [MemorySegment], without any intermediate copy.\
+/// The element at `index` starts at `index * layout().byteSize()`, so a segment is an array of structs,
+///  ready to be handed to native code or uploaded to the GPU.
+/// @param <T> the type of the value stored in the segment.
+public interface SegmentView<T> {
+
+    /// @return the layout of a single element.
+    StructLayout layout();
+
+    T get(MemorySegment segment, long index);
+
+    void set(MemorySegment segment, long index, T value);
+
+    /// Allocates a segment able to hold `count` elements.
+    default MemorySegment allocate(Arena arena, long count) {
+        return arena.allocate(layout(), count);
+    }
+
+    /// @return the number of elements the segment can hold.
+    default long count(MemorySegment segment) {
+        return segment.byteSize() / layout().byteSize();
+    }
+
+    /// Reads `values.length` elements starting at `from` into `values`.
+    default void read(MemorySegment segment, long from, T[] values) {
+        for (int i = 0; i < values.length; i++) values[i] = get(segment, from + i);
+    }
+
+    /// Writes all the `values` into the segment, starting at `from`.
+    default void write(MemorySegment segment, long from, T[] values) {
+        for (int i = 0; i < values.length; i++) set(segment, from + i, values[i]);
+    }
+}
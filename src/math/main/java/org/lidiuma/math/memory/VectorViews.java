@@ -0,0 +1,998 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.memory;
+
+import org.lidiuma.math.matrix.Matrix3F32;
+import org.lidiuma.math.matrix.Matrix3F64;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.matrix.Matrix4F64;
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.rotation.QuaternionF64;
+import org.lidiuma.math.vector.Vec1F32;
+import org.lidiuma.math.vector.Vec1F64;
+import org.lidiuma.math.vector.Vec1I32;
+import org.lidiuma.math.vector.Vec1I64;
+import org.lidiuma.math.vector.Vec2F32;
+import org.lidiuma.math.vector.Vec2F64;
+import org.lidiuma.math.vector.Vec2I32;
+import org.lidiuma.math.vector.Vec2I64;
+import org.lidiuma.math.vector.Vec3F32;
+import org.lidiuma.math.vector.Vec3F64;
+import org.lidiuma.math.vector.Vec3I32;
+import org.lidiuma.math.vector.Vec3I64;
+import org.lidiuma.math.vector.Vec4F32;
+import org.lidiuma.math.vector.Vec4F64;
+import org.lidiuma.math.vector.Vec4I32;
+import org.lidiuma.math.vector.Vec4I64;
+import java.lang.foreign.MemoryLayout;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.StructLayout;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+
+/// [SegmentView]s of the vectors, the components are laid out in order (`x`, `y`, `z`, `w`) without padding.
+public final class VectorViews {
+
+    public static final Vec1F32View VEC1_F32 = new Vec1F32View();
+    public static final Vec1F64View VEC1_F64 = new Vec1F64View();
+    public static final Vec1I32View VEC1_I32 = new Vec1I32View();
+    public static final Vec1I64View VEC1_I64 = new Vec1I64View();
+    public static final Vec2F32View VEC2_F32 = new Vec2F32View();
+    public static final Vec2F64View VEC2_F64 = new Vec2F64View();
+    public static final Vec2I32View VEC2_I32 = new Vec2I32View();
+    public static final Vec2I64View VEC2_I64 = new Vec2I64View();
+    public static final Vec3F32View VEC3_F32 = new Vec3F32View();
+    public static final Vec3F64View VEC3_F64 = new Vec3F64View();
+    public static final Vec3I32View VEC3_I32 = new Vec3I32View();
+    public static final Vec3I64View VEC3_I64 = new Vec3I64View();
+    public static final Vec4F32View VEC4_F32 = new Vec4F32View();
+    public static final Vec4F64View VEC4_F64 = new Vec4F64View();
+    public static final Vec4I32View VEC4_I32 = new Vec4I32View();
+    public static final Vec4I64View VEC4_I64 = new Vec4I64View();
+
+    private VectorViews() {}
+
+    public static final value class Vec1F32View implements SegmentView<Vec1F32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("x")
+        ).withName("Vec1F32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec1F32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec1F32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec1F32(
+                    segment.get(JAVA_FLOAT, offset)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec1F32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.x());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec1F32 value) {
+            final float vx = value.x();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_FLOAT, offset, segment.get(JAVA_FLOAT, offset) + vx);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, float scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_FLOAT, offset, segment.get(JAVA_FLOAT, offset) * scalar);
+            }
+        }
+    }
+
+    public static final value class Vec1F64View implements SegmentView<Vec1F64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("x")
+        ).withName("Vec1F64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec1F64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec1F64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec1F64(
+                    segment.get(JAVA_DOUBLE, offset)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec1F64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.x());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec1F64 value) {
+            final double vx = value.x();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_DOUBLE, offset, segment.get(JAVA_DOUBLE, offset) + vx);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, double scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_DOUBLE, offset, segment.get(JAVA_DOUBLE, offset) * scalar);
+            }
+        }
+    }
+
+    public static final value class Vec1I32View implements SegmentView<Vec1I32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_INT.withName("x")
+        ).withName("Vec1I32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec1I32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec1I32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec1I32(
+                    segment.get(JAVA_INT, offset)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec1I32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_INT, offset, value.x());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec1I32 value) {
+            final int vx = value.x();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_INT, offset, segment.get(JAVA_INT, offset) + vx);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, int scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_INT, offset, segment.get(JAVA_INT, offset) * scalar);
+            }
+        }
+    }
+
+    public static final value class Vec1I64View implements SegmentView<Vec1I64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_LONG.withName("x")
+        ).withName("Vec1I64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec1I64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec1I64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec1I64(
+                    segment.get(JAVA_LONG, offset)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec1I64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_LONG, offset, value.x());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec1I64 value) {
+            final long vx = value.x();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_LONG, offset, segment.get(JAVA_LONG, offset) + vx);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, long scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_LONG, offset, segment.get(JAVA_LONG, offset) * scalar);
+            }
+        }
+    }
+
+    public static final value class Vec2F32View implements SegmentView<Vec2F32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("x"),
+                JAVA_FLOAT.withName("y")
+        ).withName("Vec2F32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec2F32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec2F32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec2F32(
+                    segment.get(JAVA_FLOAT, offset),
+                    segment.get(JAVA_FLOAT, offset + 4)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec2F32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.x());
+            segment.set(JAVA_FLOAT, offset + 4, value.y());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec2F32 value) {
+            final float vx = value.x(), vy = value.y();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_FLOAT, offset, segment.get(JAVA_FLOAT, offset) + vx);
+                segment.set(JAVA_FLOAT, offset + 4, segment.get(JAVA_FLOAT, offset + 4) + vy);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, float scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_FLOAT, offset, segment.get(JAVA_FLOAT, offset) * scalar);
+                segment.set(JAVA_FLOAT, offset + 4, segment.get(JAVA_FLOAT, offset + 4) * scalar);
+            }
+        }
+    }
+
+    public static final value class Vec2F64View implements SegmentView<Vec2F64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("x"),
+                JAVA_DOUBLE.withName("y")
+        ).withName("Vec2F64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec2F64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec2F64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec2F64(
+                    segment.get(JAVA_DOUBLE, offset),
+                    segment.get(JAVA_DOUBLE, offset + 8)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec2F64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.x());
+            segment.set(JAVA_DOUBLE, offset + 8, value.y());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec2F64 value) {
+            final double vx = value.x(), vy = value.y();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_DOUBLE, offset, segment.get(JAVA_DOUBLE, offset) + vx);
+                segment.set(JAVA_DOUBLE, offset + 8, segment.get(JAVA_DOUBLE, offset + 8) + vy);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, double scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_DOUBLE, offset, segment.get(JAVA_DOUBLE, offset) * scalar);
+                segment.set(JAVA_DOUBLE, offset + 8, segment.get(JAVA_DOUBLE, offset + 8) * scalar);
+            }
+        }
+    }
+
+    public static final value class Vec2I32View implements SegmentView<Vec2I32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_INT.withName("x"),
+                JAVA_INT.withName("y")
+        ).withName("Vec2I32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec2I32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec2I32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec2I32(
+                    segment.get(JAVA_INT, offset),
+                    segment.get(JAVA_INT, offset + 4)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec2I32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_INT, offset, value.x());
+            segment.set(JAVA_INT, offset + 4, value.y());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec2I32 value) {
+            final int vx = value.x(), vy = value.y();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_INT, offset, segment.get(JAVA_INT, offset) + vx);
+                segment.set(JAVA_INT, offset + 4, segment.get(JAVA_INT, offset + 4) + vy);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, int scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_INT, offset, segment.get(JAVA_INT, offset) * scalar);
+                segment.set(JAVA_INT, offset + 4, segment.get(JAVA_INT, offset + 4) * scalar);
+            }
+        }
+    }
+
+    public static final value class Vec2I64View implements SegmentView<Vec2I64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_LONG.withName("x"),
+                JAVA_LONG.withName("y")
+        ).withName("Vec2I64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec2I64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec2I64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec2I64(
+                    segment.get(JAVA_LONG, offset),
+                    segment.get(JAVA_LONG, offset + 8)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec2I64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_LONG, offset, value.x());
+            segment.set(JAVA_LONG, offset + 8, value.y());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec2I64 value) {
+            final long vx = value.x(), vy = value.y();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_LONG, offset, segment.get(JAVA_LONG, offset) + vx);
+                segment.set(JAVA_LONG, offset + 8, segment.get(JAVA_LONG, offset + 8) + vy);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, long scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_LONG, offset, segment.get(JAVA_LONG, offset) * scalar);
+                segment.set(JAVA_LONG, offset + 8, segment.get(JAVA_LONG, offset + 8) * scalar);
+            }
+        }
+    }
+
+    public static final value class Vec3F32View implements SegmentView<Vec3F32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("x"),
+                JAVA_FLOAT.withName("y"),
+                JAVA_FLOAT.withName("z")
+        ).withName("Vec3F32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec3F32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec3F32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec3F32(
+                    segment.get(JAVA_FLOAT, offset),
+                    segment.get(JAVA_FLOAT, offset + 4),
+                    segment.get(JAVA_FLOAT, offset + 8)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec3F32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.x());
+            segment.set(JAVA_FLOAT, offset + 4, value.y());
+            segment.set(JAVA_FLOAT, offset + 8, value.z());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec3F32 value) {
+            final float vx = value.x(), vy = value.y(), vz = value.z();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_FLOAT, offset, segment.get(JAVA_FLOAT, offset) + vx);
+                segment.set(JAVA_FLOAT, offset + 4, segment.get(JAVA_FLOAT, offset + 4) + vy);
+                segment.set(JAVA_FLOAT, offset + 8, segment.get(JAVA_FLOAT, offset + 8) + vz);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, float scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_FLOAT, offset, segment.get(JAVA_FLOAT, offset) * scalar);
+                segment.set(JAVA_FLOAT, offset + 4, segment.get(JAVA_FLOAT, offset + 4) * scalar);
+                segment.set(JAVA_FLOAT, offset + 8, segment.get(JAVA_FLOAT, offset + 8) * scalar);
+            }
+        }
+
+        /// Multiplies the `count` vectors starting at `from` by the matrix, directly inside the segment.
+        public void transform(MemorySegment segment, long from, long count, Matrix3F32 matrix) {
+            final float m00 = matrix.m00(), m01 = matrix.m01(), m02 = matrix.m02();
+            final float m10 = matrix.m10(), m11 = matrix.m11(), m12 = matrix.m12();
+            final float m20 = matrix.m20(), m21 = matrix.m21(), m22 = matrix.m22();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final float vx = segment.get(JAVA_FLOAT, offset), vy = segment.get(JAVA_FLOAT, offset + 4), vz = segment.get(JAVA_FLOAT, offset + 8);
+                segment.set(JAVA_FLOAT, offset, m00 * vx + m01 * vy + m02 * vz);
+                segment.set(JAVA_FLOAT, offset + 4, m10 * vx + m11 * vy + m12 * vz);
+                segment.set(JAVA_FLOAT, offset + 8, m20 * vx + m21 * vy + m22 * vz);
+            }
+        }
+
+        /// Rotates the `count` vectors starting at `from`, directly inside the segment.\
+        /// Like [QuaternionF32.Ops#rotateAll(QuaternionF32, float[], float[])], the quaternion is converted once by [QuaternionF32.Ops#rotationMatrix(QuaternionF32)].
+        public void rotate(MemorySegment segment, long from, long count, QuaternionF32 quaternion) {
+            transform(segment, from, count, QuaternionF32.OPS.rotationMatrix(quaternion));
+        }
+    }
+
+    public static final value class Vec3F64View implements SegmentView<Vec3F64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("x"),
+                JAVA_DOUBLE.withName("y"),
+                JAVA_DOUBLE.withName("z")
+        ).withName("Vec3F64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec3F64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec3F64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec3F64(
+                    segment.get(JAVA_DOUBLE, offset),
+                    segment.get(JAVA_DOUBLE, offset + 8),
+                    segment.get(JAVA_DOUBLE, offset + 16)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec3F64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.x());
+            segment.set(JAVA_DOUBLE, offset + 8, value.y());
+            segment.set(JAVA_DOUBLE, offset + 16, value.z());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec3F64 value) {
+            final double vx = value.x(), vy = value.y(), vz = value.z();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_DOUBLE, offset, segment.get(JAVA_DOUBLE, offset) + vx);
+                segment.set(JAVA_DOUBLE, offset + 8, segment.get(JAVA_DOUBLE, offset + 8) + vy);
+                segment.set(JAVA_DOUBLE, offset + 16, segment.get(JAVA_DOUBLE, offset + 16) + vz);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, double scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_DOUBLE, offset, segment.get(JAVA_DOUBLE, offset) * scalar);
+                segment.set(JAVA_DOUBLE, offset + 8, segment.get(JAVA_DOUBLE, offset + 8) * scalar);
+                segment.set(JAVA_DOUBLE, offset + 16, segment.get(JAVA_DOUBLE, offset + 16) * scalar);
+            }
+        }
+
+        /// Multiplies the `count` vectors starting at `from` by the matrix, directly inside the segment.
+        public void transform(MemorySegment segment, long from, long count, Matrix3F64 matrix) {
+            final double m00 = matrix.m00(), m01 = matrix.m01(), m02 = matrix.m02();
+            final double m10 = matrix.m10(), m11 = matrix.m11(), m12 = matrix.m12();
+            final double m20 = matrix.m20(), m21 = matrix.m21(), m22 = matrix.m22();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final double vx = segment.get(JAVA_DOUBLE, offset), vy = segment.get(JAVA_DOUBLE, offset + 8), vz = segment.get(JAVA_DOUBLE, offset + 16);
+                segment.set(JAVA_DOUBLE, offset, m00 * vx + m01 * vy + m02 * vz);
+                segment.set(JAVA_DOUBLE, offset + 8, m10 * vx + m11 * vy + m12 * vz);
+                segment.set(JAVA_DOUBLE, offset + 16, m20 * vx + m21 * vy + m22 * vz);
+            }
+        }
+
+        /// Rotates the `count` vectors starting at `from`, directly inside the segment.\
+        /// Like [QuaternionF64.Ops#rotateAll(QuaternionF64, double[], double[])], the quaternion is converted once by [QuaternionF64.Ops#rotationMatrix(QuaternionF64)].
+        public void rotate(MemorySegment segment, long from, long count, QuaternionF64 quaternion) {
+            transform(segment, from, count, QuaternionF64.OPS.rotationMatrix(quaternion));
+        }
+    }
+
+    public static final value class Vec3I32View implements SegmentView<Vec3I32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_INT.withName("x"),
+                JAVA_INT.withName("y"),
+                JAVA_INT.withName("z")
+        ).withName("Vec3I32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec3I32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec3I32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec3I32(
+                    segment.get(JAVA_INT, offset),
+                    segment.get(JAVA_INT, offset + 4),
+                    segment.get(JAVA_INT, offset + 8)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec3I32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_INT, offset, value.x());
+            segment.set(JAVA_INT, offset + 4, value.y());
+            segment.set(JAVA_INT, offset + 8, value.z());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec3I32 value) {
+            final int vx = value.x(), vy = value.y(), vz = value.z();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_INT, offset, segment.get(JAVA_INT, offset) + vx);
+                segment.set(JAVA_INT, offset + 4, segment.get(JAVA_INT, offset + 4) + vy);
+                segment.set(JAVA_INT, offset + 8, segment.get(JAVA_INT, offset + 8) + vz);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, int scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_INT, offset, segment.get(JAVA_INT, offset) * scalar);
+                segment.set(JAVA_INT, offset + 4, segment.get(JAVA_INT, offset + 4) * scalar);
+                segment.set(JAVA_INT, offset + 8, segment.get(JAVA_INT, offset + 8) * scalar);
+            }
+        }
+    }
+
+    public static final value class Vec3I64View implements SegmentView<Vec3I64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_LONG.withName("x"),
+                JAVA_LONG.withName("y"),
+                JAVA_LONG.withName("z")
+        ).withName("Vec3I64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec3I64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec3I64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec3I64(
+                    segment.get(JAVA_LONG, offset),
+                    segment.get(JAVA_LONG, offset + 8),
+                    segment.get(JAVA_LONG, offset + 16)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec3I64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_LONG, offset, value.x());
+            segment.set(JAVA_LONG, offset + 8, value.y());
+            segment.set(JAVA_LONG, offset + 16, value.z());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec3I64 value) {
+            final long vx = value.x(), vy = value.y(), vz = value.z();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_LONG, offset, segment.get(JAVA_LONG, offset) + vx);
+                segment.set(JAVA_LONG, offset + 8, segment.get(JAVA_LONG, offset + 8) + vy);
+                segment.set(JAVA_LONG, offset + 16, segment.get(JAVA_LONG, offset + 16) + vz);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, long scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_LONG, offset, segment.get(JAVA_LONG, offset) * scalar);
+                segment.set(JAVA_LONG, offset + 8, segment.get(JAVA_LONG, offset + 8) * scalar);
+                segment.set(JAVA_LONG, offset + 16, segment.get(JAVA_LONG, offset + 16) * scalar);
+            }
+        }
+    }
+
+    public static final value class Vec4F32View implements SegmentView<Vec4F32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_FLOAT.withName("x"),
+                JAVA_FLOAT.withName("y"),
+                JAVA_FLOAT.withName("z"),
+                JAVA_FLOAT.withName("w")
+        ).withName("Vec4F32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec4F32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec4F32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec4F32(
+                    segment.get(JAVA_FLOAT, offset),
+                    segment.get(JAVA_FLOAT, offset + 4),
+                    segment.get(JAVA_FLOAT, offset + 8),
+                    segment.get(JAVA_FLOAT, offset + 12)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec4F32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_FLOAT, offset, value.x());
+            segment.set(JAVA_FLOAT, offset + 4, value.y());
+            segment.set(JAVA_FLOAT, offset + 8, value.z());
+            segment.set(JAVA_FLOAT, offset + 12, value.w());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec4F32 value) {
+            final float vx = value.x(), vy = value.y(), vz = value.z(), vw = value.w();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_FLOAT, offset, segment.get(JAVA_FLOAT, offset) + vx);
+                segment.set(JAVA_FLOAT, offset + 4, segment.get(JAVA_FLOAT, offset + 4) + vy);
+                segment.set(JAVA_FLOAT, offset + 8, segment.get(JAVA_FLOAT, offset + 8) + vz);
+                segment.set(JAVA_FLOAT, offset + 12, segment.get(JAVA_FLOAT, offset + 12) + vw);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, float scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_FLOAT, offset, segment.get(JAVA_FLOAT, offset) * scalar);
+                segment.set(JAVA_FLOAT, offset + 4, segment.get(JAVA_FLOAT, offset + 4) * scalar);
+                segment.set(JAVA_FLOAT, offset + 8, segment.get(JAVA_FLOAT, offset + 8) * scalar);
+                segment.set(JAVA_FLOAT, offset + 12, segment.get(JAVA_FLOAT, offset + 12) * scalar);
+            }
+        }
+
+        /// Multiplies the `count` vectors starting at `from` by the matrix, directly inside the segment.
+        public void transform(MemorySegment segment, long from, long count, Matrix4F32 matrix) {
+            final float m00 = matrix.m00(), m01 = matrix.m01(), m02 = matrix.m02(), m03 = matrix.m03();
+            final float m10 = matrix.m10(), m11 = matrix.m11(), m12 = matrix.m12(), m13 = matrix.m13();
+            final float m20 = matrix.m20(), m21 = matrix.m21(), m22 = matrix.m22(), m23 = matrix.m23();
+            final float m30 = matrix.m30(), m31 = matrix.m31(), m32 = matrix.m32(), m33 = matrix.m33();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final float vx = segment.get(JAVA_FLOAT, offset), vy = segment.get(JAVA_FLOAT, offset + 4), vz = segment.get(JAVA_FLOAT, offset + 8), vw = segment.get(JAVA_FLOAT, offset + 12);
+                segment.set(JAVA_FLOAT, offset, m00 * vx + m01 * vy + m02 * vz + m03 * vw);
+                segment.set(JAVA_FLOAT, offset + 4, m10 * vx + m11 * vy + m12 * vz + m13 * vw);
+                segment.set(JAVA_FLOAT, offset + 8, m20 * vx + m21 * vy + m22 * vz + m23 * vw);
+                segment.set(JAVA_FLOAT, offset + 12, m30 * vx + m31 * vy + m32 * vz + m33 * vw);
+            }
+        }
+    }
+
+    public static final value class Vec4F64View implements SegmentView<Vec4F64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_DOUBLE.withName("x"),
+                JAVA_DOUBLE.withName("y"),
+                JAVA_DOUBLE.withName("z"),
+                JAVA_DOUBLE.withName("w")
+        ).withName("Vec4F64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec4F64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec4F64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec4F64(
+                    segment.get(JAVA_DOUBLE, offset),
+                    segment.get(JAVA_DOUBLE, offset + 8),
+                    segment.get(JAVA_DOUBLE, offset + 16),
+                    segment.get(JAVA_DOUBLE, offset + 24)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec4F64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_DOUBLE, offset, value.x());
+            segment.set(JAVA_DOUBLE, offset + 8, value.y());
+            segment.set(JAVA_DOUBLE, offset + 16, value.z());
+            segment.set(JAVA_DOUBLE, offset + 24, value.w());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec4F64 value) {
+            final double vx = value.x(), vy = value.y(), vz = value.z(), vw = value.w();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_DOUBLE, offset, segment.get(JAVA_DOUBLE, offset) + vx);
+                segment.set(JAVA_DOUBLE, offset + 8, segment.get(JAVA_DOUBLE, offset + 8) + vy);
+                segment.set(JAVA_DOUBLE, offset + 16, segment.get(JAVA_DOUBLE, offset + 16) + vz);
+                segment.set(JAVA_DOUBLE, offset + 24, segment.get(JAVA_DOUBLE, offset + 24) + vw);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, double scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_DOUBLE, offset, segment.get(JAVA_DOUBLE, offset) * scalar);
+                segment.set(JAVA_DOUBLE, offset + 8, segment.get(JAVA_DOUBLE, offset + 8) * scalar);
+                segment.set(JAVA_DOUBLE, offset + 16, segment.get(JAVA_DOUBLE, offset + 16) * scalar);
+                segment.set(JAVA_DOUBLE, offset + 24, segment.get(JAVA_DOUBLE, offset + 24) * scalar);
+            }
+        }
+
+        /// Multiplies the `count` vectors starting at `from` by the matrix, directly inside the segment.
+        public void transform(MemorySegment segment, long from, long count, Matrix4F64 matrix) {
+            final double m00 = matrix.m00(), m01 = matrix.m01(), m02 = matrix.m02(), m03 = matrix.m03();
+            final double m10 = matrix.m10(), m11 = matrix.m11(), m12 = matrix.m12(), m13 = matrix.m13();
+            final double m20 = matrix.m20(), m21 = matrix.m21(), m22 = matrix.m22(), m23 = matrix.m23();
+            final double m30 = matrix.m30(), m31 = matrix.m31(), m32 = matrix.m32(), m33 = matrix.m33();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                final double vx = segment.get(JAVA_DOUBLE, offset), vy = segment.get(JAVA_DOUBLE, offset + 8), vz = segment.get(JAVA_DOUBLE, offset + 16), vw = segment.get(JAVA_DOUBLE, offset + 24);
+                segment.set(JAVA_DOUBLE, offset, m00 * vx + m01 * vy + m02 * vz + m03 * vw);
+                segment.set(JAVA_DOUBLE, offset + 8, m10 * vx + m11 * vy + m12 * vz + m13 * vw);
+                segment.set(JAVA_DOUBLE, offset + 16, m20 * vx + m21 * vy + m22 * vz + m23 * vw);
+                segment.set(JAVA_DOUBLE, offset + 24, m30 * vx + m31 * vy + m32 * vz + m33 * vw);
+            }
+        }
+    }
+
+    public static final value class Vec4I32View implements SegmentView<Vec4I32> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_INT.withName("x"),
+                JAVA_INT.withName("y"),
+                JAVA_INT.withName("z"),
+                JAVA_INT.withName("w")
+        ).withName("Vec4I32");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec4I32View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec4I32 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec4I32(
+                    segment.get(JAVA_INT, offset),
+                    segment.get(JAVA_INT, offset + 4),
+                    segment.get(JAVA_INT, offset + 8),
+                    segment.get(JAVA_INT, offset + 12)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec4I32 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_INT, offset, value.x());
+            segment.set(JAVA_INT, offset + 4, value.y());
+            segment.set(JAVA_INT, offset + 8, value.z());
+            segment.set(JAVA_INT, offset + 12, value.w());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec4I32 value) {
+            final int vx = value.x(), vy = value.y(), vz = value.z(), vw = value.w();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_INT, offset, segment.get(JAVA_INT, offset) + vx);
+                segment.set(JAVA_INT, offset + 4, segment.get(JAVA_INT, offset + 4) + vy);
+                segment.set(JAVA_INT, offset + 8, segment.get(JAVA_INT, offset + 8) + vz);
+                segment.set(JAVA_INT, offset + 12, segment.get(JAVA_INT, offset + 12) + vw);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, int scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_INT, offset, segment.get(JAVA_INT, offset) * scalar);
+                segment.set(JAVA_INT, offset + 4, segment.get(JAVA_INT, offset + 4) * scalar);
+                segment.set(JAVA_INT, offset + 8, segment.get(JAVA_INT, offset + 8) * scalar);
+                segment.set(JAVA_INT, offset + 12, segment.get(JAVA_INT, offset + 12) * scalar);
+            }
+        }
+    }
+
+    public static final value class Vec4I64View implements SegmentView<Vec4I64> {
+
+        public static final StructLayout LAYOUT = MemoryLayout.structLayout(
+                JAVA_LONG.withName("x"),
+                JAVA_LONG.withName("y"),
+                JAVA_LONG.withName("z"),
+                JAVA_LONG.withName("w")
+        ).withName("Vec4I64");
+        private static final long BYTES = LAYOUT.byteSize();
+
+        private Vec4I64View() {}
+
+        @Override
+        public StructLayout layout() {
+            return LAYOUT;
+        }
+
+        @Override
+        public Vec4I64 get(MemorySegment segment, long index) {
+            final long offset = index * BYTES;
+            return new Vec4I64(
+                    segment.get(JAVA_LONG, offset),
+                    segment.get(JAVA_LONG, offset + 8),
+                    segment.get(JAVA_LONG, offset + 16),
+                    segment.get(JAVA_LONG, offset + 24)
+            );
+        }
+
+        @Override
+        public void set(MemorySegment segment, long index, Vec4I64 value) {
+            final long offset = index * BYTES;
+            segment.set(JAVA_LONG, offset, value.x());
+            segment.set(JAVA_LONG, offset + 8, value.y());
+            segment.set(JAVA_LONG, offset + 16, value.z());
+            segment.set(JAVA_LONG, offset + 24, value.w());
+        }
+
+        /// Adds `value` to the `count` elements starting at `from`, directly inside the segment.
+        public void add(MemorySegment segment, long from, long count, Vec4I64 value) {
+            final long vx = value.x(), vy = value.y(), vz = value.z(), vw = value.w();
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_LONG, offset, segment.get(JAVA_LONG, offset) + vx);
+                segment.set(JAVA_LONG, offset + 8, segment.get(JAVA_LONG, offset + 8) + vy);
+                segment.set(JAVA_LONG, offset + 16, segment.get(JAVA_LONG, offset + 16) + vz);
+                segment.set(JAVA_LONG, offset + 24, segment.get(JAVA_LONG, offset + 24) + vw);
+            }
+        }
+
+        /// Multiplies the `count` elements starting at `from` by `scalar`, directly inside the segment.
+        public void multiply(MemorySegment segment, long from, long count, long scalar) {
+            for (long i = from; i < from + count; i++) {
+                final long offset = i * BYTES;
+                segment.set(JAVA_LONG, offset, segment.get(JAVA_LONG, offset) * scalar);
+                segment.set(JAVA_LONG, offset + 8, segment.get(JAVA_LONG, offset + 8) * scalar);
+                segment.set(JAVA_LONG, offset + 16, segment.get(JAVA_LONG, offset + 16) * scalar);
+                segment.set(JAVA_LONG, offset + 24, segment.get(JAVA_LONG, offset + 24) * scalar);
+            }
+        }
+    }
+}
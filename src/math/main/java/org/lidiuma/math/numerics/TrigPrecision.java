@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math.numerics;
+
+import org.lidiuma.math.internal.FastTrig;
+import org.lidiuma.math.internal.Strict;
+import org.lidiuma.math.internal.TrigTable;
+
+/// The precision tier of the trigonometric functions, taken by the opt-in overloads
+///  like [org.lidiuma.math.rotation.QuaternionF32.Ops#fromAxisAngle(org.lidiuma.math.vector.Vec3F32, org.lidiuma.math.rotation.AngleF32, TrigPrecision)].\
+/// The errors are the maximum absolute errors against [Math#sin(double)] and [Math#cos(double)], measured over `[-8e5, 8e5]`.
+/// Every tier still flushes results below the epsilon to `0`, like [#STRICT].
+public enum TrigPrecision {
+
+    /// [Math#sin(double)] and [Math#cos(double)], the default of every method without a precision.
+    STRICT,
+    /// A `π/2` reduction and lower-degree minimax polynomials than [Math#sin(double)], see [FastTrig], about two to three times faster than [#STRICT].\
+    /// Max error: `1e-6` for `float`, `1.9e-9` for `double`.
+    FAST,
+    /// A lookup table of [TrigTable#SIZE] samples per turn with linear interpolation.\
+    /// Max error: `3.6e-7` for `float` and `double`, the `double` results are no more precise than the `float` ones.
+    TABLE;
+
+    public float sin(float radians) {
+        return switch (this) {
+            case STRICT -> Strict.sin(radians);
+            case FAST -> Strict.fix(FastTrig.sin(radians));
+            case TABLE -> Strict.fix(TrigTable.sin(radians));
+        };
+    }
+
+    public float cos(float radians) {
+        return switch (this) {
+            case STRICT -> Strict.cos(radians);
+            case FAST -> Strict.fix(FastTrig.cos(radians));
+            case TABLE -> Strict.fix(TrigTable.cos(radians));
+        };
+    }
+
+    /// Computes the sine and cosine of the same angle, sharing the range reduction.
+    public SinCosF32 sinCos(float radians) {
+        final var sinCos = switch (this) {
+            case STRICT -> Strict.sinCos(radians);
+            case FAST -> FastTrig.sinCos(radians);
+            case TABLE -> TrigTable.sinCos(radians);
+        };
+        return this == STRICT ? sinCos : new SinCosF32(Strict.fix(sinCos.sin()), Strict.fix(sinCos.cos()));
+    }
+
+    public double sin(double radians) {
+        return switch (this) {
+            case STRICT -> Strict.sin(radians);
+            case FAST -> Strict.fix(FastTrig.sin(radians));
+            case TABLE -> Strict.fix(TrigTable.sin(radians));
+        };
+    }
+
+    public double cos(double radians) {
+        return switch (this) {
+            case STRICT -> Strict.cos(radians);
+            case FAST -> Strict.fix(FastTrig.cos(radians));
+            case TABLE -> Strict.fix(TrigTable.cos(radians));
+        };
+    }
+
+    /// Computes the sine and cosine of the same angle, sharing the range reduction.
+    public SinCosF64 sinCos(double radians) {
+        final var sinCos = switch (this) {
+            case STRICT -> Strict.sinCos(radians);
+            case FAST -> FastTrig.sinCos(radians);
+            case TABLE -> TrigTable.sinCos(radians);
+        };
+        return this == STRICT ? sinCos : new SinCosF64(Strict.fix(sinCos.sin()), Strict.fix(sinCos.cos()));
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.point;
+
+import org.lidiuma.math.tuple.Integer2;
+import org.lidiuma.math.tuple.Integer3;
+import org.lidiuma.math.tuple.Long2;
+import org.lidiuma.math.tuple.Long3;
+import static org.lidiuma.math.point.Morton.*;
+
+/// Hilbert curve indices, with the same ranges and bias as [Morton].\
+/// Unlike the Z-order, consecutive Hilbert indices are always adjacent cells, so the locality is better, at a higher encoding cost.
+/// @implNote Skilling's transform ("Programming the Hilbert curve", 2004), unrolled per dimension so it works on locals only.
+public final class Hilbert {
+
+    private static final int BITS_2D = 32;
+
+    private Hilbert() {}
+
+    /* ==== 2D ==== */
+
+    public static long encode(int x, int y) {
+        long a = bias2(x), b = bias2(y);
+        // Inverse undo.
+        for (long q = 1L << (BITS_2D - 1); q > 1; q >>>= 1) {
+            final long p = q - 1;
+            if ((a & q) != 0) a ^= p;
+            if ((b & q) != 0) a ^= p;
+            else {
+                final long t = (a ^ b) & p;
+                a ^= t;
+                b ^= t;
+            }
+        }
+        // Gray encode.
+        b ^= a;
+        long t = 0;
+        for (long q = 1L << (BITS_2D - 1); q > 1; q >>>= 1) {
+            if ((b & q) != 0) t ^= q - 1;
+        }
+        a ^= t;
+        b ^= t;
+        return (spread2(a) << 1 | spread2(b)) ^ SIGN;
+    }
+
+    public static long encode(Point2I32 point) {
+        return encode(point.x(), point.y());
+    }
+
+    public static long encode(Integer2 tuple) {
+        return encode(tuple.x(), tuple.y());
+    }
+
+    public static long encode(Point2I64 point) {
+        return encode(Math.toIntExact(point.x()), Math.toIntExact(point.y()));
+    }
+
+    public static long encode(Long2 tuple) {
+        return encode(Math.toIntExact(tuple.x()), Math.toIntExact(tuple.y()));
+    }
+
+    public static Point2I32 decode2(long index) {
+        final long code = index ^ SIGN;
+        long a = compact2(code >>> 1), b = compact2(code);
+        // Gray decode.
+        final long t = b >>> 1;
+        b ^= a;
+        a ^= t;
+        // Undo excess work.
+        for (long q = 2; q != 1L << BITS_2D; q <<= 1) {
+            final long p = q - 1;
+            if ((b & q) != 0) a ^= p;
+            else {
+                final long s = (a ^ b) & p;
+                a ^= s;
+                b ^= s;
+            }
+            if ((a & q) != 0) a ^= p;
+        }
+        return new Point2I32(unbias2(a), unbias2(b));
+    }
+
+    /// `out[i] = encode(x[i], y[i])`.
+    public static void encode(int[] x, int[] y, long[] out) {
+        final int length = checkLength(x.length, y.length, out.length);
+        for (int i = 0; i < length; i++) out[i] = encode(x[i], y[i]);
+    }
+
+    /// The inverse of [#encode(int\[\], int\[\], long\[\])].
+    public static void decode(long[] indices, int[] x, int[] y) {
+        final int length = checkLength(indices.length, x.length, y.length);
+        for (int i = 0; i < length; i++) {
+            final var point = decode2(indices[i]);
+            x[i] = point.x();
+            y[i] = point.y();
+        }
+    }
+
+    /* ==== 3D ==== */
+
+    public static long encode(int x, int y, int z) {
+        long a = bias3(x), b = bias3(y), c = bias3(z);
+        for (long q = 1L << (BITS_3D - 1); q > 1; q >>>= 1) {
+            final long p = q - 1;
+            if ((a & q) != 0) a ^= p;
+            if ((b & q) != 0) a ^= p;
+            else {
+                final long t = (a ^ b) & p;
+                a ^= t;
+                b ^= t;
+            }
+            if ((c & q) != 0) a ^= p;
+            else {
+                final long t = (a ^ c) & p;
+                a ^= t;
+                c ^= t;
+            }
+        }
+        b ^= a;
+        c ^= b;
+        long t = 0;
+        for (long q = 1L << (BITS_3D - 1); q > 1; q >>>= 1) {
+            if ((c & q) != 0) t ^= q - 1;
+        }
+        a ^= t;
+        b ^= t;
+        c ^= t;
+        return spread3(a) << 2 | spread3(b) << 1 | spread3(c);
+    }
+
+    public static long encode(Point3I32 point) {
+        return encode(point.x(), point.y(), point.z());
+    }
+
+    public static long encode(Integer3 tuple) {
+        return encode(tuple.x(), tuple.y(), tuple.z());
+    }
+
+    public static long encode(Point3I64 point) {
+        return encode(toInt3(point.x()), toInt3(point.y()), toInt3(point.z()));
+    }
+
+    public static long encode(Long3 tuple) {
+        return encode(toInt3(tuple.x()), toInt3(tuple.y()), toInt3(tuple.z()));
+    }
+
+    public static Point3I32 decode3(long index) {
+        long a = compact3(index >>> 2), b = compact3(index >>> 1), c = compact3(index);
+        final long t = c >>> 1;
+        c ^= b;
+        b ^= a;
+        a ^= t;
+        for (long q = 2; q != 1L << BITS_3D; q <<= 1) {
+            final long p = q - 1;
+            if ((c & q) != 0) a ^= p;
+            else {
+                final long s = (a ^ c) & p;
+                a ^= s;
+                c ^= s;
+            }
+            if ((b & q) != 0) a ^= p;
+            else {
+                final long s = (a ^ b) & p;
+                a ^= s;
+                b ^= s;
+            }
+            if ((a & q) != 0) a ^= p;
+        }
+        return new Point3I32(unbias3(a), unbias3(b), unbias3(c));
+    }
+
+    /// `out[i] = encode(x[i], y[i], z[i])`.
+    public static void encode(int[] x, int[] y, int[] z, long[] out) {
+        final int length = checkLength(x.length, y.length, z.length, out.length);
+        for (int i = 0; i < length; i++) out[i] = encode(x[i], y[i], z[i]);
+    }
+
+    /// The inverse of [#encode(int\[\], int\[\], int\[\], long\[\])].
+    public static void decode(long[] indices, int[] x, int[] y, int[] z) {
+        final int length = checkLength(indices.length, x.length, y.length, z.length);
+        for (int i = 0; i < length; i++) {
+            final var point = decode3(indices[i]);
+            x[i] = point.x();
+            y[i] = point.y();
+            z[i] = point.z();
+        }
+    }
+}
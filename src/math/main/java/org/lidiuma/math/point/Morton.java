@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.point;
+
+import org.lidiuma.math.tuple.Integer2;
+import org.lidiuma.math.tuple.Integer3;
+import org.lidiuma.math.tuple.Long2;
+import org.lidiuma.math.tuple.Long3;
+
+/// Morton (Z-order) codes, the bits of the coordinates interleaved into a `long`, sorting by code keeps nearby cells nearby in memory.\
+/// 2D codes use the full 32 bits of each coordinate, 3D codes use 21 bits, so the coordinates must be within `[-2^20, 2^20)`
+///  (outside the range they wrap around).
+/// The coordinates are biased to unsigned values, and the 2D codes have their sign bit flipped,
+///  so sorting the codes as signed `long` (e.g. [java.util.Arrays#sort(long\[\])]) follows the curve, negative coordinates included.
+/// The `long` variants must fit the same ranges, otherwise they throw [ArithmeticException] instead of wrapping.
+/// @implNote the interleave uses magic-number shifts instead of [Long#expand(long, long)] (pdep),
+///  which is not available on Java 17 and is microcoded on some CPUs.
+public final class Morton {
+
+    /// Flipped in the 2D codes, which use all 64 bits.
+    static final long SIGN = Long.MIN_VALUE;
+    static final int BITS_3D = 21;
+    static final int BIAS_3D = 1 << (BITS_3D - 1);
+    static final long MASK_3D = (1L << BITS_3D) - 1;
+
+    private Morton() {}
+
+    /* ==== 2D ==== */
+
+    public static long encode(int x, int y) {
+        return (spread2(bias2(x)) << 1 | spread2(bias2(y))) ^ SIGN;
+    }
+
+    public static long encode(Point2I32 point) {
+        return encode(point.x(), point.y());
+    }
+
+    public static long encode(Integer2 tuple) {
+        return encode(tuple.x(), tuple.y());
+    }
+
+    public static long encode(Point2I64 point) {
+        return encode(Math.toIntExact(point.x()), Math.toIntExact(point.y()));
+    }
+
+    public static long encode(Long2 tuple) {
+        return encode(Math.toIntExact(tuple.x()), Math.toIntExact(tuple.y()));
+    }
+
+    public static int decodeX2(long code) {
+        return unbias2(compact2((code ^ SIGN) >>> 1));
+    }
+
+    public static int decodeY2(long code) {
+        return unbias2(compact2(code ^ SIGN));
+    }
+
+    public static Point2I32 decode2(long code) {
+        return new Point2I32(decodeX2(code), decodeY2(code));
+    }
+
+    /// `out[i] = encode(x[i], y[i])`.
+    public static void encode(int[] x, int[] y, long[] out) {
+        final int length = checkLength(x.length, y.length, out.length);
+        for (int i = 0; i < length; i++) out[i] = (spread2(bias2(x[i])) << 1 | spread2(bias2(y[i]))) ^ SIGN;
+    }
+
+    /// The inverse of [#encode(int\[\], int\[\], long\[\])].
+    public static void decode(long[] codes, int[] x, int[] y) {
+        final int length = checkLength(codes.length, x.length, y.length);
+        for (int i = 0; i < length; i++) {
+            final long code = codes[i] ^ SIGN;
+            x[i] = unbias2(compact2(code >>> 1));
+            y[i] = unbias2(compact2(code));
+        }
+    }
+
+    /* ==== 3D ==== */
+
+    public static long encode(int x, int y, int z) {
+        return spread3(bias3(x)) << 2 | spread3(bias3(y)) << 1 | spread3(bias3(z));
+    }
+
+    public static long encode(Point3I32 point) {
+        return encode(point.x(), point.y(), point.z());
+    }
+
+    public static long encode(Integer3 tuple) {
+        return encode(tuple.x(), tuple.y(), tuple.z());
+    }
+
+    public static long encode(Point3I64 point) {
+        return encode(toInt3(point.x()), toInt3(point.y()), toInt3(point.z()));
+    }
+
+    public static long encode(Long3 tuple) {
+        return encode(toInt3(tuple.x()), toInt3(tuple.y()), toInt3(tuple.z()));
+    }
+
+    public static int decodeX3(long code) {
+        return unbias3(compact3(code >>> 2));
+    }
+
+    public static int decodeY3(long code) {
+        return unbias3(compact3(code >>> 1));
+    }
+
+    public static int decodeZ3(long code) {
+        return unbias3(compact3(code));
+    }
+
+    public static Point3I32 decode3(long code) {
+        return new Point3I32(decodeX3(code), decodeY3(code), decodeZ3(code));
+    }
+
+    /// `out[i] = encode(x[i], y[i], z[i])`.
+    public static void encode(int[] x, int[] y, int[] z, long[] out) {
+        final int length = checkLength(x.length, y.length, z.length, out.length);
+        for (int i = 0; i < length; i++) out[i] = spread3(bias3(x[i])) << 2 | spread3(bias3(y[i])) << 1 | spread3(bias3(z[i]));
+    }
+
+    /// The inverse of [#encode(int\[\], int\[\], int\[\], long\[\])].
+    public static void decode(long[] codes, int[] x, int[] y, int[] z) {
+        final int length = checkLength(codes.length, x.length, y.length, z.length);
+        for (int i = 0; i < length; i++) {
+            final long code = codes[i];
+            x[i] = unbias3(compact3(code >>> 2));
+            y[i] = unbias3(compact3(code >>> 1));
+            z[i] = unbias3(compact3(code));
+        }
+    }
+
+    /* ==== Bits ==== */
+
+    /// Flips the sign bit, so the signed order becomes the unsigned one.
+    static long bias2(int value) {
+        return (value ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+    }
+
+    static int unbias2(long value) {
+        return (int) value ^ Integer.MIN_VALUE;
+    }
+
+    /// @throws ArithmeticException if the value is outside `[-2^20, 2^20)`.
+    static int toInt3(long value) {
+        if (value < -BIAS_3D || value >= BIAS_3D) throw new ArithmeticException("The coordinate " + value + " is outside [" + -BIAS_3D + ", " + BIAS_3D + ").");
+        return (int) value;
+    }
+
+    static long bias3(int value) {
+        return (value + BIAS_3D) & MASK_3D;
+    }
+
+    static int unbias3(long value) {
+        return (int) value - BIAS_3D;
+    }
+
+    /// Moves the 32 low bits to the even positions.
+    static long spread2(long value) {
+        long v = value & 0xFFFFFFFFL;
+        v = (v | v << 16) & 0x0000FFFF0000FFFFL;
+        v = (v | v << 8) & 0x00FF00FF00FF00FFL;
+        v = (v | v << 4) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | v << 2) & 0x3333333333333333L;
+        return (v | v << 1) & 0x5555555555555555L;
+    }
+
+    /// The inverse of [#spread2(long)], ignores the odd positions.
+    static long compact2(long value) {
+        long v = value & 0x5555555555555555L;
+        v = (v | v >>> 1) & 0x3333333333333333L;
+        v = (v | v >>> 2) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | v >>> 4) & 0x00FF00FF00FF00FFL;
+        v = (v | v >>> 8) & 0x0000FFFF0000FFFFL;
+        return (v | v >>> 16) & 0x00000000FFFFFFFFL;
+    }
+
+    /// Moves the 21 low bits to every third position.
+    static long spread3(long value) {
+        long v = value & MASK_3D;
+        v = (v | v << 32) & 0x001F00000000FFFFL;
+        v = (v | v << 16) & 0x001F0000FF0000FFL;
+        v = (v | v << 8) & 0x100F00F00F00F00FL;
+        v = (v | v << 4) & 0x10C30C30C30C30C3L;
+        return (v | v << 2) & 0x1249249249249249L;
+    }
+
+    /// The inverse of [#spread3(long)], ignores the other positions.
+    static long compact3(long value) {
+        long v = value & 0x1249249249249249L;
+        v = (v | v >>> 2) & 0x10C30C30C30C30C3L;
+        v = (v | v >>> 4) & 0x100F00F00F00F00FL;
+        v = (v | v >>> 8) & 0x001F0000FF0000FFL;
+        v = (v | v >>> 16) & 0x001F00000000FFFFL;
+        return (v | v >>> 32) & MASK_3D;
+    }
+
+    static int checkLength(int expected, int actual1, int actual2) {
+        checkLength(expected, actual1);
+        checkLength(expected, actual2);
+        return expected;
+    }
+
+    static int checkLength(int expected, int actual1, int actual2, int actual3) {
+        checkLength(expected, actual1, actual2);
+        checkLength(expected, actual3);
+        return expected;
+    }
+
+    private static void checkLength(int expected, int actual) {
+        if (expected != actual) throw new IllegalArgumentException("The array lengths do not match, expected " + expected + " but got " + actual + ".");
+    }
+}
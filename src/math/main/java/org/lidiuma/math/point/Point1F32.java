@@ -21,6 +21,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.point.Point1;
 import org.lidiuma.math.api.traits.point.FloatingPoint1Ops;
 import org.lidiuma.math.api.tuple.UnaryTuple1;
+import org.lidiuma.math.easing.FloatEasing;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
 import org.lidiuma.math.processor.FieldAlias;
@@ -55,5 +56,13 @@ public value record Point1F32(@NullRestricted Float x) implements Point1<Float>
         public Vec1F32.Ops vectorOps() {
             return Vec1F32.OPS;
         }
+
+        /// Like the boxed `interpolate`, but neither the progress nor the easing box.
+        public Point1F32 interpolate(Point1F32 start, Point1F32 end, float alpha, FloatEasing easing) {
+            final float eased = easing.ease(alpha);
+            return new Point1F32(
+                    start.x() + (end.x() - start.x()) * eased
+            );
+        }
     }
 }
@@ -21,6 +21,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.point.Point1;
 import org.lidiuma.math.api.traits.point.FloatingPoint1Ops;
 import org.lidiuma.math.api.tuple.UnaryTuple1;
+import org.lidiuma.math.easing.DoubleEasing;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
 import org.lidiuma.math.processor.FieldAlias;
@@ -55,5 +56,13 @@ public value record Point1F64(@NullRestricted Double x) implements Point1<Double
         public Vec1F64.Ops vectorOps() {
             return Vec1F64.OPS;
         }
+
+        /// Like the boxed `interpolate`, but neither the progress nor the easing box.
+        public Point1F64 interpolate(Point1F64 start, Point1F64 end, double alpha, DoubleEasing easing) {
+            final double eased = easing.ease(alpha);
+            return new Point1F64(
+                    start.x() + (end.x() - start.x()) * eased
+            );
+        }
     }
 }
@@ -21,6 +21,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.point.Point2;
 import org.lidiuma.math.api.traits.point.FloatingPoint2Ops;
 import org.lidiuma.math.api.tuple.UnaryTuple2;
+import org.lidiuma.math.easing.DoubleEasing;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
 import org.lidiuma.math.processor.FieldAlias;
@@ -58,5 +59,14 @@ public value record Point2F64(
         public Vec2F64.Ops vectorOps() {
             return Vec2F64.OPS;
         }
+
+        /// Like the boxed `interpolate`, but neither the progress nor the easing box.
+        public Point2F64 interpolate(Point2F64 start, Point2F64 end, double alpha, DoubleEasing easing) {
+            final double eased = easing.ease(alpha);
+            return new Point2F64(
+                    start.x() + (end.x() - start.x()) * eased,
+                    start.y() + (end.y() - start.y()) * eased
+            );
+        }
     }
 }
@@ -21,6 +21,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.point.Point3;
 import org.lidiuma.math.api.traits.point.FloatingPoint3Ops;
 import org.lidiuma.math.api.tuple.UnaryTuple3;
+import org.lidiuma.math.easing.FloatEasing;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
 import org.lidiuma.math.processor.FieldAlias;
@@ -59,5 +60,15 @@ public value record Point3F32(
         public Vec3F32.Ops vectorOps() {
             return Vec3F32.OPS;
         }
+
+        /// Like the boxed `interpolate`, but neither the progress nor the easing box.
+        public Point3F32 interpolate(Point3F32 start, Point3F32 end, float alpha, FloatEasing easing) {
+            final float eased = easing.ease(alpha);
+            return new Point3F32(
+                    start.x() + (end.x() - start.x()) * eased,
+                    start.y() + (end.y() - start.y()) * eased,
+                    start.z() + (end.z() - start.z()) * eased
+            );
+        }
     }
 }
@@ -21,6 +21,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.point.Point3;
 import org.lidiuma.math.api.traits.point.FloatingPoint3Ops;
 import org.lidiuma.math.api.tuple.UnaryTuple3;
+import org.lidiuma.math.easing.DoubleEasing;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
 import org.lidiuma.math.processor.FieldAlias;
@@ -59,5 +60,15 @@ public value record Point3F64(
         public Vec3F64.Ops vectorOps() {
             return Vec3F64.OPS;
         }
+
+        /// Like the boxed `interpolate`, but neither the progress nor the easing box.
+        public Point3F64 interpolate(Point3F64 start, Point3F64 end, double alpha, DoubleEasing easing) {
+            final double eased = easing.ease(alpha);
+            return new Point3F64(
+                    start.x() + (end.x() - start.x()) * eased,
+                    start.y() + (end.y() - start.y()) * eased,
+                    start.z() + (end.z() - start.z()) * eased
+            );
+        }
     }
 }
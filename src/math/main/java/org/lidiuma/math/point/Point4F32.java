@@ -21,6 +21,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.point.Point4;
 import org.lidiuma.math.api.traits.point.FloatingPoint4Ops;
 import org.lidiuma.math.api.tuple.UnaryTuple4;
+import org.lidiuma.math.easing.FloatEasing;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
 import org.lidiuma.math.processor.FieldAlias;
@@ -60,5 +61,16 @@ public value record Point4F32(
         public Vec4F32.Ops vectorOps() {
             return Vec4F32.OPS;
         }
+
+        /// Like the boxed `interpolate`, but neither the progress nor the easing box.
+        public Point4F32 interpolate(Point4F32 start, Point4F32 end, float alpha, FloatEasing easing) {
+            final float eased = easing.ease(alpha);
+            return new Point4F32(
+                    start.x() + (end.x() - start.x()) * eased,
+                    start.y() + (end.y() - start.y()) * eased,
+                    start.z() + (end.z() - start.z()) * eased,
+                    start.w() + (end.w() - start.w()) * eased
+            );
+        }
     }
 }
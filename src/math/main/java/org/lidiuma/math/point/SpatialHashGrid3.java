@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.point;
+
+import org.lidiuma.math.vector.Vec3F32;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/// A spatial hash of entities in 3D, each entity is an `int` id stored in the [Point3I32] cell containing its position.\
+/// The cells are an open-addressing table of flat arrays, and the entities of a cell are a linked list of ids,
+///  so inserting, moving, and querying never allocate (except to grow the arrays).
+/// Cell coordinates are packed in 21 bits each, cells `2^21` apart share a slot, which only costs extra distance checks.
+/// @apiNote the ids should be dense (e.g. indices of an entity array), since the per-entity arrays grow up to the highest id.
+public final class SpatialHashGrid3 {
+
+    private static final int FREE = -2;
+    private static final int EMPTY_CELL = -1;
+    private static final int NONE = -1;
+
+    private final float cellSize;
+    private final float inverseCellSize;
+
+    // The cell table, a slot is free, an empty cell, or the head of the entity list of its cell.
+    private long[] keys;
+    private int[] heads;
+    private int usedSlots;
+    // The slots heading at least one entity, the rest of the used slots are empty cells.
+    private int liveCells;
+
+    // The entities, indexed by id.
+    private float[] x, y, z;
+    private long[] cells;
+    private int[] next, previous;
+    private boolean[] present;
+    private int size;
+
+    public SpatialHashGrid3(float cellSize) {
+        this(cellSize, 16);
+    }
+
+    /// @param expectedEntities the initial capacity, the arrays grow as needed.
+    public SpatialHashGrid3(float cellSize, int expectedEntities) {
+        if (!(cellSize > 0f) || Float.isInfinite(cellSize)) throw new IllegalArgumentException("The cell size must be positive and finite, got " + cellSize + ".");
+        if (expectedEntities < 0) throw new IllegalArgumentException("The expected entities must not be negative, got " + expectedEntities + ".");
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1f / cellSize;
+        final int entities = Math.max(expectedEntities, 1);
+        allocateTable(tableCapacity(entities));
+        this.x = new float[entities];
+        this.y = new float[entities];
+        this.z = new float[entities];
+        this.cells = new long[entities];
+        this.next = new int[entities];
+        this.previous = new int[entities];
+        this.present = new boolean[entities];
+    }
+
+    public float cellSize() {
+        return cellSize;
+    }
+
+    /// @return the number of entities.
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int id) {
+        return id >= 0 && id < present.length && present[id];
+    }
+
+    /// @return the cell containing the position.
+    public Point3I32 cellOf(Vec3F32 position) {
+        return new Point3I32(quantize(position.x()), quantize(position.y()), quantize(position.z()));
+    }
+
+    /// Inserts an entity, or moves it if already present.
+    public void insert(int id, Vec3F32 position) {
+        insert(id, position.x(), position.y(), position.z());
+    }
+
+    /// Inserts an entity, or moves it if already present.
+    public void insert(int id, float px, float py, float pz) {
+        if (id < 0) throw new IllegalArgumentException("The id must not be negative, got " + id + ".");
+        if (contains(id)) {
+            move(id, px, py, pz);
+            return;
+        }
+        ensureEntityCapacity(id + 1);
+        x[id] = px;
+        y[id] = py;
+        z[id] = pz;
+        present[id] = true;
+        size++;
+        link(id, pack(quantize(px), quantize(py), quantize(pz)));
+    }
+
+    /// Updates the position of an entity, it's relinked only if its cell changed.
+    public void move(int id, Vec3F32 position) {
+        move(id, position.x(), position.y(), position.z());
+    }
+
+    /// Updates the position of an entity, it's relinked only if its cell changed.
+    public void move(int id, float px, float py, float pz) {
+        checkPresent(id);
+        x[id] = px;
+        y[id] = py;
+        z[id] = pz;
+        final long cell = pack(quantize(px), quantize(py), quantize(pz));
+        if (cell == cells[id]) return;
+        unlink(id);
+        link(id, cell);
+    }
+
+    public void remove(int id) {
+        checkPresent(id);
+        unlink(id);
+        present[id] = false;
+        size--;
+    }
+
+    /// Removes every entity, keeping the allocated capacity.
+    public void clear() {
+        Arrays.fill(heads, FREE);
+        Arrays.fill(present, false);
+        usedSlots = 0;
+        liveCells = 0;
+        size = 0;
+    }
+
+    /// @return the position of an entity.
+    public Vec3F32 position(int id) {
+        checkPresent(id);
+        return new Vec3F32(x[id], y[id], z[id]);
+    }
+
+    /* ==== Queries ==== */
+
+    /// Visits the entities stored in the cell.
+    /// @return the number of visited entities.
+    public int forEachInCell(Point3I32 cell, IntConsumer visitor) {
+        final int cx = cell.x(), cy = cell.y(), cz = cell.z();
+        final int slot = find(pack(cx, cy, cz));
+        if (slot < 0) return 0;
+        int visited = 0;
+        for (int id = heads[slot]; id != NONE; id = next[id]) {
+            // Distant cells can share a packed key, so I compare the real cell too.
+            if (!inCell(id, cx, cy, cz)) continue;
+            visitor.accept(id);
+            visited++;
+        }
+        return visited;
+    }
+
+    /// Visits the entities within `radius` of `center`, boundary included.
+    /// @return the number of visited entities.
+    public int query(Vec3F32 center, float radius, IntConsumer visitor) {
+        final float px = center.x(), py = center.y(), pz = center.z();
+        final float radiusSquared = radius * radius;
+        final int minX = quantize(px - radius), maxX = quantize(px + radius);
+        final int minY = quantize(py - radius), maxY = quantize(py + radius);
+        final int minZ = quantize(pz - radius), maxZ = quantize(pz + radius);
+        int visited = 0;
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    final int slot = find(pack(cx, cy, cz));
+                    if (slot < 0) continue;
+                    for (int id = heads[slot]; id != NONE; id = next[id]) {
+                        if (!inCell(id, cx, cy, cz)) continue;
+                        final float dx = x[id] - px, dy = y[id] - py, dz = z[id] - pz;
+                        if (dx * dx + dy * dy + dz * dz > radiusSquared) continue;
+                        visitor.accept(id);
+                        visited++;
+                    }
+                }
+            }
+        }
+        return visited;
+    }
+
+    /// Writes the ids of the entities within `radius` of `center` into `out`, stopping once it's full.
+    /// @return the number of written ids.
+    public int query(Vec3F32 center, float radius, int[] out) {
+        final float px = center.x(), py = center.y(), pz = center.z();
+        final float radiusSquared = radius * radius;
+        final int minX = quantize(px - radius), maxX = quantize(px + radius);
+        final int minY = quantize(py - radius), maxY = quantize(py + radius);
+        final int minZ = quantize(pz - radius), maxZ = quantize(pz + radius);
+        int written = 0;
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    final int slot = find(pack(cx, cy, cz));
+                    if (slot < 0) continue;
+                    for (int id = heads[slot]; id != NONE; id = next[id]) {
+                        if (!inCell(id, cx, cy, cz)) continue;
+                        final float dx = x[id] - px, dy = y[id] - py, dz = z[id] - pz;
+                        if (dx * dx + dy * dy + dz * dz > radiusSquared) continue;
+                        if (written == out.length) return written;
+                        out[written++] = id;
+                    }
+                }
+            }
+        }
+        return written;
+    }
+
+    /* ==== Internals ==== */
+
+    private int quantize(float value) {
+        return (int) Math.floor(value * inverseCellSize);
+    }
+
+    private boolean inCell(int id, int cx, int cy, int cz) {
+        return quantize(x[id]) == cx && quantize(y[id]) == cy && quantize(z[id]) == cz;
+    }
+
+    private static long pack(int cx, int cy, int cz) {
+        return ((cx & 0x1FFFFFL) << 42) | ((cy & 0x1FFFFFL) << 21) | (cz & 0x1FFFFFL);
+    }
+
+    private static int hash(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    /// @return the slot of the key, or -1 if absent.
+    private int find(long key) {
+        final int mask = keys.length - 1;
+        for (int slot = hash(key, mask); ; slot = (slot + 1) & mask) {
+            if (heads[slot] == FREE) return -1;
+            if (keys[slot] == key) return slot;
+        }
+    }
+
+    private void link(int id, long cell) {
+        cells[id] = cell;
+        final int mask = keys.length - 1;
+        int slot = hash(cell, mask);
+        while (heads[slot] != FREE && keys[slot] != cell) slot = (slot + 1) & mask;
+        if (heads[slot] == FREE) {
+            keys[slot] = cell;
+            heads[slot] = EMPTY_CELL;
+            usedSlots++;
+        }
+        final int head = heads[slot];
+        if (head == EMPTY_CELL) liveCells++;
+        next[id] = head == EMPTY_CELL ? NONE : head;
+        previous[id] = NONE;
+        if (head != EMPTY_CELL) previous[head] = id;
+        heads[slot] = id;
+        // Empty cells keep their slot until the next rehash, so the load counts them too,
+        //  but the capacity only depends on the live cells, otherwise entities crossing cells would grow the table forever.
+        if (usedSlots * 4 > keys.length * 3) rehash(Math.max(keys.length, tableCapacity(liveCells)));
+    }
+
+    private void unlink(int id) {
+        final int before = previous[id], after = next[id];
+        if (after != NONE) previous[after] = before;
+        if (before != NONE) {
+            next[before] = after;
+            return;
+        }
+        final int slot = find(cells[id]);
+        if (after == NONE) {
+            heads[slot] = EMPTY_CELL;
+            liveCells--;
+            return;
+        }
+        heads[slot] = after;
+    }
+
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final int[] oldHeads = heads;
+        allocateTable(capacity);
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldHeads[i] < 0) continue; // Free slots and empty cells are dropped.
+            int slot = hash(oldKeys[i], mask);
+            while (heads[slot] != FREE) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            heads[slot] = oldHeads[i];
+            usedSlots++;
+        }
+    }
+
+    /// @return the smallest power of two keeping the cells at most half of the slots.
+    private static int tableCapacity(int cells) {
+        return Integer.highestOneBit(Math.max(cells * 2 - 1, 1)) << 1;
+    }
+
+    private void allocateTable(int capacity) {
+        keys = new long[capacity];
+        heads = new int[capacity];
+        Arrays.fill(heads, FREE);
+        usedSlots = 0;
+    }
+
+    private void ensureEntityCapacity(int capacity) {
+        if (capacity <= present.length) return;
+        final int grown = Math.max(capacity, present.length + (present.length >> 1));
+        x = Arrays.copyOf(x, grown);
+        y = Arrays.copyOf(y, grown);
+        z = Arrays.copyOf(z, grown);
+        cells = Arrays.copyOf(cells, grown);
+        next = Arrays.copyOf(next, grown);
+        previous = Arrays.copyOf(previous, grown);
+        present = Arrays.copyOf(present, grown);
+    }
+
+    private void checkPresent(int id) {
+        if (!contains(id)) throw new IllegalArgumentException("The entity " + id + " is not in the grid.");
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+import jdk.internal.vm.annotation.LooselyConsistentValue;
+import jdk.internal.vm.annotation.NullRestricted;
+import org.lidiuma.math.matrix.Affine3F32;
+import org.lidiuma.math.processor.AliasExclude;
+import org.lidiuma.math.processor.FactoryAlias;
+import org.lidiuma.math.processor.FieldAlias;
+import org.lidiuma.math.processor.NamedAlias;
+import org.lidiuma.math.vector.Vec3F32;
+import static org.lidiuma.math.internal.AnnotationConst.*;
+
+/// A unit dual quaternion `real + ε dual`, a rigid transformation (rotation then translation) without scale.\
+/// The `real` part is the rotation, and the `dual` part is `0.5 * translation * real`, with the translation as a pure quaternion.
+/// Blending dual quaternions (DLB) keeps the rigidity, so skinning has no candy-wrapper artifacts, unlike blending matrices.
+@FactoryAlias(methodName = DUAL_QUATERNION_FACTORY, outputClass = ROTATION_OUT)
+@LooselyConsistentValue
+public value record DualQuaternionF32(
+        @NullRestricted QuaternionF32 real,
+        @NullRestricted QuaternionF32 dual
+) {
+
+    @FieldAlias(outputClass = ROTATION_OUT)
+    public static final Ops OPS = new Ops();
+
+    public static final value class Ops {
+
+        private Ops() {}
+
+        @AliasExclude
+        public DualQuaternionF32 of(float rx, float ry, float rz, float rw, float dx, float dy, float dz, float dw) {
+            return new DualQuaternionF32(new QuaternionF32(rx, ry, rz, rw), new QuaternionF32(dx, dy, dz, dw));
+        }
+
+        @NamedAlias(methodName = IDENTITY_FACTORY + UPPER_DUAL_QUATERNION_FACTORY + F32)
+        public DualQuaternionF32 identity() {
+            return of(0f, 0f, 0f, 1f, 0f, 0f, 0f, 0f);
+        }
+
+        /// @param rotation a unit quaternion.
+        public DualQuaternionF32 fromRotationTranslation(QuaternionF32 rotation, Vec3F32 translation) {
+            final float rx = rotation.x(), ry = rotation.y(), rz = rotation.z(), rw = rotation.w();
+            final float tx = translation.x() * .5f, ty = translation.y() * .5f, tz = translation.z() * .5f;
+            // dual = (t, 0) * real / 2.
+            return of(
+                    rx, ry, rz, rw,
+                    tx * rw + ty * rz - tz * ry,
+                    ty * rw + tz * rx - tx * rz,
+                    tz * rw + tx * ry - ty * rx,
+                    -tx * rx - ty * ry - tz * rz
+            );
+        }
+
+        /// The rotation part of a rigid affine, it's expected to have no scale nor shear.
+        public DualQuaternionF32 fromAffine(Affine3F32 affine) {
+            final var rotation = rotationOf(
+                    affine.m00(), affine.m01(), affine.m02(),
+                    affine.m10(), affine.m11(), affine.m12(),
+                    affine.m20(), affine.m21(), affine.m22()
+            );
+            return fromRotationTranslation(rotation, new Vec3F32(affine.m03(), affine.m13(), affine.m23()));
+        }
+
+        public Affine3F32 toAffine(DualQuaternionF32 transform) {
+            final var linear = Affine3F32.OPS.fromRotation(transform.real());
+            final var translation = translation(transform);
+            return new Affine3F32(
+                    linear.m00(), linear.m01(), linear.m02(), translation.x(),
+                    linear.m10(), linear.m11(), linear.m12(), translation.y(),
+                    linear.m20(), linear.m21(), linear.m22(), translation.z()
+            );
+        }
+
+        public QuaternionF32 rotation(DualQuaternionF32 transform) {
+            return transform.real();
+        }
+
+        /// @return `2 * dual * conjugate(real)`.
+        public Vec3F32 translation(DualQuaternionF32 transform) {
+            final var real = transform.real();
+            final var dual = transform.dual();
+            final float rx = real.x(), ry = real.y(), rz = real.z(), rw = real.w();
+            final float dx = dual.x(), dy = dual.y(), dz = dual.z(), dw = dual.w();
+            return new Vec3F32(
+                    2f * (-dw * rx + dx * rw - dy * rz + dz * ry),
+                    2f * (-dw * ry + dy * rw - dz * rx + dx * rz),
+                    2f * (-dw * rz + dz * rw - dx * ry + dy * rx)
+            );
+        }
+
+        /// Composes two transformations, `op2` is applied first, like multiplying matrices.
+        public DualQuaternionF32 multiply(DualQuaternionF32 op1, DualQuaternionF32 op2) {
+            final var quaternions = QuaternionF32.OPS;
+            final var real = quaternions.multiply(op1.real(), op2.real());
+            final var dual = quaternions.add(quaternions.multiply(op1.real(), op2.dual()), quaternions.multiply(op1.dual(), op2.real()));
+            return new DualQuaternionF32(real, dual);
+        }
+
+        /// The quaternion conjugate of both parts, which is the inverse of a unit dual quaternion.
+        public DualQuaternionF32 inverse(DualQuaternionF32 transform) {
+            final var real = transform.real();
+            final var dual = transform.dual();
+            return of(-real.x(), -real.y(), -real.z(), real.w(), -dual.x(), -dual.y(), -dual.z(), dual.w());
+        }
+
+        /// Scales both parts by the inverse length of the real part, then removes the component of the dual part
+        ///  along the real part, so the result is a unit dual quaternion.
+        /// @throws ArithmeticException if the real part has zero length.
+        public DualQuaternionF32 normalize(DualQuaternionF32 transform) {
+            final var real = transform.real();
+            final var dual = transform.dual();
+            final float rx = real.x(), ry = real.y(), rz = real.z(), rw = real.w();
+            final float lengthSquared = rx * rx + ry * ry + rz * rz + rw * rw;
+            if (lengthSquared == 0f) throw new ArithmeticException("The real part has zero length.");
+            final float inverse = (float) (1d / Math.sqrt(lengthSquared));
+            final float nx = rx * inverse, ny = ry * inverse, nz = rz * inverse, nw = rw * inverse;
+            final float dx = dual.x() * inverse, dy = dual.y() * inverse, dz = dual.z() * inverse, dw = dual.w() * inverse;
+            final float dot = nx * dx + ny * dy + nz * dz + nw * dw;
+            return of(nx, ny, nz, nw, dx - nx * dot, dy - ny * dot, dz - nz * dot, dw - nw * dot);
+        }
+
+        /// Rotates then translates the point.
+        public Vec3F32 transformPoint(DualQuaternionF32 transform, Vec3F32 point) {
+            final var rotated = QuaternionF32.OPS.rotate(transform.real(), point);
+            final var translation = translation(transform);
+            return new Vec3F32(rotated.x() + translation.x(), rotated.y() + translation.y(), rotated.z() + translation.z());
+        }
+
+        /// Only rotates the vector, like a direction or a normal.
+        public Vec3F32 transformVector(DualQuaternionF32 transform, Vec3F32 vector) {
+            return QuaternionF32.OPS.rotate(transform.real(), vector);
+        }
+
+        /// Dual quaternion linear blending of two transformations, `op2` is moved to the hemisphere of `op1` first.
+        /// @param alpha the weight of `op2`, in `[0,1]`.
+        public DualQuaternionF32 blend(DualQuaternionF32 op1, DualQuaternionF32 op2, float alpha) {
+            final float dot = QuaternionF32.OPS.dot(op1.real(), op2.real());
+            final float weight2 = dot < 0f ? -alpha : alpha;
+            return normalize(weighted(op1, 1f - alpha, op2, weight2));
+        }
+
+        /// Dual quaternion linear blending (Kavan et al.), every transformation is moved to the hemisphere of the first one.
+        /// @param weights the weight of each transformation, they do not need to sum to one.
+        /// @throws ArithmeticException if the blended real part has zero length, e.g. when every weight is zero.
+        public DualQuaternionF32 blend(DualQuaternionF32[] transforms, float[] weights) {
+            if (transforms.length != weights.length) throw new IllegalArgumentException("The array lengths do not match, expected " + transforms.length + " but got " + weights.length + ".");
+            if (transforms.length == 0) return identity();
+            final var pivot = transforms[0].real();
+            float rx = 0f, ry = 0f, rz = 0f, rw = 0f, dx = 0f, dy = 0f, dz = 0f, dw = 0f;
+            for (int i = 0; i < transforms.length; i++) {
+                final var real = transforms[i].real();
+                final var dual = transforms[i].dual();
+                final float weight = QuaternionF32.OPS.dot(pivot, real) < 0f ? -weights[i] : weights[i];
+                rx += real.x() * weight;
+                ry += real.y() * weight;
+                rz += real.z() * weight;
+                rw += real.w() * weight;
+                dx += dual.x() * weight;
+                dy += dual.y() * weight;
+                dz += dual.z() * weight;
+                dw += dual.w() * weight;
+            }
+            return normalize(of(rx, ry, rz, rw, dx, dy, dz, dw));
+        }
+
+        private DualQuaternionF32 weighted(DualQuaternionF32 op1, float weight1, DualQuaternionF32 op2, float weight2) {
+            final var r1 = op1.real();
+            final var d1 = op1.dual();
+            final var r2 = op2.real();
+            final var d2 = op2.dual();
+            return of(
+                    r1.x() * weight1 + r2.x() * weight2,
+                    r1.y() * weight1 + r2.y() * weight2,
+                    r1.z() * weight1 + r2.z() * weight2,
+                    r1.w() * weight1 + r2.w() * weight2,
+                    d1.x() * weight1 + d2.x() * weight2,
+                    d1.y() * weight1 + d2.y() * weight2,
+                    d1.z() * weight1 + d2.z() * weight2,
+                    d1.w() * weight1 + d2.w() * weight2
+            );
+        }
+
+        /// Shepperd's method, it picks the largest of the four candidates to divide by, so it's stable for every rotation.
+        private static QuaternionF32 rotationOf(float m00, float m01, float m02,
+                                                float m10, float m11, float m12,
+                                                float m20, float m21, float m22) {
+            final float trace = m00 + m11 + m22;
+            if (trace > 0f) {
+                final float s = (float) Math.sqrt(trace + 1f) * 2f;
+                return new QuaternionF32((m21 - m12) / s, (m02 - m20) / s, (m10 - m01) / s, .25f * s);
+            }
+            if (m00 > m11 && m00 > m22) {
+                final float s = (float) Math.sqrt(1f + m00 - m11 - m22) * 2f;
+                return new QuaternionF32(.25f * s, (m01 + m10) / s, (m02 + m20) / s, (m21 - m12) / s);
+            }
+            if (m11 > m22) {
+                final float s = (float) Math.sqrt(1f + m11 - m00 - m22) * 2f;
+                return new QuaternionF32((m01 + m10) / s, .25f * s, (m12 + m21) / s, (m02 - m20) / s);
+            }
+            final float s = (float) Math.sqrt(1f + m22 - m00 - m11) * 2f;
+            return new QuaternionF32((m02 + m20) / s, (m12 + m21) / s, .25f * s, (m10 - m01) / s);
+        }
+    }
+}
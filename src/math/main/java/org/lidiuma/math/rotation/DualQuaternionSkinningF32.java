@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+import org.lidiuma.math.vector.Vec3F32Buffer;
+
+/// Bulk dual quaternion skinning, every vertex blends up to [#BONES_PER_VERTEX] bones with [DualQuaternionF32.Ops#blend(DualQuaternionF32[], float[])].\
+/// The bones are flattened once per frame into a palette of [#PALETTE_STRIDE] floats each (`real.xyzw`, then `dual.xyzw`),
+///  then the kernels loop over structure of arrays buffers without allocating, nor calling the value record operations.
+///
+/// The joints and weights are vertex-major, the slot `k` of the vertex `i` is at `i * BONES_PER_VERTEX + k`.
+/// An unused slot must have a zero weight, and any valid joint (e.g. `0`).
+/// The weights do not need to sum to one, since the blend is normalized,
+///  a vertex whose weights are all zero is left unchanged.
+public final class DualQuaternionSkinningF32 {
+
+    public static final int BONES_PER_VERTEX = 4;
+    public static final int PALETTE_STRIDE = 8;
+
+    private DualQuaternionSkinningF32() {}
+
+    /// @return a new palette of the bones.
+    public static float[] palette(DualQuaternionF32[] bones) {
+        final var palette = new float[bones.length * PALETTE_STRIDE];
+        palette(bones, palette);
+        return palette;
+    }
+
+    /// Flattens the bones into `out`, which must have `bones.length * PALETTE_STRIDE` elements.
+    public static void palette(DualQuaternionF32[] bones, float[] out) {
+        checkSize(bones.length * PALETTE_STRIDE, out.length);
+        for (int i = 0; i < bones.length; i++) {
+            final var real = bones[i].real();
+            final var dual = bones[i].dual();
+            final int offset = i * PALETTE_STRIDE;
+            out[offset] = real.x();
+            out[offset + 1] = real.y();
+            out[offset + 2] = real.z();
+            out[offset + 3] = real.w();
+            out[offset + 4] = dual.x();
+            out[offset + 5] = dual.y();
+            out[offset + 6] = dual.z();
+            out[offset + 7] = dual.w();
+        }
+    }
+
+    /// Skins the positions, `out` may be `positions`.
+    /// @param joints the bone indices, `BONES_PER_VERTEX` per vertex.
+    /// @param weights the bone weights, `BONES_PER_VERTEX` per vertex.
+    public static void skin(float[] palette, int[] joints, float[] weights, Vec3F32Buffer positions, Vec3F32Buffer out) {
+        transform(palette, joints, weights, positions, out, null, null);
+    }
+
+    /// Skins the positions and rotates the normals with the same blended transformation,
+    ///  `outPositions` may be `positions`, and `outNormals` may be `normals`.
+    public static void skin(float[] palette, int[] joints, float[] weights,
+                            Vec3F32Buffer positions, Vec3F32Buffer normals,
+                            Vec3F32Buffer outPositions, Vec3F32Buffer outNormals) {
+        checkSize(positions.size(), normals.size());
+        checkSize(positions.size(), outNormals.size());
+        transform(palette, joints, weights, positions, outPositions, normals, outNormals);
+    }
+
+    /// @param normals nullable, in which case `outNormals` is ignored.
+    private static void transform(float[] palette, int[] joints, float[] weights,
+                                  Vec3F32Buffer positions, Vec3F32Buffer outPositions,
+                                  Vec3F32Buffer normals, Vec3F32Buffer outNormals) {
+
+        final int size = positions.size();
+        checkSize(size, outPositions.size());
+        checkSize(size * BONES_PER_VERTEX, joints.length);
+        checkSize(size * BONES_PER_VERTEX, weights.length);
+        if (palette.length % PALETTE_STRIDE != 0) throw new IllegalArgumentException("The palette length must be a multiple of " + PALETTE_STRIDE + ", got " + palette.length + ".");
+
+        final float[] px = positions.x(), py = positions.y(), pz = positions.z();
+        final float[] ox = outPositions.x(), oy = outPositions.y(), oz = outPositions.z();
+        final boolean hasNormals = normals != null;
+        final float[] nx = hasNormals ? normals.x() : null, ny = hasNormals ? normals.y() : null, nz = hasNormals ? normals.z() : null;
+        final float[] onx = hasNormals ? outNormals.x() : null, ony = hasNormals ? outNormals.y() : null, onz = hasNormals ? outNormals.z() : null;
+
+        for (int i = 0; i < size; i++) {
+
+            final int slot = i * BONES_PER_VERTEX;
+            final int pivot = joints[slot] * PALETTE_STRIDE;
+            final float pivotX = palette[pivot], pivotY = palette[pivot + 1], pivotZ = palette[pivot + 2], pivotW = palette[pivot + 3];
+
+            float rx = 0f, ry = 0f, rz = 0f, rw = 0f, dx = 0f, dy = 0f, dz = 0f, dw = 0f;
+            for (int k = 0; k < BONES_PER_VERTEX; k++) {
+                final int bone = joints[slot + k] * PALETTE_STRIDE;
+                final float bx = palette[bone], by = palette[bone + 1], bz = palette[bone + 2], bw = palette[bone + 3];
+                // Moves every bone to the hemisphere of the first one, so the blend takes the shortest path.
+                final float dot = pivotX * bx + pivotY * by + pivotZ * bz + pivotW * bw;
+                final float weight = dot < 0f ? -weights[slot + k] : weights[slot + k];
+                rx += bx * weight;
+                ry += by * weight;
+                rz += bz * weight;
+                rw += bw * weight;
+                dx += palette[bone + 4] * weight;
+                dy += palette[bone + 5] * weight;
+                dz += palette[bone + 6] * weight;
+                dw += palette[bone + 7] * weight;
+            }
+
+            // The dual part is not made orthogonal to the real one, since the translation does not depend on it.
+            final float lengthSquared = rx * rx + ry * ry + rz * rz + rw * rw;
+            final float inverse = lengthSquared == 0f ? 0f : (float) (1d / Math.sqrt(lengthSquared));
+            rx *= inverse;
+            ry *= inverse;
+            rz *= inverse;
+            rw *= inverse;
+            dx *= inverse;
+            dy *= inverse;
+            dz *= inverse;
+            dw *= inverse;
+
+            // translation = 2 * (real.w * dual.xyz - dual.w * real.xyz + cross(real.xyz, dual.xyz))
+            final float tx = 2f * (rw * dx - dw * rx + ry * dz - rz * dy);
+            final float ty = 2f * (rw * dy - dw * ry + rz * dx - rx * dz);
+            final float tz = 2f * (rw * dz - dw * rz + rx * dy - ry * dx);
+
+            final float vx = px[i], vy = py[i], vz = pz[i];
+            // v' = v + 2 * cross(real.xyz, cross(real.xyz, v) + real.w * v)
+            final float cx = ry * vz - rz * vy + rw * vx;
+            final float cy = rz * vx - rx * vz + rw * vy;
+            final float cz = rx * vy - ry * vx + rw * vz;
+            ox[i] = vx + 2f * (ry * cz - rz * cy) + tx;
+            oy[i] = vy + 2f * (rz * cx - rx * cz) + ty;
+            oz[i] = vz + 2f * (rx * cy - ry * cx) + tz;
+
+            if (hasNormals) {
+                final float sx = nx[i], sy = ny[i], sz = nz[i];
+                final float mx = ry * sz - rz * sy + rw * sx;
+                final float my = rz * sx - rx * sz + rw * sy;
+                final float mz = rx * sy - ry * sx + rw * sz;
+                onx[i] = sx + 2f * (ry * mz - rz * my);
+                ony[i] = sy + 2f * (rz * mx - rx * mz);
+                onz[i] = sz + 2f * (rx * my - ry * mx);
+            }
+        }
+    }
+
+    private static void checkSize(int expected, int actual) {
+        if (expected != actual) throw new IllegalArgumentException("The array lengths do not match, expected " + expected + " but got " + actual + ".");
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+/// The progress correction of the fast slerp, from Arseny Kapoulkine's "Approximating slerp".\
+/// nlerp moves faster in the middle of the arc than slerp does, the polynomial is fitted to remap the progress,
+///  so nlerp with the remapped progress stays within `1.3e-3` radians of rotation from slerp (measured over 2 million random pairs).
+final class FastSlerp {
+
+    private FastSlerp() {}
+
+    /// @param absDot the absolute dot product of the two quaternions.
+    /// @param alpha the progress in `[0,1]`.
+    /// @return the progress to use with nlerp.
+    static float progress(float absDot, float alpha) {
+        final float a = 1.0904f + absDot * (-3.2452f + absDot * (3.55645f - absDot * 1.43519f));
+        final float b = 0.848013f + absDot * (-1.06021f + absDot * 0.215638f);
+        final float centered = alpha - .5f;
+        final float k = a * centered * centered + b;
+        return alpha + alpha * centered * (alpha - 1f) * k;
+    }
+
+    /// @see #progress(float, float)
+    static double progress(double absDot, double alpha) {
+        final double a = 1.0904d + absDot * (-3.2452d + absDot * (3.55645d - absDot * 1.43519d));
+        final double b = 0.848013d + absDot * (-1.06021d + absDot * 0.215638d);
+        final double centered = alpha - .5d;
+        final double k = a * centered * centered + b;
+        return alpha + alpha * centered * (alpha - 1d) * k;
+    }
+}
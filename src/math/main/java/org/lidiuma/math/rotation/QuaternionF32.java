@@ -21,13 +21,17 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.rotation.Quaternion;
 import org.lidiuma.math.api.traits.rotation.QuaternionOps;
 import org.lidiuma.math.api.tuple.UnaryTuple4;
+import org.lidiuma.math.easing.FloatEasing;
 import org.lidiuma.math.internal.Strict;
+import org.lidiuma.math.matrix.Matrix3F32;
 import org.lidiuma.math.numerics.FloatNumeric;
+import org.lidiuma.math.numerics.TrigPrecision;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
 import org.lidiuma.math.processor.FieldAlias;
 import org.lidiuma.math.processor.NamedAlias;
 import org.lidiuma.math.vector.Vec3F32;
+import org.lidiuma.math.vector.Vec3F32Buffer;
 import static org.lidiuma.math.internal.AnnotationConst.*;
 
 @FactoryAlias(methodName = QUATERNION_FACTORY, outputClass = ROTATION_OUT)
@@ -59,9 +63,15 @@ public value record QuaternionF32(
 
         @Override
         public QuaternionF32 fromAxisAngle(Vec3F32 axis, AngleF32 angle) {
+            return fromAxisAngle(axis, angle, TrigPrecision.STRICT);
+        }
+
+        /// Like [#fromAxisAngle(Vec3F32, AngleF32)], using the trigonometric functions of the provided precision.
+        public QuaternionF32 fromAxisAngle(Vec3F32 axis, AngleF32 angle, TrigPrecision precision) {
             final float half = angle.radian() * .5f;
-            final float sin = Strict.sin(half);
-            final float cos = Strict.cos(half);
+            final var sinCos = precision.sinCos(half);
+            final float sin = sinCos.sin();
+            final float cos = sinCos.cos();
             return of(
                     (axis.x() * sin),
                     (axis.y() * sin),
@@ -72,17 +82,25 @@ public value record QuaternionF32(
 
         @Override
         public QuaternionF32 fromEulerAngle(AngleF32 yaw, AngleF32 pitch, AngleF32 roll) {
+            return fromEulerAngle(yaw, pitch, roll, TrigPrecision.STRICT);
+        }
+
+        /// Like [#fromEulerAngle(AngleF32, AngleF32, AngleF32)], using the trigonometric functions of the provided precision.
+        public QuaternionF32 fromEulerAngle(AngleF32 yaw, AngleF32 pitch, AngleF32 roll, TrigPrecision precision) {
             final float hr = roll.radian() * 0.5f;
-            final float shr = Strict.sin(hr);
-            final float chr = Strict.cos(hr);
+            final var sinCosR = precision.sinCos(hr);
+            final float shr = sinCosR.sin();
+            final float chr = sinCosR.cos();
 
             final float hp = pitch.radian() * 0.5f;
-            final float shp = Strict.sin(hp);
-            final float chp = Strict.cos(hp);
+            final var sinCosP = precision.sinCos(hp);
+            final float shp = sinCosP.sin();
+            final float chp = sinCosP.cos();
 
             final float hy = yaw.radian() * 0.5f;
-            final float shy = Strict.sin(hy);
-            final float chy = Strict.cos(hy);
+            final var sinCosY = precision.sinCos(hy);
+            final float shy = sinCosY.sin();
+            final float chy = sinCosY.cos();
 
             final float chyShp = chy * shp;
             final float shyChp = shy * chp;
@@ -171,6 +189,16 @@ public value record QuaternionF32(
 
         @Override
         public QuaternionF32 slerp(QuaternionF32 start, QuaternionF32 end, Float alpha) {
+            return slerp(start, end, alpha, TrigPrecision.STRICT);
+        }
+
+        /// Like [#slerp(QuaternionF32, QuaternionF32, Float)], with the progress eased first, the easing does not box.
+        public QuaternionF32 slerp(QuaternionF32 start, QuaternionF32 end, float alpha, FloatEasing easing) {
+            return slerp(start, end, easing.ease(alpha), TrigPrecision.STRICT);
+        }
+
+        /// Like [#slerp(QuaternionF32, QuaternionF32, Float)], using the trigonometric functions of the provided precision.
+        public QuaternionF32 slerp(QuaternionF32 start, QuaternionF32 end, float alpha, TrigPrecision precision) {
 
             final float dot = dot(start, end);
             final float absDot = Math.abs(dot);
@@ -180,13 +208,61 @@ public value record QuaternionF32(
             if (absDot > 0.9995f) return normalize(lerp(start, multiply(end, sign), alpha));
 
             final float angle = (float) Math.acos(absDot);
-            final float invSinTheta = (1f / Strict.sin(angle));
+            final float invSinTheta = (1f / precision.sin(angle));
 
-            final float scale0 = (Strict.sin((1f - alpha) * angle) * invSinTheta);
-            final float scale1 = (Strict.sin((alpha * angle)) * invSinTheta);
+            final float scale0 = (precision.sin((1f - alpha) * angle) * invSinTheta);
+            final float scale1 = (precision.sin((alpha * angle)) * invSinTheta);
             return add(multiply(start, scale0), multiply(end, sign * scale1));
         }
 
+        /// An approximation of [#slerp(QuaternionF32, QuaternionF32, Float)] without trigonometric functions,
+        ///  it's nlerp with the progress remapped by a polynomial fitted to the speed of slerp.\
+        /// The result is within `1.3e-3` radians (about `0.075°`) of rotation from slerp,
+        ///  the worst case being two almost opposite rotations.
+        public QuaternionF32 fastSlerp(QuaternionF32 start, QuaternionF32 end, float alpha) {
+            final float dot = dot(start, end);
+            final float sign = dot < 0f ? -1f : 1f;
+            final float progress = FastSlerp.progress(Math.abs(dot), alpha);
+            return normalize(lerp(start, multiply(end, sign), progress));
+        }
+
+        /// Spherical cubic interpolation (squad) from `start` to `end`, `C1` continuous across keyframes.\
+        /// With the controls of [#squadControl(QuaternionF32, QuaternionF32, QuaternionF32)] that only holds for evenly spaced keyframes,
+        ///  the velocity jumps at a key between intervals of different durations.
+        /// For uneven key times, use the outgoing control of `start` and the incoming control of `end`,
+        ///  from [#squadControl(QuaternionF32, QuaternionF32, QuaternionF32, float, float)].
+        /// @param startControl the control point of `start`, from [#squadControl(QuaternionF32, QuaternionF32, QuaternionF32)].
+        /// @param endControl the control point of `end`, from [#squadControl(QuaternionF32, QuaternionF32, QuaternionF32)].
+        public QuaternionF32 squad(QuaternionF32 start, QuaternionF32 startControl, QuaternionF32 endControl, QuaternionF32 end, float alpha) {
+            final var outer = slerp(start, end, alpha);
+            final var inner = slerp(startControl, endControl, alpha);
+            return slerp(outer, inner, 2f * alpha * (1f - alpha));
+        }
+
+        /// The squad control point of `current`, between the `previous` and the `next` keyframes.\
+        /// The neighbours are moved to the hemisphere of `current` first, so the spline takes the shortest arcs.
+        public QuaternionF32 squadControl(QuaternionF32 previous, QuaternionF32 current, QuaternionF32 next) {
+            final var inverse = conjugate(current);
+            final var toPrevious = log(multiply(inverse, dot(current, previous) < 0f ? multiply(previous, -1f) : previous));
+            final var toNext = log(multiply(inverse, dot(current, next) < 0f ? multiply(next, -1f) : next));
+            return multiply(current, exp(multiply(add(toPrevious, toNext), -.25f)));
+        }
+
+        /// The outgoing squad control point of `current`, used by the interval starting at it, for keyframes at uneven times.\
+        /// The tangent at `current` is weighted by the durations of the two intervals, so the spline stays `C1` continuous in time.
+        /// The incoming control point, used by the interval ending at `current`, is `squadControl(next, current, previous, nextDuration, previousDuration)`.
+        /// With equal durations, both are the same as [#squadControl(QuaternionF32, QuaternionF32, QuaternionF32)].
+        /// @param previousDuration the time from `previous` to `current`, positive.
+        /// @param nextDuration the time from `current` to `next`, positive.
+        public QuaternionF32 squadControl(QuaternionF32 previous, QuaternionF32 current, QuaternionF32 next, float previousDuration, float nextDuration) {
+            final var inverse = conjugate(current);
+            final var toPrevious = log(multiply(inverse, dot(current, previous) < 0f ? multiply(previous, -1f) : previous));
+            final var toNext = log(multiply(inverse, dot(current, next) < 0f ? multiply(next, -1f) : next));
+            // The squad velocity leaving current is toNext + 2 * log(control), it must match the tangent scaled to the next interval.
+            final var tangent = multiply(add(toNext, multiply(toPrevious, -1f)), nextDuration / (previousDuration + nextDuration));
+            return multiply(current, exp(multiply(add(tangent, multiply(toNext, -1f)), .5f)));
+        }
+
         @Override
         public Vec3F32 rotate(QuaternionF32 quaternion, Vec3F32 vector) {
             final var conjugate = conjugate(quaternion);
@@ -203,6 +279,66 @@ public value record QuaternionF32(
             return new Vec3F32(unrotated.x(), unrotated.y(), unrotated.z());
         }
 
+        /// Converts the quaternion into the 3x3 matrix applying the same rotation as [#rotate(QuaternionF32, Vec3F32)].\
+        /// The homogeneous form is used, so non-unit quaternions scale the vectors exactly like rotate() does.
+        public Matrix3F32 rotationMatrix(QuaternionF32 quaternion) {
+
+            final float x = quaternion.x(), y = quaternion.y(), z = quaternion.z(), w = quaternion.w();
+            final float xx = x * x, yy = y * y, zz = z * z, ww = w * w;
+            final float xy = x * y, xz = x * z, yz = y * z;
+            final float wx = w * x, wy = w * y, wz = w * z;
+
+            return new Matrix3F32(
+                    ww + xx - yy - zz, 2f * (xy - wz)   , 2f * (xz + wy),
+                    2f * (xy + wz)   , ww - xx + yy - zz, 2f * (yz - wx),
+                    2f * (xz - wy)   , 2f * (yz + wx)   , ww - xx - yy + zz
+            );
+        }
+
+        /// Rotates every vector of the interleaved `[x0, y0, z0, x1, y1, z1, ...]` array, like [#rotate(QuaternionF32, Vec3F32)].\
+        /// The quaternion is converted once by [#rotationMatrix(QuaternionF32)], so each vector costs 9 multiplications
+        ///  instead of two quaternion multiplications, and no intermediate values are created.
+        /// @param out the destination array, it can be the same array as `xyz`.
+        public void rotateAll(QuaternionF32 quaternion, float[] xyz, float[] out) {
+
+            if (xyz.length % 3 != 0) throw new IllegalArgumentException("The array length must be a multiple of 3, provided: " + xyz.length + ".");
+            if (out.length != xyz.length) throw new IllegalArgumentException("The output length must be " + xyz.length + ", provided: " + out.length + ".");
+
+            final var matrix = rotationMatrix(quaternion);
+            final float m00 = matrix.m00(), m01 = matrix.m01(), m02 = matrix.m02();
+            final float m10 = matrix.m10(), m11 = matrix.m11(), m12 = matrix.m12();
+            final float m20 = matrix.m20(), m21 = matrix.m21(), m22 = matrix.m22();
+
+            for (int i = 0; i < xyz.length; i += 3) {
+                final float vx = xyz[i], vy = xyz[i + 1], vz = xyz[i + 2];
+                out[i]     = m00 * vx + m01 * vy + m02 * vz;
+                out[i + 1] = m10 * vx + m11 * vy + m12 * vz;
+                out[i + 2] = m20 * vx + m21 * vy + m22 * vz;
+            }
+        }
+
+        /// Rotates every vector of the buffer, like [#rotateAll(QuaternionF32, float[], float[])].
+        /// @param out the destination buffer, it can be the same buffer as `vectors`.
+        public void rotateAll(QuaternionF32 quaternion, Vec3F32Buffer vectors, Vec3F32Buffer out) {
+
+            final int size = vectors.size();
+            if (out.size() != size) throw new IllegalArgumentException("The output size must be " + size + ", provided: " + out.size() + ".");
+
+            final var matrix = rotationMatrix(quaternion);
+            final float m00 = matrix.m00(), m01 = matrix.m01(), m02 = matrix.m02();
+            final float m10 = matrix.m10(), m11 = matrix.m11(), m12 = matrix.m12();
+            final float m20 = matrix.m20(), m21 = matrix.m21(), m22 = matrix.m22();
+
+            final float[] inX = vectors.x(), inY = vectors.y(), inZ = vectors.z();
+            final float[] outX = out.x(), outY = out.y(), outZ = out.z();
+            for (int i = 0; i < size; i++) {
+                final float vx = inX[i], vy = inY[i], vz = inZ[i];
+                outX[i] = m00 * vx + m01 * vy + m02 * vz;
+                outY[i] = m10 * vx + m11 * vy + m12 * vz;
+                outZ[i] = m20 * vx + m21 * vy + m22 * vz;
+            }
+        }
+
         @Override
         public AxisAngleF32 axisAngle(QuaternionF32 quaternion, Float epsilon) {
 
@@ -291,7 +427,7 @@ public value record QuaternionF32(
                     op1.w() * op2.x() + op1.x() * op2.w() + op1.y() * op2.z() - op1.z() * op2.y(),
                     op1.w() * op2.y() + op1.y() * op2.w() + op1.z() * op2.x() - op1.x() * op2.z(),
                     op1.w() * op2.z() + op1.z() * op2.w() + op1.x() * op2.y() - op1.y() * op2.x(),
-                    op1.w() * op2.w() - op1.x() * op2.x() - op1.y() * op2.y() + op1.z() * op2.z()
+                    op1.w() * op2.w() - op1.x() * op2.x() - op1.y() * op2.y() - op1.z() * op2.z()
             );
         }
     }
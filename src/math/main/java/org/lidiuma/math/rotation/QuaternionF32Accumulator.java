@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+/// A weighted average of [QuaternionF32] with primitive fields, it never allocates while accumulating.\
+/// `q` and `-q` represent the same rotation, so every quaternion is flipped into the hemisphere of the first one before being added,
+///  the result is the normalized weighted sum, which is a good approximation of the mean rotation when the inputs are close.
+public final class QuaternionF32Accumulator {
+
+    private float x, y, z, w;
+    private float referenceX, referenceY, referenceZ, referenceW;
+    private float totalWeight;
+    private boolean empty = true;
+
+    public QuaternionF32Accumulator add(QuaternionF32 quaternion) {
+        return add(quaternion, 1f);
+    }
+
+    /// @param weight must be positive.
+    public QuaternionF32Accumulator add(QuaternionF32 quaternion, float weight) {
+        if (!(weight > 0f)) throw new IllegalArgumentException("The weight must be positive, got " + weight + ".");
+        final float qx = quaternion.x(), qy = quaternion.y(), qz = quaternion.z(), qw = quaternion.w();
+        if (empty) {
+            referenceX = qx;
+            referenceY = qy;
+            referenceZ = qz;
+            referenceW = qw;
+            empty = false;
+        }
+        final float dot = qx * referenceX + qy * referenceY + qz * referenceZ + qw * referenceW;
+        final float signed = dot < 0f ? -weight : weight;
+        x += qx * signed;
+        y += qy * signed;
+        z += qz * signed;
+        w += qw * signed;
+        totalWeight += weight;
+        return this;
+    }
+
+    public QuaternionF32Accumulator reset() {
+        x = y = z = w = 0f;
+        referenceX = referenceY = referenceZ = referenceW = 0f;
+        totalWeight = 0f;
+        empty = true;
+        return this;
+    }
+
+    /// @return the sum of the weights.
+    public float totalWeight() {
+        return totalWeight;
+    }
+
+    /// @return the normalized weighted average, or the identity if empty.
+    public QuaternionF32 result() {
+        final float length = (float) Math.sqrt(x * x + y * y + z * z + w * w);
+        if (length == 0f) return new QuaternionF32(0f, 0f, 0f, 1f);
+        final float inverse = 1f / length;
+        return new QuaternionF32(x * inverse, y * inverse, z * inverse, w * inverse);
+    }
+}
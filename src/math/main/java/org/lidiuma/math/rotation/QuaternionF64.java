@@ -21,13 +21,17 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.rotation.Quaternion;
 import org.lidiuma.math.api.traits.rotation.QuaternionOps;
 import org.lidiuma.math.api.tuple.UnaryTuple4;
+import org.lidiuma.math.easing.DoubleEasing;
 import org.lidiuma.math.internal.Strict;
+import org.lidiuma.math.matrix.Matrix3F64;
 import org.lidiuma.math.numerics.DoubleNumeric;
+import org.lidiuma.math.numerics.TrigPrecision;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
 import org.lidiuma.math.processor.FieldAlias;
 import org.lidiuma.math.processor.NamedAlias;
 import org.lidiuma.math.vector.Vec3F64;
+import org.lidiuma.math.vector.Vec3F64Buffer;
 import static org.lidiuma.math.internal.AnnotationConst.*;
 
 @FactoryAlias(methodName = QUATERNION_FACTORY, outputClass = ROTATION_OUT)
@@ -59,9 +63,15 @@ public value record QuaternionF64(
 
         @Override
         public QuaternionF64 fromAxisAngle(Vec3F64 axis, AngleF64 angle) {
+            return fromAxisAngle(axis, angle, TrigPrecision.STRICT);
+        }
+
+        /// Like [#fromAxisAngle(Vec3F64, AngleF64)], using the trigonometric functions of the provided precision.
+        public QuaternionF64 fromAxisAngle(Vec3F64 axis, AngleF64 angle, TrigPrecision precision) {
             final double half = angle.radian() * .5d;
-            final double sin = Strict.sin(half);
-            final double cos = Strict.cos(half);
+            final var sinCos = precision.sinCos(half);
+            final double sin = sinCos.sin();
+            final double cos = sinCos.cos();
             return of(
                     (axis.x() * sin),
                     (axis.y() * sin),
@@ -72,17 +82,25 @@ public value record QuaternionF64(
 
         @Override
         public QuaternionF64 fromEulerAngle(AngleF64 yaw, AngleF64 pitch, AngleF64 roll) {
+            return fromEulerAngle(yaw, pitch, roll, TrigPrecision.STRICT);
+        }
+
+        /// Like [#fromEulerAngle(AngleF64, AngleF64, AngleF64)], using the trigonometric functions of the provided precision.
+        public QuaternionF64 fromEulerAngle(AngleF64 yaw, AngleF64 pitch, AngleF64 roll, TrigPrecision precision) {
             final double hr = roll.radian() * 0.5d;
-            final double shr = Strict.sin(hr);
-            final double chr = Strict.cos(hr);
+            final var sinCosR = precision.sinCos(hr);
+            final double shr = sinCosR.sin();
+            final double chr = sinCosR.cos();
 
             final double hp = pitch.radian() * 0.5d;
-            final double shp = Strict.sin(hp);
-            final double chp = Strict.cos(hp);
+            final var sinCosP = precision.sinCos(hp);
+            final double shp = sinCosP.sin();
+            final double chp = sinCosP.cos();
 
             final double hy = yaw.radian() * 0.5d;
-            final double shy = Strict.sin(hy);
-            final double chy = Strict.cos(hy);
+            final var sinCosY = precision.sinCos(hy);
+            final double shy = sinCosY.sin();
+            final double chy = sinCosY.cos();
 
             final double chyShp = chy * shp;
             final double shyChp = shy * chp;
@@ -171,6 +189,16 @@ public value record QuaternionF64(
 
         @Override
         public QuaternionF64 slerp(QuaternionF64 start, QuaternionF64 end, Double alpha) {
+            return slerp(start, end, alpha, TrigPrecision.STRICT);
+        }
+
+        /// Like [#slerp(QuaternionF64, QuaternionF64, Double)], with the progress eased first, the easing does not box.
+        public QuaternionF64 slerp(QuaternionF64 start, QuaternionF64 end, double alpha, DoubleEasing easing) {
+            return slerp(start, end, easing.ease(alpha), TrigPrecision.STRICT);
+        }
+
+        /// Like [#slerp(QuaternionF64, QuaternionF64, Double)], using the trigonometric functions of the provided precision.
+        public QuaternionF64 slerp(QuaternionF64 start, QuaternionF64 end, double alpha, TrigPrecision precision) {
 
             final double dot = dot(start, end);
             final double absDot = Math.abs(dot);
@@ -180,13 +208,61 @@ public value record QuaternionF64(
             if (absDot > 0.9995f) return normalize(lerp(start, multiply(end, sign), alpha));
 
             final double angle = Math.acos(absDot);
-            final double invSinTheta = 1d / Strict.sin(angle);
+            final double invSinTheta = 1d / precision.sin(angle);
 
-            final double scale0 = Strict.sin((1d - alpha) * angle) * invSinTheta;
-            final double scale1 = Strict.sin((alpha * angle)) * invSinTheta;
+            final double scale0 = precision.sin((1d - alpha) * angle) * invSinTheta;
+            final double scale1 = precision.sin((alpha * angle)) * invSinTheta;
             return add(multiply(start, scale0), multiply(end, sign * scale1));
         }
 
+        /// An approximation of [#slerp(QuaternionF64, QuaternionF64, Double)] without trigonometric functions,
+        ///  it's nlerp with the progress remapped by a polynomial fitted to the speed of slerp.\
+        /// The result is within `1.3e-3` radians (about `0.075°`) of rotation from slerp,
+        ///  the worst case being two almost opposite rotations.
+        public QuaternionF64 fastSlerp(QuaternionF64 start, QuaternionF64 end, double alpha) {
+            final double dot = dot(start, end);
+            final double sign = dot < 0d ? -1d : 1d;
+            final double progress = FastSlerp.progress(Math.abs(dot), alpha);
+            return normalize(lerp(start, multiply(end, sign), progress));
+        }
+
+        /// Spherical cubic interpolation (squad) from `start` to `end`, `C1` continuous across keyframes.\
+        /// With the controls of [#squadControl(QuaternionF64, QuaternionF64, QuaternionF64)] that only holds for evenly spaced keyframes,
+        ///  the velocity jumps at a key between intervals of different durations.
+        /// For uneven key times, use the outgoing control of `start` and the incoming control of `end`,
+        ///  from [#squadControl(QuaternionF64, QuaternionF64, QuaternionF64, double, double)].
+        /// @param startControl the control point of `start`, from [#squadControl(QuaternionF64, QuaternionF64, QuaternionF64)].
+        /// @param endControl the control point of `end`, from [#squadControl(QuaternionF64, QuaternionF64, QuaternionF64)].
+        public QuaternionF64 squad(QuaternionF64 start, QuaternionF64 startControl, QuaternionF64 endControl, QuaternionF64 end, double alpha) {
+            final var outer = slerp(start, end, alpha);
+            final var inner = slerp(startControl, endControl, alpha);
+            return slerp(outer, inner, 2d * alpha * (1d - alpha));
+        }
+
+        /// The squad control point of `current`, between the `previous` and the `next` keyframes.\
+        /// The neighbours are moved to the hemisphere of `current` first, so the spline takes the shortest arcs.
+        public QuaternionF64 squadControl(QuaternionF64 previous, QuaternionF64 current, QuaternionF64 next) {
+            final var inverse = conjugate(current);
+            final var toPrevious = log(multiply(inverse, dot(current, previous) < 0d ? multiply(previous, -1d) : previous));
+            final var toNext = log(multiply(inverse, dot(current, next) < 0d ? multiply(next, -1d) : next));
+            return multiply(current, exp(multiply(add(toPrevious, toNext), -.25d)));
+        }
+
+        /// The outgoing squad control point of `current`, used by the interval starting at it, for keyframes at uneven times.\
+        /// The tangent at `current` is weighted by the durations of the two intervals, so the spline stays `C1` continuous in time.
+        /// The incoming control point, used by the interval ending at `current`, is `squadControl(next, current, previous, nextDuration, previousDuration)`.
+        /// With equal durations, both are the same as [#squadControl(QuaternionF64, QuaternionF64, QuaternionF64)].
+        /// @param previousDuration the time from `previous` to `current`, positive.
+        /// @param nextDuration the time from `current` to `next`, positive.
+        public QuaternionF64 squadControl(QuaternionF64 previous, QuaternionF64 current, QuaternionF64 next, double previousDuration, double nextDuration) {
+            final var inverse = conjugate(current);
+            final var toPrevious = log(multiply(inverse, dot(current, previous) < 0d ? multiply(previous, -1d) : previous));
+            final var toNext = log(multiply(inverse, dot(current, next) < 0d ? multiply(next, -1d) : next));
+            // The squad velocity leaving current is toNext + 2 * log(control), it must match the tangent scaled to the next interval.
+            final var tangent = multiply(add(toNext, multiply(toPrevious, -1d)), nextDuration / (previousDuration + nextDuration));
+            return multiply(current, exp(multiply(add(tangent, multiply(toNext, -1d)), .5d)));
+        }
+
         @Override
         public Vec3F64 rotate(QuaternionF64 quaternion, Vec3F64 vector) {
             final var conjugate = conjugate(quaternion);
@@ -203,6 +279,66 @@ public value record QuaternionF64(
             return new Vec3F64(unrotated.x(), unrotated.y(), unrotated.z());
         }
 
+        /// Converts the quaternion into the 3x3 matrix applying the same rotation as [#rotate(QuaternionF64, Vec3F64)].\
+        /// The homogeneous form is used, so non-unit quaternions scale the vectors exactly like rotate() does.
+        public Matrix3F64 rotationMatrix(QuaternionF64 quaternion) {
+
+            final double x = quaternion.x(), y = quaternion.y(), z = quaternion.z(), w = quaternion.w();
+            final double xx = x * x, yy = y * y, zz = z * z, ww = w * w;
+            final double xy = x * y, xz = x * z, yz = y * z;
+            final double wx = w * x, wy = w * y, wz = w * z;
+
+            return new Matrix3F64(
+                    ww + xx - yy - zz, 2d * (xy - wz)   , 2d * (xz + wy),
+                    2d * (xy + wz)   , ww - xx + yy - zz, 2d * (yz - wx),
+                    2d * (xz - wy)   , 2d * (yz + wx)   , ww - xx - yy + zz
+            );
+        }
+
+        /// Rotates every vector of the interleaved `[x0, y0, z0, x1, y1, z1, ...]` array, like [#rotate(QuaternionF64, Vec3F64)].\
+        /// The quaternion is converted once by [#rotationMatrix(QuaternionF64)], so each vector costs 9 multiplications
+        ///  instead of two quaternion multiplications, and no intermediate values are created.
+        /// @param out the destination array, it can be the same array as `xyz`.
+        public void rotateAll(QuaternionF64 quaternion, double[] xyz, double[] out) {
+
+            if (xyz.length % 3 != 0) throw new IllegalArgumentException("The array length must be a multiple of 3, provided: " + xyz.length + ".");
+            if (out.length != xyz.length) throw new IllegalArgumentException("The output length must be " + xyz.length + ", provided: " + out.length + ".");
+
+            final var matrix = rotationMatrix(quaternion);
+            final double m00 = matrix.m00(), m01 = matrix.m01(), m02 = matrix.m02();
+            final double m10 = matrix.m10(), m11 = matrix.m11(), m12 = matrix.m12();
+            final double m20 = matrix.m20(), m21 = matrix.m21(), m22 = matrix.m22();
+
+            for (int i = 0; i < xyz.length; i += 3) {
+                final double vx = xyz[i], vy = xyz[i + 1], vz = xyz[i + 2];
+                out[i]     = m00 * vx + m01 * vy + m02 * vz;
+                out[i + 1] = m10 * vx + m11 * vy + m12 * vz;
+                out[i + 2] = m20 * vx + m21 * vy + m22 * vz;
+            }
+        }
+
+        /// Rotates every vector of the buffer, like [#rotateAll(QuaternionF64, double[], double[])].
+        /// @param out the destination buffer, it can be the same buffer as `vectors`.
+        public void rotateAll(QuaternionF64 quaternion, Vec3F64Buffer vectors, Vec3F64Buffer out) {
+
+            final int size = vectors.size();
+            if (out.size() != size) throw new IllegalArgumentException("The output size must be " + size + ", provided: " + out.size() + ".");
+
+            final var matrix = rotationMatrix(quaternion);
+            final double m00 = matrix.m00(), m01 = matrix.m01(), m02 = matrix.m02();
+            final double m10 = matrix.m10(), m11 = matrix.m11(), m12 = matrix.m12();
+            final double m20 = matrix.m20(), m21 = matrix.m21(), m22 = matrix.m22();
+
+            final double[] inX = vectors.x(), inY = vectors.y(), inZ = vectors.z();
+            final double[] outX = out.x(), outY = out.y(), outZ = out.z();
+            for (int i = 0; i < size; i++) {
+                final double vx = inX[i], vy = inY[i], vz = inZ[i];
+                outX[i] = m00 * vx + m01 * vy + m02 * vz;
+                outY[i] = m10 * vx + m11 * vy + m12 * vz;
+                outZ[i] = m20 * vx + m21 * vy + m22 * vz;
+            }
+        }
+
         @Override
         public AxisAngleF64 axisAngle(QuaternionF64 quaternion, Double epsilon) {
 
@@ -291,7 +427,7 @@ public value record QuaternionF64(
                     op1.w() * op2.x() + op1.x() * op2.w() + op1.y() * op2.z() - op1.z() * op2.y(),
                     op1.w() * op2.y() + op1.y() * op2.w() + op1.z() * op2.x() - op1.x() * op2.z(),
                     op1.w() * op2.z() + op1.z() * op2.w() + op1.x() * op2.y() - op1.y() * op2.x(),
-                    op1.w() * op2.w() - op1.x() * op2.x() - op1.y() * op2.y() + op1.z() * op2.z()
+                    op1.w() * op2.w() - op1.x() * op2.x() - op1.y() * op2.y() - op1.z() * op2.z()
             );
         }
     }
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.rotation;
+
+import java.util.Objects;
+
+/// The rotation keyframes of many tracks (e.g. the bones of a skeleton) sharing the same key times,
+///  sampled all at once for a single time value.\
+/// The keys are stored in structure of arrays, key-major: the component of a track at a key is at `key * tracks() + track`,
+///  so sampling reads two contiguous runs of each array, and the loops over the tracks have no branches.
+///
+/// On construction every key is moved to the hemisphere of the previous key of its track, so the samplers take the shortest arc
+///  without checking the sign, and the squad control points are precomputed.
+/// The outputs are planar `x`, `y`, `z`, `w` arrays of [#tracks()] elements, nothing is allocated while sampling.
+public final class QuaternionKeyframesF32 {
+
+    private final float[] times;
+    private final int tracks;
+    private final float[] x;
+    private final float[] y;
+    private final float[] z;
+    private final float[] w;
+    // The squad control points, same layout as the keys.
+    // The keys may be unevenly spaced, so each one has an outgoing control for the interval it starts, and an incoming one for the interval it ends.
+    private final float[] outgoingX;
+    private final float[] outgoingY;
+    private final float[] outgoingZ;
+    private final float[] outgoingW;
+    private final float[] incomingX;
+    private final float[] incomingY;
+    private final float[] incomingZ;
+    private final float[] incomingW;
+
+    /// The component arrays are copied.
+    /// @param times the key times, strictly increasing, at least one.
+    /// @param tracks the number of tracks.
+    /// @param x the `x` of the unit quaternions, `times.length * tracks` elements, key-major.
+    public QuaternionKeyframesF32(float[] times, int tracks, float[] x, float[] y, float[] z, float[] w) {
+
+        if (times.length == 0) throw new IllegalArgumentException("At least one key is required.");
+        if (tracks < 0) throw new IllegalArgumentException("The number of tracks cannot be negative, got " + tracks + ".");
+        for (int i = 1; i < times.length; i++) {
+            if (!(times[i] > times[i - 1])) throw new IllegalArgumentException("The key times must be strictly increasing, got " + times[i - 1] + " and then " + times[i] + ".");
+        }
+        final int size = Math.multiplyExact(times.length, tracks);
+        checkSize(size, x.length, y.length, z.length, w.length);
+
+        this.times = times.clone();
+        this.tracks = tracks;
+        this.x = x.clone();
+        this.y = y.clone();
+        this.z = z.clone();
+        this.w = w.clone();
+        alignHemispheres();
+
+        this.outgoingX = new float[size];
+        this.outgoingY = new float[size];
+        this.outgoingZ = new float[size];
+        this.outgoingW = new float[size];
+        this.incomingX = new float[size];
+        this.incomingY = new float[size];
+        this.incomingZ = new float[size];
+        this.incomingW = new float[size];
+        computeControls();
+    }
+
+    public int keys() {
+        return times.length;
+    }
+
+    public int tracks() {
+        return tracks;
+    }
+
+    public float startTime() {
+        return times[0];
+    }
+
+    public float endTime() {
+        return times[times.length - 1];
+    }
+
+    /// @return the key of the aligned rotation of a track, it may be the negation of the provided one.
+    public QuaternionF32 key(int key, int track) {
+        Objects.checkIndex(key, times.length);
+        final int index = key * tracks + Objects.checkIndex(track, tracks);
+        return new QuaternionF32(x[index], y[index], z[index], w[index]);
+    }
+
+    /// Samples every track at `time` with [QuaternionF32.Ops#fastSlerp(QuaternionF32, QuaternionF32, float)],
+    ///  the time is clamped to the keys.
+    public void sample(float time, float[] outX, float[] outY, float[] outZ, float[] outW) {
+        checkSize(tracks, outX.length, outY.length, outZ.length, outW.length);
+        final int key = key(time);
+        final int start = key * tracks;
+        final int end = Math.min(key + 1, times.length - 1) * tracks;
+        final float alpha = alpha(key, time);
+        for (int i = 0; i < tracks; i++) {
+            final float x0 = x[start + i], y0 = y[start + i], z0 = z[start + i], w0 = w[start + i];
+            final float x1 = x[end + i], y1 = y[end + i], z1 = z[end + i], w1 = w[end + i];
+            // The keys are aligned, so the dot product is never negative.
+            final float dot = x0 * x1 + y0 * y1 + z0 * z1 + w0 * w1;
+            final float progress = FastSlerp.progress(dot, alpha);
+            final float rx = x0 + (x1 - x0) * progress;
+            final float ry = y0 + (y1 - y0) * progress;
+            final float rz = z0 + (z1 - z0) * progress;
+            final float rw = w0 + (w1 - w0) * progress;
+            final float inverse = inverseLength(rx, ry, rz, rw);
+            outX[i] = rx * inverse;
+            outY[i] = ry * inverse;
+            outZ[i] = rz * inverse;
+            outW[i] = rw * inverse;
+        }
+    }
+
+    /// Samples every track at `time` with squad, the time is clamped to the keys.\
+    /// The control points weight the tangents by the durations of the intervals around each key, so the motion is `C1` continuous in time
+    ///  even when the keys aren't evenly spaced.
+    /// The three slerps of each squad use the [fast slerp][QuaternionF32.Ops#fastSlerp(QuaternionF32, QuaternionF32, float)] approximation.
+    public void sampleSquad(float time, float[] outX, float[] outY, float[] outZ, float[] outW) {
+        checkSize(tracks, outX.length, outY.length, outZ.length, outW.length);
+        final int key = key(time);
+        final int start = key * tracks;
+        final int end = Math.min(key + 1, times.length - 1) * tracks;
+        final float alpha = alpha(key, time);
+        final float innerAlpha = 2f * alpha * (1f - alpha);
+        for (int i = 0; i < tracks; i++) {
+            final int s = start + i, e = end + i;
+
+            // The keys are aligned, the control points might not be.
+            final float keyProgress = FastSlerp.progress(x[s] * x[e] + y[s] * y[e] + z[s] * z[e] + w[s] * w[e], alpha);
+            float ox = x[s] + (x[e] - x[s]) * keyProgress;
+            float oy = y[s] + (y[e] - y[s]) * keyProgress;
+            float oz = z[s] + (z[e] - z[s]) * keyProgress;
+            float ow = w[s] + (w[e] - w[s]) * keyProgress;
+            final float outerInverse = inverseLength(ox, oy, oz, ow);
+            ox *= outerInverse;
+            oy *= outerInverse;
+            oz *= outerInverse;
+            ow *= outerInverse;
+
+            final float cx0 = outgoingX[s], cy0 = outgoingY[s], cz0 = outgoingZ[s], cw0 = outgoingW[s];
+            final float cx1 = incomingX[e], cy1 = incomingY[e], cz1 = incomingZ[e], cw1 = incomingW[e];
+            final float controlDot = cx0 * cx1 + cy0 * cy1 + cz0 * cz1 + cw0 * cw1;
+            final float controlSign = controlDot < 0f ? -1f : 1f;
+            final float controlProgress = FastSlerp.progress(Math.abs(controlDot), alpha);
+            float ix = cx0 + (controlSign * cx1 - cx0) * controlProgress;
+            float iy = cy0 + (controlSign * cy1 - cy0) * controlProgress;
+            float iz = cz0 + (controlSign * cz1 - cz0) * controlProgress;
+            float iw = cw0 + (controlSign * cw1 - cw0) * controlProgress;
+            final float innerInverse = inverseLength(ix, iy, iz, iw);
+            ix *= innerInverse;
+            iy *= innerInverse;
+            iz *= innerInverse;
+            iw *= innerInverse;
+
+            final float dot = ox * ix + oy * iy + oz * iz + ow * iw;
+            final float sign = dot < 0f ? -1f : 1f;
+            final float progress = FastSlerp.progress(Math.abs(dot), innerAlpha);
+            final float rx = ox + (sign * ix - ox) * progress;
+            final float ry = oy + (sign * iy - oy) * progress;
+            final float rz = oz + (sign * iz - oz) * progress;
+            final float rw = ow + (sign * iw - ow) * progress;
+            final float inverse = inverseLength(rx, ry, rz, rw);
+            outX[i] = rx * inverse;
+            outY[i] = ry * inverse;
+            outZ[i] = rz * inverse;
+            outW[i] = rw * inverse;
+        }
+    }
+
+    /// @return the key starting the interval containing `time`, the last interval also contains the times after it.
+    private int key(float time) {
+        final float[] times = this.times;
+        if (times.length == 1 || !(time > times[0])) return 0;
+        int low = 0, high = times.length - 1;
+        if (time >= times[high]) return high - 1;
+        while (high - low > 1) {
+            final int middle = (low + high) >>> 1;
+            if (times[middle] <= time) low = middle;
+            else high = middle;
+        }
+        return low;
+    }
+
+    private float alpha(int key, float time) {
+        if (key + 1 >= times.length) return 0f;
+        final float start = times[key];
+        final float alpha = (time - start) / (times[key + 1] - start);
+        return alpha > 0f ? Math.min(alpha, 1f) : 0f;
+    }
+
+    private static float inverseLength(float x, float y, float z, float w) {
+        return (float) (1d / Math.sqrt(x * x + y * y + z * z + w * w));
+    }
+
+    private void alignHemispheres() {
+        for (int key = 1; key < times.length; key++) {
+            for (int track = 0; track < tracks; track++) {
+                final int previous = (key - 1) * tracks + track, current = key * tracks + track;
+                final float dot = x[previous] * x[current] + y[previous] * y[current] + z[previous] * z[current] + w[previous] * w[current];
+                if (dot >= 0f) continue;
+                x[current] = -x[current];
+                y[current] = -y[current];
+                z[current] = -z[current];
+                w[current] = -w[current];
+            }
+        }
+    }
+
+    /// The squad controls of every key, see [QuaternionF32.Ops#squadControl(QuaternionF32, QuaternionF32, QuaternionF32, float, float)].
+    private void computeControls() {
+        final var ops = QuaternionF32.OPS;
+        final int last = times.length - 1;
+        for (int key = 0; key <= last; key++) {
+            // The end keys use themselves as the missing neighbour, with the duration of their only interval.
+            final float previousDuration = key > 0 ? times[key] - times[key - 1] : key < last ? times[key + 1] - times[key] : 1f;
+            final float nextDuration = key < last ? times[key + 1] - times[key] : previousDuration;
+            for (int track = 0; track < tracks; track++) {
+                final var previous = key(Math.max(key - 1, 0), track);
+                final var current = key(key, track);
+                final var next = key(Math.min(key + 1, last), track);
+                final var outgoing = ops.squadControl(previous, current, next, previousDuration, nextDuration);
+                final var incoming = ops.squadControl(next, current, previous, nextDuration, previousDuration);
+                final int index = key * tracks + track;
+                outgoingX[index] = outgoing.x();
+                outgoingY[index] = outgoing.y();
+                outgoingZ[index] = outgoing.z();
+                outgoingW[index] = outgoing.w();
+                incomingX[index] = incoming.x();
+                incomingY[index] = incoming.y();
+                incomingZ[index] = incoming.z();
+                incomingW[index] = incoming.w();
+            }
+        }
+    }
+
+    private static void checkSize(int expected, int actual1, int actual2, int actual3, int actual4) {
+        checkSize(expected, actual1);
+        checkSize(expected, actual2);
+        checkSize(expected, actual3);
+        checkSize(expected, actual4);
+    }
+
+    private static void checkSize(int expected, int actual) {
+        if (expected != actual) throw new IllegalArgumentException("The array lengths do not match, expected " + expected + " but got " + actual + ".");
+    }
+}
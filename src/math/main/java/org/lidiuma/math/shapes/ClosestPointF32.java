@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shapes;
+
+import jdk.internal.vm.annotation.LooselyConsistentValue;
+import jdk.internal.vm.annotation.NullRestricted;
+import org.lidiuma.math.vector.Vec3F32;
+
+/// The closest point of a mesh to a query point, an empty mesh has a negative triangle index and an infinite distance.
+@LooselyConsistentValue
+public value record ClosestPointF32(
+        @NullRestricted Integer triangle,
+        @NullRestricted Vec3F32 point,
+        @NullRestricted Float distanceSquared
+) {
+
+    public boolean found() {
+        return triangle >= 0;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shapes;
+
+import jdk.internal.vm.annotation.LooselyConsistentValue;
+import jdk.internal.vm.annotation.NullRestricted;
+
+/// The closest intersection of a ray, `(u, v)` are the barycentric coordinates along `ab` and `ac` of the hit triangle.\
+/// A miss has a negative triangle index and an infinite distance, see [#MISS].
+@LooselyConsistentValue
+public value record RayHitF32(
+        @NullRestricted Integer triangle,
+        @NullRestricted Float distance,
+        @NullRestricted Float u,
+        @NullRestricted Float v
+) {
+
+    public static final RayHitF32 MISS = new RayHitF32(-1, Float.POSITIVE_INFINITY, 0f, 0f);
+
+    public boolean hit() {
+        return triangle >= 0;
+    }
+}
@@ -0,0 +1,663 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shapes;
+
+import org.lidiuma.math.shapes.rectangle.Rect3F32;
+import org.lidiuma.math.shapes.triangle.RayTriangleF32;
+import org.lidiuma.math.shapes.triangle.Triangle3F32;
+import org.lidiuma.math.vector.Vec3F32;
+import org.lidiuma.math.vector.Vec3F32Buffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/// A bounding volume hierarchy over triangles, built with the binned surface area heuristic.\
+/// A triangle `i` is `origins[i]`, `origins[i] + ab[i]`, `origins[i] + ac[i]`, like [Triangle3F32] placed at an origin.
+/// The nodes are flattened into primitive arrays: 6 bounds and 2 ints (first child or first triangle, triangle count) per node,
+///  the two children of a node are always next to each other, and always after their parent.
+/// @apiNote the buffers are shared, not copied, call [#refit()] after moving the vertices in place.
+public final class TriangleBvhF32 {
+
+    private static final int BINS = 16;
+    /// Nodes with this many triangles or fewer are always leaves.
+    private static final int MIN_LEAF_SIZE = 2;
+    /// Nodes with more triangles are always split, even if the heuristic would prefer a leaf.
+    private static final int MAX_LEAF_SIZE = 16;
+    /// The cost of visiting a node, relative to the cost of intersecting one triangle.
+    private static final float TRAVERSAL_COST = 1f;
+    /// Subtrees with fewer triangles are built by the current thread.
+    private static final int PARALLEL_THRESHOLD = 4096;
+    /// Refit tasks are forked only up to this depth.
+    private static final int PARALLEL_DEPTH = 6;
+    /// The traversal stack of the queries, reused by every query of the thread.
+    private static final ThreadLocal<int[]> STACKS = new ThreadLocal<>();
+
+    private final Vec3F32Buffer origins;
+    private final Vec3F32Buffer ab;
+    private final Vec3F32Buffer ac;
+    /// The triangle indices, grouped by leaf.
+    private final int[] indices;
+    private final float[] bounds;
+    private final int[] nodes;
+    private final int nodeCount;
+    private final int depth;
+
+    private TriangleBvhF32(Vec3F32Buffer origins, Vec3F32Buffer ab, Vec3F32Buffer ac) {
+
+        final int size = origins.size();
+        if (ab.size() != size || ac.size() != size) throw new IllegalArgumentException("The triangle buffers must have the same size.");
+        this.origins = origins;
+        this.ab = ab;
+        this.ac = ac;
+        this.indices = IntStream.range(0, size).toArray();
+
+        // A binary tree with one triangle per leaf has at most 2n - 1 nodes.
+        final int capacity = Math.max(1, 2 * size - 1);
+        this.bounds = new float[capacity * 6];
+        this.nodes = new int[capacity * 2];
+
+        final var builder = new Builder(size);
+        if (size > PARALLEL_THRESHOLD) ForkJoinPool.commonPool().invoke(builder.new Task(0, 0, size, 0));
+        else builder.build(0, 0, size, 0);
+        this.nodeCount = builder.nextNode.get();
+        this.depth = builder.maxDepth.get();
+    }
+
+    /// Builds the hierarchy over the triangles stored in the buffers, they must all have the same size.
+    public static TriangleBvhF32 build(Vec3F32Buffer origins, Vec3F32Buffer ab, Vec3F32Buffer ac) {
+        return new TriangleBvhF32(origins, ab, ac);
+    }
+
+    /// Builds the hierarchy over `triangles[i]` placed at `origins[i]`.
+    public static TriangleBvhF32 build(Vec3F32[] origins, Triangle3F32[] triangles) {
+        if (origins.length != triangles.length) throw new IllegalArgumentException("The origins and triangles must have the same length.");
+        final var ab = new Vec3F32Buffer(triangles.length);
+        final var ac = new Vec3F32Buffer(triangles.length);
+        for (int i = 0; i < triangles.length; i++) {
+            ab.set(i, triangles[i].ab());
+            ac.set(i, triangles[i].ac());
+        }
+        return new TriangleBvhF32(Vec3F32Buffer.of(origins), ab, ac);
+    }
+
+    /// @return the number of triangles.
+    public int size() {
+        return indices.length;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /// @return the depth of the deepest leaf, the root has depth 0.
+    public int depth() {
+        return depth;
+    }
+
+    /// @return the minimum corner of the whole mesh.
+    public Vec3F32 min() {
+        return new Vec3F32(bounds[0], bounds[1], bounds[2]);
+    }
+
+    /// @return the maximum corner of the whole mesh.
+    public Vec3F32 max() {
+        return new Vec3F32(bounds[3], bounds[4], bounds[5]);
+    }
+
+    /* ==== Queries ==== */
+
+    /// @param direction does not need to be normalized, the distance of the hit is measured in multiples of it.
+    /// @return the closest triangle hit within `maxDistance`, or [RayHitF32#MISS].
+    public RayHitF32 raycast(Vec3F32 origin, Vec3F32 direction, float maxDistance) {
+
+        if (indices.length == 0) return RayHitF32.MISS;
+        final float ox = origin.x(), oy = origin.y(), oz = origin.z();
+        final float dx = direction.x(), dy = direction.y(), dz = direction.z();
+        final float invX = 1f / dx, invY = 1f / dy, invZ = 1f / dz;
+
+        float closest = maxDistance;
+        int hit = -1;
+        final int[] stack = borrowStack();
+        int top = 0;
+        if (rayBox(0, ox, oy, oz, invX, invY, invZ, closest) < Float.POSITIVE_INFINITY) stack[top++] = 0;
+
+        while (top > 0) {
+            final int node = stack[--top];
+            final int first = nodes[node * 2], count = nodes[node * 2 + 1];
+            if (count > 0) {
+                for (int i = first; i < first + count; i++) {
+                    final int triangle = indices[i];
+                    final float distance = intersect(triangle, ox, oy, oz, dx, dy, dz);
+                    if (distance < closest) {
+                        closest = distance;
+                        hit = triangle;
+                    }
+                }
+                continue;
+            }
+            final float left = rayBox(first, ox, oy, oz, invX, invY, invZ, closest);
+            final float right = rayBox(first + 1, ox, oy, oz, invX, invY, invZ, closest);
+            // The nearest child is pushed last, so it's visited first and shrinks the distance for the other one.
+            if (left <= right) {
+                if (right < Float.POSITIVE_INFINITY) stack[top++] = first + 1;
+                if (left < Float.POSITIVE_INFINITY) stack[top++] = first;
+            } else {
+                if (left < Float.POSITIVE_INFINITY) stack[top++] = first;
+                stack[top++] = first + 1;
+            }
+        }
+        STACKS.set(stack);
+        if (hit < 0) return RayHitF32.MISS;
+        return hitOf(hit, ox, oy, oz, dx, dy, dz);
+    }
+
+    /// Visits the triangles whose bounding box overlaps the box between `min` and `max`.\
+    /// This is a broad-phase test, a visited triangle might not touch the box itself.
+    /// @return the number of visited triangles.
+    public int overlapping(Vec3F32 min, Vec3F32 max, IntConsumer visitor) {
+
+        if (indices.length == 0) return 0;
+        final float minX = min.x(), minY = min.y(), minZ = min.z();
+        final float maxX = max.x(), maxY = max.y(), maxZ = max.z();
+        final int[] stack = borrowStack();
+        int top = 0;
+        int visited = 0;
+        stack[top++] = 0;
+
+        while (top > 0) {
+            final int node = stack[--top];
+            final int b = node * 6;
+            if (bounds[b] > maxX || bounds[b + 1] > maxY || bounds[b + 2] > maxZ
+                    || bounds[b + 3] < minX || bounds[b + 4] < minY || bounds[b + 5] < minZ) continue;
+            final int first = nodes[node * 2], count = nodes[node * 2 + 1];
+            if (count == 0) {
+                stack[top++] = first + 1;
+                stack[top++] = first;
+                continue;
+            }
+            final float[] x = origins.x(), y = origins.y(), z = origins.z();
+            final float[] abX = ab.x(), abY = ab.y(), abZ = ab.z();
+            final float[] acX = ac.x(), acY = ac.y(), acZ = ac.z();
+            for (int i = first; i < first + count; i++) {
+                final int t = indices[i];
+                final float ax = x[t], ay = y[t], az = z[t];
+                final float bx = ax + abX[t], by = ay + abY[t], bz = az + abZ[t];
+                final float cx = ax + acX[t], cy = ay + acY[t], cz = az + acZ[t];
+                if (min3(ax, bx, cx) > maxX || min3(ay, by, cy) > maxY || min3(az, bz, cz) > maxZ
+                        || max3(ax, bx, cx) < minX || max3(ay, by, cy) < minY || max3(az, bz, cz) < minZ) continue;
+                visitor.accept(t);
+                visited++;
+            }
+        }
+        STACKS.set(stack);
+        return visited;
+    }
+
+    /// Same as [#overlapping(Vec3F32, Vec3F32, IntConsumer)], with the box starting at `min` and extending by the rectangle dimensions.
+    public int overlapping(Vec3F32 min, Rect3F32 box, IntConsumer visitor) {
+        final var dimensions = box.dimensions();
+        final var max = new Vec3F32(min.x() + dimensions.x(), min.y() + dimensions.y(), min.z() + dimensions.z());
+        return overlapping(min, max, visitor);
+    }
+
+    /// @return the closest point of the mesh to `point`.
+    public ClosestPointF32 closestPoint(Vec3F32 point) {
+
+        final float px = point.x(), py = point.y(), pz = point.z();
+        float best = Float.POSITIVE_INFINITY;
+        int bestTriangle = -1;
+        float bestX = 0f, bestY = 0f, bestZ = 0f;
+        if (indices.length == 0) return new ClosestPointF32(-1, new Vec3F32(bestX, bestY, bestZ), best);
+
+        final float[] x = origins.x(), y = origins.y(), z = origins.z();
+        final float[] abX = ab.x(), abY = ab.y(), abZ = ab.z();
+        final float[] acX = ac.x(), acY = ac.y(), acZ = ac.z();
+        final int[] stack = borrowStack();
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            final int node = stack[--top];
+            if (boxDistanceSquared(node, px, py, pz) >= best) continue;
+            final int first = nodes[node * 2], count = nodes[node * 2 + 1];
+            if (count > 0) {
+                for (int i = first; i < first + count; i++) {
+                    final int t = indices[i];
+                    final long weights = closestOnTriangle(t, px, py, pz);
+                    final float v = firstWeight(weights), w = secondWeight(weights);
+                    final float cx = x[t] + abX[t] * v + acX[t] * w;
+                    final float cy = y[t] + abY[t] * v + acY[t] * w;
+                    final float cz = z[t] + abZ[t] * v + acZ[t] * w;
+                    final float ex = cx - px, ey = cy - py, ez = cz - pz;
+                    final float distance = ex * ex + ey * ey + ez * ez;
+                    if (distance < best) {
+                        best = distance;
+                        bestTriangle = t;
+                        bestX = cx;
+                        bestY = cy;
+                        bestZ = cz;
+                    }
+                }
+                continue;
+            }
+            final float left = boxDistanceSquared(first, px, py, pz);
+            final float right = boxDistanceSquared(first + 1, px, py, pz);
+            if (left <= right) {
+                if (right < best) stack[top++] = first + 1;
+                if (left < best) stack[top++] = first;
+            } else {
+                if (left < best) stack[top++] = first;
+                if (right < best) stack[top++] = first + 1;
+            }
+        }
+        STACKS.set(stack);
+        return new ClosestPointF32(bestTriangle, new Vec3F32(bestX, bestY, bestZ), best);
+    }
+
+    /* ==== Refit ==== */
+
+    /// Recomputes the bounds of every node from the current content of the buffers, keeping the tree topology.\
+    /// Much cheaper than a rebuild, but the query performance degrades if the triangles move far from their original neighbours.
+    public void refit() {
+        if (indices.length == 0) return;
+        if (indices.length > PARALLEL_THRESHOLD) ForkJoinPool.commonPool().invoke(new RefitTask(0, 0));
+        else refit(0);
+    }
+
+    private void refit(int node) {
+        final int first = nodes[node * 2], count = nodes[node * 2 + 1];
+        if (count > 0) {
+            leafBounds(node, first, count);
+            return;
+        }
+        refit(first);
+        refit(first + 1);
+        unionBounds(node, first);
+    }
+
+    private final class RefitTask extends RecursiveAction {
+
+        private final int node;
+        private final int level;
+
+        private RefitTask(int node, int level) {
+            this.node = node;
+            this.level = level;
+        }
+
+        @Override
+        protected void compute() {
+            final int first = nodes[node * 2], count = nodes[node * 2 + 1];
+            if (count > 0 || level >= PARALLEL_DEPTH) {
+                refit(node);
+                return;
+            }
+            invokeAll(new RefitTask(first, level + 1), new RefitTask(first + 1, level + 1));
+            unionBounds(node, first);
+        }
+    }
+
+    private void leafBounds(int node, int first, int count) {
+        final float[] x = origins.x(), y = origins.y(), z = origins.z();
+        final float[] abX = ab.x(), abY = ab.y(), abZ = ab.z();
+        final float[] acX = ac.x(), acY = ac.y(), acZ = ac.z();
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+        for (int i = first; i < first + count; i++) {
+            final int t = indices[i];
+            final float ax = x[t], ay = y[t], az = z[t];
+            final float bx = ax + abX[t], by = ay + abY[t], bz = az + abZ[t];
+            final float cx = ax + acX[t], cy = ay + acY[t], cz = az + acZ[t];
+            minX = Math.min(minX, min3(ax, bx, cx));
+            minY = Math.min(minY, min3(ay, by, cy));
+            minZ = Math.min(minZ, min3(az, bz, cz));
+            maxX = Math.max(maxX, max3(ax, bx, cx));
+            maxY = Math.max(maxY, max3(ay, by, cy));
+            maxZ = Math.max(maxZ, max3(az, bz, cz));
+        }
+        setBounds(node, minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    private void unionBounds(int node, int firstChild) {
+        final int l = firstChild * 6, r = l + 6;
+        setBounds(node,
+                Math.min(bounds[l], bounds[r]), Math.min(bounds[l + 1], bounds[r + 1]), Math.min(bounds[l + 2], bounds[r + 2]),
+                Math.max(bounds[l + 3], bounds[r + 3]), Math.max(bounds[l + 4], bounds[r + 4]), Math.max(bounds[l + 5], bounds[r + 5])
+        );
+    }
+
+    private void setBounds(int node, float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        final int b = node * 6;
+        bounds[b] = minX;
+        bounds[b + 1] = minY;
+        bounds[b + 2] = minZ;
+        bounds[b + 3] = maxX;
+        bounds[b + 4] = maxY;
+        bounds[b + 5] = maxZ;
+    }
+
+    /* ==== Geometry ==== */
+
+    /// The slab test.
+    /// @return the entry distance of the ray in the node box, or positive infinity if it misses or enters beyond `maxDistance`.
+    private float rayBox(int node, float ox, float oy, float oz, float invX, float invY, float invZ, float maxDistance) {
+        final int b = node * 6;
+        final float x1 = (bounds[b] - ox) * invX, x2 = (bounds[b + 3] - ox) * invX;
+        final float y1 = (bounds[b + 1] - oy) * invY, y2 = (bounds[b + 4] - oy) * invY;
+        final float z1 = (bounds[b + 2] - oz) * invZ, z2 = (bounds[b + 5] - oz) * invZ;
+        final float near = Math.max(Math.max(Math.min(x1, x2), Math.min(y1, y2)), Math.max(Math.min(z1, z2), 0f));
+        final float far = Math.min(Math.min(Math.max(x1, x2), Math.max(y1, y2)), Math.min(Math.max(z1, z2), maxDistance));
+        return near <= far ? near : Float.POSITIVE_INFINITY;
+    }
+
+    private float boxDistanceSquared(int node, float px, float py, float pz) {
+        final int b = node * 6;
+        final float dx = Math.max(Math.max(bounds[b] - px, px - bounds[b + 3]), 0f);
+        final float dy = Math.max(Math.max(bounds[b + 1] - py, py - bounds[b + 4]), 0f);
+        final float dz = Math.max(Math.max(bounds[b + 2] - pz, pz - bounds[b + 5]), 0f);
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private float intersect(int t, float ox, float oy, float oz, float dx, float dy, float dz) {
+        return RayTriangleF32.distance(
+                ox, oy, oz, dx, dy, dz,
+                origins.x()[t], origins.y()[t], origins.z()[t],
+                ab.x()[t], ab.y()[t], ab.z()[t],
+                ac.x()[t], ac.y()[t], ac.z()[t]
+        );
+    }
+
+    /// Recomputes the barycentric coordinates of the hit triangle, so the traversal does not have to carry them.
+    private RayHitF32 hitOf(int t, float ox, float oy, float oz, float dx, float dy, float dz) {
+        final var hit = RayTriangleF32.intersect(
+                ox, oy, oz, dx, dy, dz,
+                origins.x()[t], origins.y()[t], origins.z()[t],
+                ab.x()[t], ab.y()[t], ab.z()[t],
+                ac.x()[t], ac.y()[t], ac.z()[t]
+        );
+        return new RayHitF32(t, hit.distance(), hit.u(), hit.v());
+    }
+
+    /// The closest point on a triangle, from "Real-Time Collision Detection" (Ericson), by Voronoi region.
+    /// @return the weights `(v, w)` of the point `a + ab * v + ac * w`, packed by [#weights(float, float)].
+    private long closestOnTriangle(int t, float px, float py, float pz) {
+
+        final float ax = origins.x()[t], ay = origins.y()[t], az = origins.z()[t];
+        final float abX = ab.x()[t], abY = ab.y()[t], abZ = ab.z()[t];
+        final float acX = ac.x()[t], acY = ac.y()[t], acZ = ac.z()[t];
+        final float apX = px - ax, apY = py - ay, apZ = pz - az;
+
+        final float d1 = abX * apX + abY * apY + abZ * apZ;
+        final float d2 = acX * apX + acY * apY + acZ * apZ;
+        if (d1 <= 0f && d2 <= 0f) return weights(0f, 0f);
+
+        final float abAb = abX * abX + abY * abY + abZ * abZ;
+        final float abAc = abX * acX + abY * acY + abZ * acZ;
+        final float acAc = acX * acX + acY * acY + acZ * acZ;
+        // The dot products against p - b and p - c, derived from the ones against p - a.
+        final float d3 = d1 - abAb, d4 = d2 - abAc;
+        if (d3 >= 0f && d4 <= d3) return weights(1f, 0f);
+        final float vc = d1 * d4 - d3 * d2;
+        if (vc <= 0f && d1 >= 0f && d3 <= 0f) return weights(d1 / (d1 - d3), 0f);
+        final float d5 = d1 - abAc, d6 = d2 - acAc;
+        if (d6 >= 0f && d5 <= d6) return weights(0f, 1f);
+        final float vb = d5 * d2 - d1 * d6;
+        if (vb <= 0f && d2 >= 0f && d6 <= 0f) return weights(0f, d2 / (d2 - d6));
+        final float va = d3 * d6 - d5 * d4;
+        if (va <= 0f && d4 - d3 >= 0f && d5 - d6 >= 0f) {
+            final float s = (d4 - d3) / ((d4 - d3) + (d5 - d6));
+            return weights(1f - s, s);
+        }
+        final float inverse = 1f / (va + vb + vc);
+        return weights(vb * inverse, vc * inverse);
+    }
+
+    /// Packs two floats into a long, so the closest point can be returned without allocating and rebuilt in locals.
+    private static long weights(float v, float w) {
+        return (long) Float.floatToRawIntBits(v) << 32 | Float.floatToRawIntBits(w) & 0xFFFFFFFFL;
+    }
+
+    private static float firstWeight(long weights) {
+        return Float.intBitsToFloat((int) (weights >>> 32));
+    }
+
+    private static float secondWeight(long weights) {
+        return Float.intBitsToFloat((int) weights);
+    }
+
+    /// Takes the stack of the current thread, the query puts it back once done.\
+    /// A visitor running a nested query finds no stack and allocates its own, so the outer traversal is never corrupted.
+    private int[] borrowStack() {
+        final int[] stack = STACKS.get();
+        if (stack == null || stack.length <= depth) return new int[depth + 1];
+        STACKS.set(null);
+        return stack;
+    }
+
+    private static float min3(float a, float b, float c) {
+        return Math.min(a, Math.min(b, c));
+    }
+
+    private static float max3(float a, float b, float c) {
+        return Math.max(a, Math.max(b, c));
+    }
+
+    /* ==== Build ==== */
+
+    /// The state shared by the build tasks, each task owns a disjoint range of [#indices] and allocates its children atomically.
+    private final class Builder {
+
+        private final float[] primitiveBounds;
+        private final float[] centroids;
+        private final AtomicInteger nextNode = new AtomicInteger(1);
+        private final AtomicInteger maxDepth = new AtomicInteger();
+
+        private Builder(int size) {
+            this.primitiveBounds = new float[size * 6];
+            this.centroids = new float[size * 3];
+            final var range = IntStream.range(0, size);
+            (size > PARALLEL_THRESHOLD ? range.parallel() : range).forEach(this::computePrimitive);
+        }
+
+        private void computePrimitive(int t) {
+            final float ax = origins.x()[t], ay = origins.y()[t], az = origins.z()[t];
+            final float bx = ax + ab.x()[t], by = ay + ab.y()[t], bz = az + ab.z()[t];
+            final float cx = ax + ac.x()[t], cy = ay + ac.y()[t], cz = az + ac.z()[t];
+            final int b = t * 6, c = t * 3;
+            primitiveBounds[b] = min3(ax, bx, cx);
+            primitiveBounds[b + 1] = min3(ay, by, cy);
+            primitiveBounds[b + 2] = min3(az, bz, cz);
+            primitiveBounds[b + 3] = max3(ax, bx, cx);
+            primitiveBounds[b + 4] = max3(ay, by, cy);
+            primitiveBounds[b + 5] = max3(az, bz, cz);
+            centroids[c] = (primitiveBounds[b] + primitiveBounds[b + 3]) * .5f;
+            centroids[c + 1] = (primitiveBounds[b + 1] + primitiveBounds[b + 4]) * .5f;
+            centroids[c + 2] = (primitiveBounds[b + 2] + primitiveBounds[b + 5]) * .5f;
+        }
+
+        /// Builds the subtree of `node` over the triangles in `[start, end)`, on the current thread.
+        private void build(int node, int start, int end, int level) {
+            final int middle = split(node, start, end, level);
+            if (middle < 0) return;
+            final int first = nodes[node * 2];
+            build(first, start, middle, level + 1);
+            build(first + 1, middle, end, level + 1);
+        }
+
+        /// Computes the bounds of `node`, and either makes it a leaf or partitions its triangles between two new children.
+        /// @return the index splitting the range between the children, or -1 if the node became a leaf.
+        private int split(int node, int start, int end, int level) {
+
+            float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+            float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+            final float[] centroidBox = emptyBox();
+            for (int i = start; i < end; i++) {
+                final int t = indices[i], b = t * 6;
+                minX = Math.min(minX, primitiveBounds[b]);
+                minY = Math.min(minY, primitiveBounds[b + 1]);
+                minZ = Math.min(minZ, primitiveBounds[b + 2]);
+                maxX = Math.max(maxX, primitiveBounds[b + 3]);
+                maxY = Math.max(maxY, primitiveBounds[b + 4]);
+                maxZ = Math.max(maxZ, primitiveBounds[b + 5]);
+                for (int axis = 0; axis < 3; axis++) {
+                    centroidBox[axis] = Math.min(centroidBox[axis], centroids[t * 3 + axis]);
+                    centroidBox[axis + 3] = Math.max(centroidBox[axis + 3], centroids[t * 3 + axis]);
+                }
+            }
+            setBounds(node, minX, minY, minZ, maxX, maxY, maxZ);
+
+            final int count = end - start;
+            if (count <= MIN_LEAF_SIZE) return leaf(node, start, count, level);
+
+            // I bin the centroids on each axis, and sweep the bins to find the split with the lowest cost.
+            final int[] binCounts = new int[BINS];
+            final float[] binBounds = new float[BINS * 6];
+            final float[] rightAreas = new float[BINS];
+            final int[] rightCounts = new int[BINS];
+            final float[] box = new float[6];
+            float bestCost = Float.POSITIVE_INFINITY;
+            int bestAxis = -1, bestBin = 0;
+            for (int axis = 0; axis < 3; axis++) {
+                final float extent = centroidBox[axis + 3] - centroidBox[axis];
+                if (!(extent > 0f)) continue;
+                final float scale = BINS / extent;
+                Arrays.fill(binCounts, 0);
+                for (int bin = 0; bin < BINS; bin++) resetBox(binBounds, bin);
+                for (int i = start; i < end; i++) {
+                    final int t = indices[i];
+                    final int bin = binOf(centroids[t * 3 + axis], centroidBox[axis], scale);
+                    binCounts[bin]++;
+                    growBox(binBounds, bin, primitiveBounds, t);
+                }
+                // Right to left, the entry of a bin covers the bins [bin, BINS).
+                resetBox(box, 0);
+                int accumulated = 0;
+                for (int bin = BINS - 1; bin > 0; bin--) {
+                    accumulated += binCounts[bin];
+                    growBox(box, 0, binBounds, bin);
+                    rightCounts[bin] = accumulated;
+                    rightAreas[bin] = halfArea(box);
+                }
+                resetBox(box, 0);
+                accumulated = 0;
+                for (int bin = 0; bin < BINS - 1; bin++) {
+                    accumulated += binCounts[bin];
+                    growBox(box, 0, binBounds, bin);
+                    if (accumulated == 0 || rightCounts[bin + 1] == 0) continue;
+                    final float cost = halfArea(box) * accumulated + rightAreas[bin + 1] * rightCounts[bin + 1];
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        bestAxis = axis;
+                        bestBin = bin + 1;
+                    }
+                }
+            }
+
+            final float nodeArea = halfArea(minX, minY, minZ, maxX, maxY, maxZ);
+            final float splitCost = nodeArea > 0f ? TRAVERSAL_COST + bestCost / nodeArea : TRAVERSAL_COST;
+            if (count <= MAX_LEAF_SIZE && (bestAxis < 0 || splitCost >= count)) return leaf(node, start, count, level);
+
+            int middle;
+            if (bestAxis >= 0) {
+                final float scale = BINS / (centroidBox[bestAxis + 3] - centroidBox[bestAxis]);
+                middle = start;
+                for (int i = start; i < end; i++) {
+                    final int t = indices[i];
+                    if (binOf(centroids[t * 3 + bestAxis], centroidBox[bestAxis], scale) >= bestBin) continue;
+                    indices[i] = indices[middle];
+                    indices[middle++] = t;
+                }
+            } else {
+                // Every centroid is in the same place, any split is as good as another.
+                middle = start + count / 2;
+            }
+            nodes[node * 2] = nextNode.getAndAdd(2);
+            nodes[node * 2 + 1] = 0;
+            return middle;
+        }
+
+        private int leaf(int node, int start, int count, int level) {
+            nodes[node * 2] = start;
+            nodes[node * 2 + 1] = count;
+            maxDepth.accumulateAndGet(level, Math::max);
+            return -1;
+        }
+
+        private final class Task extends RecursiveAction {
+
+            private final int node;
+            private final int start;
+            private final int end;
+            private final int level;
+
+            private Task(int node, int start, int end, int level) {
+                this.node = node;
+                this.start = start;
+                this.end = end;
+                this.level = level;
+            }
+
+            @Override
+            protected void compute() {
+                if (end - start <= PARALLEL_THRESHOLD) {
+                    build(node, start, end, level);
+                    return;
+                }
+                final int middle = split(node, start, end, level);
+                if (middle < 0) return;
+                final int first = nodes[node * 2];
+                invokeAll(new Task(first, start, middle, level + 1), new Task(first + 1, middle, end, level + 1));
+            }
+        }
+    }
+
+    private static int binOf(float centroid, float min, float scale) {
+        return Math.min(BINS - 1, (int) ((centroid - min) * scale));
+    }
+
+    private static float[] emptyBox() {
+        final float[] box = new float[6];
+        resetBox(box, 0);
+        return box;
+    }
+
+    private static void resetBox(float[] boxes, int index) {
+        final int b = index * 6;
+        boxes[b] = boxes[b + 1] = boxes[b + 2] = Float.POSITIVE_INFINITY;
+        boxes[b + 3] = boxes[b + 4] = boxes[b + 5] = Float.NEGATIVE_INFINITY;
+    }
+
+    private static void growBox(float[] boxes, int index, float[] source, int sourceIndex) {
+        final int b = index * 6, s = sourceIndex * 6;
+        for (int i = 0; i < 3; i++) {
+            boxes[b + i] = Math.min(boxes[b + i], source[s + i]);
+            boxes[b + i + 3] = Math.max(boxes[b + i + 3], source[s + i + 3]);
+        }
+    }
+
+    private static float halfArea(float[] box) {
+        return halfArea(box[0], box[1], box[2], box[3], box[4], box[5]);
+    }
+
+    /// Half of the surface area, the heuristic only compares ratios.
+    private static float halfArea(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        final float dx = maxX - minX, dy = maxY - minY, dz = maxZ - minZ;
+        return dx * dy + dy * dz + dz * dx;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shapes.triangle;
+
+import org.lidiuma.math.vector.Vec3F64;
+import org.lidiuma.math.vector.Vec3F64Buffer;
+
+/// Möller–Trumbore ray/triangle intersection, double-sided, a triangle is `a`, `a + ab`, `a + ac` like [Triangle3F64] placed at `a`.\
+/// The edge representation of [Triangle3F64] is exactly what the algorithm needs, so nothing is recomputed per ray.
+/// The bulk kernels are branch-free loops over structure-of-arrays buffers, so the JIT can auto-vectorize them,
+///  they write the distance and the barycentric coordinates into the provided arrays, without allocating.
+/// A miss always has a distance of positive infinity, behind the origin counts as a miss.
+public final class RayTriangleF64 {
+
+    private RayTriangleF64() {}
+
+    public static TriangleHitF64 intersect(Vec3F64 origin, Vec3F64 direction, Vec3F64 a, Triangle3F64 triangle) {
+        final var ab = triangle.ab();
+        final var ac = triangle.ac();
+        return intersect(
+                origin.x(), origin.y(), origin.z(),
+                direction.x(), direction.y(), direction.z(),
+                a.x(), a.y(), a.z(),
+                ab.x(), ab.y(), ab.z(),
+                ac.x(), ac.y(), ac.z()
+        );
+    }
+
+    public static TriangleHitF64 intersect(double ox, double oy, double oz,
+                                           double dx, double dy, double dz,
+                                           double ax, double ay, double az,
+                                           double abX, double abY, double abZ,
+                                           double acX, double acY, double acZ) {
+        final double px = dy * acZ - dz * acY, py = dz * acX - dx * acZ, pz = dx * acY - dy * acX;
+        final double determinant = abX * px + abY * py + abZ * pz;
+        if (determinant == 0d) return TriangleHitF64.MISS;
+        final double inverse = 1d / determinant;
+        final double sx = ox - ax, sy = oy - ay, sz = oz - az;
+        final double u = (sx * px + sy * py + sz * pz) * inverse;
+        if (u < 0d || u > 1d) return TriangleHitF64.MISS;
+        final double qx = sy * abZ - sz * abY, qy = sz * abX - sx * abZ, qz = sx * abY - sy * abX;
+        final double v = (dx * qx + dy * qy + dz * qz) * inverse;
+        if (v < 0d || u + v > 1d) return TriangleHitF64.MISS;
+        final double distance = (acX * qx + acY * qy + acZ * qz) * inverse;
+        return distance >= 0d ? new TriangleHitF64(distance, u, v) : TriangleHitF64.MISS;
+    }
+
+    /// Same as [#intersect(double, double, double, double, double, double, double, double, double, double, double, double, double, double, double)],
+    ///  without the barycentric coordinates.
+    /// @return the hit distance, or positive infinity.
+    public static double distance(double ox, double oy, double oz,
+                                 double dx, double dy, double dz,
+                                 double ax, double ay, double az,
+                                 double abX, double abY, double abZ,
+                                 double acX, double acY, double acZ) {
+        final double px = dy * acZ - dz * acY, py = dz * acX - dx * acZ, pz = dx * acY - dy * acX;
+        final double determinant = abX * px + abY * py + abZ * pz;
+        if (determinant == 0d) return Double.POSITIVE_INFINITY;
+        final double inverse = 1d / determinant;
+        final double sx = ox - ax, sy = oy - ay, sz = oz - az;
+        final double u = (sx * px + sy * py + sz * pz) * inverse;
+        if (u < 0d || u > 1d) return Double.POSITIVE_INFINITY;
+        final double qx = sy * abZ - sz * abY, qy = sz * abX - sx * abZ, qz = sx * abY - sy * abX;
+        final double v = (dx * qx + dy * qy + dz * qz) * inverse;
+        if (v < 0d || u + v > 1d) return Double.POSITIVE_INFINITY;
+        final double distance = (acX * qx + acY * qy + acZ * qz) * inverse;
+        return distance >= 0d ? distance : Double.POSITIVE_INFINITY;
+    }
+
+    /* ==== Bulk Operations ==== */
+
+    /// One ray against every triangle `i` of the buffers, `u` and `v` are only meaningful where `distances[i]` is finite.
+    public static void intersect(Vec3F64 origin, Vec3F64 direction,
+                                 Vec3F64Buffer a, Vec3F64Buffer ab, Vec3F64Buffer ac,
+                                 double[] distances, double[] u, double[] v) {
+        final int size = a.size();
+        checkSize(size, ab.size());
+        checkSize(size, ac.size());
+        checkSize(size, distances.length);
+        checkSize(size, u.length);
+        checkSize(size, v.length);
+        final double ox = origin.x(), oy = origin.y(), oz = origin.z();
+        final double dx = direction.x(), dy = direction.y(), dz = direction.z();
+        final double[] ax = a.x(), ay = a.y(), az = a.z();
+        final double[] abX = ab.x(), abY = ab.y(), abZ = ab.z();
+        final double[] acX = ac.x(), acY = ac.y(), acZ = ac.z();
+        for (int i = 0; i < size; i++) {
+            final double e1x = abX[i], e1y = abY[i], e1z = abZ[i];
+            final double e2x = acX[i], e2y = acY[i], e2z = acZ[i];
+            final double px = dy * e2z - dz * e2y, py = dz * e2x - dx * e2z, pz = dx * e2y - dy * e2x;
+            final double determinant = e1x * px + e1y * py + e1z * pz;
+            final double inverse = 1d / determinant;
+            final double sx = ox - ax[i], sy = oy - ay[i], sz = oz - az[i];
+            final double hitU = (sx * px + sy * py + sz * pz) * inverse;
+            final double qx = sy * e1z - sz * e1y, qy = sz * e1x - sx * e1z, qz = sx * e1y - sy * e1x;
+            final double hitV = (dx * qx + dy * qy + dz * qz) * inverse;
+            final double distance = (e2x * qx + e2y * qy + e2z * qz) * inverse;
+            // Non short-circuiting, so the loop has no branches.
+            final boolean hit = determinant != 0d & hitU >= 0d & hitV >= 0d & hitU + hitV <= 1d & distance >= 0d;
+            distances[i] = hit ? distance : Double.POSITIVE_INFINITY;
+            u[i] = hitU;
+            v[i] = hitV;
+        }
+    }
+
+    /// Every ray `i` of the buffers against one triangle, `u` and `v` are only meaningful where `distances[i]` is finite.
+    public static void intersect(Vec3F64Buffer origins, Vec3F64Buffer directions,
+                                 Vec3F64 a, Triangle3F64 triangle,
+                                 double[] distances, double[] u, double[] v) {
+        final int size = origins.size();
+        checkSize(size, directions.size());
+        checkSize(size, distances.length);
+        checkSize(size, u.length);
+        checkSize(size, v.length);
+        final double ax = a.x(), ay = a.y(), az = a.z();
+        final double e1x = triangle.ab().x(), e1y = triangle.ab().y(), e1z = triangle.ab().z();
+        final double e2x = triangle.ac().x(), e2y = triangle.ac().y(), e2z = triangle.ac().z();
+        final double[] ox = origins.x(), oy = origins.y(), oz = origins.z();
+        final double[] dx = directions.x(), dy = directions.y(), dz = directions.z();
+        for (int i = 0; i < size; i++) {
+            final double rx = dx[i], ry = dy[i], rz = dz[i];
+            final double px = ry * e2z - rz * e2y, py = rz * e2x - rx * e2z, pz = rx * e2y - ry * e2x;
+            final double determinant = e1x * px + e1y * py + e1z * pz;
+            final double inverse = 1d / determinant;
+            final double sx = ox[i] - ax, sy = oy[i] - ay, sz = oz[i] - az;
+            final double hitU = (sx * px + sy * py + sz * pz) * inverse;
+            final double qx = sy * e1z - sz * e1y, qy = sz * e1x - sx * e1z, qz = sx * e1y - sy * e1x;
+            final double hitV = (rx * qx + ry * qy + rz * qz) * inverse;
+            final double distance = (e2x * qx + e2y * qy + e2z * qz) * inverse;
+            final boolean hit = determinant != 0d & hitU >= 0d & hitV >= 0d & hitU + hitV <= 1d & distance >= 0d;
+            distances[i] = hit ? distance : Double.POSITIVE_INFINITY;
+            u[i] = hitU;
+            v[i] = hitV;
+        }
+    }
+
+    /// One ray against every triangle of the buffers.
+    /// @return the index of the closest triangle hit within `maxDistance`, or -1.
+    public static int closest(Vec3F64 origin, Vec3F64 direction,
+                              Vec3F64Buffer a, Vec3F64Buffer ab, Vec3F64Buffer ac,
+                              double maxDistance) {
+        final int size = a.size();
+        checkSize(size, ab.size());
+        checkSize(size, ac.size());
+        final double ox = origin.x(), oy = origin.y(), oz = origin.z();
+        final double dx = direction.x(), dy = direction.y(), dz = direction.z();
+        double closest = maxDistance;
+        int index = -1;
+        for (int i = 0; i < size; i++) {
+            final double distance = distance(
+                    ox, oy, oz, dx, dy, dz,
+                    a.x()[i], a.y()[i], a.z()[i],
+                    ab.x()[i], ab.y()[i], ab.z()[i],
+                    ac.x()[i], ac.y()[i], ac.z()[i]
+            );
+            if (distance < closest) {
+                closest = distance;
+                index = i;
+            }
+        }
+        return index;
+    }
+
+    private static void checkSize(int expected, int actual) {
+        if (expected != actual) throw new IllegalArgumentException("The buffer sizes do not match, expected " + expected + " but got " + actual + ".");
+    }
+}
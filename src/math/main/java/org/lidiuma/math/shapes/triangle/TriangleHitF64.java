@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.shapes.triangle;
+
+import jdk.internal.vm.annotation.LooselyConsistentValue;
+import jdk.internal.vm.annotation.NullRestricted;
+
+/// A ray hit computed by [RayTriangleF64], `(u, v)` are the barycentric coordinates along `ab` and `ac`.\
+/// A miss has an infinite distance, see [#MISS].
+@LooselyConsistentValue
+public value record TriangleHitF64(@NullRestricted Double distance, @NullRestricted Double u, @NullRestricted Double v) {
+
+    public static final TriangleHitF64 MISS = new TriangleHitF64(Double.POSITIVE_INFINITY, 0d, 0d);
+
+    public boolean hit() {
+        return distance < Double.POSITIVE_INFINITY;
+    }
+}
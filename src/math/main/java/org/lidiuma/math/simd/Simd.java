@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.simd;
+
+/// Runtime detection of the Vector API.
+///
+/// Being an incubating module, javac warns about it on every build of this module, and the JVM prints a warning at startup when it's added.
+/// Both are expected: there is no `-Xlint` category to suppress them, and the kernels don't depend on anything that changed between incubator releases.
+final class Simd {
+
+    static final String VECTOR_MODULE = "jdk.incubator.vector";
+    /// The kernel classes referencing `jdk.incubator.vector` are only loaded when this is true,
+    ///  otherwise the module would be required at runtime.
+    static final boolean VECTORIZED = ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+
+    private Simd() {}
+
+    static int checkLength(int expected, int actual) {
+        if (expected != actual) throw new IllegalArgumentException("The array lengths do not match, expected " + expected + " but got " + actual + ".");
+        return expected;
+    }
+
+    static int checkLength(int expected, int actual1, int actual2) {
+        checkLength(expected, actual1);
+        return checkLength(expected, actual2);
+    }
+
+    static int checkLength(int expected, int... actual) {
+        for (int length : actual) checkLength(expected, length);
+        return expected;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.simd;
+
+import org.lidiuma.math.vector.Vec3F32Buffer;
+
+/// Bulk `float` kernels with the same semantics as [org.lidiuma.math.vector.Vec3F32.Ops] and [org.lidiuma.math.vector.Vec4F32.Ops].\
+/// The element-wise kernels work on flat arrays, so they apply to any vector size (and to each component array of a buffer),
+///  the 3D geometric ones work on [Vec3F32Buffer], and the 4D ones on the four component arrays, since there is no 4D buffer.
+///
+/// When `jdk.incubator.vector` is part of the boot layer (`--add-modules jdk.incubator.vector`),
+///  the kernels use [jdk.incubator.vector.FloatVector] with the preferred species of the running CPU,
+///  otherwise they fall back to scalar loops.
+public final class SimdF32 {
+
+    private SimdF32() {}
+
+    /// @return true if the kernels run through the Vector API.
+    public static boolean isVectorized() {
+        return Simd.VECTORIZED;
+    }
+
+    /// `out[i] = op1[i] + op2[i]`.
+    public static void add(float[] op1, float[] op2, float[] out) {
+        final int length = Simd.checkLength(op1.length, op2.length, out.length);
+        if (Simd.VECTORIZED) {
+            VectorKernelsF32.add(op1, op2, out, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) out[i] = op1[i] + op2[i];
+    }
+
+    /// `out[i] = op[i] * scalar`.
+    public static void scale(float[] op, float scalar, float[] out) {
+        final int length = Simd.checkLength(op.length, out.length);
+        if (Simd.VECTORIZED) {
+            VectorKernelsF32.scale(op, scalar, out, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) out[i] = op[i] * scalar;
+    }
+
+    /// `out[i] = start[i] + (end[i] - start[i]) * alpha`.
+    public static void lerp(float[] start, float[] end, float alpha, float[] out) {
+        final int length = Simd.checkLength(start.length, end.length, out.length);
+        if (Simd.VECTORIZED) {
+            VectorKernelsF32.lerp(start, end, alpha, out, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) out[i] = start[i] + (end[i] - start[i]) * alpha;
+    }
+
+    /// `out[i] = start[i] + (end[i] - start[i]) * alpha`, applied to every component.
+    public static void lerp(Vec3F32Buffer start, Vec3F32Buffer end, float alpha, Vec3F32Buffer out) {
+        lerp(start.x(), end.x(), alpha, out.x());
+        lerp(start.y(), end.y(), alpha, out.y());
+        lerp(start.z(), end.z(), alpha, out.z());
+    }
+
+    /// `out[i] = dot(op1[i], op2[i])`.
+    public static void dot(Vec3F32Buffer op1, Vec3F32Buffer op2, float[] out) {
+        if (!Simd.VECTORIZED) {
+            Vec3F32Buffer.dot(op1, op2, out);
+            return;
+        }
+        final int length = Simd.checkLength(op1.size(), op2.size(), out.length);
+        VectorKernelsF32.dot(op1.x(), op1.y(), op1.z(), op2.x(), op2.y(), op2.z(), out, length);
+    }
+
+    /// `out[i] = cross(op1[i], op2[i])`, `out` may be one of the operands.
+    public static void cross(Vec3F32Buffer op1, Vec3F32Buffer op2, Vec3F32Buffer out) {
+        if (!Simd.VECTORIZED) {
+            Vec3F32Buffer.cross(op1, op2, out);
+            return;
+        }
+        final int length = Simd.checkLength(op1.size(), op2.size(), out.size());
+        VectorKernelsF32.cross(
+                op1.x(), op1.y(), op1.z(),
+                op2.x(), op2.y(), op2.z(),
+                out.x(), out.y(), out.z(),
+                length
+        );
+    }
+
+    /// `out[i] = normalize(op[i])`, `out` may be the operand.\
+    /// Zero-length vectors are left as zero, like [Vec3F32Buffer#normalize(Vec3F32Buffer, Vec3F32Buffer)].
+    public static void normalize(Vec3F32Buffer op, Vec3F32Buffer out) {
+        if (!Simd.VECTORIZED) {
+            Vec3F32Buffer.normalize(op, out);
+            return;
+        }
+        final int length = Simd.checkLength(op.size(), out.size());
+        VectorKernelsF32.normalize(op.x(), op.y(), op.z(), out.x(), out.y(), out.z(), length);
+    }
+
+    /// `out[i] = dot(op1[i], op2[i])` for 4D vectors stored as component arrays, the same math as [org.lidiuma.math.vector.Vec4F32.Ops].
+    public static void dot(float[] x1, float[] y1, float[] z1, float[] w1,
+                           float[] x2, float[] y2, float[] z2, float[] w2,
+                           float[] out) {
+        final int length = Simd.checkLength(out.length, x1.length, y1.length, z1.length, w1.length, x2.length, y2.length, z2.length, w2.length);
+        if (Simd.VECTORIZED) {
+            VectorKernelsF32.dot(x1, y1, z1, w1, x2, y2, z2, w2, out, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) out[i] = x1[i] * x2[i] + y1[i] * y2[i] + z1[i] * z2[i] + w1[i] * w2[i];
+    }
+
+    /// `out[i] = normalize(op[i])` for 4D vectors stored as component arrays, the output arrays may be the operand ones.\
+    /// Zero-length vectors are left as zero, like [#normalize(Vec3F32Buffer, Vec3F32Buffer)].
+    public static void normalize(float[] x, float[] y, float[] z, float[] w,
+                                 float[] ox, float[] oy, float[] oz, float[] ow) {
+        final int length = Simd.checkLength(x.length, y.length, z.length, w.length, ox.length, oy.length, oz.length, ow.length);
+        if (Simd.VECTORIZED) {
+            VectorKernelsF32.normalize(x, y, z, w, ox, oy, oz, ow, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            final float vLength = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i] + w[i] * w[i]);
+            final float inverse = vLength == 0f ? 0f : 1f / vLength;
+            ox[i] = x[i] * inverse;
+            oy[i] = y[i] * inverse;
+            oz[i] = z[i] * inverse;
+            ow[i] = w[i] * inverse;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.simd;
+
+import org.lidiuma.math.vector.Vec3F64Buffer;
+
+/// Bulk `double` kernels with the same semantics as [org.lidiuma.math.vector.Vec3F64.Ops] and [org.lidiuma.math.vector.Vec4F64.Ops].\
+/// The element-wise kernels work on flat arrays, so they apply to any vector size (and to each component array of a buffer),
+///  the 3D geometric ones work on [Vec3F64Buffer], and the 4D ones on the four component arrays, since there is no 4D buffer.
+///
+/// When `jdk.incubator.vector` is part of the boot layer (`--add-modules jdk.incubator.vector`),
+///  the kernels use [jdk.incubator.vector.DoubleVector] with the preferred species of the running CPU,
+///  otherwise they fall back to scalar loops.
+public final class SimdF64 {
+
+    private SimdF64() {}
+
+    /// @return true if the kernels run through the Vector API.
+    public static boolean isVectorized() {
+        return Simd.VECTORIZED;
+    }
+
+    /// `out[i] = op1[i] + op2[i]`.
+    public static void add(double[] op1, double[] op2, double[] out) {
+        final int length = Simd.checkLength(op1.length, op2.length, out.length);
+        if (Simd.VECTORIZED) {
+            VectorKernelsF64.add(op1, op2, out, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) out[i] = op1[i] + op2[i];
+    }
+
+    /// `out[i] = op[i] * scalar`.
+    public static void scale(double[] op, double scalar, double[] out) {
+        final int length = Simd.checkLength(op.length, out.length);
+        if (Simd.VECTORIZED) {
+            VectorKernelsF64.scale(op, scalar, out, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) out[i] = op[i] * scalar;
+    }
+
+    /// `out[i] = start[i] + (end[i] - start[i]) * alpha`.
+    public static void lerp(double[] start, double[] end, double alpha, double[] out) {
+        final int length = Simd.checkLength(start.length, end.length, out.length);
+        if (Simd.VECTORIZED) {
+            VectorKernelsF64.lerp(start, end, alpha, out, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) out[i] = start[i] + (end[i] - start[i]) * alpha;
+    }
+
+    /// `out[i] = start[i] + (end[i] - start[i]) * alpha`, applied to every component.
+    public static void lerp(Vec3F64Buffer start, Vec3F64Buffer end, double alpha, Vec3F64Buffer out) {
+        lerp(start.x(), end.x(), alpha, out.x());
+        lerp(start.y(), end.y(), alpha, out.y());
+        lerp(start.z(), end.z(), alpha, out.z());
+    }
+
+    /// `out[i] = dot(op1[i], op2[i])`.
+    public static void dot(Vec3F64Buffer op1, Vec3F64Buffer op2, double[] out) {
+        if (!Simd.VECTORIZED) {
+            Vec3F64Buffer.dot(op1, op2, out);
+            return;
+        }
+        final int length = Simd.checkLength(op1.size(), op2.size(), out.length);
+        VectorKernelsF64.dot(op1.x(), op1.y(), op1.z(), op2.x(), op2.y(), op2.z(), out, length);
+    }
+
+    /// `out[i] = cross(op1[i], op2[i])`, `out` may be one of the operands.
+    public static void cross(Vec3F64Buffer op1, Vec3F64Buffer op2, Vec3F64Buffer out) {
+        if (!Simd.VECTORIZED) {
+            Vec3F64Buffer.cross(op1, op2, out);
+            return;
+        }
+        final int length = Simd.checkLength(op1.size(), op2.size(), out.size());
+        VectorKernelsF64.cross(
+                op1.x(), op1.y(), op1.z(),
+                op2.x(), op2.y(), op2.z(),
+                out.x(), out.y(), out.z(),
+                length
+        );
+    }
+
+    /// `out[i] = normalize(op[i])`, `out` may be the operand.\
+    /// Zero-length vectors are left as zero, like [Vec3F64Buffer#normalize(Vec3F64Buffer, Vec3F64Buffer)].
+    public static void normalize(Vec3F64Buffer op, Vec3F64Buffer out) {
+        if (!Simd.VECTORIZED) {
+            Vec3F64Buffer.normalize(op, out);
+            return;
+        }
+        final int length = Simd.checkLength(op.size(), out.size());
+        VectorKernelsF64.normalize(op.x(), op.y(), op.z(), out.x(), out.y(), out.z(), length);
+    }
+
+    /// `out[i] = dot(op1[i], op2[i])` for 4D vectors stored as component arrays, the same math as [org.lidiuma.math.vector.Vec4F64.Ops].
+    public static void dot(double[] x1, double[] y1, double[] z1, double[] w1,
+                           double[] x2, double[] y2, double[] z2, double[] w2,
+                           double[] out) {
+        final int length = Simd.checkLength(out.length, x1.length, y1.length, z1.length, w1.length, x2.length, y2.length, z2.length, w2.length);
+        if (Simd.VECTORIZED) {
+            VectorKernelsF64.dot(x1, y1, z1, w1, x2, y2, z2, w2, out, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) out[i] = x1[i] * x2[i] + y1[i] * y2[i] + z1[i] * z2[i] + w1[i] * w2[i];
+    }
+
+    /// `out[i] = normalize(op[i])` for 4D vectors stored as component arrays, the output arrays may be the operand ones.\
+    /// Zero-length vectors are left as zero, like [#normalize(Vec3F64Buffer, Vec3F64Buffer)].
+    public static void normalize(double[] x, double[] y, double[] z, double[] w,
+                                 double[] ox, double[] oy, double[] oz, double[] ow) {
+        final int length = Simd.checkLength(x.length, y.length, z.length, w.length, ox.length, oy.length, oz.length, ow.length);
+        if (Simd.VECTORIZED) {
+            VectorKernelsF64.normalize(x, y, z, w, ox, oy, oz, ow, length);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            final double vLength = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i] + w[i] * w[i]);
+            final double inverse = vLength == 0d ? 0d : 1d / vLength;
+            ox[i] = x[i] * inverse;
+            oy[i] = y[i] * inverse;
+            oz[i] = z[i] * inverse;
+            ow[i] = w[i] * inverse;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.simd;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/// The Vector API kernels of [SimdF32], must only be loaded when [Simd#VECTORIZED] is true.\
+/// Every kernel has a scalar tail loop using the exact same math, so the results do not depend on the array length.
+final class VectorKernelsF32 {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private VectorKernelsF32() {}
+
+    static void add(float[] op1, float[] op2, float[] out, int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var v1 = FloatVector.fromArray(SPECIES, op1, i);
+            final var v2 = FloatVector.fromArray(SPECIES, op2, i);
+            v1.add(v2).intoArray(out, i);
+        }
+        for (; i < length; i++) out[i] = op1[i] + op2[i];
+    }
+
+    static void scale(float[] op, float scalar, float[] out, int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            FloatVector.fromArray(SPECIES, op, i).mul(scalar).intoArray(out, i);
+        }
+        for (; i < length; i++) out[i] = op[i] * scalar;
+    }
+
+    static void lerp(float[] start, float[] end, float alpha, float[] out, int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var s = FloatVector.fromArray(SPECIES, start, i);
+            final var e = FloatVector.fromArray(SPECIES, end, i);
+            s.add(e.sub(s).mul(alpha)).intoArray(out, i);
+        }
+        for (; i < length; i++) out[i] = start[i] + (end[i] - start[i]) * alpha;
+    }
+
+    static void dot(float[] x1, float[] y1, float[] z1,
+                    float[] x2, float[] y2, float[] z2,
+                    float[] out, int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var xx = FloatVector.fromArray(SPECIES, x1, i).mul(FloatVector.fromArray(SPECIES, x2, i));
+            final var yy = FloatVector.fromArray(SPECIES, y1, i).mul(FloatVector.fromArray(SPECIES, y2, i));
+            final var zz = FloatVector.fromArray(SPECIES, z1, i).mul(FloatVector.fromArray(SPECIES, z2, i));
+            xx.add(yy).add(zz).intoArray(out, i);
+        }
+        for (; i < length; i++) out[i] = x1[i] * x2[i] + y1[i] * y2[i] + z1[i] * z2[i];
+    }
+
+    static void cross(float[] x1, float[] y1, float[] z1,
+                      float[] x2, float[] y2, float[] z2,
+                      float[] ox, float[] oy, float[] oz,
+                      int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            // Every lane is loaded before storing, since out might alias the operands.
+            final var ax = FloatVector.fromArray(SPECIES, x1, i);
+            final var ay = FloatVector.fromArray(SPECIES, y1, i);
+            final var az = FloatVector.fromArray(SPECIES, z1, i);
+            final var bx = FloatVector.fromArray(SPECIES, x2, i);
+            final var by = FloatVector.fromArray(SPECIES, y2, i);
+            final var bz = FloatVector.fromArray(SPECIES, z2, i);
+            ay.mul(bz).sub(az.mul(by)).intoArray(ox, i);
+            az.mul(bx).sub(ax.mul(bz)).intoArray(oy, i);
+            ax.mul(by).sub(ay.mul(bx)).intoArray(oz, i);
+        }
+        for (; i < length; i++) {
+            final float ax = x1[i], ay = y1[i], az = z1[i];
+            final float bx = x2[i], by = y2[i], bz = z2[i];
+            ox[i] = ay * bz - az * by;
+            oy[i] = az * bx - ax * bz;
+            oz[i] = ax * by - ay * bx;
+        }
+    }
+
+    static void normalize(float[] x, float[] y, float[] z,
+                          float[] ox, float[] oy, float[] oz,
+                          int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var vx = FloatVector.fromArray(SPECIES, x, i);
+            final var vy = FloatVector.fromArray(SPECIES, y, i);
+            final var vz = FloatVector.fromArray(SPECIES, z, i);
+            final var vLength = vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).sqrt();
+            final VectorMask<Float> isZero = vLength.eq(0f);
+            final var inverse = FloatVector.broadcast(SPECIES, 1f).div(vLength).blend(0f, isZero);
+            vx.mul(inverse).intoArray(ox, i);
+            vy.mul(inverse).intoArray(oy, i);
+            vz.mul(inverse).intoArray(oz, i);
+        }
+        for (; i < length; i++) {
+            final float vLength = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+            final float inverse = vLength == 0f ? 0f : 1f / vLength;
+            ox[i] = x[i] * inverse;
+            oy[i] = y[i] * inverse;
+            oz[i] = z[i] * inverse;
+        }
+    }
+
+    static void dot(float[] x1, float[] y1, float[] z1, float[] w1,
+                    float[] x2, float[] y2, float[] z2, float[] w2,
+                    float[] out, int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var xx = FloatVector.fromArray(SPECIES, x1, i).mul(FloatVector.fromArray(SPECIES, x2, i));
+            final var yy = FloatVector.fromArray(SPECIES, y1, i).mul(FloatVector.fromArray(SPECIES, y2, i));
+            final var zz = FloatVector.fromArray(SPECIES, z1, i).mul(FloatVector.fromArray(SPECIES, z2, i));
+            final var ww = FloatVector.fromArray(SPECIES, w1, i).mul(FloatVector.fromArray(SPECIES, w2, i));
+            xx.add(yy).add(zz).add(ww).intoArray(out, i);
+        }
+        for (; i < length; i++) out[i] = x1[i] * x2[i] + y1[i] * y2[i] + z1[i] * z2[i] + w1[i] * w2[i];
+    }
+
+    static void normalize(float[] x, float[] y, float[] z, float[] w,
+                          float[] ox, float[] oy, float[] oz, float[] ow,
+                          int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var vx = FloatVector.fromArray(SPECIES, x, i);
+            final var vy = FloatVector.fromArray(SPECIES, y, i);
+            final var vz = FloatVector.fromArray(SPECIES, z, i);
+            final var vw = FloatVector.fromArray(SPECIES, w, i);
+            final var vLength = vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).add(vw.mul(vw)).sqrt();
+            final VectorMask<Float> isZero = vLength.eq(0f);
+            final var inverse = FloatVector.broadcast(SPECIES, 1f).div(vLength).blend(0f, isZero);
+            vx.mul(inverse).intoArray(ox, i);
+            vy.mul(inverse).intoArray(oy, i);
+            vz.mul(inverse).intoArray(oz, i);
+            vw.mul(inverse).intoArray(ow, i);
+        }
+        for (; i < length; i++) {
+            final float vLength = (float) Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i] + w[i] * w[i]);
+            final float inverse = vLength == 0f ? 0f : 1f / vLength;
+            ox[i] = x[i] * inverse;
+            oy[i] = y[i] * inverse;
+            oz[i] = z[i] * inverse;
+            ow[i] = w[i] * inverse;
+        }
+    }
+}
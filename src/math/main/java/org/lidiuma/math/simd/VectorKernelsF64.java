@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.simd;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/// The Vector API kernels of [SimdF64], must only be loaded when [Simd#VECTORIZED] is true.\
+/// Every kernel has a scalar tail loop using the exact same math, so the results do not depend on the array length.
+final class VectorKernelsF64 {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private VectorKernelsF64() {}
+
+    static void add(double[] op1, double[] op2, double[] out, int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var v1 = DoubleVector.fromArray(SPECIES, op1, i);
+            final var v2 = DoubleVector.fromArray(SPECIES, op2, i);
+            v1.add(v2).intoArray(out, i);
+        }
+        for (; i < length; i++) out[i] = op1[i] + op2[i];
+    }
+
+    static void scale(double[] op, double scalar, double[] out, int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, op, i).mul(scalar).intoArray(out, i);
+        }
+        for (; i < length; i++) out[i] = op[i] * scalar;
+    }
+
+    static void lerp(double[] start, double[] end, double alpha, double[] out, int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var s = DoubleVector.fromArray(SPECIES, start, i);
+            final var e = DoubleVector.fromArray(SPECIES, end, i);
+            s.add(e.sub(s).mul(alpha)).intoArray(out, i);
+        }
+        for (; i < length; i++) out[i] = start[i] + (end[i] - start[i]) * alpha;
+    }
+
+    static void dot(double[] x1, double[] y1, double[] z1,
+                    double[] x2, double[] y2, double[] z2,
+                    double[] out, int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var xx = DoubleVector.fromArray(SPECIES, x1, i).mul(DoubleVector.fromArray(SPECIES, x2, i));
+            final var yy = DoubleVector.fromArray(SPECIES, y1, i).mul(DoubleVector.fromArray(SPECIES, y2, i));
+            final var zz = DoubleVector.fromArray(SPECIES, z1, i).mul(DoubleVector.fromArray(SPECIES, z2, i));
+            xx.add(yy).add(zz).intoArray(out, i);
+        }
+        for (; i < length; i++) out[i] = x1[i] * x2[i] + y1[i] * y2[i] + z1[i] * z2[i];
+    }
+
+    static void cross(double[] x1, double[] y1, double[] z1,
+                      double[] x2, double[] y2, double[] z2,
+                      double[] ox, double[] oy, double[] oz,
+                      int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            // Every lane is loaded before storing, since out might alias the operands.
+            final var ax = DoubleVector.fromArray(SPECIES, x1, i);
+            final var ay = DoubleVector.fromArray(SPECIES, y1, i);
+            final var az = DoubleVector.fromArray(SPECIES, z1, i);
+            final var bx = DoubleVector.fromArray(SPECIES, x2, i);
+            final var by = DoubleVector.fromArray(SPECIES, y2, i);
+            final var bz = DoubleVector.fromArray(SPECIES, z2, i);
+            ay.mul(bz).sub(az.mul(by)).intoArray(ox, i);
+            az.mul(bx).sub(ax.mul(bz)).intoArray(oy, i);
+            ax.mul(by).sub(ay.mul(bx)).intoArray(oz, i);
+        }
+        for (; i < length; i++) {
+            final double ax = x1[i], ay = y1[i], az = z1[i];
+            final double bx = x2[i], by = y2[i], bz = z2[i];
+            ox[i] = ay * bz - az * by;
+            oy[i] = az * bx - ax * bz;
+            oz[i] = ax * by - ay * bx;
+        }
+    }
+
+    static void normalize(double[] x, double[] y, double[] z,
+                          double[] ox, double[] oy, double[] oz,
+                          int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var vx = DoubleVector.fromArray(SPECIES, x, i);
+            final var vy = DoubleVector.fromArray(SPECIES, y, i);
+            final var vz = DoubleVector.fromArray(SPECIES, z, i);
+            final var vLength = vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).sqrt();
+            final VectorMask<Double> isZero = vLength.eq(0d);
+            final var inverse = DoubleVector.broadcast(SPECIES, 1d).div(vLength).blend(0d, isZero);
+            vx.mul(inverse).intoArray(ox, i);
+            vy.mul(inverse).intoArray(oy, i);
+            vz.mul(inverse).intoArray(oz, i);
+        }
+        for (; i < length; i++) {
+            final double vLength = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+            final double inverse = vLength == 0d ? 0d : 1d / vLength;
+            ox[i] = x[i] * inverse;
+            oy[i] = y[i] * inverse;
+            oz[i] = z[i] * inverse;
+        }
+    }
+
+    static void dot(double[] x1, double[] y1, double[] z1, double[] w1,
+                    double[] x2, double[] y2, double[] z2, double[] w2,
+                    double[] out, int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var xx = DoubleVector.fromArray(SPECIES, x1, i).mul(DoubleVector.fromArray(SPECIES, x2, i));
+            final var yy = DoubleVector.fromArray(SPECIES, y1, i).mul(DoubleVector.fromArray(SPECIES, y2, i));
+            final var zz = DoubleVector.fromArray(SPECIES, z1, i).mul(DoubleVector.fromArray(SPECIES, z2, i));
+            final var ww = DoubleVector.fromArray(SPECIES, w1, i).mul(DoubleVector.fromArray(SPECIES, w2, i));
+            xx.add(yy).add(zz).add(ww).intoArray(out, i);
+        }
+        for (; i < length; i++) out[i] = x1[i] * x2[i] + y1[i] * y2[i] + z1[i] * z2[i] + w1[i] * w2[i];
+    }
+
+    static void normalize(double[] x, double[] y, double[] z, double[] w,
+                          double[] ox, double[] oy, double[] oz, double[] ow,
+                          int length) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final var vx = DoubleVector.fromArray(SPECIES, x, i);
+            final var vy = DoubleVector.fromArray(SPECIES, y, i);
+            final var vz = DoubleVector.fromArray(SPECIES, z, i);
+            final var vw = DoubleVector.fromArray(SPECIES, w, i);
+            final var vLength = vx.mul(vx).add(vy.mul(vy)).add(vz.mul(vz)).add(vw.mul(vw)).sqrt();
+            final VectorMask<Double> isZero = vLength.eq(0d);
+            final var inverse = DoubleVector.broadcast(SPECIES, 1d).div(vLength).blend(0d, isZero);
+            vx.mul(inverse).intoArray(ox, i);
+            vy.mul(inverse).intoArray(oy, i);
+            vz.mul(inverse).intoArray(oz, i);
+            vw.mul(inverse).intoArray(ow, i);
+        }
+        for (; i < length; i++) {
+            final double vLength = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i] + w[i] * w[i]);
+            final double inverse = vLength == 0d ? 0d : 1d / vLength;
+            ox[i] = x[i] * inverse;
+            oy[i] = y[i] * inverse;
+            oz[i] = z[i] * inverse;
+            ow[i] = w[i] * inverse;
+        }
+    }
+}
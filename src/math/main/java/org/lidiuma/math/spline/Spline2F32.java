@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spline;
+
+import org.lidiuma.math.vector.Vec2F32;
+import java.util.Objects;
+
+/// An immutable cubic spline of [Vec2F32], the control points are interpreted according to its [SplineKind].\
+/// Every segment is converted to the power basis once, so evaluating any kind costs the same.
+///
+/// The parameter `t` covers the whole spline in `[0,1]`, each segment taking an equal share,
+///  so the speed along the curve is not constant.
+/// For a constant speed, the arc-length methods map a distance to `t` through a lookup table of cumulative chord lengths,
+///  [#SAMPLES_PER_SEGMENT] per segment, with a binary search.\
+/// The bulk methods write into primitive `x` and `y` arrays and never allocate.
+public final class Spline2F32 {
+
+    /// The number of chords per segment of the arc-length table.
+    public static final int SAMPLES_PER_SEGMENT = 16;
+
+    private final SplineKind kind;
+    private final int segments;
+    // The power basis coefficients a, b, c, d of each segment.
+    private final float[] x;
+    private final float[] y;
+    /// The cumulative length at each sample of the arc-length table, the first is `0`.
+    private final float[] lengths;
+
+    public Spline2F32(SplineKind kind, Vec2F32... points) {
+        this(kind, xs(points), ys(points));
+    }
+
+    /// @param x the `x` of the control points.
+    /// @param y the `y` of the control points, same length as `x`.
+    public Spline2F32(SplineKind kind, float[] x, float[] y) {
+        this.kind = Objects.requireNonNull(kind);
+        final var coefficients = SplineCoefficients.of(kind, new double[][]{toDouble(x), toDouble(y)});
+        this.x = toFloat(coefficients[0]);
+        this.y = toFloat(coefficients[1]);
+        this.segments = this.x.length / 4;
+        this.lengths = arcLengths();
+    }
+
+    public SplineKind kind() {
+        return kind;
+    }
+
+    public int segments() {
+        return segments;
+    }
+
+    /// @return the approximated length of the whole spline.
+    public float length() {
+        return lengths[lengths.length - 1];
+    }
+
+    /// @param t the parameter in `[0,1]`, it's clamped.
+    public Vec2F32 position(float t) {
+        final float u = clamp(t) * segments;
+        final int offset = segmentOffset(u);
+        final float local = u - offset / 4;
+        return new Vec2F32(evaluate(x, offset, local), evaluate(y, offset, local));
+    }
+
+    /// @param t the parameter in `[0,1]`, it's clamped.
+    /// @return the derivative with respect to `t`, not normalized.
+    public Vec2F32 tangent(float t) {
+        final float u = clamp(t) * segments;
+        final int offset = segmentOffset(u);
+        final float local = u - offset / 4;
+        // Scaled by the number of segments, since the parameter of a segment moves that much faster.
+        return new Vec2F32(
+                derivative(x, offset, local) * segments,
+                derivative(y, offset, local) * segments
+        );
+    }
+
+    /// @param distance the distance along the spline, it's clamped to `[0, length]`.
+    /// @return the parameter `t` at that distance, through a binary search of the arc-length table.
+    public float parameterAt(float distance) {
+        final float[] lengths = this.lengths;
+        final int last = lengths.length - 1;
+        if (!(distance > 0f)) return 0f;
+        if (distance >= lengths[last]) return 1f;
+        // The greatest sample whose length is not above the distance.
+        int low = 0, high = last;
+        while (high - low > 1) {
+            final int middle = (low + high) >>> 1;
+            if (lengths[middle] <= distance) low = middle;
+            else high = middle;
+        }
+        return parameter(low, distance);
+    }
+
+    /// @param distance the distance along the spline, it's clamped to `[0, length]`.
+    public Vec2F32 positionAt(float distance) {
+        return position(parameterAt(distance));
+    }
+
+    /// Evaluates the spline at every parameter.
+    public void sample(float[] parameters, float[] outX, float[] outY) {
+        final int size = checkSize(outX.length, parameters.length, outY.length);
+        final float[] ox = outX, oy = outY;
+        for (int i = 0; i < size; i++) {
+            final float u = clamp(parameters[i]) * segments;
+            final int offset = segmentOffset(u);
+            final float local = u - offset / 4;
+            ox[i] = evaluate(x, offset, local);
+            oy[i] = evaluate(y, offset, local);
+        }
+    }
+
+    /// Evaluates the spline at `outX.length` parameters evenly spaced in `[0,1]`, the first and the last are the end points.
+    public void sampleUniform(float[] outX, float[] outY) {
+        final int size = checkSize(outX.length, outY.length);
+        final float[] ox = outX, oy = outY;
+        final float step = size > 1 ? (float) segments / (size - 1) : 0f;
+        for (int i = 0; i < size; i++) {
+            final float u = Math.min(i * step, segments);
+            final int offset = segmentOffset(u);
+            final float local = u - offset / 4;
+            ox[i] = evaluate(x, offset, local);
+            oy[i] = evaluate(y, offset, local);
+        }
+    }
+
+    /// Evaluates the spline at `outX.length` points evenly spaced by arc length, the first and the last are the end points.\
+    /// Since the distances are increasing, I walk the arc-length table once instead of searching it for every point.
+    public void sampleByLength(float[] outX, float[] outY) {
+        final int size = checkSize(outX.length, outY.length);
+        final float[] ox = outX, oy = outY;
+        final float[] lengths = this.lengths;
+        final int last = lengths.length - 1;
+        final float step = size > 1 ? lengths[last] / (size - 1) : 0f;
+        int sample = 0;
+        for (int i = 0; i < size; i++) {
+            final float distance = i * step;
+            while (sample < last - 1 && lengths[sample + 1] <= distance) sample++;
+            final float u = parameter(sample, distance) * segments;
+            final int offset = segmentOffset(u);
+            final float local = u - offset / 4;
+            ox[i] = evaluate(x, offset, local);
+            oy[i] = evaluate(y, offset, local);
+        }
+    }
+
+    /// @return the parameter between the sample and the next one, linearly interpolated by length.
+    private float parameter(int sample, float distance) {
+        final float start = lengths[sample];
+        final float chord = lengths[sample + 1] - start;
+        final float fraction = chord > 0f ? Math.min((distance - start) / chord, 1f) : 0f;
+        return (sample + fraction) / (lengths.length - 1);
+    }
+
+    private float[] arcLengths() {
+        final var lengths = new float[segments * SAMPLES_PER_SEGMENT + 1];
+        double total = 0d;
+        float px = x[3], py = y[3];
+        for (int segment = 0, i = 1; segment < segments; segment++) {
+            final int offset = segment * 4;
+            for (int sample = 1; sample <= SAMPLES_PER_SEGMENT; sample++, i++) {
+                final float local = (float) sample / SAMPLES_PER_SEGMENT;
+                final float cx = evaluate(x, offset, local), cy = evaluate(y, offset, local);
+                final float dx = cx - px, dy = cy - py;
+                total += Math.sqrt(dx * dx + dy * dy);
+                lengths[i] = (float) total;
+                px = cx;
+                py = cy;
+            }
+        }
+        return lengths;
+    }
+
+    /// @param u the parameter scaled by the number of segments, in `[0, segments]`.
+    /// @return the offset of the coefficients of the segment, the last segment includes `u == segments`.
+    private int segmentOffset(float u) {
+        return Math.min((int) u, segments - 1) * 4;
+    }
+
+    private static float evaluate(float[] coefficients, int offset, float t) {
+        return ((coefficients[offset] * t + coefficients[offset + 1]) * t + coefficients[offset + 2]) * t + coefficients[offset + 3];
+    }
+
+    private static float derivative(float[] coefficients, int offset, float t) {
+        return (3f * coefficients[offset] * t + 2f * coefficients[offset + 1]) * t + coefficients[offset + 2];
+    }
+
+    /// NaN becomes `0`.
+    private static float clamp(float t) {
+        return t > 0f ? Math.min(t, 1f) : 0f;
+    }
+
+    private static double[] toDouble(float[] values) {
+        final var result = new double[values.length];
+        for (int i = 0; i < values.length; i++) result[i] = values[i];
+        return result;
+    }
+
+    private static float[] toFloat(double[] values) {
+        final var result = new float[values.length];
+        for (int i = 0; i < values.length; i++) result[i] = (float) values[i];
+        return result;
+    }
+
+    private static float[] xs(Vec2F32[] points) {
+        final var result = new float[points.length];
+        for (int i = 0; i < points.length; i++) result[i] = points[i].x();
+        return result;
+    }
+
+    private static float[] ys(Vec2F32[] points) {
+        final var result = new float[points.length];
+        for (int i = 0; i < points.length; i++) result[i] = points[i].y();
+        return result;
+    }
+
+    private static int checkSize(int expected, int actual) {
+        if (expected != actual) throw new IllegalArgumentException("The array lengths do not match, expected " + expected + " but got " + actual + ".");
+        return expected;
+    }
+
+    private static int checkSize(int expected, int actual1, int actual2) {
+        checkSize(expected, actual1);
+        return checkSize(expected, actual2);
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spline;
+
+import org.lidiuma.math.vector.Vec3F64;
+import org.lidiuma.math.vector.Vec3F64Buffer;
+import java.util.Objects;
+
+/// An immutable cubic spline of [Vec3F64], the control points are interpreted according to its [SplineKind].\
+/// Every segment is converted to the power basis once, so evaluating any kind costs the same.
+///
+/// The parameter `t` covers the whole spline in `[0,1]`, each segment taking an equal share,
+///  so the speed along the curve is not constant.
+/// For a constant speed, the arc-length methods map a distance to `t` through a lookup table of cumulative chord lengths,
+///  [#SAMPLES_PER_SEGMENT] per segment, with a binary search.\
+/// The bulk methods write into a [Vec3F64Buffer] and never allocate.
+public final class Spline3F64 {
+
+    /// The number of chords per segment of the arc-length table.
+    public static final int SAMPLES_PER_SEGMENT = 16;
+
+    private final SplineKind kind;
+    private final int segments;
+    // The power basis coefficients a, b, c, d of each segment.
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+    /// The cumulative length at each sample of the arc-length table, the first is `0`.
+    private final double[] lengths;
+
+    public Spline3F64(SplineKind kind, Vec3F64... points) {
+        this(kind, Vec3F64Buffer.of(points));
+    }
+
+    public Spline3F64(SplineKind kind, Vec3F64Buffer points) {
+        this.kind = Objects.requireNonNull(kind);
+        final var coefficients = SplineCoefficients.of(kind, new double[][]{points.x(), points.y(), points.z()});
+        this.x = coefficients[0];
+        this.y = coefficients[1];
+        this.z = coefficients[2];
+        this.segments = this.x.length / 4;
+        this.lengths = arcLengths();
+    }
+
+    public SplineKind kind() {
+        return kind;
+    }
+
+    public int segments() {
+        return segments;
+    }
+
+    /// @return the approximated length of the whole spline.
+    public double length() {
+        return lengths[lengths.length - 1];
+    }
+
+    /// @param t the parameter in `[0,1]`, it's clamped.
+    public Vec3F64 position(double t) {
+        final double u = clamp(t) * segments;
+        final int offset = segmentOffset(u);
+        final double local = u - offset / 4;
+        return new Vec3F64(evaluate(x, offset, local), evaluate(y, offset, local), evaluate(z, offset, local));
+    }
+
+    /// @param t the parameter in `[0,1]`, it's clamped.
+    /// @return the derivative with respect to `t`, not normalized.
+    public Vec3F64 tangent(double t) {
+        final double u = clamp(t) * segments;
+        final int offset = segmentOffset(u);
+        final double local = u - offset / 4;
+        // Scaled by the number of segments, since the parameter of a segment moves that much faster.
+        return new Vec3F64(
+                derivative(x, offset, local) * segments,
+                derivative(y, offset, local) * segments,
+                derivative(z, offset, local) * segments
+        );
+    }
+
+    /// @param distance the distance along the spline, it's clamped to `[0, length]`.
+    /// @return the parameter `t` at that distance, through a binary search of the arc-length table.
+    public double parameterAt(double distance) {
+        final double[] lengths = this.lengths;
+        final int last = lengths.length - 1;
+        if (!(distance > 0d)) return 0d;
+        if (distance >= lengths[last]) return 1d;
+        // The greatest sample whose length is not above the distance.
+        int low = 0, high = last;
+        while (high - low > 1) {
+            final int middle = (low + high) >>> 1;
+            if (lengths[middle] <= distance) low = middle;
+            else high = middle;
+        }
+        return parameter(low, distance);
+    }
+
+    /// @param distance the distance along the spline, it's clamped to `[0, length]`.
+    public Vec3F64 positionAt(double distance) {
+        return position(parameterAt(distance));
+    }
+
+    /// Evaluates the spline at every parameter.
+    public void sample(double[] parameters, Vec3F64Buffer out) {
+        final int size = checkSize(out.size(), parameters.length);
+        final double[] ox = out.x(), oy = out.y(), oz = out.z();
+        for (int i = 0; i < size; i++) {
+            final double u = clamp(parameters[i]) * segments;
+            final int offset = segmentOffset(u);
+            final double local = u - offset / 4;
+            ox[i] = evaluate(x, offset, local);
+            oy[i] = evaluate(y, offset, local);
+            oz[i] = evaluate(z, offset, local);
+        }
+    }
+
+    /// Evaluates the spline at `out.size()` parameters evenly spaced in `[0,1]`, the first and the last are the end points.
+    public void sampleUniform(Vec3F64Buffer out) {
+        final int size = out.size();
+        final double[] ox = out.x(), oy = out.y(), oz = out.z();
+        final double step = size > 1 ? (double) segments / (size - 1) : 0d;
+        for (int i = 0; i < size; i++) {
+            final double u = Math.min(i * step, segments);
+            final int offset = segmentOffset(u);
+            final double local = u - offset / 4;
+            ox[i] = evaluate(x, offset, local);
+            oy[i] = evaluate(y, offset, local);
+            oz[i] = evaluate(z, offset, local);
+        }
+    }
+
+    /// Evaluates the spline at `out.size()` points evenly spaced by arc length, the first and the last are the end points.\
+    /// Since the distances are increasing, I walk the arc-length table once instead of searching it for every point.
+    public void sampleByLength(Vec3F64Buffer out) {
+        final int size = out.size();
+        final double[] ox = out.x(), oy = out.y(), oz = out.z();
+        final double[] lengths = this.lengths;
+        final int last = lengths.length - 1;
+        final double step = size > 1 ? lengths[last] / (size - 1) : 0d;
+        int sample = 0;
+        for (int i = 0; i < size; i++) {
+            final double distance = i * step;
+            while (sample < last - 1 && lengths[sample + 1] <= distance) sample++;
+            final double u = parameter(sample, distance) * segments;
+            final int offset = segmentOffset(u);
+            final double local = u - offset / 4;
+            ox[i] = evaluate(x, offset, local);
+            oy[i] = evaluate(y, offset, local);
+            oz[i] = evaluate(z, offset, local);
+        }
+    }
+
+    /// @return the parameter between the sample and the next one, linearly interpolated by length.
+    private double parameter(int sample, double distance) {
+        final double start = lengths[sample];
+        final double chord = lengths[sample + 1] - start;
+        final double fraction = chord > 0d ? Math.min((distance - start) / chord, 1d) : 0d;
+        return (sample + fraction) / (lengths.length - 1);
+    }
+
+    private double[] arcLengths() {
+        final var lengths = new double[segments * SAMPLES_PER_SEGMENT + 1];
+        double total = 0d;
+        double px = x[3], py = y[3], pz = z[3];
+        for (int segment = 0, i = 1; segment < segments; segment++) {
+            final int offset = segment * 4;
+            for (int sample = 1; sample <= SAMPLES_PER_SEGMENT; sample++, i++) {
+                final double local = (double) sample / SAMPLES_PER_SEGMENT;
+                final double cx = evaluate(x, offset, local), cy = evaluate(y, offset, local), cz = evaluate(z, offset, local);
+                final double dx = cx - px, dy = cy - py, dz = cz - pz;
+                total += Math.sqrt(dx * dx + dy * dy + dz * dz);
+                lengths[i] = total;
+                px = cx;
+                py = cy;
+                pz = cz;
+            }
+        }
+        return lengths;
+    }
+
+    /// @param u the parameter scaled by the number of segments, in `[0, segments]`.
+    /// @return the offset of the coefficients of the segment, the last segment includes `u == segments`.
+    private int segmentOffset(double u) {
+        return Math.min((int) u, segments - 1) * 4;
+    }
+
+    private static double evaluate(double[] coefficients, int offset, double t) {
+        return ((coefficients[offset] * t + coefficients[offset + 1]) * t + coefficients[offset + 2]) * t + coefficients[offset + 3];
+    }
+
+    private static double derivative(double[] coefficients, int offset, double t) {
+        return (3d * coefficients[offset] * t + 2d * coefficients[offset + 1]) * t + coefficients[offset + 2];
+    }
+
+    /// NaN becomes `0`.
+    private static double clamp(double t) {
+        return t > 0d ? Math.min(t, 1d) : 0d;
+    }
+
+    private static int checkSize(int expected, int actual) {
+        if (expected != actual) throw new IllegalArgumentException("The buffer sizes do not match, expected " + expected + " but got " + actual + ".");
+        return expected;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spline;
+
+/// Converts the control points of every [SplineKind] into the power basis `a t³ + b t² + c t + d`,
+///  so the splines evaluate every kind with the same code.\
+/// The coefficients are computed in `double` for every precision.
+final class SplineCoefficients {
+
+    /// Below this the distance between two Catmull-Rom points is considered zero.
+    private static final double MIN_DISTANCE = 1e-8d;
+
+    private SplineCoefficients() {}
+
+    /// @param points the components of the control points, `points[component][point]`.
+    /// @return the coefficients of every component, `a, b, c, d` of each segment, `result[component][segment * 4 + k]`.
+    static double[][] of(SplineKind kind, double[][] points) {
+        final int count = points[0].length;
+        for (final var component : points) {
+            if (component.length != count) throw new IllegalArgumentException("The component arrays must have the same length.");
+        }
+        final int segments = kind.segments(count);
+        final var result = new double[points.length][segments * 4];
+        for (int segment = 0; segment < segments; segment++) {
+            switch (kind) {
+                case CATMULL_ROM -> catmullRom(points, segment, result);
+                case BEZIER -> {
+                    final int first = segment * 3;
+                    for (int c = 0; c < points.length; c++) {
+                        final double[] p = points[c];
+                        bezier(p[first], p[first + 1], p[first + 2], p[first + 3], result[c], segment * 4);
+                    }
+                }
+                case HERMITE -> {
+                    final int first = segment * 2;
+                    for (int c = 0; c < points.length; c++) {
+                        final double[] p = points[c];
+                        hermite(p[first], p[first + 2], p[first + 1], p[first + 3], result[c], segment * 4);
+                    }
+                }
+                case B_SPLINE -> {
+                    for (int c = 0; c < points.length; c++) {
+                        final double[] p = points[c];
+                        bSpline(p[segment], p[segment + 1], p[segment + 2], p[segment + 3], result[c], segment * 4);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /// The centripetal tangents of Catmull-Rom (Yuksel et al.), the segment goes from `segment` to `segment + 1`.
+    private static void catmullRom(double[][] points, int segment, double[][] result) {
+
+        final int last = points[0].length - 1;
+        final int i1 = segment, i2 = segment + 1;
+        // The phantom points mirror the neighbour across the end point.
+        final boolean startPhantom = segment == 0, endPhantom = i2 == last;
+
+        final var p0 = new double[points.length];
+        final var p3 = new double[points.length];
+        for (int c = 0; c < points.length; c++) {
+            final double[] p = points[c];
+            p0[c] = startPhantom ? 2d * p[i1] - p[i2] : p[i1 - 1];
+            p3[c] = endPhantom ? 2d * p[i2] - p[i1] : p[i2 + 1];
+        }
+
+        double dt0 = 0d, dt1 = 0d, dt2 = 0d;
+        for (int c = 0; c < points.length; c++) {
+            final double[] p = points[c];
+            dt0 += square(p[i1] - p0[c]);
+            dt1 += square(p[i2] - p[i1]);
+            dt2 += square(p3[c] - p[i2]);
+        }
+        // The centripetal parameterization uses the square root of the distance, so the fourth root of the squared one.
+        dt1 = Math.sqrt(Math.sqrt(dt1));
+        if (dt1 < MIN_DISTANCE) dt1 = 1d;
+        dt0 = Math.sqrt(Math.sqrt(dt0));
+        if (dt0 < MIN_DISTANCE) dt0 = dt1;
+        dt2 = Math.sqrt(Math.sqrt(dt2));
+        if (dt2 < MIN_DISTANCE) dt2 = dt1;
+
+        for (int c = 0; c < points.length; c++) {
+            final double[] p = points[c];
+            final double a = p0[c], b = p[i1], d = p[i2], e = p3[c];
+            final double m1 = ((b - a) / dt0 - (d - a) / (dt0 + dt1) + (d - b) / dt1) * dt1;
+            final double m2 = ((d - b) / dt1 - (e - b) / (dt1 + dt2) + (e - d) / dt2) * dt1;
+            hermite(b, d, m1, m2, result[c], segment * 4);
+        }
+    }
+
+    private static void hermite(double p0, double p1, double m0, double m1, double[] out, int offset) {
+        out[offset] = 2d * p0 - 2d * p1 + m0 + m1;
+        out[offset + 1] = -3d * p0 + 3d * p1 - 2d * m0 - m1;
+        out[offset + 2] = m0;
+        out[offset + 3] = p0;
+    }
+
+    private static void bezier(double p0, double c0, double c1, double p1, double[] out, int offset) {
+        out[offset] = -p0 + 3d * c0 - 3d * c1 + p1;
+        out[offset + 1] = 3d * p0 - 6d * c0 + 3d * c1;
+        out[offset + 2] = -3d * p0 + 3d * c0;
+        out[offset + 3] = p0;
+    }
+
+    private static void bSpline(double p0, double p1, double p2, double p3, double[] out, int offset) {
+        out[offset] = (-p0 + 3d * p1 - 3d * p2 + p3) / 6d;
+        out[offset + 1] = (3d * p0 - 6d * p1 + 3d * p2) / 6d;
+        out[offset + 2] = (-3d * p0 + 3d * p2) / 6d;
+        out[offset + 3] = (p0 + 4d * p1 + p2) / 6d;
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.spline;
+
+/// How the control points of a spline are interpreted, every kind is cubic.
+public enum SplineKind {
+
+    /// Centripetal Catmull-Rom, the curve goes through every point, and it has no cusps nor self-intersections within a segment.\
+    /// The end tangents use mirrored phantom points, at least `2` points are required.
+    CATMULL_ROM,
+    /// Cubic Bézier segments sharing their end points: `p0, c0, c1, p1, c0, c1, p2, ...`, so `3n + 1` points are required.\
+    /// The curve only goes through the end points of the segments.
+    BEZIER,
+    /// Pairs of position and tangent: `p0, t0, p1, t1, ...`, at least `2` pairs are required.
+    HERMITE,
+    /// Uniform B-spline, the curve is `C2` continuous but goes through none of the points, at least `4` points are required.
+    B_SPLINE;
+
+    /// @return the number of cubic segments made from `points` control points.
+    /// @throws IllegalArgumentException if the number of points is not valid for this kind.
+    public int segments(int points) {
+        final int segments = switch (this) {
+            case CATMULL_ROM -> points - 1;
+            case BEZIER -> points % 3 == 1 ? (points - 1) / 3 : 0;
+            case HERMITE -> points % 2 == 0 ? points / 2 - 1 : 0;
+            case B_SPLINE -> points - 3;
+        };
+        if (segments < 1) throw new IllegalArgumentException("The number of points is not valid for " + this + ", got " + points + ".");
+        return segments;
+    }
+}
@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.transform;
+
+import org.lidiuma.math.matrix.Affine3F32;
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.vector.Vec3F32;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/// A flat transform hierarchy (scene graph) caching the local to world matrix of every node.\
+/// The nodes are indices in topological order, a parent is always added before its children,
+///  and each node stores its local translation, rotation, and scale in primitive arrays.
+///
+/// Changing a local transform only marks the node as dirty, then [#update()] recomputes the world matrices
+///  of the dirty subtrees, and nothing else: an update without dirty nodes costs nothing, whatever the size of the hierarchy,
+///  and with them it costs their subtrees plus their paths to the roots.
+/// Independent dirty subtrees are recomputed in parallel on a [ForkJoinPool] when there is enough work.
+///
+/// The world matrices are stored like [Affine3F32], 12 floats per node, and are only valid after [#update()].
+/// @apiNote the hierarchy is mutable and not thread-safe, except for the parallel work [#update()] does internally.
+public final class TransformHierarchyF32 {
+
+    /// The parent of the root nodes.
+    public static final int NO_PARENT = -1;
+    private static final int MATRIX_STRIDE = 12;
+    /// Subtrees with fewer nodes are recomputed by the current thread.
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    private int size;
+    private int[] parents = {};
+    private int[] firstChildren = {};
+    private int[] nextSiblings = {};
+    /// The number of nodes of the subtree of each node, itself included.
+    private int[] subtreeSizes = {};
+
+    private float[] translationX = {}, translationY = {}, translationZ = {};
+    private float[] rotationX = {}, rotationY = {}, rotationZ = {}, rotationW = {};
+    private float[] scaleX = {}, scaleY = {}, scaleZ = {};
+    private float[] world = {};
+
+    private boolean[] dirty = {};
+    private int[] dirtyNodes = {};
+    private int dirtyCount;
+    // Scratch arrays of the update.
+    /// The nodes whose `covered` value is known in the current update have the current `stamp`.
+    private int[] visited = {};
+    private int stamp;
+    /// If the node has a dirty ancestor.
+    private boolean[] covered = {};
+    private int[] changeRoots = {};
+    private int[] stack = {};
+
+    public TransformHierarchyF32() {
+        this(16);
+    }
+
+    /// @param capacity the initial number of nodes, the hierarchy grows as needed.
+    public TransformHierarchyF32(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("The capacity cannot be negative, got " + capacity + ".");
+        allocate(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /// Adds a node with an identity local transform.
+    /// @return the index of the node.
+    public int add(int parent) {
+        return add(parent, 0f, 0f, 0f, 0f, 0f, 0f, 1f, 1f, 1f, 1f);
+    }
+
+    /// @param parent an existing node, or [#NO_PARENT] for a root.
+    /// @return the index of the node.
+    public int add(int parent, Vec3F32 translation, QuaternionF32 rotation, Vec3F32 scale) {
+        return add(
+                parent,
+                translation.x(), translation.y(), translation.z(),
+                rotation.x(), rotation.y(), rotation.z(), rotation.w(),
+                scale.x(), scale.y(), scale.z()
+        );
+    }
+
+    private int add(int parent,
+                    float tx, float ty, float tz,
+                    float rx, float ry, float rz, float rw,
+                    float sx, float sy, float sz) {
+
+        if (parent != NO_PARENT) checkNode(parent);
+        if (size == parents.length) allocate(Math.max(16, size * 2));
+
+        final int node = size++;
+        parents[node] = parent;
+        firstChildren[node] = NO_PARENT;
+        subtreeSizes[node] = 1;
+        if (parent == NO_PARENT) {
+            nextSiblings[node] = NO_PARENT;
+        } else {
+            nextSiblings[node] = firstChildren[parent];
+            firstChildren[parent] = node;
+            for (int ancestor = parent; ancestor != NO_PARENT; ancestor = parents[ancestor]) subtreeSizes[ancestor]++;
+        }
+        setLocal(node, tx, ty, tz, rx, ry, rz, rw, sx, sy, sz);
+        return node;
+    }
+
+    /// @return the parent of the node, or [#NO_PARENT] if it's a root.
+    public int parent(int node) {
+        checkNode(node);
+        return parents[node];
+    }
+
+    public Vec3F32 translation(int node) {
+        checkNode(node);
+        return new Vec3F32(translationX[node], translationY[node], translationZ[node]);
+    }
+
+    public QuaternionF32 rotation(int node) {
+        checkNode(node);
+        return new QuaternionF32(rotationX[node], rotationY[node], rotationZ[node], rotationW[node]);
+    }
+
+    public Vec3F32 scale(int node) {
+        checkNode(node);
+        return new Vec3F32(scaleX[node], scaleY[node], scaleZ[node]);
+    }
+
+    public void setTranslation(int node, Vec3F32 translation) {
+        checkNode(node);
+        translationX[node] = translation.x();
+        translationY[node] = translation.y();
+        translationZ[node] = translation.z();
+        markDirty(node);
+    }
+
+    /// @param rotation a unit quaternion.
+    public void setRotation(int node, QuaternionF32 rotation) {
+        checkNode(node);
+        rotationX[node] = rotation.x();
+        rotationY[node] = rotation.y();
+        rotationZ[node] = rotation.z();
+        rotationW[node] = rotation.w();
+        markDirty(node);
+    }
+
+    public void setScale(int node, Vec3F32 scale) {
+        checkNode(node);
+        scaleX[node] = scale.x();
+        scaleY[node] = scale.y();
+        scaleZ[node] = scale.z();
+        markDirty(node);
+    }
+
+    public void setLocal(int node, Vec3F32 translation, QuaternionF32 rotation, Vec3F32 scale) {
+        checkNode(node);
+        setLocal(
+                node,
+                translation.x(), translation.y(), translation.z(),
+                rotation.x(), rotation.y(), rotation.z(), rotation.w(),
+                scale.x(), scale.y(), scale.z()
+        );
+    }
+
+    private void setLocal(int node,
+                          float tx, float ty, float tz,
+                          float rx, float ry, float rz, float rw,
+                          float sx, float sy, float sz) {
+        translationX[node] = tx;
+        translationY[node] = ty;
+        translationZ[node] = tz;
+        rotationX[node] = rx;
+        rotationY[node] = ry;
+        rotationZ[node] = rz;
+        rotationW[node] = rw;
+        scaleX[node] = sx;
+        scaleY[node] = sy;
+        scaleZ[node] = sz;
+        markDirty(node);
+    }
+
+    /// @return the local transform, translation * rotation * scale, like [Affine3F32.Ops#fromTRS(Vec3F32, QuaternionF32, Vec3F32)].
+    public Affine3F32 local(int node) {
+        checkNode(node);
+        final float sx = scaleX[node], sy = scaleY[node], sz = scaleZ[node];
+        final float x = rotationX[node], y = rotationY[node], z = rotationZ[node], w = rotationW[node];
+        final float xs = x * 2f, ys = y * 2f, zs = z * 2f;
+        final float wx = w * xs, wy = w * ys, wz = w * zs;
+        final float xx = x * xs, xy = x * ys, xz = x * zs;
+        final float yy = y * ys, yz = y * zs, zz = z * zs;
+        return new Affine3F32(
+                (1f - (yy + zz)) * sx, (xy - wz) * sy, (xz + wy) * sz, translationX[node],
+                (xy + wz) * sx, (1f - (xx + zz)) * sy, (yz - wx) * sz, translationY[node],
+                (xz - wy) * sx, (yz + wx) * sy, (1f - (xx + yy)) * sz, translationZ[node]
+        );
+    }
+
+    /// @return the local to world transform, as of the last [#update()].
+    public Affine3F32 world(int node) {
+        checkNode(node);
+        final int o = node * MATRIX_STRIDE;
+        final float[] m = world;
+        return new Affine3F32(
+                m[o], m[o + 1], m[o + 2], m[o + 3],
+                m[o + 4], m[o + 5], m[o + 6], m[o + 7],
+                m[o + 8], m[o + 9], m[o + 10], m[o + 11]
+        );
+    }
+
+    /// Copies the world matrices of every node into `out`, 12 floats per node in the order of [Affine3F32], e.g. for a GPU upload.
+    public void worldMatrices(float[] out) {
+        final int length = size * MATRIX_STRIDE;
+        if (out.length != length) throw new IllegalArgumentException("The array lengths do not match, expected " + length + " but got " + out.length + ".");
+        System.arraycopy(world, 0, out, 0, length);
+    }
+
+    /// @return true if a local transform changed since the last [#update()].
+    public boolean isDirty() {
+        return dirtyCount > 0;
+    }
+
+    /// Recomputes the world matrices of the dirty subtrees,
+    ///  on the common [ForkJoinPool] if they have more than a few thousand nodes in total.
+    public void update() {
+        update(ForkJoinPool.commonPool());
+    }
+
+    /// Like [#update()], running the parallel work on the provided pool.
+    public void update(ForkJoinPool pool) {
+        if (dirtyCount == 0) return;
+
+        final int roots = collectChangeRoots();
+        int work = 0;
+        for (int i = 0; i < roots && work <= PARALLEL_THRESHOLD; i++) work += subtreeSizes[changeRoots[i]];
+        if (work > PARALLEL_THRESHOLD) {
+            pool.invoke(new SubtreesTask(Arrays.copyOf(changeRoots, roots), 0, roots));
+        } else {
+            for (int i = 0; i < roots; i++) updateSubtree(changeRoots[i], stack);
+        }
+
+        for (int i = 0; i < dirtyCount; i++) dirty[dirtyNodes[i]] = false;
+        dirtyCount = 0;
+    }
+
+    /// Keeps only the dirty nodes without a dirty ancestor, their subtrees are disjoint and cover every node to recompute.\
+    /// Each dirty node walks up to its first dirty ancestor or to its root, and the walk remembers the outcome on the nodes it went through,
+    ///  so the following walks stop at them: every clean ancestor is visited once per update, however many dirty nodes share it.
+    /// @return the number of roots written in `changeRoots`.
+    private int collectChangeRoots() {
+        if (++stamp == 0) {
+            // Wrapped around, so the stamps of old updates could match again.
+            Arrays.fill(visited, 0);
+            stamp = 1;
+        }
+
+        int roots = 0;
+        for (int i = 0; i < dirtyCount; i++) {
+            final int node = dirtyNodes[i];
+            boolean nodeCovered = false;
+            int ancestor = parents[node];
+            for (; ancestor != NO_PARENT; ancestor = parents[ancestor]) {
+                if (visited[ancestor] == stamp) {
+                    nodeCovered = covered[ancestor]; // Visited nodes are clean, so their children share their outcome.
+                    break;
+                }
+                if (dirty[ancestor]) {
+                    nodeCovered = true;
+                    break;
+                }
+            }
+            // Every node on the path is clean and below the same ancestor.
+            for (int clean = parents[node]; clean != ancestor; clean = parents[clean]) {
+                visited[clean] = stamp;
+                covered[clean] = nodeCovered;
+            }
+            if (!nodeCovered) changeRoots[roots++] = node;
+        }
+        return roots;
+    }
+
+    /// Depth-first, so every parent is recomputed before its children.
+    /// @param stack at least as large as the subtree.
+    private void updateSubtree(int root, int[] stack) {
+        int top = 0;
+        stack[top++] = root;
+        while (top > 0) {
+            final int node = stack[--top];
+            updateWorld(node);
+            for (int child = firstChildren[node]; child != NO_PARENT; child = nextSiblings[child]) stack[top++] = child;
+        }
+    }
+
+    private final class SubtreesTask extends RecursiveAction {
+
+        private final int[] roots;
+        private final int start;
+        private final int end;
+
+        private SubtreesTask(int[] roots, int start, int end) {
+            this.roots = roots;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start > 1) {
+                int work = 0;
+                for (int i = start; i < end && work <= PARALLEL_THRESHOLD; i++) work += subtreeSizes[roots[i]];
+                if (work > PARALLEL_THRESHOLD) {
+                    final int middle = (start + end) >>> 1;
+                    invokeAll(new SubtreesTask(roots, start, middle), new SubtreesTask(roots, middle, end));
+                    return;
+                }
+            }
+            for (int i = start; i < end; i++) {
+                final int root = roots[i];
+                final int subtree = subtreeSizes[root];
+                if (subtree <= PARALLEL_THRESHOLD) {
+                    updateSubtree(root, new int[subtree]);
+                    continue;
+                }
+                // A large subtree, its root is recomputed first, then the subtrees of its children are independent.
+                updateWorld(root);
+                int count = 0;
+                for (int child = firstChildren[root]; child != NO_PARENT; child = nextSiblings[child]) count++;
+                final int[] children = new int[count];
+                for (int child = firstChildren[root], j = 0; child != NO_PARENT; child = nextSiblings[child]) children[j++] = child;
+                new SubtreesTask(children, 0, count).invoke();
+            }
+        }
+    }
+
+    private void updateWorld(int node) {
+        final int parent = parents[node];
+        final int o = node * MATRIX_STRIDE;
+        final float[] w = world;
+        if (parent == NO_PARENT) {
+            localMatrix(node, w, o);
+            return;
+        }
+
+        final float tx = translationX[node], ty = translationY[node], tz = translationZ[node];
+        final float sx = scaleX[node], sy = scaleY[node], sz = scaleZ[node];
+        final float x = rotationX[node], y = rotationY[node], z = rotationZ[node], rw = rotationW[node];
+        final float xs = x * 2f, ys = y * 2f, zs = z * 2f;
+        final float wx = rw * xs, wy = rw * ys, wz = rw * zs;
+        final float xx = x * xs, xy = x * ys, xz = x * zs;
+        final float yy = y * ys, yz = y * zs, zz = z * zs;
+        // The local rotation * scale.
+        final float l00 = (1f - (yy + zz)) * sx, l01 = (xy - wz) * sy, l02 = (xz + wy) * sz;
+        final float l10 = (xy + wz) * sx, l11 = (1f - (xx + zz)) * sy, l12 = (yz - wx) * sz;
+        final float l20 = (xz - wy) * sx, l21 = (yz + wx) * sy, l22 = (1f - (xx + yy)) * sz;
+
+        final int p = parent * MATRIX_STRIDE;
+        for (int row = 0; row < 3; row++) {
+            final int r = p + row * 4;
+            final float p0 = w[r], p1 = w[r + 1], p2 = w[r + 2], p3 = w[r + 3];
+            final int out = o + row * 4;
+            w[out] = p0 * l00 + p1 * l10 + p2 * l20;
+            w[out + 1] = p0 * l01 + p1 * l11 + p2 * l21;
+            w[out + 2] = p0 * l02 + p1 * l12 + p2 * l22;
+            w[out + 3] = p0 * tx + p1 * ty + p2 * tz + p3;
+        }
+    }
+
+    private void localMatrix(int node, float[] out, int offset) {
+        final float sx = scaleX[node], sy = scaleY[node], sz = scaleZ[node];
+        final float x = rotationX[node], y = rotationY[node], z = rotationZ[node], w = rotationW[node];
+        final float xs = x * 2f, ys = y * 2f, zs = z * 2f;
+        final float wx = w * xs, wy = w * ys, wz = w * zs;
+        final float xx = x * xs, xy = x * ys, xz = x * zs;
+        final float yy = y * ys, yz = y * zs, zz = z * zs;
+        out[offset] = (1f - (yy + zz)) * sx;
+        out[offset + 1] = (xy - wz) * sy;
+        out[offset + 2] = (xz + wy) * sz;
+        out[offset + 3] = translationX[node];
+        out[offset + 4] = (xy + wz) * sx;
+        out[offset + 5] = (1f - (xx + zz)) * sy;
+        out[offset + 6] = (yz - wx) * sz;
+        out[offset + 7] = translationY[node];
+        out[offset + 8] = (xz - wy) * sx;
+        out[offset + 9] = (yz + wx) * sy;
+        out[offset + 10] = (1f - (xx + yy)) * sz;
+        out[offset + 11] = translationZ[node];
+    }
+
+    private void markDirty(int node) {
+        if (dirty[node]) return;
+        dirty[node] = true;
+        dirtyNodes[dirtyCount++] = node;
+    }
+
+    private void checkNode(int node) {
+        if (node < 0 || node >= size) throw new IndexOutOfBoundsException("The node " + node + " does not exist, the size is " + size + ".");
+    }
+
+    private void allocate(int capacity) {
+        parents = Arrays.copyOf(parents, capacity);
+        firstChildren = Arrays.copyOf(firstChildren, capacity);
+        nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+        subtreeSizes = Arrays.copyOf(subtreeSizes, capacity);
+        dirtyNodes = Arrays.copyOf(dirtyNodes, capacity);
+        changeRoots = Arrays.copyOf(changeRoots, capacity);
+        stack = Arrays.copyOf(stack, capacity);
+        translationX = Arrays.copyOf(translationX, capacity);
+        translationY = Arrays.copyOf(translationY, capacity);
+        translationZ = Arrays.copyOf(translationZ, capacity);
+        rotationX = Arrays.copyOf(rotationX, capacity);
+        rotationY = Arrays.copyOf(rotationY, capacity);
+        rotationZ = Arrays.copyOf(rotationZ, capacity);
+        rotationW = Arrays.copyOf(rotationW, capacity);
+        scaleX = Arrays.copyOf(scaleX, capacity);
+        scaleY = Arrays.copyOf(scaleY, capacity);
+        scaleZ = Arrays.copyOf(scaleZ, capacity);
+        world = Arrays.copyOf(world, capacity * MATRIX_STRIDE);
+        dirty = Arrays.copyOf(dirty, capacity);
+        visited = Arrays.copyOf(visited, capacity);
+        covered = Arrays.copyOf(covered, capacity);
+    }
+}
@@ -20,6 +20,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.traits.vector.FloatingVector1Ops;
 import org.lidiuma.math.api.tuple.UnaryTuple1;
 import org.lidiuma.math.api.vector.Vector1;
+import org.lidiuma.math.easing.FloatEasing;
 import org.lidiuma.math.numerics.FloatNumeric;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
@@ -66,5 +67,13 @@ public value record Vec1F32(@Override @NullRestricted Float x) implements Vector
         public FloatNumeric scalarOps() {
             return FloatNumeric.OPS;
         }
+
+        /// Like the boxed `interpolate`, but neither the progress nor the easing box.
+        public Vec1F32 interpolate(Vec1F32 start, Vec1F32 end, float alpha, FloatEasing easing) {
+            final float eased = easing.ease(alpha);
+            return new Vec1F32(
+                    start.x() + (end.x() - start.x()) * eased
+            );
+        }
     }
 }
@@ -20,6 +20,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.traits.vector.FloatingVector1Ops;
 import org.lidiuma.math.api.tuple.UnaryTuple1;
 import org.lidiuma.math.api.vector.Vector1;
+import org.lidiuma.math.easing.DoubleEasing;
 import org.lidiuma.math.numerics.DoubleNumeric;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
@@ -66,5 +67,13 @@ public value record Vec1F64(@Override @NullRestricted Double x) implements Vecto
         public DoubleNumeric scalarOps() {
             return DoubleNumeric.OPS;
         }
+
+        /// Like the boxed `interpolate`, but neither the progress nor the easing box.
+        public Vec1F64 interpolate(Vec1F64 start, Vec1F64 end, double alpha, DoubleEasing easing) {
+            final double eased = easing.ease(alpha);
+            return new Vec1F64(
+                    start.x() + (end.x() - start.x()) * eased
+            );
+        }
     }
 }
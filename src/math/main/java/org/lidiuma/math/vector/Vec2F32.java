@@ -20,6 +20,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.traits.vector.FloatingVector2Ops;
 import org.lidiuma.math.api.tuple.UnaryTuple2;
 import org.lidiuma.math.api.vector.Vector2;
+import org.lidiuma.math.easing.FloatEasing;
 import org.lidiuma.math.numerics.FloatNumeric;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
@@ -69,5 +70,14 @@ public value record Vec2F32(
         public FloatNumeric scalarOps() {
             return FloatNumeric.OPS;
         }
+
+        /// Like the boxed `interpolate`, but neither the progress nor the easing box.
+        public Vec2F32 interpolate(Vec2F32 start, Vec2F32 end, float alpha, FloatEasing easing) {
+            final float eased = easing.ease(alpha);
+            return new Vec2F32(
+                    start.x() + (end.x() - start.x()) * eased,
+                    start.y() + (end.y() - start.y()) * eased
+            );
+        }
     }
 }
@@ -21,6 +21,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.traits.vector.FloatingVector3Ops;
 import org.lidiuma.math.api.tuple.UnaryTuple3;
 import org.lidiuma.math.api.vector.Vector3;
+import org.lidiuma.math.easing.FloatEasing;
 import org.lidiuma.math.numerics.FloatNumeric;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
@@ -72,5 +73,15 @@ public value record Vec3F32(
         public FloatNumeric scalarOps() {
             return FloatNumeric.OPS;
         }
+
+        /// Like the boxed `interpolate`, but neither the progress nor the easing box.
+        public Vec3F32 interpolate(Vec3F32 start, Vec3F32 end, float alpha, FloatEasing easing) {
+            final float eased = easing.ease(alpha);
+            return new Vec3F32(
+                    start.x() + (end.x() - start.x()) * eased,
+                    start.y() + (end.y() - start.y()) * eased,
+                    start.z() + (end.z() - start.z()) * eased
+            );
+        }
     }
 }
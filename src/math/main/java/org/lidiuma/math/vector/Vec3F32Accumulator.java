@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.vector;
+
+/// A mutable accumulator of [Vec3F32] with primitive fields, for reductions like sums, centroids and bounding boxes.\
+/// Summing with [Vec3F32.Ops#add] in a loop only avoids allocating if the JIT scalarizes the loop-carried value,
+///  this class never allocates while accumulating.
+/// @apiNote the sums are plain `float` additions, use [Vec3F32KahanAccumulator] for long reductions.
+public final class Vec3F32Accumulator {
+
+    private float sumX, sumY, sumZ;
+    private float minX, minY, minZ;
+    private float maxX, maxY, maxZ;
+    private int count;
+
+    public Vec3F32Accumulator() {
+        reset();
+    }
+
+    public Vec3F32Accumulator add(Vec3F32 vector) {
+        return add(vector.x(), vector.y(), vector.z());
+    }
+
+    public Vec3F32Accumulator add(float x, float y, float z) {
+        sumX += x;
+        sumY += y;
+        sumZ += z;
+        minX = Math.min(minX, x);
+        minY = Math.min(minY, y);
+        minZ = Math.min(minZ, z);
+        maxX = Math.max(maxX, x);
+        maxY = Math.max(maxY, y);
+        maxZ = Math.max(maxZ, z);
+        count++;
+        return this;
+    }
+
+    /// Adds every vector of the buffer.
+    public Vec3F32Accumulator add(Vec3F32Buffer buffer) {
+        final float[] x = buffer.x(), y = buffer.y(), z = buffer.z();
+        for (int i = 0; i < x.length; i++) add(x[i], y[i], z[i]);
+        return this;
+    }
+
+    /// Adds the state of another accumulator, useful to combine the partial results of a parallel reduction.
+    public Vec3F32Accumulator merge(Vec3F32Accumulator other) {
+        sumX += other.sumX;
+        sumY += other.sumY;
+        sumZ += other.sumZ;
+        minX = Math.min(minX, other.minX);
+        minY = Math.min(minY, other.minY);
+        minZ = Math.min(minZ, other.minZ);
+        maxX = Math.max(maxX, other.maxX);
+        maxY = Math.max(maxY, other.maxY);
+        maxZ = Math.max(maxZ, other.maxZ);
+        count += other.count;
+        return this;
+    }
+
+    public Vec3F32Accumulator reset() {
+        sumX = sumY = sumZ = 0f;
+        minX = minY = minZ = Float.POSITIVE_INFINITY;
+        maxX = maxY = maxZ = Float.NEGATIVE_INFINITY;
+        count = 0;
+        return this;
+    }
+
+    /// @return the number of accumulated vectors.
+    public int count() {
+        return count;
+    }
+
+    /// @return the sum of the accumulated vectors.
+    public Vec3F32 result() {
+        return new Vec3F32(sumX, sumY, sumZ);
+    }
+
+    /// @return the average of the accumulated vectors, or zero if empty.
+    public Vec3F32 centroid() {
+        if (count == 0) return new Vec3F32(0f, 0f, 0f);
+        final float inverse = 1f / count;
+        return new Vec3F32(sumX * inverse, sumY * inverse, sumZ * inverse);
+    }
+
+    /// @return the minimum corner of the bounding box, positive infinity if empty.
+    public Vec3F32 min() {
+        return new Vec3F32(minX, minY, minZ);
+    }
+
+    /// @return the maximum corner of the bounding box, negative infinity if empty.
+    public Vec3F32 max() {
+        return new Vec3F32(maxX, maxY, maxZ);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.vector;
+
+/// A compensated sum of [Vec3F32] with primitive fields, it uses Neumaier's variant of the Kahan summation.\
+/// The error stays around one ulp of the result independently of the number of vectors,
+///  while a plain `float` sum like [Vec3F32Accumulator] loses precision once the sum dwarfs the added values.
+public final class Vec3F32KahanAccumulator {
+
+    private float sumX, sumY, sumZ;
+    private float compensationX, compensationY, compensationZ;
+    private int count;
+
+    public Vec3F32KahanAccumulator add(Vec3F32 vector) {
+        return add(vector.x(), vector.y(), vector.z());
+    }
+
+    public Vec3F32KahanAccumulator add(float x, float y, float z) {
+        final float totalX = sumX + x, totalY = sumY + y, totalZ = sumZ + z;
+        final float errorX = compensationX + error(sumX, x, totalX);
+        final float errorY = compensationY + error(sumY, y, totalY);
+        final float errorZ = compensationZ + error(sumZ, z, totalZ);
+        // I fold the compensation back into the sum, so it stays below one ulp of the sum instead of growing with it.
+        sumX = totalX + errorX;
+        sumY = totalY + errorY;
+        sumZ = totalZ + errorZ;
+        compensationX = errorX - (sumX - totalX);
+        compensationY = errorY - (sumY - totalY);
+        compensationZ = errorZ - (sumZ - totalZ);
+        count++;
+        return this;
+    }
+
+    /// Adds every vector of the buffer.
+    public Vec3F32KahanAccumulator add(Vec3F32Buffer buffer) {
+        final float[] x = buffer.x(), y = buffer.y(), z = buffer.z();
+        for (int i = 0; i < x.length; i++) add(x[i], y[i], z[i]);
+        return this;
+    }
+
+    /// @return the low-order bits lost by `sum + value = total`.
+    private static float error(float sum, float value, float total) {
+        // I recover them from whichever operand is smaller.
+        return Math.abs(sum) >= Math.abs(value) ? (sum - total) + value : (value - total) + sum;
+    }
+
+    public Vec3F32KahanAccumulator reset() {
+        sumX = sumY = sumZ = 0f;
+        compensationX = compensationY = compensationZ = 0f;
+        count = 0;
+        return this;
+    }
+
+    /// @return the number of accumulated vectors.
+    public int count() {
+        return count;
+    }
+
+    /// @return the compensated sum of the accumulated vectors.
+    public Vec3F32 result() {
+        return new Vec3F32(sumX + compensationX, sumY + compensationY, sumZ + compensationZ);
+    }
+
+    /// @return the average of the accumulated vectors, or zero if empty.
+    public Vec3F32 centroid() {
+        if (count == 0) return new Vec3F32(0f, 0f, 0f);
+        final float inverse = 1f / count;
+        return new Vec3F32((sumX + compensationX) * inverse, (sumY + compensationY) * inverse, (sumZ + compensationZ) * inverse);
+    }
+}
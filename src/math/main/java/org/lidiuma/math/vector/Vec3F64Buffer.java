@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.vector;
+
+import java.util.Objects;
+
+/// A structure-of-arrays buffer of [Vec3F64], the `x`, `y`, and `z` components are stored in separate primitive arrays.\
+/// The bulk operations mirror [Vec3F64.Ops], but run as plain loops over the arrays, so the JIT can auto-vectorize them.
+/// @apiNote the buffer is mutable, and the arrays are shared, not copied.
+public final class Vec3F64Buffer {
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+
+    /// Creates a buffer of `size` zero vectors.
+    public Vec3F64Buffer(int size) {
+        this(new double[size], new double[size], new double[size]);
+    }
+
+    /// Creates a buffer backed by the provided arrays, they must all have the same length.
+    public Vec3F64Buffer(double[] x, double[] y, double[] z) {
+        this.x = Objects.requireNonNull(x);
+        this.y = Objects.requireNonNull(y);
+        this.z = Objects.requireNonNull(z);
+        if (x.length != y.length || x.length != z.length) throw new IllegalArgumentException("The component arrays must have the same length.");
+    }
+
+    /// Copies the vectors into a new buffer.
+    public static Vec3F64Buffer of(Vec3F64... vectors) {
+        final var buffer = new Vec3F64Buffer(vectors.length);
+        for (int i = 0; i < vectors.length; i++) buffer.set(i, vectors[i]);
+        return buffer;
+    }
+
+    public int size() {
+        return x.length;
+    }
+
+    /// @return the backing array of the `x` components.
+    public double[] x() {
+        return x;
+    }
+
+    /// @return the backing array of the `y` components.
+    public double[] y() {
+        return y;
+    }
+
+    /// @return the backing array of the `z` components.
+    public double[] z() {
+        return z;
+    }
+
+    public Vec3F64 get(int index) {
+        return new Vec3F64(x[index], y[index], z[index]);
+    }
+
+    public void set(int index, Vec3F64 vector) {
+        set(index, vector.x(), vector.y(), vector.z());
+    }
+
+    public void set(int index, double x, double y, double z) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+    }
+
+    /// Sets every vector of the buffer to the provided one.
+    public void fill(Vec3F64 vector) {
+        final double vx = vector.x(), vy = vector.y(), vz = vector.z();
+        for (int i = 0; i < x.length; i++) {
+            x[i] = vx;
+            y[i] = vy;
+            z[i] = vz;
+        }
+    }
+
+    /* ==== Bulk Operations ==== */
+
+    /// `out[i] = op1[i] + op2[i]`, `out` may be one of the operands.
+    public static void add(Vec3F64Buffer op1, Vec3F64Buffer op2, Vec3F64Buffer out) {
+        final int size = checkSize(op1, op2, out);
+        final double[] x1 = op1.x, y1 = op1.y, z1 = op1.z;
+        final double[] x2 = op2.x, y2 = op2.y, z2 = op2.z;
+        final double[] ox = out.x, oy = out.y, oz = out.z;
+        for (int i = 0; i < size; i++) {
+            ox[i] = x1[i] + x2[i];
+            oy[i] = y1[i] + y2[i];
+            oz[i] = z1[i] + z2[i];
+        }
+    }
+
+    /// `out[i] = op1[i] + op2`, `out` may be the operand.
+    public static void add(Vec3F64Buffer op1, Vec3F64 op2, Vec3F64Buffer out) {
+        final int size = checkSize(op1, out);
+        final double vx = op2.x(), vy = op2.y(), vz = op2.z();
+        final double[] x1 = op1.x, y1 = op1.y, z1 = op1.z;
+        final double[] ox = out.x, oy = out.y, oz = out.z;
+        for (int i = 0; i < size; i++) {
+            ox[i] = x1[i] + vx;
+            oy[i] = y1[i] + vy;
+            oz[i] = z1[i] + vz;
+        }
+    }
+
+    /// Component-wise multiplication, `out[i] = op1[i] * op2[i]`, `out` may be one of the operands.
+    public static void multiply(Vec3F64Buffer op1, Vec3F64Buffer op2, Vec3F64Buffer out) {
+        final int size = checkSize(op1, op2, out);
+        final double[] x1 = op1.x, y1 = op1.y, z1 = op1.z;
+        final double[] x2 = op2.x, y2 = op2.y, z2 = op2.z;
+        final double[] ox = out.x, oy = out.y, oz = out.z;
+        for (int i = 0; i < size; i++) {
+            ox[i] = x1[i] * x2[i];
+            oy[i] = y1[i] * y2[i];
+            oz[i] = z1[i] * z2[i];
+        }
+    }
+
+    /// `out[i] = op1[i] * scalar`, `out` may be the operand.
+    public static void multiply(Vec3F64Buffer op1, double scalar, Vec3F64Buffer out) {
+        final int size = checkSize(op1, out);
+        final double[] x1 = op1.x, y1 = op1.y, z1 = op1.z;
+        final double[] ox = out.x, oy = out.y, oz = out.z;
+        for (int i = 0; i < size; i++) {
+            ox[i] = x1[i] * scalar;
+            oy[i] = y1[i] * scalar;
+            oz[i] = z1[i] * scalar;
+        }
+    }
+
+    /// `out[i] = dot(op1[i], op2[i])`.
+    public static void dot(Vec3F64Buffer op1, Vec3F64Buffer op2, double[] out) {
+        final int size = checkSize(op1, op2);
+        checkSize(size, out.length);
+        final double[] x1 = op1.x, y1 = op1.y, z1 = op1.z;
+        final double[] x2 = op2.x, y2 = op2.y, z2 = op2.z;
+        for (int i = 0; i < size; i++) {
+            out[i] = x1[i] * x2[i] + y1[i] * y2[i] + z1[i] * z2[i];
+        }
+    }
+
+    /// `out[i] = cross(op1[i], op2[i])`, `out` may be one of the operands.
+    public static void cross(Vec3F64Buffer op1, Vec3F64Buffer op2, Vec3F64Buffer out) {
+        final int size = checkSize(op1, op2, out);
+        final double[] x1 = op1.x, y1 = op1.y, z1 = op1.z;
+        final double[] x2 = op2.x, y2 = op2.y, z2 = op2.z;
+        final double[] ox = out.x, oy = out.y, oz = out.z;
+        for (int i = 0; i < size; i++) {
+            // Locals are required, since out might alias the operands.
+            final double ax = x1[i], ay = y1[i], az = z1[i];
+            final double bx = x2[i], by = y2[i], bz = z2[i];
+            ox[i] = ay * bz - az * by;
+            oy[i] = az * bx - ax * bz;
+            oz[i] = ax * by - ay * bx;
+        }
+    }
+
+    /// `out[i] = length(op[i])`.
+    public static void length(Vec3F64Buffer op, double[] out) {
+        final int size = op.size();
+        checkSize(size, out.length);
+        final double[] x = op.x, y = op.y, z = op.z;
+        for (int i = 0; i < size; i++) {
+            out[i] = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+        }
+    }
+
+    /// `out[i] = normalize(op[i])`, `out` may be the operand.\
+    /// Zero-length vectors are left as zero instead of becoming `NaN`.
+    public static void normalize(Vec3F64Buffer op, Vec3F64Buffer out) {
+        final int size = checkSize(op, out);
+        final double[] x = op.x, y = op.y, z = op.z;
+        final double[] ox = out.x, oy = out.y, oz = out.z;
+        for (int i = 0; i < size; i++) {
+            final double length = Math.sqrt(x[i] * x[i] + y[i] * y[i] + z[i] * z[i]);
+            final double inverse = length == 0d ? 0d : 1d / length;
+            ox[i] = x[i] * inverse;
+            oy[i] = y[i] * inverse;
+            oz[i] = z[i] * inverse;
+        }
+    }
+
+    private static int checkSize(Vec3F64Buffer op1, Vec3F64Buffer op2) {
+        final int size = op1.size();
+        checkSize(size, op2.size());
+        return size;
+    }
+
+    private static int checkSize(Vec3F64Buffer op1, Vec3F64Buffer op2, Vec3F64Buffer out) {
+        final int size = checkSize(op1, op2);
+        checkSize(size, out.size());
+        return size;
+    }
+
+    private static void checkSize(int expected, int actual) {
+        if (expected != actual) throw new IllegalArgumentException("The buffer sizes do not match, expected " + expected + " but got " + actual + ".");
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.vector;
+
+import java.util.Objects;
+
+/// A structure-of-arrays buffer of [Vec3I32], the `x`, `y`, and `z` components are stored in separate primitive arrays.\
+/// The bulk operations mirror [Vec3I32.Ops], but run as plain loops over the arrays, so the JIT can auto-vectorize them.\
+/// Like [Vec3I32.Ops], overflow wraps around silently.
+/// @apiNote the buffer is mutable, and the arrays are shared, not copied.
+public final class Vec3I32Buffer {
+
+    private final int[] x;
+    private final int[] y;
+    private final int[] z;
+
+    /// Creates a buffer of `size` zero vectors.
+    public Vec3I32Buffer(int size) {
+        this(new int[size], new int[size], new int[size]);
+    }
+
+    /// Creates a buffer backed by the provided arrays, they must all have the same length.
+    public Vec3I32Buffer(int[] x, int[] y, int[] z) {
+        this.x = Objects.requireNonNull(x);
+        this.y = Objects.requireNonNull(y);
+        this.z = Objects.requireNonNull(z);
+        if (x.length != y.length || x.length != z.length) throw new IllegalArgumentException("The component arrays must have the same length.");
+    }
+
+    /// Copies the vectors into a new buffer.
+    public static Vec3I32Buffer of(Vec3I32... vectors) {
+        final var buffer = new Vec3I32Buffer(vectors.length);
+        for (int i = 0; i < vectors.length; i++) buffer.set(i, vectors[i]);
+        return buffer;
+    }
+
+    public int size() {
+        return x.length;
+    }
+
+    /// @return the backing array of the `x` components.
+    public int[] x() {
+        return x;
+    }
+
+    /// @return the backing array of the `y` components.
+    public int[] y() {
+        return y;
+    }
+
+    /// @return the backing array of the `z` components.
+    public int[] z() {
+        return z;
+    }
+
+    public Vec3I32 get(int index) {
+        return new Vec3I32(x[index], y[index], z[index]);
+    }
+
+    public void set(int index, Vec3I32 vector) {
+        set(index, vector.x(), vector.y(), vector.z());
+    }
+
+    public void set(int index, int x, int y, int z) {
+        this.x[index] = x;
+        this.y[index] = y;
+        this.z[index] = z;
+    }
+
+    /// Sets every vector of the buffer to the provided one.
+    public void fill(Vec3I32 vector) {
+        final int vx = vector.x(), vy = vector.y(), vz = vector.z();
+        for (int i = 0; i < x.length; i++) {
+            x[i] = vx;
+            y[i] = vy;
+            z[i] = vz;
+        }
+    }
+
+    /* ==== Bulk Operations ==== */
+
+    /// `out[i] = op1[i] + op2[i]`, `out` may be one of the operands.
+    public static void add(Vec3I32Buffer op1, Vec3I32Buffer op2, Vec3I32Buffer out) {
+        final int size = checkSize(op1, op2, out);
+        final int[] x1 = op1.x, y1 = op1.y, z1 = op1.z;
+        final int[] x2 = op2.x, y2 = op2.y, z2 = op2.z;
+        final int[] ox = out.x, oy = out.y, oz = out.z;
+        for (int i = 0; i < size; i++) {
+            ox[i] = x1[i] + x2[i];
+            oy[i] = y1[i] + y2[i];
+            oz[i] = z1[i] + z2[i];
+        }
+    }
+
+    /// `out[i] = op1[i] + op2`, `out` may be the operand.
+    public static void add(Vec3I32Buffer op1, Vec3I32 op2, Vec3I32Buffer out) {
+        final int size = checkSize(op1, out);
+        final int vx = op2.x(), vy = op2.y(), vz = op2.z();
+        final int[] x1 = op1.x, y1 = op1.y, z1 = op1.z;
+        final int[] ox = out.x, oy = out.y, oz = out.z;
+        for (int i = 0; i < size; i++) {
+            ox[i] = x1[i] + vx;
+            oy[i] = y1[i] + vy;
+            oz[i] = z1[i] + vz;
+        }
+    }
+
+    /// Component-wise multiplication, `out[i] = op1[i] * op2[i]`, `out` may be one of the operands.
+    public static void multiply(Vec3I32Buffer op1, Vec3I32Buffer op2, Vec3I32Buffer out) {
+        final int size = checkSize(op1, op2, out);
+        final int[] x1 = op1.x, y1 = op1.y, z1 = op1.z;
+        final int[] x2 = op2.x, y2 = op2.y, z2 = op2.z;
+        final int[] ox = out.x, oy = out.y, oz = out.z;
+        for (int i = 0; i < size; i++) {
+            ox[i] = x1[i] * x2[i];
+            oy[i] = y1[i] * y2[i];
+            oz[i] = z1[i] * z2[i];
+        }
+    }
+
+    /// `out[i] = op1[i] * scalar`, `out` may be the operand.
+    public static void multiply(Vec3I32Buffer op1, int scalar, Vec3I32Buffer out) {
+        final int size = checkSize(op1, out);
+        final int[] x1 = op1.x, y1 = op1.y, z1 = op1.z;
+        final int[] ox = out.x, oy = out.y, oz = out.z;
+        for (int i = 0; i < size; i++) {
+            ox[i] = x1[i] * scalar;
+            oy[i] = y1[i] * scalar;
+            oz[i] = z1[i] * scalar;
+        }
+    }
+
+    /// `out[i] = dot(op1[i], op2[i])`.
+    public static void dot(Vec3I32Buffer op1, Vec3I32Buffer op2, int[] out) {
+        final int size = checkSize(op1, op2);
+        checkSize(size, out.length);
+        final int[] x1 = op1.x, y1 = op1.y, z1 = op1.z;
+        final int[] x2 = op2.x, y2 = op2.y, z2 = op2.z;
+        for (int i = 0; i < size; i++) {
+            out[i] = x1[i] * x2[i] + y1[i] * y2[i] + z1[i] * z2[i];
+        }
+    }
+
+    /// `out[i] = cross(op1[i], op2[i])`, `out` may be one of the operands.
+    public static void cross(Vec3I32Buffer op1, Vec3I32Buffer op2, Vec3I32Buffer out) {
+        final int size = checkSize(op1, op2, out);
+        final int[] x1 = op1.x, y1 = op1.y, z1 = op1.z;
+        final int[] x2 = op2.x, y2 = op2.y, z2 = op2.z;
+        final int[] ox = out.x, oy = out.y, oz = out.z;
+        for (int i = 0; i < size; i++) {
+            // Locals are required, since out might alias the operands.
+            final int ax = x1[i], ay = y1[i], az = z1[i];
+            final int bx = x2[i], by = y2[i], bz = z2[i];
+            ox[i] = ay * bz - az * by;
+            oy[i] = az * bx - ax * bz;
+            oz[i] = ax * by - ay * bx;
+        }
+    }
+
+    private static int checkSize(Vec3I32Buffer op1, Vec3I32Buffer op2) {
+        final int size = op1.size();
+        checkSize(size, op2.size());
+        return size;
+    }
+
+    private static int checkSize(Vec3I32Buffer op1, Vec3I32Buffer op2, Vec3I32Buffer out) {
+        final int size = checkSize(op1, op2);
+        checkSize(size, out.size());
+        return size;
+    }
+
+    private static void checkSize(int expected, int actual) {
+        if (expected != actual) throw new IllegalArgumentException("The buffer sizes do not match, expected " + expected + " but got " + actual + ".");
+    }
+}
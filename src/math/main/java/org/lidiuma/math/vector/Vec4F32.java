@@ -20,6 +20,7 @@ import jdk.internal.vm.annotation.NullRestricted;
 import org.lidiuma.math.api.traits.vector.FloatingVector4Ops;
 import org.lidiuma.math.api.tuple.UnaryTuple4;
 import org.lidiuma.math.api.vector.Vector4;
+import org.lidiuma.math.easing.FloatEasing;
 import org.lidiuma.math.numerics.FloatNumeric;
 import org.lidiuma.math.processor.AliasExclude;
 import org.lidiuma.math.processor.FactoryAlias;
@@ -71,5 +72,16 @@ public value record Vec4F32(
         public FloatNumeric scalarOps() {
             return FloatNumeric.OPS;
         }
+
+        /// Like the boxed `interpolate`, but neither the progress nor the easing box.
+        public Vec4F32 interpolate(Vec4F32 start, Vec4F32 end, float alpha, FloatEasing easing) {
+            final float eased = easing.ease(alpha);
+            return new Vec4F32(
+                    start.x() + (end.x() - start.x()) * eased,
+                    start.y() + (end.y() - start.y()) * eased,
+                    start.z() + (end.z() - start.z()) * eased,
+                    start.w() + (end.w() - start.w()) * eased
+            );
+        }
     }
 }
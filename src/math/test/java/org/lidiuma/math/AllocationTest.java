@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lidiuma.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.vector.Vec3F32;
+import java.io.IOException;
+import java.lang.classfile.ClassFile;
+import java.lang.constant.ClassDesc;
+import java.lang.constant.DynamicConstantDesc;
+import java.lang.constant.MethodTypeDesc;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.*;
+import java.net.URISyntaxException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static java.lang.constant.ConstantDescs.*;
+
+/// The allocation gate, every public method of every `OPS` must not allocate once compiled by the JIT.
+///
+/// Each method gets its own hidden class calling it in a loop through a constant [MethodHandle],
+///  so the JIT can inline the whole call like it would in user code.
+/// The arguments are read from an array, so they are not constant-folded away.\
+/// Methods taking types I can't sample (arrays, buffers, interfaces) are skipped,
+///  and so are the ones throwing with the sampled arguments.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class AllocationTest {
+
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int WARMUP_ITERATIONS = 20_000;
+    // The JIT compiles in the background, so I measure a few times before giving up.
+    private static final int MEASURE_ROUNDS = 5;
+    private static final int MEASURE_ITERATIONS = 50_000;
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final ClassDesc PROBE_DESC = ClassDesc.of(AllocationTest.class.getPackageName(), "AllocationProbe");
+    private static final ClassDesc PROBE_INTERFACE_DESC = ClassDesc.of(Probe.class.getName());
+
+    /// Results end up here, so the calls are not dead code.
+    private static volatile double sink;
+
+    /// Implemented by the generated hidden classes.
+    interface Probe {
+        double run(Object[] arguments, int iterations);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> opsDoNotAllocate() throws IOException, URISyntaxException {
+        final var bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(bean.isThreadAllocatedMemorySupported(), "The JVM does not support measuring thread allocations.");
+        bean.setThreadAllocatedMemoryEnabled(true);
+
+        return opsClasses().stream().flatMap(owner -> {
+            final Object ops;
+            try {
+                ops = owner.getField("OPS").get(null);
+            } catch (ReflectiveOperationException e) {
+                throw new AssertionError(e);
+            }
+            final var bindings = new HashMap<TypeVariable<?>, Type>();
+            collectBindings(ops.getClass(), bindings);
+            return Arrays.stream(ops.getClass().getMethods())
+                    .filter(method -> !Modifier.isStatic(method.getModifiers()))
+                    .filter(method -> !method.isBridge() && !method.isSynthetic())
+                    .filter(method -> method.getDeclaringClass() != Object.class)
+                    .sorted(Comparator.comparing(Method::toGenericString))
+                    .map(method -> {
+                        final var parameters = Arrays.stream(method.getGenericParameterTypes()).map(type -> resolve(type, bindings)).toList();
+                        final var result = resolve(method.getGenericReturnType(), bindings);
+                        final var name = owner.getSimpleName() + ".OPS." + method.getName() + parameters.stream()
+                                .map(type -> type == null ? "?" : type.getSimpleName())
+                                .collect(Collectors.joining(", ", "(", ")"));
+                        return DynamicTest.dynamicTest(name, () -> assertNoAllocation(bean, name, ops, method, parameters, result));
+                    });
+        });
+    }
+
+    private static void assertNoAllocation(com.sun.management.ThreadMXBean bean, String name, Object ops, Method method,
+                                           List<Class<?>> parameters, Class<?> result) throws Throwable {
+
+        Assumptions.assumeTrue(result != null && result != void.class, "Unsupported return type.");
+        final var random = new Random(name.hashCode());
+        final var arguments = new Object[parameters.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            final var parameter = parameters.get(i);
+            arguments[i] = parameter == null ? null : sample(parameter, random);
+            Assumptions.assumeTrue(arguments[i] != null, "Unsupported parameter type: " + method.getGenericParameterTypes()[i]);
+        }
+
+        final var target = LOOKUP.unreflect(method)
+                .bindTo(ops)
+                .asType(MethodType.methodType(result, parameters));
+        try {
+            target.invokeWithArguments(arguments);
+        } catch (Throwable e) {
+            Assumptions.abort("Throws with the sampled arguments: " + e);
+        }
+
+        final var erased = MethodType.methodType(double.class, Collections.nCopies(parameters.size(), Object.class));
+        final var probe = probe(MethodHandles.filterReturnValue(target, toDouble(result)).asType(erased));
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) sink = probe.run(arguments, WARMUP_ITERATIONS);
+
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURE_ROUNDS && allocated >= MEASURE_ITERATIONS; i++) {
+            final long before = bean.getCurrentThreadAllocatedBytes();
+            sink = probe.run(arguments, MEASURE_ITERATIONS);
+            allocated = bean.getCurrentThreadAllocatedBytes() - before;
+        }
+        // Less than a byte per call means only the measurement itself allocated.
+        if (allocated >= MEASURE_ITERATIONS) {
+            Assertions.fail(name + " allocated " + (allocated / (double) MEASURE_ITERATIONS) + " bytes per call after warmup.");
+        }
+    }
+
+    /// Defines a hidden class calling the target `iterations` times, the target is its class data.
+    private static Probe probe(MethodHandle target) throws Throwable {
+        final int arity = target.type().parameterCount();
+        final var invokeType = MethodTypeDesc.of(CD_double, Collections.nCopies(arity, CD_Object));
+        final var handleDesc = DynamicConstantDesc.ofNamed(BSM_CLASS_DATA, DEFAULT_NAME, CD_MethodHandle);
+
+        final byte[] bytes = ClassFile.of().build(PROBE_DESC, builder -> builder
+                .withFlags(ClassFile.ACC_FINAL | ClassFile.ACC_SYNTHETIC)
+                .withSuperclass(CD_Object)
+                .withInterfaceSymbols(PROBE_INTERFACE_DESC)
+                .withMethodBody(INIT_NAME, MTD_void, ClassFile.ACC_PUBLIC, code -> code
+                        .aload(0)
+                        .invokespecial(CD_Object, INIT_NAME, MTD_void)
+                        .return_())
+                .withMethodBody("run", MethodTypeDesc.of(CD_double, CD_Object.arrayType(), CD_int), ClassFile.ACC_PUBLIC, code -> {
+                    // Slots: 0 this, 1 arguments, 2 iterations, 3-4 sum, 5 i.
+                    final var loop = code.newLabel();
+                    final var end = code.newLabel();
+                    code.dconst_0().dstore(3).iconst_0().istore(5);
+                    code.labelBinding(loop).iload(5).iload(2).if_icmpge(end);
+                    code.dload(3).ldc(handleDesc);
+                    for (int i = 0; i < arity; i++) code.aload(1).loadConstant(i).aaload();
+                    code.invokevirtual(CD_MethodHandle, "invokeExact", invokeType);
+                    code.dadd().dstore(3).iinc(5, 1).goto_(loop);
+                    code.labelBinding(end).dload(3).dreturn();
+                }));
+
+        final var hidden = LOOKUP.defineHiddenClassWithClassData(bytes, target, true);
+        return (Probe) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+    }
+
+    /// Reduces a result to a `double` by summing its components, reading the components keeps them alive.
+    private static MethodHandle toDouble(Class<?> type) throws ReflectiveOperationException {
+        if ((type.isPrimitive() && type != boolean.class && type != char.class) || type == Float.class || type == Double.class || type == Integer.class || type == Long.class) {
+            return MethodHandles.explicitCastArguments(MethodHandles.identity(type), MethodType.methodType(double.class, type));
+        }
+        if (type.isRecord()) {
+            MethodHandle sum = MethodHandles.dropArguments(MethodHandles.constant(double.class, 0d), 0, type);
+            final var add = LOOKUP.findStatic(AllocationTest.class, "add", MethodType.methodType(double.class, double.class, double.class));
+            for (final var component : type.getRecordComponents()) {
+                final var accessor = MethodHandles.filterReturnValue(LOOKUP.unreflect(component.getAccessor()), toDouble(component.getType()));
+                sum = MethodHandles.permuteArguments(MethodHandles.filterArguments(add, 0, sum, accessor), MethodType.methodType(double.class, type), 0, 0);
+            }
+            return sum;
+        }
+        return MethodHandles.dropArguments(MethodHandles.constant(double.class, 0d), 0, type);
+    }
+
+    private static double add(double op1, double op2) {
+        return op1 + op2;
+    }
+
+    /// @return a sample of the type, or null if I don't know how to create one.
+    private static Object sample(Class<?> type, Random random) throws ReflectiveOperationException {
+        if (type == Float.class || type == float.class) return .25f + random.nextFloat();
+        if (type == Double.class || type == double.class) return .25d + random.nextDouble();
+        if (type == Integer.class || type == int.class) return 1 + random.nextInt(8);
+        if (type == Long.class || type == long.class) return 1L + random.nextInt(8);
+        if (type == Boolean.class || type == boolean.class) return true;
+        if (type == UnaryOperator.class) return UnaryOperator.identity();
+        if (type.isEnum()) return type.getEnumConstants()[0];
+        if (type.isRecord()) {
+            final var components = type.getRecordComponents();
+            final var types = new Class<?>[components.length];
+            final var values = new Object[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = components[i].getType();
+                values[i] = sample(types[i], random);
+                if (values[i] == null) return null;
+            }
+            return type.getDeclaredConstructor(types).newInstance(values);
+        }
+        return null;
+    }
+
+    /// Maps the type variables of every generic supertype to their actual type.
+    private static void collectBindings(Type type, Map<TypeVariable<?>, Type> bindings) {
+        final Class<?> raw;
+        if (type instanceof ParameterizedType parameterized) {
+            raw = (Class<?>) parameterized.getRawType();
+            final var variables = raw.getTypeParameters();
+            final var arguments = parameterized.getActualTypeArguments();
+            for (int i = 0; i < variables.length; i++) bindings.put(variables[i], arguments[i]);
+        } else if (type instanceof Class<?> c) {
+            raw = c;
+        } else return;
+        for (final var supertype : raw.getGenericInterfaces()) collectBindings(supertype, bindings);
+        if (raw.getGenericSuperclass() != null) collectBindings(raw.getGenericSuperclass(), bindings);
+    }
+
+    private static Class<?> resolve(Type type, Map<TypeVariable<?>, Type> bindings) {
+        while (type instanceof TypeVariable<?> variable && bindings.containsKey(variable)) type = bindings.get(variable);
+        if (type instanceof Class<?> c) return c;
+        if (type instanceof ParameterizedType parameterized) return (Class<?>) parameterized.getRawType();
+        return null; // Unbound variables, wildcards, and generic arrays.
+    }
+
+    /// Finds every class of the math module declaring a public static `OPS` field.
+    private static List<Class<?>> opsClasses() throws IOException, URISyntaxException {
+        final var location = Path.of(Vec3F32.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        final var loader = Vec3F32.class.getClassLoader();
+        final var found = new TreeMap<String, Class<?>>();
+        try (final var fileSystem = Files.isDirectory(location) ? null : FileSystems.newFileSystem(location)) {
+            final var root = fileSystem == null ? location : fileSystem.getPath("/");
+            try (final var files = Files.walk(root)) {
+                for (final var file : (Iterable<Path>) files::iterator) {
+                    final var path = root.relativize(file).toString().replace('\\', '/');
+                    if (!path.startsWith("org/lidiuma/math/") || !path.endsWith(".class")) continue;
+                    final var className = path.substring(0, path.length() - ".class".length()).replace('/', '.');
+                    try {
+                        final var c = Class.forName(className, false, loader);
+                        final var field = c.getField("OPS");
+                        if (Modifier.isStatic(field.getModifiers())) found.put(className, c);
+                    } catch (ReflectiveOperationException | LinkageError _) {
+                        // Not an OPS holder, or it references optional modules like jdk.incubator.vector.
+                    }
+                }
+            }
+        }
+        return List.copyOf(found.values());
+    }
+}
@@ -19,11 +19,34 @@ package org.lidiuma.math;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.color.BlendMode;
+import org.lidiuma.math.color.ColorBuffer;
+import org.lidiuma.math.color.ColorF32;
+import org.lidiuma.math.color.Colors;
+import org.lidiuma.math.easing.CubicBezierEasing;
+import org.lidiuma.math.easing.Easing;
+import org.lidiuma.math.matrix.Affine3F32;
 import org.lidiuma.math.matrix.Matrices;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.numerics.TrigPrecision;
 import org.lidiuma.math.rotation.AngleF32;
+import org.lidiuma.math.rotation.DualQuaternionF32;
+import org.lidiuma.math.rotation.DualQuaternionSkinningF32;
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.rotation.QuaternionF32Accumulator;
+import org.lidiuma.math.rotation.QuaternionKeyframesF32;
 import org.lidiuma.math.rotation.Rotations;
+import org.lidiuma.math.shapes.TriangleBvhF32;
+import org.lidiuma.math.shapes.triangle.Triangle3F32;
+import org.lidiuma.math.spline.Spline3F32;
+import org.lidiuma.math.spline.SplineKind;
+import org.lidiuma.math.transform.TransformHierarchyF32;
 import org.lidiuma.math.vector.Vec3F32;
+import org.lidiuma.math.vector.Vec3F32Accumulator;
+import org.lidiuma.math.vector.Vec3F32Buffer;
+import org.lidiuma.math.vector.Vec3F32KahanAccumulator;
 import org.lidiuma.math.vector.Vectors;
+import java.util.Random;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public value class MathF32Test {
@@ -68,4 +91,396 @@ public value class MathF32Test {
         Assertions.assertEquals(Vectors.vec3(-10f, -10f, 10f), halfZ);
         Assertions.assertEquals(start, fullY);
     }
+
+    @Test
+    void rotateAll() {
+
+        final var quat = Rotations.fromAxisAngle(Vectors.normalize(Vectors.vec3(1f, 2f, 3f)), AngleF32.degrees(37f));
+        final float[] xyz = {10f, 10f, 10f, -3f, 5f, .5f, 0f, 0f, 1f};
+        final float[] out = new float[xyz.length];
+        Rotations.rotateAll(quat, xyz, out);
+
+        // The matrix path rounds differently from the quaternion products, so I compare with a tolerance.
+        for (int i = 0; i < xyz.length; i += 3) {
+            final var expected = Rotations.rotate(quat, Vectors.vec3(xyz[i], xyz[i + 1], xyz[i + 2]));
+            final float x = expected.x(), y = expected.y(), z = expected.z();
+            Assertions.assertEquals(x, out[i], 1e-4f);
+            Assertions.assertEquals(y, out[i + 1], 1e-4f);
+            Assertions.assertEquals(z, out[i + 2], 1e-4f);
+        }
+    }
+
+    @Test
+    void trigPrecision() {
+
+        final var yaw = AngleF32.degrees(30);
+        final var pitch = AngleF32.degrees(-75);
+        final var roll = AngleF32.degrees(190);
+        final var strict = Rotations.fromEulerAngle(yaw, pitch, roll);
+        final var end = Rotations.fromAxisAngle(Y_AXIS, AngleF32.degrees(120));
+
+        for (final var precision : TrigPrecision.values()) {
+            final var euler = Rotations.fromEulerAngle(yaw, pitch, roll, precision);
+            final var slerp = Rotations.slerp(strict, end, .3f, precision);
+            final var expected = Rotations.slerp(strict, end, .3f);
+            // Every component goes through three sines or cosines, each within the 1e-6 of TrigPrecision.FAST.
+            Assertions.assertArrayEquals(elements(strict), elements(euler), 3e-6f);
+            Assertions.assertArrayEquals(elements(expected), elements(slerp), 3e-6f);
+        }
+    }
+
+    @Test
+    void fastTrigBound() {
+        final var random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            final float radians = (i % 2 == 0 ? 8e5f : 10f) * (random.nextFloat() * 2f - 1f); // Half over the documented range, half around the origin.
+            final var sinCos = TrigPrecision.FAST.sinCos(radians);
+            Assertions.assertEquals((float) Math.sin(radians), TrigPrecision.FAST.sin(radians), 1.1e-6f);
+            Assertions.assertEquals((float) Math.cos(radians), TrigPrecision.FAST.cos(radians), 1.1e-6f);
+            Assertions.assertEquals(TrigPrecision.FAST.sin(radians), sinCos.sin());
+            Assertions.assertEquals(TrigPrecision.FAST.cos(radians), sinCos.cos());
+        }
+    }
+
+    @Test
+    void inverse() {
+
+        final var affine = Matrices.fromTRS(Vectors.vec3(1f, -2f, 3f), Rotations.fromAxisAngle(Y_AXIS, AngleF32.degrees(30f)), Vectors.vec3(2f, 2f, 2f));
+        final var affineIdentity = Matrices.multiply(affine, Matrices.inverse(affine));
+        Assertions.assertArrayEquals(elements(Matrices.identityAffine3F32()), elements(affineIdentity), 1e-5f);
+
+        final var matrix = Matrices.matrix4(2f, 0f, 1f, -3f, 1f, 1f, 0f, 2f, 0f, 3f, 1f, 1f, 0f, 0f, 2f, 1f);
+        final var matrixIdentity = Matrices.multiply(matrix, Matrices.inverse(matrix));
+        Assertions.assertArrayEquals(elements(Matrices.identityMatrix4F32()), elements(matrixIdentity), 1e-5f);
+        Assertions.assertThrows(ArithmeticException.class, () -> Matrices.inverse(Matrices.zeroMatrix4F32()));
+    }
+
+    @Test
+    void accumulators() {
+
+        final var accumulator = new Vec3F32Accumulator();
+        final var kahan = new Vec3F32KahanAccumulator();
+        for (final var vector : new Vec3F32[] {X_AXIS, Y_AXIS, Vectors.vec3(-1f, 2f, 4f)}) {
+            accumulator.add(vector);
+            kahan.add(vector);
+        }
+        Assertions.assertEquals(Vectors.vec3(0f, 3f, 4f), accumulator.result());
+        Assertions.assertEquals(Vectors.vec3(0f, 1f, 4f / 3f), accumulator.centroid());
+        Assertions.assertEquals(Vectors.vec3(-1f, 0f, 0f), accumulator.min());
+        Assertions.assertEquals(Vectors.vec3(1f, 2f, 4f), accumulator.max());
+        Assertions.assertEquals(accumulator.result(), kahan.result());
+
+        // A long reduction, where the plain float sum drifts by several percent.
+        kahan.reset();
+        double exact = 0d;
+        for (int i = 0; i < 10_000_000; i++) {
+            kahan.add(.1f, .1f, .1f);
+            exact += .1f;
+        }
+        Assertions.assertEquals(exact, kahan.result().x(), Math.ulp((float) exact));
+        Assertions.assertEquals(10_000_000, kahan.count());
+
+        // The negated quaternion is the same rotation, so it must not cancel the first one out.
+        final var rotation = Rotations.fromAxisAngle(Y_AXIS, AngleF32.degrees(40f));
+        final var negated = new QuaternionF32(-rotation.x(), -rotation.y(), -rotation.z(), -rotation.w());
+        final var average = new QuaternionF32Accumulator().add(rotation).add(negated, 2f).result();
+        Assertions.assertArrayEquals(elements(rotation), elements(average), 1e-6f);
+    }
+
+    @Test
+    void bvh() {
+
+        // A row of unit quads on the z = 5 plane, two triangles each.
+        final int quads = 64;
+        final var origins = new Vec3F32[quads * 2];
+        final var triangles = new Triangle3F32[quads * 2];
+        for (int i = 0; i < quads; i++) {
+            origins[i * 2] = Vectors.vec3(i, 0f, 5f);
+            triangles[i * 2] = new Triangle3F32(X_AXIS, Y_AXIS);
+            origins[i * 2 + 1] = Vectors.vec3(i + 1f, 1f, 5f);
+            triangles[i * 2 + 1] = new Triangle3F32(Vectors.negated(X_AXIS), Vectors.negated(Y_AXIS));
+        }
+        final var bvh = TriangleBvhF32.build(origins, triangles);
+
+        final var hit = bvh.raycast(Vectors.vec3(10.25f, .5f, 0f), Z_AXIS, 100f);
+        Assertions.assertEquals(20, hit.triangle());
+        Assertions.assertEquals(5f, hit.distance(), 1e-6f);
+        Assertions.assertEquals(.25f, hit.u(), 1e-6f);
+        Assertions.assertFalse(bvh.raycast(Vectors.vec3(10.25f, .5f, 0f), Z_AXIS, 4f).hit());
+        Assertions.assertFalse(bvh.raycast(Vectors.vec3(-1f, .5f, 0f), Z_AXIS, 100f).hit());
+
+        final var closest = bvh.closestPoint(Vectors.vec3(30.25f, .5f, 8f));
+        Assertions.assertEquals(60, closest.triangle());
+        Assertions.assertEquals(30.25f, closest.point().x(), 1e-5f);
+        Assertions.assertEquals(.5f, closest.point().y(), 1e-5f);
+        Assertions.assertEquals(9f, closest.distanceSquared(), 1e-5f);
+
+        Assertions.assertEquals(6, bvh.overlapping(Vectors.vec3(2.5f, 0f, 0f), Vectors.vec3(4.5f, 1f, 10f), triangle -> {}));
+
+        // The queries share a traversal stack per thread, a query nested in a visitor must not corrupt the outer one.
+        final int[] nested = new int[1];
+        final int visited = bvh.overlapping(Vectors.vec3(2.5f, 0f, 0f), Vectors.vec3(4.5f, 1f, 10f), triangle -> {
+            nested[0] += bvh.raycast(Vectors.vec3(10.25f, .5f, 0f), Z_AXIS, 100f).triangle();
+        });
+        Assertions.assertEquals(6, visited);
+        Assertions.assertEquals(6 * 20, nested[0]);
+    }
+
+    @Test
+    void keyframes() {
+
+        final var ops = QuaternionF32.OPS;
+        final var start = Rotations.fromAxisAngle(Y_AXIS, AngleF32.degrees(10f));
+        final var end = Rotations.fromAxisAngle(Vectors.normalize(Vectors.vec3(1f, 1f, 0f)), AngleF32.degrees(160f));
+        for (int i = 0; i <= 10; i++) {
+            final float alpha = i / 10f;
+            // Within 1.3e-3 radians of rotation, so each component is within half of it.
+            Assertions.assertArrayEquals(elements(ops.slerp(start, end, alpha)), elements(ops.fastSlerp(start, end, alpha)), 6.5e-4f);
+        }
+
+        // Two tracks, the second one has its last key in the opposite hemisphere.
+        final var keyframes = new QuaternionKeyframesF32(
+                new float[]{0f, 1f, 3f},
+                2,
+                new float[]{start.x(), 0f, end.x(), 0f, start.x(), 0f},
+                new float[]{start.y(), 0f, end.y(), 0f, start.y(), 0f},
+                new float[]{start.z(), 0f, end.z(), 0f, start.z(), 0f},
+                new float[]{start.w(), 1f, end.w(), 1f, start.w(), -1f}
+        );
+        final float[] x = new float[2], y = new float[2], z = new float[2], w = new float[2];
+        keyframes.sampleSquad(1f, x, y, z, w);
+        Assertions.assertArrayEquals(elements(end), new float[]{x[0], y[0], z[0], w[0]}, 1e-6f);
+        keyframes.sample(2f, x, y, z, w);
+        Assertions.assertArrayEquals(new float[]{0f, 0f, 0f, 1f}, new float[]{x[1], y[1], z[1], w[1]}, 1e-6f);
+
+        // Turning around the y-axis by 40 and then 80 degrees, the intervals around the middle key last 1 and 2, the velocity must not jump at it.
+        final float[] angles = {0f, 40f, 120f};
+        final float[] ty = new float[3], tw = new float[3];
+        for (int i = 0; i < angles.length; i++) {
+            final var key = Rotations.fromAxisAngle(Y_AXIS, AngleF32.degrees(angles[i]));
+            ty[i] = key.y();
+            tw[i] = key.w();
+        }
+        final var turn = new QuaternionKeyframesF32(new float[]{0f, 1f, 3f}, 1, new float[3], ty, new float[3], tw);
+        final float step = 1e-2f;
+        Assertions.assertArrayEquals(difference(turn, 1f - step, 1f, step), difference(turn, 1f, 1f + step, step), 5e-3f);
+    }
+
+    /// The finite difference of the squad of a single track from `start` to `end`.
+    private static float[] difference(QuaternionKeyframesF32 keyframes, float start, float end, float step) {
+        final float[] x = new float[1], y = new float[1], z = new float[1], w = new float[1];
+        keyframes.sampleSquad(end, x, y, z, w);
+        final float x1 = x[0], y1 = y[0], z1 = z[0], w1 = w[0];
+        keyframes.sampleSquad(start, x, y, z, w);
+        return new float[]{(x1 - x[0]) / step, (y1 - y[0]) / step, (z1 - z[0]) / step, (w1 - w[0]) / step};
+    }
+
+    @Test
+    void dualQuaternion() {
+
+        final var ops = DualQuaternionF32.OPS;
+        final var rotation = Rotations.fromAxisAngle(Vectors.normalize(Vectors.vec3(1f, 2f, 3f)), AngleF32.degrees(70f));
+        final var translation = Vectors.vec3(4f, -5f, 6f);
+        final var point = Vectors.vec3(1f, 1f, -2f);
+        final var transform = ops.fromRotationTranslation(rotation, translation);
+        final var affine = ops.toAffine(transform);
+        Assertions.assertArrayEquals(elements(Affine3F32.OPS.multiply(affine, point)), elements(ops.transformPoint(transform, point)), 1e-5f);
+        Assertions.assertArrayEquals(elements(translation), elements(ops.translation(ops.fromAffine(affine))), 1e-5f);
+        Assertions.assertArrayEquals(elements(point), elements(ops.transformPoint(ops.inverse(transform), ops.transformPoint(transform, point))), 1e-5f);
+
+        // The third slot is unused, the weights are normalized by the blend.
+        final var bones = new DualQuaternionF32[]{transform, ops.fromRotationTranslation(QuaternionF32.OPS.conjugate(rotation), X_AXIS)};
+        final var positions = Vec3F32Buffer.of(point, point);
+        final var skinned = new Vec3F32Buffer(2);
+        DualQuaternionSkinningF32.skin(
+                DualQuaternionSkinningF32.palette(bones),
+                new int[]{0, 1, 0, 0, 1, 0, 0, 0},
+                new float[]{1f, 1f, 0f, 0f, 2f, 0f, 0f, 0f},
+                positions,
+                skinned
+        );
+        final var blend = ops.blend(bones, new float[]{.5f, .5f});
+        Assertions.assertArrayEquals(elements(ops.transformPoint(blend, point)), elements(skinned.get(0)), 1e-5f);
+        Assertions.assertArrayEquals(elements(ops.transformPoint(bones[1], point)), elements(skinned.get(1)), 1e-5f);
+    }
+
+    @Test
+    void transformHierarchy() {
+
+        final var hierarchy = new TransformHierarchyF32();
+        final var rotation = Rotations.fromAxisAngle(Z_AXIS, AngleF32.degrees(90f));
+        final int root = hierarchy.add(TransformHierarchyF32.NO_PARENT, X_AXIS, rotation, Vectors.vec3(2f, 2f, 2f));
+        final int child = hierarchy.add(root, Y_AXIS, QuaternionF32.OPS.identity(), Vectors.vec3(1f, 1f, 1f));
+        final int sibling = hierarchy.add(root);
+        hierarchy.update();
+        Assertions.assertFalse(hierarchy.isDirty());
+        final var expected = Affine3F32.OPS.multiply(hierarchy.local(root), hierarchy.local(child));
+        Assertions.assertArrayEquals(elements(expected), elements(hierarchy.world(child)), 1e-6f);
+
+        // Only the subtree of the moved node is recomputed, the sibling keeps the world matrix of its parent.
+        hierarchy.setTranslation(child, Z_AXIS);
+        Assertions.assertTrue(hierarchy.isDirty());
+        hierarchy.update();
+        Assertions.assertArrayEquals(new float[]{1f, 0f, 2f}, elements(Affine3F32.OPS.multiply(hierarchy.world(child), Vectors.vec3(0f, 0f, 0f))), 1e-6f);
+        Assertions.assertArrayEquals(elements(hierarchy.world(root)), elements(hierarchy.world(sibling)), 1e-6f);
+    }
+
+    @Test
+    void transformHierarchyParallel() {
+
+        // Far more nodes than the parallel threshold, the subtrees of the first nodes are large enough to be split too.
+        final int nodes = 20_000;
+        final var random = new Random(1);
+        final var hierarchy = new TransformHierarchyF32();
+        for (int i = 0; i < nodes; i++) {
+            final int parent = i < 3 ? TransformHierarchyF32.NO_PARENT : random.nextInt(i);
+            hierarchy.add(parent, randomVec3(random, -1f, 1f), randomRotation(random), randomVec3(random, .9f, 1.1f));
+        }
+        hierarchy.update();
+        assertWorldMatrices(hierarchy);
+
+        for (int i = 0; i < 5_000; i++) hierarchy.setRotation(random.nextInt(nodes), randomRotation(random));
+        hierarchy.update();
+        assertWorldMatrices(hierarchy);
+
+        // A single leaf, recomputed by the current thread.
+        hierarchy.setTranslation(nodes - 1, Z_AXIS);
+        hierarchy.update();
+        assertWorldMatrices(hierarchy);
+
+        // Small batches, every update must forget what the walks of the previous ones found.
+        for (int batch = 0; batch < 20; batch++) {
+            for (int i = random.nextInt(1, 50); i > 0; i--) hierarchy.setScale(random.nextInt(nodes), randomVec3(random, .9f, 1.1f));
+            hierarchy.update();
+            assertWorldMatrices(hierarchy);
+        }
+    }
+
+    /// Compares every world matrix against a sequential recomputation of the whole hierarchy.
+    private static void assertWorldMatrices(TransformHierarchyF32 hierarchy) {
+        final var expected = new Affine3F32[hierarchy.size()];
+        for (int node = 0; node < expected.length; node++) {
+            final int parent = hierarchy.parent(node);
+            final var local = hierarchy.local(node);
+            expected[node] = parent == TransformHierarchyF32.NO_PARENT ? local : Affine3F32.OPS.multiply(expected[parent], local);
+            Assertions.assertArrayEquals(elements(expected[node]), elements(hierarchy.world(node)), 1e-4f);
+        }
+    }
+
+    private static Vec3F32 randomVec3(Random random, float min, float max) {
+        return Vectors.vec3(random.nextFloat(min, max), random.nextFloat(min, max), random.nextFloat(min, max));
+    }
+
+    private static QuaternionF32 randomRotation(Random random) {
+        final var axis = Vectors.normalize(randomVec3(random, -1f, 1f));
+        return Rotations.fromAxisAngle(axis, AngleF32.degrees(random.nextFloat(-180f, 180f)));
+    }
+
+    @Test
+    void easing() {
+
+        for (final var easing : Easing.values()) {
+            Assertions.assertEquals(0f, easing.ease(0f), 1e-6f, easing.name());
+            Assertions.assertEquals(1f, easing.ease(1f), 1e-6f, easing.name());
+        }
+        Assertions.assertEquals(.25f, Easing.QUAD_IN.ease(.5f), 1e-6f);
+        Assertions.assertEquals(.5f, CubicBezierEasing.EASE_IN_OUT.ease(.5f), 1e-6f);
+
+        final var start = new Vec3F32(0f, 2f, -4f);
+        final var end = new Vec3F32(4f, 2f, 0f);
+        Assertions.assertEquals(new Vec3F32(1f, 2f, -3f), Vec3F32.OPS.interpolate(start, end, .5f, Easing.QUAD_IN));
+        // The generated aliases must take an implicitly typed lambda, with a primitive and with a boxed progress.
+        final Float boxed = .5f;
+        Assertions.assertEquals(new Vec3F32(1f, 2f, -3f), Vectors.interpolate(start, end, .5f, t -> t * t));
+        Assertions.assertEquals(new Vec3F32(1f, 2f, -3f), Vectors.interpolate(start, end, boxed, t -> t * t));
+    }
+
+    @Test
+    void spline() {
+
+        final Vec3F32[] points = {
+                new Vec3F32(0f, 0f, 0f),
+                new Vec3F32(1f, 2f, 0f),
+                new Vec3F32(3f, 2f, 1f),
+                new Vec3F32(4f, 0f, 0f)
+        };
+        final var spline = new Spline3F32(SplineKind.CATMULL_ROM, points);
+        for (int i = 0; i < points.length; i++) {
+            Assertions.assertEquals(points[i], spline.position((float) i / (points.length - 1)));
+        }
+
+        // A straight line with uneven control points, so only the arc-length parameterization has a constant speed.
+        final var line = new Spline3F32(SplineKind.BEZIER,
+                new Vec3F32(0f, 0f, 0f),
+                new Vec3F32(1f, 0f, 0f),
+                new Vec3F32(2f, 0f, 0f),
+                new Vec3F32(10f, 0f, 0f)
+        );
+        Assertions.assertEquals(10f, line.length(), 1e-4f);
+        final var samples = new Vec3F32Buffer(11);
+        line.sampleByLength(samples);
+        for (int i = 0; i < samples.size(); i++) Assertions.assertEquals(i, samples.x()[i], .05f);
+    }
+
+    @Test
+    void colorBuffer() {
+
+        Assertions.assertEquals(ColorF32.rgba(0x1A2B3CFF), ColorF32.colorHex("#1a2B3c"));
+        Assertions.assertThrows(NumberFormatException.class, () -> ColorF32.colorHex("#1A2B3G"));
+
+        final float[] hue = {-1f, 0f, 1f, 2.5f, 4f, 5.5f, 9f};
+        final float[] saturation = {.2f, 1f, .5f, .8f, 0f, .3f, .9f};
+        final float[] value = {.4f, 1f, .5f, .6f, .7f, 0f, .9f};
+        final var colors = new ColorBuffer(hue.length);
+        ColorBuffer.hsvToRgb(hue, saturation, value, colors);
+        for (int i = 0; i < hue.length; i++) {
+            final var expected = ColorF32.hsv(new AngleF32(hue[i]), saturation[i], value[i]);
+            Assertions.assertEquals(expected.red(), colors.red()[i], 1e-6f);
+            Assertions.assertEquals(expected.green(), colors.green()[i], 1e-6f);
+            Assertions.assertEquals(expected.blue(), colors.blue()[i], 1e-6f);
+        }
+
+        final int[] packed = {0x00000000, 0xFFFFFFFF, 0x80FF4010, 0x1A2B3C4D};
+        final int[] repacked = new int[packed.length];
+        ColorBuffer.pack(ColorBuffer.of(packed), repacked);
+        Assertions.assertArrayEquals(packed, repacked);
+
+        final var linear = new ColorBuffer(packed.length);
+        ColorBuffer.unpackSrgb(packed, linear);
+        ColorBuffer.packSrgb(linear, repacked);
+        Assertions.assertArrayEquals(packed, repacked);
+        Assertions.assertEquals(0.21223076f, ColorF32.srgba(0x7F7F7FFF).red(), 1e-6f);
+        Assertions.assertEquals(0x7F7F7FFF, ColorF32.srgba(0x7F7F7FFF).toSrgba());
+
+        final int[] source = {0xFF000080, 0x00000000, 0x40404040};
+        final int[] destination = {0x0000FFFF, 0x12345678, 0x80808080};
+        ColorBuffer.premultiply(source, source);
+        BlendMode.SOURCE_OVER.compositeRow(source, 0, destination, 0, source.length);
+        Assertions.assertArrayEquals(new int[]{0x80007FFF, 0x12345678, 0x707070A0}, destination);
+        final var over = ColorF32.OPS.composite(new ColorF32(.5f, 0f, 0f, .5f), new ColorF32(0f, 0f, 1f, 1f), BlendMode.SOURCE_OVER);
+        Assertions.assertEquals(new ColorF32(.5f, 0f, .5f, 1f), over);
+
+        // The generated aliases must take an implicitly typed lambda, with a primitive and with a boxed progress.
+        final var black = new ColorF32(0f, 0f, 0f, 1f);
+        final var white = new ColorF32(1f, 1f, 1f, 1f);
+        final Float boxed = .5f;
+        Assertions.assertEquals(new ColorF32(.25f, .25f, .25f, 1f), Colors.interpolate(black, white, .5f, t -> t * t));
+        Assertions.assertEquals(new ColorF32(.25f, .25f, .25f, 1f), Colors.interpolate(black, white, boxed, t -> t * t));
+    }
+
+    private static float[] elements(QuaternionF32 q) {
+        return new float[] {q.x(), q.y(), q.z(), q.w()};
+    }
+
+    private static float[] elements(Vec3F32 v) {
+        return new float[] {v.x(), v.y(), v.z()};
+    }
+
+    private static float[] elements(Affine3F32 m) {
+        return new float[] {m.m00(), m.m01(), m.m02(), m.m03(), m.m10(), m.m11(), m.m12(), m.m13(), m.m20(), m.m21(), m.m22(), m.m23()};
+    }
+
+    private static float[] elements(Matrix4F32 m) {
+        return new float[] {m.m00(), m.m01(), m.m02(), m.m03(), m.m10(), m.m11(), m.m12(), m.m13(), m.m20(), m.m21(), m.m22(), m.m23(), m.m30(), m.m31(), m.m32(), m.m33()};
+    }
 }
@@ -19,12 +19,21 @@ package org.lidiuma.math;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.matrix.Affine3F64;
 import org.lidiuma.math.matrix.Matrices;
+import org.lidiuma.math.matrix.Matrix4F64;
+import org.lidiuma.math.numerics.TrigPrecision;
 import org.lidiuma.math.rotation.AngleF64;
+import org.lidiuma.math.rotation.QuaternionF64;
 import org.lidiuma.math.rotation.Rotations;
+import org.lidiuma.math.shapes.triangle.RayTriangleF64;
+import org.lidiuma.math.shapes.triangle.Triangle3F64;
 import org.lidiuma.math.vector.Vec3F64;
+import org.lidiuma.math.vector.Vec3F64Buffer;
 import org.lidiuma.math.vector.Vectors;
 
+import java.util.Random;
+
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public value class MathF64Test {
 
@@ -68,4 +77,114 @@ public value class MathF64Test {
         Assertions.assertEquals(Vectors.vec3(-10d, -10d, 10d), halfZ);
         Assertions.assertEquals(start, fullY);
     }
+
+    @Test
+    void rotateAll() {
+
+        final var quat = Rotations.fromAxisAngle(Vectors.normalize(Vectors.vec3(1d, 2d, 3d)), Rotations.degrees(37d));
+        final double[] xyz = {10d, 10d, 10d, -3d, 5d, .5d, 0d, 0d, 1d};
+        final double[] out = new double[xyz.length];
+        Rotations.rotateAll(quat, xyz, out);
+
+        // The matrix path rounds differently from the quaternion products, so I compare with a tolerance.
+        for (int i = 0; i < xyz.length; i += 3) {
+            final var expected = Rotations.rotate(quat, Vectors.vec3(xyz[i], xyz[i + 1], xyz[i + 2]));
+            final double x = expected.x(), y = expected.y(), z = expected.z();
+            Assertions.assertEquals(x, out[i], 1e-4d);
+            Assertions.assertEquals(y, out[i + 1], 1e-4d);
+            Assertions.assertEquals(z, out[i + 2], 1e-4d);
+        }
+    }
+
+    @Test
+    void trigPrecision() {
+
+        final var yaw = AngleF64.degrees(30);
+        final var pitch = AngleF64.degrees(-75);
+        final var roll = AngleF64.degrees(190);
+        final var strict = Rotations.fromEulerAngle(yaw, pitch, roll);
+        final var end = Rotations.fromAxisAngle(Y_AXIS, AngleF64.degrees(120));
+
+        for (final var precision : TrigPrecision.values()) {
+            final var euler = Rotations.fromEulerAngle(yaw, pitch, roll, precision);
+            final var slerp = Rotations.slerp(strict, end, .3d, precision);
+            final var expected = Rotations.slerp(strict, end, .3d);
+            Assertions.assertArrayEquals(elements(strict), elements(euler), 1e-6d);
+            Assertions.assertArrayEquals(elements(expected), elements(slerp), 1e-6d);
+        }
+    }
+
+    @Test
+    void fastTrigBound() {
+        final var random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            final double radians = (i % 2 == 0 ? 8e5d : 10d) * (random.nextDouble() * 2d - 1d); // Half over the documented range, half around the origin.
+            final var sinCos = TrigPrecision.FAST.sinCos(radians);
+            Assertions.assertEquals(Math.sin(radians), TrigPrecision.FAST.sin(radians), 2e-9d);
+            Assertions.assertEquals(Math.cos(radians), TrigPrecision.FAST.cos(radians), 2e-9d);
+            Assertions.assertEquals(TrigPrecision.FAST.sin(radians), sinCos.sin());
+            Assertions.assertEquals(TrigPrecision.FAST.cos(radians), sinCos.cos());
+        }
+    }
+
+    @Test
+    void easing() {
+
+        final var start = new Vec3F64(0d, 2d, -4d);
+        final var end = new Vec3F64(4d, 2d, 0d);
+        final var expected = new Vec3F64(1d, 2d, -3d);
+        // The generated aliases must take an implicitly typed lambda, with a primitive and with a boxed progress.
+        final Double boxed = .5d;
+        Assertions.assertEquals(expected, Vectors.interpolate(start, end, .5d, t -> t * t));
+        Assertions.assertEquals(expected, Vectors.interpolate(start, end, boxed, t -> t * t));
+    }
+
+    @Test
+    void inverse() {
+
+        final var affine = Matrices.fromTRS(Vectors.vec3(1d, -2d, 3d), Rotations.fromAxisAngle(Y_AXIS, Rotations.degrees(30d)), Vectors.vec3(2d, 2d, 2d));
+        final var affineIdentity = Matrices.multiply(affine, Matrices.inverse(affine));
+        Assertions.assertArrayEquals(elements(Matrices.identityAffine3F64()), elements(affineIdentity), 1e-5d);
+
+        final var matrix = Matrices.matrix4(2d, 0d, 1d, -3d, 1d, 1d, 0d, 2d, 0d, 3d, 1d, 1d, 0d, 0d, 2d, 1d);
+        final var matrixIdentity = Matrices.multiply(matrix, Matrices.inverse(matrix));
+        Assertions.assertArrayEquals(elements(Matrices.identityMatrix4F64()), elements(matrixIdentity), 1e-5d);
+        Assertions.assertThrows(ArithmeticException.class, () -> Matrices.inverse(Matrices.zeroMatrix4F64()));
+    }
+
+    @Test
+    void rayTriangle() {
+
+        final var a = Vectors.vec3(0d, 0d, 5d);
+        final var triangle = new Triangle3F64(X_AXIS, Y_AXIS);
+        final var hit = RayTriangleF64.intersect(Vectors.vec3(.25d, .5d, 0d), Z_AXIS, a, triangle);
+        Assertions.assertEquals(5d, hit.distance(), 1e-12d);
+        Assertions.assertEquals(.25d, hit.u(), 1e-12d);
+        Assertions.assertEquals(.5d, hit.v(), 1e-12d);
+        // Outside the hypotenuse, and behind the origin.
+        Assertions.assertFalse(RayTriangleF64.intersect(Vectors.vec3(.75d, .5d, 0d), Z_AXIS, a, triangle).hit());
+        Assertions.assertFalse(RayTriangleF64.intersect(Vectors.vec3(.25d, .5d, 6d), Z_AXIS, a, triangle).hit());
+
+        // The bulk kernel must agree with the scalar one.
+        final var origins = Vec3F64Buffer.of(Vectors.vec3(.25d, .5d, 0d), Vectors.vec3(.75d, .5d, 0d), Vectors.vec3(.1d, .1d, 10d));
+        final var directions = Vec3F64Buffer.of(Z_AXIS, Z_AXIS, Vectors.vec3(0d, 0d, -2d));
+        final double[] distances = new double[3], u = new double[3], v = new double[3];
+        RayTriangleF64.intersect(origins, directions, a, triangle, distances, u, v);
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(RayTriangleF64.intersect(origins.get(i), directions.get(i), a, triangle).distance(), distances[i]);
+        }
+        Assertions.assertEquals(2.5d, distances[2], 1e-12d);
+    }
+
+    private static double[] elements(QuaternionF64 q) {
+        return new double[] {q.x(), q.y(), q.z(), q.w()};
+    }
+
+    private static double[] elements(Affine3F64 m) {
+        return new double[] {m.m00(), m.m01(), m.m02(), m.m03(), m.m10(), m.m11(), m.m12(), m.m13(), m.m20(), m.m21(), m.m22(), m.m23()};
+    }
+
+    private static double[] elements(Matrix4F64 m) {
+        return new double[] {m.m00(), m.m01(), m.m02(), m.m03(), m.m10(), m.m11(), m.m12(), m.m13(), m.m20(), m.m21(), m.m22(), m.m23(), m.m30(), m.m31(), m.m32(), m.m33()};
+    }
 }
@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.api.traits.matrix.Affine2Ops;
+import org.lidiuma.math.api.traits.matrix.Affine3Ops;
+import org.lidiuma.math.api.traits.matrix.Matrix3Ops;
+import org.lidiuma.math.api.traits.matrix.Matrix4Ops;
+import org.lidiuma.math.matrix.Affine2F32;
+import org.lidiuma.math.matrix.Affine2F64;
+import org.lidiuma.math.matrix.Affine3F32;
+import org.lidiuma.math.matrix.Affine3F64;
+import org.lidiuma.math.matrix.Matrix3F32;
+import org.lidiuma.math.matrix.Matrix3F64;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.matrix.Matrix4F64;
+import org.lidiuma.math.vector.Vec2F32;
+import org.lidiuma.math.vector.Vec2F64;
+import org.lidiuma.math.vector.Vec3F32;
+import org.lidiuma.math.vector.Vec3F64;
+import org.lidiuma.math.vector.Vec4F32;
+import org.lidiuma.math.vector.Vec4F64;
+import java.util.Random;
+
+/// The hand-specialized `multiply` overrides are compared against the generic defaults of the traits,
+///  reached through an `Ops` implementing only the abstract methods.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class MultiplyTest {
+
+    private static final int SAMPLES = 1000;
+
+    @Test
+    void affine2F32() {
+        final var random = new Random(6);
+        final var inherited = new InheritedAffine2F32();
+        for (int i = 0; i < SAMPLES; i++) {
+            final var a = new Affine2F32(f(random), f(random), f(random), f(random), f(random), f(random));
+            final var b = new Affine2F32(f(random), f(random), f(random), f(random), f(random), f(random));
+            final var v = new Vec2F32(f(random), f(random));
+            assertClose(elements(inherited.multiply(a, b)), elements(Affine2F32.OPS.multiply(a, b)));
+            final var transformed = Affine2F32.OPS.multiply(a, v);
+            assertClose(elements(inherited.multiply(a, v)), elements(transformed));
+            // With w = 1 the vector goes where the translation column of a * translate(v) does.
+            final var moved = Affine2F32.OPS.multiply(a, new Affine2F32(1f, 0f, v.x(), 0f, 1f, v.y()));
+            assertClose(new float[] {moved.m02(), moved.m12()}, elements(transformed));
+        }
+    }
+
+    @Test
+    void affine2F64() {
+        final var random = new Random(6);
+        final var inherited = new InheritedAffine2F64();
+        for (int i = 0; i < SAMPLES; i++) {
+            final var a = new Affine2F64(d(random), d(random), d(random), d(random), d(random), d(random));
+            final var b = new Affine2F64(d(random), d(random), d(random), d(random), d(random), d(random));
+            final var v = new Vec2F64(d(random), d(random));
+            assertClose(elements(inherited.multiply(a, b)), elements(Affine2F64.OPS.multiply(a, b)));
+            final var transformed = Affine2F64.OPS.multiply(a, v);
+            assertClose(elements(inherited.multiply(a, v)), elements(transformed));
+            final var moved = Affine2F64.OPS.multiply(a, new Affine2F64(1d, 0d, v.x(), 0d, 1d, v.y()));
+            assertClose(new double[] {moved.m02(), moved.m12()}, elements(transformed));
+        }
+    }
+
+    @Test
+    void affine3F32() {
+        final var random = new Random(6);
+        final var inherited = new InheritedAffine3F32();
+        for (int i = 0; i < SAMPLES; i++) {
+            final var a = randomAffine3F32(random);
+            final var b = randomAffine3F32(random);
+            final var v = new Vec3F32(f(random), f(random), f(random));
+            assertClose(elements(inherited.multiply(a, b)), elements(Affine3F32.OPS.multiply(a, b)));
+            final var transformed = Affine3F32.OPS.multiply(a, v);
+            assertClose(elements(inherited.multiply(a, v)), elements(transformed));
+            // With w = 1 the vector goes where the translation column of a * translate(v) does.
+            final var moved = Affine3F32.OPS.multiply(a, new Affine3F32(
+                    1f, 0f, 0f, v.x(),
+                    0f, 1f, 0f, v.y(),
+                    0f, 0f, 1f, v.z()
+            ));
+            assertClose(new float[] {moved.m03(), moved.m13(), moved.m23()}, elements(transformed));
+        }
+    }
+
+    @Test
+    void affine3F64() {
+        final var random = new Random(6);
+        final var inherited = new InheritedAffine3F64();
+        for (int i = 0; i < SAMPLES; i++) {
+            final var a = randomAffine3F64(random);
+            final var b = randomAffine3F64(random);
+            final var v = new Vec3F64(d(random), d(random), d(random));
+            assertClose(elements(inherited.multiply(a, b)), elements(Affine3F64.OPS.multiply(a, b)));
+            final var transformed = Affine3F64.OPS.multiply(a, v);
+            assertClose(elements(inherited.multiply(a, v)), elements(transformed));
+            final var moved = Affine3F64.OPS.multiply(a, new Affine3F64(
+                    1d, 0d, 0d, v.x(),
+                    0d, 1d, 0d, v.y(),
+                    0d, 0d, 1d, v.z()
+            ));
+            assertClose(new double[] {moved.m03(), moved.m13(), moved.m23()}, elements(transformed));
+        }
+    }
+
+    @Test
+    void matrix3F32() {
+        final var random = new Random(6);
+        final var inherited = new InheritedMatrix3F32();
+        for (int i = 0; i < SAMPLES; i++) {
+            final var a = randomMatrix3F32(random);
+            final var b = randomMatrix3F32(random);
+            final var v = new Vec3F32(f(random), f(random), f(random));
+            assertClose(elements(inherited.multiply(a, b)), elements(Matrix3F32.OPS.multiply(a, b)));
+            assertClose(elements(inherited.multiply(a, v)), elements(Matrix3F32.OPS.multiply(a, v)));
+        }
+    }
+
+    @Test
+    void matrix4F32() {
+        final var random = new Random(6);
+        final var inherited = new InheritedMatrix4F32();
+        for (int i = 0; i < SAMPLES; i++) {
+            final var a = randomMatrix4F32(random);
+            final var b = randomMatrix4F32(random);
+            final var v = new Vec4F32(f(random), f(random), f(random), f(random));
+            assertClose(elements(inherited.multiply(a, b)), elements(Matrix4F32.OPS.multiply(a, b)));
+            assertClose(elements(inherited.multiply(a, v)), elements(Matrix4F32.OPS.multiply(a, v)));
+        }
+    }
+
+    @Test
+    void matrix3F64() {
+        final var random = new Random(6);
+        final var inherited = new InheritedMatrix3F64();
+        for (int i = 0; i < SAMPLES; i++) {
+            final var a = randomMatrix3F64(random);
+            final var b = randomMatrix3F64(random);
+            final var v = new Vec3F64(d(random), d(random), d(random));
+            assertClose(elements(inherited.multiply(a, b)), elements(Matrix3F64.OPS.multiply(a, b)));
+            assertClose(elements(inherited.multiply(a, v)), elements(Matrix3F64.OPS.multiply(a, v)));
+        }
+    }
+
+    @Test
+    void matrix4F64() {
+        final var random = new Random(6);
+        final var inherited = new InheritedMatrix4F64();
+        for (int i = 0; i < SAMPLES; i++) {
+            final var a = randomMatrix4F64(random);
+            final var b = randomMatrix4F64(random);
+            final var v = new Vec4F64(d(random), d(random), d(random), d(random));
+            assertClose(elements(inherited.multiply(a, b)), elements(Matrix4F64.OPS.multiply(a, b)));
+            assertClose(elements(inherited.multiply(a, v)), elements(Matrix4F64.OPS.multiply(a, v)));
+        }
+    }
+
+    private static void assertClose(float[] expected, float[] actual) {
+        Assertions.assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i], actual[i], 1e-4f, "Element " + i);
+        }
+    }
+
+    private static void assertClose(double[] expected, double[] actual) {
+        Assertions.assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            Assertions.assertEquals(expected[i], actual[i], 1e-12, "Element " + i);
+        }
+    }
+
+    private static float f(Random random) {
+        return random.nextFloat() * 4f - 2f;
+    }
+
+    private static double d(Random random) {
+        return random.nextDouble() * 4d - 2d;
+    }
+
+    private static Affine3F32 randomAffine3F32(Random random) {
+        return new Affine3F32(
+                f(random), f(random), f(random), f(random),
+                f(random), f(random), f(random), f(random),
+                f(random), f(random), f(random), f(random)
+        );
+    }
+
+    private static Matrix3F32 randomMatrix3F32(Random random) {
+        return new Matrix3F32(
+                f(random), f(random), f(random),
+                f(random), f(random), f(random),
+                f(random), f(random), f(random)
+        );
+    }
+
+    private static Matrix4F32 randomMatrix4F32(Random random) {
+        return new Matrix4F32(
+                f(random), f(random), f(random), f(random),
+                f(random), f(random), f(random), f(random),
+                f(random), f(random), f(random), f(random),
+                f(random), f(random), f(random), f(random)
+        );
+    }
+
+    private static Affine3F64 randomAffine3F64(Random random) {
+        return new Affine3F64(
+                d(random), d(random), d(random), d(random),
+                d(random), d(random), d(random), d(random),
+                d(random), d(random), d(random), d(random)
+        );
+    }
+
+    private static Matrix3F64 randomMatrix3F64(Random random) {
+        return new Matrix3F64(
+                d(random), d(random), d(random),
+                d(random), d(random), d(random),
+                d(random), d(random), d(random)
+        );
+    }
+
+    private static Matrix4F64 randomMatrix4F64(Random random) {
+        return new Matrix4F64(
+                d(random), d(random), d(random), d(random),
+                d(random), d(random), d(random), d(random),
+                d(random), d(random), d(random), d(random),
+                d(random), d(random), d(random), d(random)
+        );
+    }
+
+    private static float[] elements(Vec2F32 v) {
+        return new float[] {v.x(), v.y()};
+    }
+
+    private static float[] elements(Vec3F32 v) {
+        return new float[] {v.x(), v.y(), v.z()};
+    }
+
+    private static float[] elements(Vec4F32 v) {
+        return new float[] {v.x(), v.y(), v.z(), v.w()};
+    }
+
+    private static float[] elements(Affine2F32 m) {
+        return new float[] {m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12()};
+    }
+
+    private static float[] elements(Affine3F32 m) {
+        return new float[] {
+                m.m00(), m.m01(), m.m02(), m.m03(),
+                m.m10(), m.m11(), m.m12(), m.m13(),
+                m.m20(), m.m21(), m.m22(), m.m23()
+        };
+    }
+
+    private static float[] elements(Matrix3F32 m) {
+        return new float[] {
+                m.m00(), m.m01(), m.m02(),
+                m.m10(), m.m11(), m.m12(),
+                m.m20(), m.m21(), m.m22()
+        };
+    }
+
+    private static float[] elements(Matrix4F32 m) {
+        return new float[] {
+                m.m00(), m.m01(), m.m02(), m.m03(),
+                m.m10(), m.m11(), m.m12(), m.m13(),
+                m.m20(), m.m21(), m.m22(), m.m23(),
+                m.m30(), m.m31(), m.m32(), m.m33()
+        };
+    }
+
+    private static double[] elements(Vec2F64 v) {
+        return new double[] {v.x(), v.y()};
+    }
+
+    private static double[] elements(Vec3F64 v) {
+        return new double[] {v.x(), v.y(), v.z()};
+    }
+
+    private static double[] elements(Vec4F64 v) {
+        return new double[] {v.x(), v.y(), v.z(), v.w()};
+    }
+
+    private static double[] elements(Affine2F64 m) {
+        return new double[] {m.m00(), m.m01(), m.m02(), m.m10(), m.m11(), m.m12()};
+    }
+
+    private static double[] elements(Affine3F64 m) {
+        return new double[] {
+                m.m00(), m.m01(), m.m02(), m.m03(),
+                m.m10(), m.m11(), m.m12(), m.m13(),
+                m.m20(), m.m21(), m.m22(), m.m23()
+        };
+    }
+
+    private static double[] elements(Matrix3F64 m) {
+        return new double[] {
+                m.m00(), m.m01(), m.m02(),
+                m.m10(), m.m11(), m.m12(),
+                m.m20(), m.m21(), m.m22()
+        };
+    }
+
+    private static double[] elements(Matrix4F64 m) {
+        return new double[] {
+                m.m00(), m.m01(), m.m02(), m.m03(),
+                m.m10(), m.m11(), m.m12(), m.m13(),
+                m.m20(), m.m21(), m.m22(), m.m23(),
+                m.m30(), m.m31(), m.m32(), m.m33()
+        };
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Affine2Ops].
+    private static final value class InheritedAffine2F32 implements Affine2Ops<Affine2F32, Vec2F32, Float> {
+
+        @Override
+        public Affine2F32 of(Float m00, Float m01, Float m02, Float m10, Float m11, Float m12) {
+            return new Affine2F32(m00, m01, m02, m10, m11, m12);
+        }
+
+        @Override
+        public Vec2F32.Ops vectorOps() {
+            return Vec2F32.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Affine2Ops].
+    private static final value class InheritedAffine2F64 implements Affine2Ops<Affine2F64, Vec2F64, Double> {
+
+        @Override
+        public Affine2F64 of(Double m00, Double m01, Double m02, Double m10, Double m11, Double m12) {
+            return new Affine2F64(m00, m01, m02, m10, m11, m12);
+        }
+
+        @Override
+        public Vec2F64.Ops vectorOps() {
+            return Vec2F64.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Affine3Ops].
+    private static final value class InheritedAffine3F32 implements Affine3Ops<Affine3F32, Vec3F32, Float> {
+
+        @Override
+        public Affine3F32 of(Float m00, Float m01, Float m02, Float m03, Float m10, Float m11, Float m12, Float m13, Float m20, Float m21, Float m22, Float m23) {
+            return new Affine3F32(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23);
+        }
+
+        @Override
+        public Vec3F32.Ops vectorOps() {
+            return Vec3F32.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Affine3Ops].
+    private static final value class InheritedAffine3F64 implements Affine3Ops<Affine3F64, Vec3F64, Double> {
+
+        @Override
+        public Affine3F64 of(Double m00, Double m01, Double m02, Double m03, Double m10, Double m11, Double m12, Double m13, Double m20, Double m21, Double m22, Double m23) {
+            return new Affine3F64(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23);
+        }
+
+        @Override
+        public Vec3F64.Ops vectorOps() {
+            return Vec3F64.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Matrix3Ops].
+    private static final value class InheritedMatrix3F32 implements Matrix3Ops<Matrix3F32, Vec3F32, Float> {
+
+        @Override
+        public Matrix3F32 of(Float m00, Float m01, Float m02, Float m10, Float m11, Float m12, Float m20, Float m21, Float m22) {
+            return new Matrix3F32(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+        }
+
+        @Override
+        public Vec3F32.Ops vectorOps() {
+            return Vec3F32.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Matrix4Ops].
+    private static final value class InheritedMatrix4F32 implements Matrix4Ops<Matrix4F32, Vec4F32, Float> {
+
+        @Override
+        public Matrix4F32 of(Float m00, Float m01, Float m02, Float m03, Float m10, Float m11, Float m12, Float m13, Float m20, Float m21, Float m22, Float m23, Float m30, Float m31, Float m32, Float m33) {
+            return new Matrix4F32(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+        }
+
+        @Override
+        public Vec4F32.Ops vectorOps() {
+            return Vec4F32.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Matrix3Ops].
+    private static final value class InheritedMatrix3F64 implements Matrix3Ops<Matrix3F64, Vec3F64, Double> {
+
+        @Override
+        public Matrix3F64 of(Double m00, Double m01, Double m02, Double m10, Double m11, Double m12, Double m20, Double m21, Double m22) {
+            return new Matrix3F64(m00, m01, m02, m10, m11, m12, m20, m21, m22);
+        }
+
+        @Override
+        public Vec3F64.Ops vectorOps() {
+            return Vec3F64.OPS;
+        }
+    }
+
+    /// Only implements the abstract methods, so every other method is the generic default of [Matrix4Ops].
+    private static final value class InheritedMatrix4F64 implements Matrix4Ops<Matrix4F64, Vec4F64, Double> {
+
+        @Override
+        public Matrix4F64 of(Double m00, Double m01, Double m02, Double m03, Double m10, Double m11, Double m12, Double m13, Double m20, Double m21, Double m22, Double m23, Double m30, Double m31, Double m32, Double m33) {
+            return new Matrix4F64(m00, m01, m02, m03, m10, m11, m12, m13, m20, m21, m22, m23, m30, m31, m32, m33);
+        }
+
+        @Override
+        public Vec4F64.Ops vectorOps() {
+            return Vec4F64.OPS;
+        }
+    }
+}
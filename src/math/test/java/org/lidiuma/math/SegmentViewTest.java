@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.color.ColorF32;
+import org.lidiuma.math.matrix.Affine2F32;
+import org.lidiuma.math.matrix.Affine2F64;
+import org.lidiuma.math.matrix.Affine3F32;
+import org.lidiuma.math.matrix.Affine3F64;
+import org.lidiuma.math.matrix.Matrix3F32;
+import org.lidiuma.math.matrix.Matrix3F64;
+import org.lidiuma.math.matrix.Matrix4F32;
+import org.lidiuma.math.matrix.Matrix4F64;
+import org.lidiuma.math.memory.ColorViews;
+import org.lidiuma.math.memory.MatrixViews;
+import org.lidiuma.math.memory.PointViews;
+import org.lidiuma.math.memory.RotationViews;
+import org.lidiuma.math.memory.SegmentView;
+import org.lidiuma.math.memory.VectorViews;
+import org.lidiuma.math.point.Point2F64;
+import org.lidiuma.math.point.Point3F32;
+import org.lidiuma.math.point.Point3I64;
+import org.lidiuma.math.rotation.QuaternionF32;
+import org.lidiuma.math.vector.Vec1I64;
+import org.lidiuma.math.vector.Vec2F32;
+import org.lidiuma.math.vector.Vec2I32;
+import org.lidiuma.math.vector.Vec3F32;
+import org.lidiuma.math.vector.Vec3F64;
+import org.lidiuma.math.vector.Vec3I32;
+import org.lidiuma.math.vector.Vec4F32;
+import org.lidiuma.math.vector.Vec4F64;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/// Every view is checked against the value it was given, and every bulk operation against the scalar `Ops` applied element by element.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class SegmentViewTest {
+
+    private static final int COUNT = 17;
+    // Only the elements in [FROM, FROM + BULK_COUNT) are touched by the bulk operations.
+    private static final int FROM = 3;
+    private static final int BULK_COUNT = 11;
+
+    @Test
+    void vectorRoundTrip() {
+        roundTrip(VectorViews.VEC1_I64, random -> new Vec1I64(random.nextLong()));
+        roundTrip(VectorViews.VEC2_F32, random -> new Vec2F32(random.nextFloat(), random.nextFloat()));
+        roundTrip(VectorViews.VEC2_I32, random -> new Vec2I32(random.nextInt(), random.nextInt()));
+        roundTrip(VectorViews.VEC3_F32, SegmentViewTest::vec3F32);
+        roundTrip(VectorViews.VEC3_F64, random -> new Vec3F64(random.nextDouble(), random.nextDouble(), random.nextDouble()));
+        roundTrip(VectorViews.VEC4_F64, random -> new Vec4F64(random.nextDouble(), random.nextDouble(), random.nextDouble(), random.nextDouble()));
+    }
+
+    @Test
+    void pointRoundTrip() {
+        roundTrip(PointViews.POINT2_F64, random -> new Point2F64(random.nextDouble(), random.nextDouble()));
+        roundTrip(PointViews.POINT3_F32, random -> new Point3F32(f(random), f(random), f(random)));
+        roundTrip(PointViews.POINT3_I64, random -> new Point3I64(random.nextLong(), random.nextLong(), random.nextLong()));
+    }
+
+    @Test
+    void matrixRoundTrip() {
+        roundTrip(MatrixViews.AFFINE2_F32, SegmentViewTest::affine2F32);
+        roundTrip(MatrixViews.AFFINE2_F64, SegmentViewTest::affine2F64);
+        roundTrip(MatrixViews.AFFINE3_F32, SegmentViewTest::affine3F32);
+        roundTrip(MatrixViews.AFFINE3_F64, SegmentViewTest::affine3F64);
+        roundTrip(MatrixViews.MATRIX3_F32, SegmentViewTest::matrix3F32);
+        roundTrip(MatrixViews.MATRIX3_F64, SegmentViewTest::matrix3F64);
+        roundTrip(MatrixViews.MATRIX4_F32, SegmentViewTest::matrix4F32);
+        roundTrip(MatrixViews.MATRIX4_F64, SegmentViewTest::matrix4F64);
+    }
+
+    @Test
+    void otherRoundTrip() {
+        roundTrip(RotationViews.QUATERNION_F32, SegmentViewTest::quaternionF32);
+        roundTrip(ColorViews.COLOR_F32, random -> new ColorF32(random.nextFloat(), random.nextFloat(), random.nextFloat(), random.nextFloat()));
+    }
+
+    @Test
+    void vectorBulk() {
+
+        final var random = new Random(4);
+        final var vec3 = vec3F32(random);
+        final float scalar = f(random);
+        bulk(VectorViews.VEC3_F32, SegmentViewTest::vec3F32,
+                (segment, from, count) -> VectorViews.VEC3_F32.add(segment, from, count, vec3),
+                v -> Vec3F32.OPS.add(v, vec3));
+        bulk(VectorViews.VEC3_F32, SegmentViewTest::vec3F32,
+                (segment, from, count) -> VectorViews.VEC3_F32.multiply(segment, from, count, scalar),
+                v -> Vec3F32.OPS.multiply(v, scalar));
+
+        final var vec3I32 = new Vec3I32(random.nextInt(), random.nextInt(), random.nextInt());
+        final Function<Random, Vec3I32> vec3I32s = r -> new Vec3I32(r.nextInt(), r.nextInt(), r.nextInt());
+        bulk(VectorViews.VEC3_I32, vec3I32s,
+                (segment, from, count) -> VectorViews.VEC3_I32.add(segment, from, count, vec3I32),
+                v -> Vec3I32.OPS.add(v, vec3I32));
+        bulk(VectorViews.VEC3_I32, vec3I32s,
+                (segment, from, count) -> VectorViews.VEC3_I32.multiply(segment, from, count, 7),
+                v -> Vec3I32.OPS.multiply(v, 7));
+
+        final var matrix3 = matrix3F32(random);
+        bulk(VectorViews.VEC3_F32, SegmentViewTest::vec3F32,
+                (segment, from, count) -> VectorViews.VEC3_F32.transform(segment, from, count, matrix3),
+                v -> Matrix3F32.OPS.multiply(matrix3, v));
+
+        // A non-unit quaternion, the view must scale like rotate() does.
+        final var quaternion = quaternionF32(random);
+        bulk(VectorViews.VEC3_F32, SegmentViewTest::vec3F32,
+                (segment, from, count) -> VectorViews.VEC3_F32.rotate(segment, from, count, quaternion),
+                v -> QuaternionF32.OPS.rotate(quaternion, v));
+
+        final var matrix4 = matrix4F32(random);
+        bulk(VectorViews.VEC4_F32, r -> new Vec4F32(f(r), f(r), f(r), f(r)),
+                (segment, from, count) -> VectorViews.VEC4_F32.transform(segment, from, count, matrix4),
+                v -> Matrix4F32.OPS.multiply(matrix4, v));
+    }
+
+    @Test
+    void pointBulk() {
+        final var matrix = affine3F32(new Random(4));
+        bulk(PointViews.POINT3_F32, r -> new Point3F32(f(r), f(r), f(r)),
+                (segment, from, count) -> PointViews.POINT3_F32.transform(segment, from, count, matrix),
+                p -> {
+                    final var v = Affine3F32.OPS.multiply(matrix, new Vec3F32(p.x(), p.y(), p.z()));
+                    return new Point3F32(v.x(), v.y(), v.z());
+                });
+    }
+
+    @Test
+    void matrixBulk() {
+        final var random = new Random(4);
+        final var affine2F32 = affine2F32(random);
+        bulk(MatrixViews.AFFINE2_F32, SegmentViewTest::affine2F32,
+                (segment, from, count) -> MatrixViews.AFFINE2_F32.transform(segment, from, count, affine2F32),
+                m -> Affine2F32.OPS.multiply(affine2F32, m));
+        final var affine2F64 = affine2F64(random);
+        bulk(MatrixViews.AFFINE2_F64, SegmentViewTest::affine2F64,
+                (segment, from, count) -> MatrixViews.AFFINE2_F64.transform(segment, from, count, affine2F64),
+                m -> Affine2F64.OPS.multiply(affine2F64, m));
+        final var affine3F32 = affine3F32(random);
+        bulk(MatrixViews.AFFINE3_F32, SegmentViewTest::affine3F32,
+                (segment, from, count) -> MatrixViews.AFFINE3_F32.transform(segment, from, count, affine3F32),
+                m -> Affine3F32.OPS.multiply(affine3F32, m));
+        final var affine3F64 = affine3F64(random);
+        bulk(MatrixViews.AFFINE3_F64, SegmentViewTest::affine3F64,
+                (segment, from, count) -> MatrixViews.AFFINE3_F64.transform(segment, from, count, affine3F64),
+                m -> Affine3F64.OPS.multiply(affine3F64, m));
+        final var matrix3F32 = matrix3F32(random);
+        bulk(MatrixViews.MATRIX3_F32, SegmentViewTest::matrix3F32,
+                (segment, from, count) -> MatrixViews.MATRIX3_F32.transform(segment, from, count, matrix3F32),
+                m -> Matrix3F32.OPS.multiply(matrix3F32, m));
+        final var matrix3F64 = matrix3F64(random);
+        bulk(MatrixViews.MATRIX3_F64, SegmentViewTest::matrix3F64,
+                (segment, from, count) -> MatrixViews.MATRIX3_F64.transform(segment, from, count, matrix3F64),
+                m -> Matrix3F64.OPS.multiply(matrix3F64, m));
+        final var matrix4F32 = matrix4F32(random);
+        bulk(MatrixViews.MATRIX4_F32, SegmentViewTest::matrix4F32,
+                (segment, from, count) -> MatrixViews.MATRIX4_F32.transform(segment, from, count, matrix4F32),
+                m -> Matrix4F32.OPS.multiply(matrix4F32, m));
+        final var matrix4F64 = matrix4F64(random);
+        bulk(MatrixViews.MATRIX4_F64, SegmentViewTest::matrix4F64,
+                (segment, from, count) -> MatrixViews.MATRIX4_F64.transform(segment, from, count, matrix4F64),
+                m -> Matrix4F64.OPS.multiply(matrix4F64, m));
+    }
+
+    /// Writes and reads back every index, through slices starting at every byte offset of the first 16 bytes.\
+    /// The slices that break the alignment of the components must be rejected instead of read.
+    private static <T> void roundTrip(SegmentView<T> view, Function<Random, T> values) {
+
+        final var random = new Random(4);
+        final long alignment = view.layout().byteAlignment();
+        try (final var arena = Arena.ofConfined()) {
+            final var segment = arena.allocate(view.layout().byteSize() * COUNT + 16, 16);
+            for (int byteOffset = 0; byteOffset < 16; byteOffset++) {
+
+                final var slice = segment.asSlice(byteOffset, view.layout().byteSize() * COUNT);
+                if (byteOffset % alignment != 0) {
+                    final var value = values.apply(random);
+                    Assertions.assertThrows(IllegalArgumentException.class, () -> view.set(slice, 0, value));
+                    continue;
+                }
+
+                final var expected = new Object[COUNT];
+                for (int i = 0; i < COUNT; i++) {
+                    final var value = values.apply(random);
+                    expected[i] = value;
+                    view.set(slice, i, value);
+                }
+                // Read after all the writes, so a write overflowing into its neighbours is caught.
+                for (int i = 0; i < COUNT; i++) {
+                    Assertions.assertEquals(expected[i], view.get(slice, i), view.layout().name().orElseThrow() + " at byte " + byteOffset + ", index " + i);
+                }
+                Assertions.assertEquals(COUNT, view.count(slice));
+            }
+        }
+    }
+
+    private static <T> void bulk(SegmentView<T> view, Function<Random, T> values, Bulk bulk, UnaryOperator<T> scalar) {
+
+        final var random = new Random(4);
+        try (final var arena = Arena.ofConfined()) {
+
+            final var actual = view.allocate(arena, COUNT);
+            final var expected = view.allocate(arena, COUNT);
+            for (int i = 0; i < COUNT; i++) {
+                final var value = values.apply(random);
+                view.set(actual, i, value);
+                view.set(expected, i, i >= FROM && i < FROM + BULK_COUNT ? scalar.apply(value) : value);
+            }
+            bulk.apply(actual, FROM, BULK_COUNT);
+
+            // All the members of a view share the same layout, so the segments are compared component by component.
+            final var component = (ValueLayout) view.layout().memberLayouts().get(0);
+            final long components = actual.byteSize() / component.byteSize();
+            for (long i = 0; i < components; i++) {
+                final long offset = i * component.byteSize();
+                final var message = view.layout().name().orElseThrow() + " component " + i;
+                switch (component) {
+                    case ValueLayout.OfFloat layout -> Assertions.assertEquals(expected.get(layout, offset), actual.get(layout, offset), 1e-4f, message);
+                    case ValueLayout.OfDouble layout -> Assertions.assertEquals(expected.get(layout, offset), actual.get(layout, offset), 1e-12, message);
+                    case ValueLayout.OfInt layout -> Assertions.assertEquals(expected.get(layout, offset), actual.get(layout, offset), message);
+                    case ValueLayout.OfLong layout -> Assertions.assertEquals(expected.get(layout, offset), actual.get(layout, offset), message);
+                    default -> Assertions.fail("Unexpected component " + component + ".");
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Bulk {
+        void apply(MemorySegment segment, long from, long count);
+    }
+
+    private static float f(Random random) {
+        return random.nextFloat() * 4f - 2f;
+    }
+
+    private static double d(Random random) {
+        return random.nextDouble() * 4d - 2d;
+    }
+
+    private static Vec3F32 vec3F32(Random random) {
+        return new Vec3F32(f(random), f(random), f(random));
+    }
+
+    private static QuaternionF32 quaternionF32(Random random) {
+        return new QuaternionF32(f(random), f(random), f(random), f(random));
+    }
+
+    private static Affine2F32 affine2F32(Random random) {
+        return new Affine2F32(f(random), f(random), f(random), f(random), f(random), f(random));
+    }
+
+    private static Affine2F64 affine2F64(Random random) {
+        return new Affine2F64(d(random), d(random), d(random), d(random), d(random), d(random));
+    }
+
+    private static Affine3F32 affine3F32(Random random) {
+        return new Affine3F32(
+                f(random), f(random), f(random), f(random),
+                f(random), f(random), f(random), f(random),
+                f(random), f(random), f(random), f(random)
+        );
+    }
+
+    private static Affine3F64 affine3F64(Random random) {
+        return new Affine3F64(
+                d(random), d(random), d(random), d(random),
+                d(random), d(random), d(random), d(random),
+                d(random), d(random), d(random), d(random)
+        );
+    }
+
+    private static Matrix3F32 matrix3F32(Random random) {
+        return new Matrix3F32(
+                f(random), f(random), f(random),
+                f(random), f(random), f(random),
+                f(random), f(random), f(random)
+        );
+    }
+
+    private static Matrix3F64 matrix3F64(Random random) {
+        return new Matrix3F64(
+                d(random), d(random), d(random),
+                d(random), d(random), d(random),
+                d(random), d(random), d(random)
+        );
+    }
+
+    private static Matrix4F32 matrix4F32(Random random) {
+        return new Matrix4F32(
+                f(random), f(random), f(random), f(random),
+                f(random), f(random), f(random), f(random),
+                f(random), f(random), f(random), f(random),
+                f(random), f(random), f(random), f(random)
+        );
+    }
+
+    private static Matrix4F64 matrix4F64(Random random) {
+        return new Matrix4F64(
+                d(random), d(random), d(random), d(random),
+                d(random), d(random), d(random), d(random),
+                d(random), d(random), d(random), d(random),
+                d(random), d(random), d(random), d(random)
+        );
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.simd.SimdF32;
+import org.lidiuma.math.simd.SimdF64;
+import org.lidiuma.math.vector.Vec3F32Buffer;
+import org.lidiuma.math.vector.Vec3F64Buffer;
+import java.util.Random;
+
+/// The Vector API kernels are compared against the scalar loops they fall back to, the results must be exactly the same.\
+/// Every length up to [#MAX_LENGTH] is tested, so the lengths that aren't a multiple of the lanes also go through the tail loops.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class SimdTest {
+
+    /// More than three times the lanes of the widest species, 16 floats with AVX-512.
+    private static final int MAX_LENGTH = 67;
+    private static final float ALPHA = .3f;
+
+    @Test
+    void vectorized() {
+        // The build adds jdk.incubator.vector to the test JVM, without it the fallback would be compared against itself.
+        Assertions.assertTrue(SimdF32.isVectorized());
+        Assertions.assertTrue(SimdF64.isVectorized());
+    }
+
+    @Test
+    void elementWiseF32() {
+        final var random = new Random(1);
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+
+            final float[] op1 = randomF32(random, length), op2 = randomF32(random, length);
+            final float[] expected = new float[length], actual = new float[length];
+
+            for (int i = 0; i < length; i++) expected[i] = op1[i] + op2[i];
+            SimdF32.add(op1, op2, actual);
+            Assertions.assertArrayEquals(expected, actual, "add " + length);
+
+            for (int i = 0; i < length; i++) expected[i] = op1[i] * ALPHA;
+            SimdF32.scale(op1, ALPHA, actual);
+            Assertions.assertArrayEquals(expected, actual, "scale " + length);
+
+            for (int i = 0; i < length; i++) expected[i] = op1[i] + (op2[i] - op1[i]) * ALPHA;
+            SimdF32.lerp(op1, op2, ALPHA, actual);
+            Assertions.assertArrayEquals(expected, actual, "lerp " + length);
+        }
+    }
+
+    @Test
+    void elementWiseF64() {
+        final var random = new Random(2);
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+
+            final double[] op1 = randomF64(random, length), op2 = randomF64(random, length);
+            final double[] expected = new double[length], actual = new double[length];
+
+            for (int i = 0; i < length; i++) expected[i] = op1[i] + op2[i];
+            SimdF64.add(op1, op2, actual);
+            Assertions.assertArrayEquals(expected, actual, "add " + length);
+
+            for (int i = 0; i < length; i++) expected[i] = op1[i] * ALPHA;
+            SimdF64.scale(op1, ALPHA, actual);
+            Assertions.assertArrayEquals(expected, actual, "scale " + length);
+
+            for (int i = 0; i < length; i++) expected[i] = op1[i] + (op2[i] - op1[i]) * ALPHA;
+            SimdF64.lerp(op1, op2, ALPHA, actual);
+            Assertions.assertArrayEquals(expected, actual, "lerp " + length);
+        }
+    }
+
+    @Test
+    void geometricF32() {
+        final var random = new Random(3);
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+
+            final var op1 = new Vec3F32Buffer(randomF32(random, length), randomF32(random, length), randomF32(random, length));
+            final var op2 = new Vec3F32Buffer(randomF32(random, length), randomF32(random, length), randomF32(random, length));
+            // Zero vectors spread over the lanes and the tail, the normalization must leave them as zero.
+            for (int i = 0; i < length; i += 5) op1.set(i, 0f, 0f, 0f);
+
+            final float[] expectedDot = new float[length], actualDot = new float[length];
+            Vec3F32Buffer.dot(op1, op2, expectedDot);
+            SimdF32.dot(op1, op2, actualDot);
+            Assertions.assertArrayEquals(expectedDot, actualDot, "dot " + length);
+
+            final var expected = new Vec3F32Buffer(length);
+            final var actual = new Vec3F32Buffer(length);
+            Vec3F32Buffer.cross(op1, op2, expected);
+            SimdF32.cross(op1, op2, actual);
+            assertEquals(expected, actual, "cross " + length);
+
+            Vec3F32Buffer.normalize(op1, expected);
+            SimdF32.normalize(op1, actual);
+            assertEquals(expected, actual, "normalize " + length);
+
+            SimdF32.lerp(op1, op2, ALPHA, actual);
+            for (int i = 0; i < length; i++) {
+                final var start = op1.get(i);
+                final var end = op2.get(i);
+                expected.set(i, start.x() + (end.x() - start.x()) * ALPHA, start.y() + (end.y() - start.y()) * ALPHA, start.z() + (end.z() - start.z()) * ALPHA);
+            }
+            assertEquals(expected, actual, "lerp " + length);
+
+            // The output may alias the operands.
+            Vec3F32Buffer.cross(op1, op2, expected);
+            SimdF32.cross(op1, op2, op1);
+            assertEquals(expected, op1, "aliased cross " + length);
+        }
+    }
+
+    @Test
+    void geometricF64() {
+        final var random = new Random(4);
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+
+            final var op1 = new Vec3F64Buffer(randomF64(random, length), randomF64(random, length), randomF64(random, length));
+            final var op2 = new Vec3F64Buffer(randomF64(random, length), randomF64(random, length), randomF64(random, length));
+            for (int i = 0; i < length; i += 5) op1.set(i, 0d, 0d, 0d);
+
+            final double[] expectedDot = new double[length], actualDot = new double[length];
+            Vec3F64Buffer.dot(op1, op2, expectedDot);
+            SimdF64.dot(op1, op2, actualDot);
+            Assertions.assertArrayEquals(expectedDot, actualDot, "dot " + length);
+
+            final var expected = new Vec3F64Buffer(length);
+            final var actual = new Vec3F64Buffer(length);
+            Vec3F64Buffer.cross(op1, op2, expected);
+            SimdF64.cross(op1, op2, actual);
+            assertEquals(expected, actual, "cross " + length);
+
+            Vec3F64Buffer.normalize(op1, expected);
+            SimdF64.normalize(op1, actual);
+            assertEquals(expected, actual, "normalize " + length);
+
+            SimdF64.lerp(op1, op2, ALPHA, actual);
+            for (int i = 0; i < length; i++) {
+                final var start = op1.get(i);
+                final var end = op2.get(i);
+                expected.set(i, start.x() + (end.x() - start.x()) * ALPHA, start.y() + (end.y() - start.y()) * ALPHA, start.z() + (end.z() - start.z()) * ALPHA);
+            }
+            assertEquals(expected, actual, "lerp " + length);
+
+            Vec3F64Buffer.cross(op1, op2, expected);
+            SimdF64.cross(op1, op2, op1);
+            assertEquals(expected, op1, "aliased cross " + length);
+        }
+    }
+
+    @Test
+    void geometric4F32() {
+        final var random = new Random(5);
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+
+            final float[] x1 = randomF32(random, length), y1 = randomF32(random, length), z1 = randomF32(random, length), w1 = randomF32(random, length);
+            final float[] x2 = randomF32(random, length), y2 = randomF32(random, length), z2 = randomF32(random, length), w2 = randomF32(random, length);
+            for (int i = 0; i < length; i += 5) x1[i] = y1[i] = z1[i] = w1[i] = 0f;
+
+            final float[] expectedDot = new float[length], actualDot = new float[length];
+            for (int i = 0; i < length; i++) expectedDot[i] = x1[i] * x2[i] + y1[i] * y2[i] + z1[i] * z2[i] + w1[i] * w2[i];
+            SimdF32.dot(x1, y1, z1, w1, x2, y2, z2, w2, actualDot);
+            Assertions.assertArrayEquals(expectedDot, actualDot, "dot " + length);
+
+            final float[] ex = new float[length], ey = new float[length], ez = new float[length], ew = new float[length];
+            for (int i = 0; i < length; i++) {
+                final float vLength = (float) Math.sqrt(x1[i] * x1[i] + y1[i] * y1[i] + z1[i] * z1[i] + w1[i] * w1[i]);
+                final float inverse = vLength == 0f ? 0f : 1f / vLength;
+                ex[i] = x1[i] * inverse;
+                ey[i] = y1[i] * inverse;
+                ez[i] = z1[i] * inverse;
+                ew[i] = w1[i] * inverse;
+            }
+            // The output may be the operand.
+            SimdF32.normalize(x1, y1, z1, w1, x1, y1, z1, w1);
+            Assertions.assertArrayEquals(ex, x1, "normalize " + length);
+            Assertions.assertArrayEquals(ey, y1, "normalize " + length);
+            Assertions.assertArrayEquals(ez, z1, "normalize " + length);
+            Assertions.assertArrayEquals(ew, w1, "normalize " + length);
+        }
+    }
+
+    @Test
+    void geometric4F64() {
+        final var random = new Random(6);
+        for (int length = 0; length <= MAX_LENGTH; length++) {
+
+            final double[] x1 = randomF64(random, length), y1 = randomF64(random, length), z1 = randomF64(random, length), w1 = randomF64(random, length);
+            final double[] x2 = randomF64(random, length), y2 = randomF64(random, length), z2 = randomF64(random, length), w2 = randomF64(random, length);
+            for (int i = 0; i < length; i += 5) x1[i] = y1[i] = z1[i] = w1[i] = 0d;
+
+            final double[] expectedDot = new double[length], actualDot = new double[length];
+            for (int i = 0; i < length; i++) expectedDot[i] = x1[i] * x2[i] + y1[i] * y2[i] + z1[i] * z2[i] + w1[i] * w2[i];
+            SimdF64.dot(x1, y1, z1, w1, x2, y2, z2, w2, actualDot);
+            Assertions.assertArrayEquals(expectedDot, actualDot, "dot " + length);
+
+            final double[] ex = new double[length], ey = new double[length], ez = new double[length], ew = new double[length];
+            for (int i = 0; i < length; i++) {
+                final double vLength = Math.sqrt(x1[i] * x1[i] + y1[i] * y1[i] + z1[i] * z1[i] + w1[i] * w1[i]);
+                final double inverse = vLength == 0d ? 0d : 1d / vLength;
+                ex[i] = x1[i] * inverse;
+                ey[i] = y1[i] * inverse;
+                ez[i] = z1[i] * inverse;
+                ew[i] = w1[i] * inverse;
+            }
+            // The output may be the operand.
+            SimdF64.normalize(x1, y1, z1, w1, x1, y1, z1, w1);
+            Assertions.assertArrayEquals(ex, x1, "normalize " + length);
+            Assertions.assertArrayEquals(ey, y1, "normalize " + length);
+            Assertions.assertArrayEquals(ez, z1, "normalize " + length);
+            Assertions.assertArrayEquals(ew, w1, "normalize " + length);
+        }
+    }
+
+    private static void assertEquals(Vec3F32Buffer expected, Vec3F32Buffer actual, String message) {
+        Assertions.assertArrayEquals(expected.x(), actual.x(), message);
+        Assertions.assertArrayEquals(expected.y(), actual.y(), message);
+        Assertions.assertArrayEquals(expected.z(), actual.z(), message);
+    }
+
+    private static void assertEquals(Vec3F64Buffer expected, Vec3F64Buffer actual, String message) {
+        Assertions.assertArrayEquals(expected.x(), actual.x(), message);
+        Assertions.assertArrayEquals(expected.y(), actual.y(), message);
+        Assertions.assertArrayEquals(expected.z(), actual.z(), message);
+    }
+
+    private static float[] randomF32(Random random, int length) {
+        final float[] array = new float[length];
+        for (int i = 0; i < length; i++) array[i] = random.nextFloat(-100f, 100f);
+        return array;
+    }
+
+    private static double[] randomF64(Random random, int length) {
+        final double[] array = new double[length];
+        for (int i = 0; i < length; i++) array[i] = random.nextDouble(-100d, 100d);
+        return array;
+    }
+}
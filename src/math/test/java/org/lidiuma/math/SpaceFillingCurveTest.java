@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.point.Hilbert;
+import org.lidiuma.math.point.Morton;
+import org.lidiuma.math.point.Point2I32;
+import org.lidiuma.math.point.Point2I64;
+import org.lidiuma.math.point.Point3I32;
+import org.lidiuma.math.point.Point3I64;
+import org.lidiuma.math.tuple.Long3;
+import java.util.Arrays;
+import java.util.Random;
+
+/// [Morton] and [Hilbert] round trips at the edges of their ranges, and the order of the sorted codes.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class SpaceFillingCurveTest {
+
+    private static final int MIN_3D = -(1 << 20);
+    private static final int MAX_3D = (1 << 20) - 1;
+    private static final int[] EDGES_2D = {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -2, -1, 0, 1, Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+    private static final int[] EDGES_3D = {MIN_3D, MIN_3D + 1, -2, -1, 0, 1, MAX_3D - 1, MAX_3D};
+
+    @Test
+    void roundTrip2D() {
+        final var random = new Random(17);
+        final int[] x = new int[EDGES_2D.length * EDGES_2D.length + 1000], y = new int[x.length];
+        int i = 0;
+        for (final int a : EDGES_2D) {
+            for (final int b : EDGES_2D) {
+                x[i] = a;
+                y[i++] = b;
+            }
+        }
+        for (; i < x.length; i++) {
+            x[i] = random.nextInt();
+            y[i] = random.nextInt();
+        }
+
+        final long[] morton = new long[x.length], hilbert = new long[x.length];
+        Morton.encode(x, y, morton);
+        Hilbert.encode(x, y, hilbert);
+        final int[] outX = new int[x.length], outY = new int[x.length];
+        Morton.decode(morton, outX, outY);
+        Assertions.assertArrayEquals(x, outX);
+        Assertions.assertArrayEquals(y, outY);
+        Hilbert.decode(hilbert, outX, outY);
+        Assertions.assertArrayEquals(x, outX);
+        Assertions.assertArrayEquals(y, outY);
+
+        for (int j = 0; j < x.length; j++) {
+            final var point = new Point2I32(x[j], y[j]);
+            Assertions.assertEquals(morton[j], Morton.encode(point));
+            Assertions.assertEquals(point, Morton.decode2(morton[j]));
+            Assertions.assertEquals(hilbert[j], Hilbert.encode(point));
+            Assertions.assertEquals(point, Hilbert.decode2(hilbert[j]));
+            Assertions.assertEquals(morton[j], Morton.encode(new Point2I64((long) x[j], (long) y[j])));
+        }
+        Assertions.assertThrows(ArithmeticException.class, () -> Morton.encode(new Point2I64(1L << 31, 0L)));
+        Assertions.assertThrows(ArithmeticException.class, () -> Hilbert.encode(new Point2I64(0L, -(1L << 31) - 1)));
+    }
+
+    @Test
+    void roundTrip3D() {
+        final var random = new Random(3);
+        final int[] x = new int[EDGES_3D.length * EDGES_3D.length * EDGES_3D.length + 1000], y = new int[x.length], z = new int[x.length];
+        int i = 0;
+        for (final int a : EDGES_3D) {
+            for (final int b : EDGES_3D) {
+                for (final int c : EDGES_3D) {
+                    x[i] = a;
+                    y[i] = b;
+                    z[i++] = c;
+                }
+            }
+        }
+        for (; i < x.length; i++) {
+            x[i] = random.nextInt(MIN_3D, MAX_3D + 1);
+            y[i] = random.nextInt(MIN_3D, MAX_3D + 1);
+            z[i] = random.nextInt(MIN_3D, MAX_3D + 1);
+        }
+
+        final long[] morton = new long[x.length], hilbert = new long[x.length];
+        Morton.encode(x, y, z, morton);
+        Hilbert.encode(x, y, z, hilbert);
+        final int[] outX = new int[x.length], outY = new int[x.length], outZ = new int[x.length];
+        Morton.decode(morton, outX, outY, outZ);
+        Assertions.assertArrayEquals(x, outX);
+        Assertions.assertArrayEquals(y, outY);
+        Assertions.assertArrayEquals(z, outZ);
+        Hilbert.decode(hilbert, outX, outY, outZ);
+        Assertions.assertArrayEquals(x, outX);
+        Assertions.assertArrayEquals(y, outY);
+        Assertions.assertArrayEquals(z, outZ);
+
+        for (int j = 0; j < x.length; j++) {
+            final var point = new Point3I32(x[j], y[j], z[j]);
+            Assertions.assertEquals(point, Morton.decode3(morton[j]));
+            Assertions.assertEquals(point, Hilbert.decode3(hilbert[j]));
+            Assertions.assertEquals(morton[j], Morton.encode(new Point3I64((long) x[j], (long) y[j], (long) z[j])));
+            Assertions.assertEquals(hilbert[j], Hilbert.encode(new Long3((long) x[j], (long) y[j], (long) z[j])));
+        }
+
+        // Just outside the 21 bits range, these used to wrap around silently.
+        Assertions.assertThrows(ArithmeticException.class, () -> Morton.encode(new Point3I64(1L << 20, 0L, 0L)));
+        Assertions.assertThrows(ArithmeticException.class, () -> Morton.encode(new Long3(0L, 1L << 21, 0L)));
+        Assertions.assertThrows(ArithmeticException.class, () -> Hilbert.encode(new Point3I64(0L, 0L, -(1L << 20) - 1)));
+        Assertions.assertThrows(ArithmeticException.class, () -> Hilbert.encode(new Long3(Long.MAX_VALUE, 0L, 0L)));
+    }
+
+    @Test
+    void mortonOrder() {
+        // Sorting the signed codes must match the bit-by-bit interleave of the coordinates, ordered as unsigned numbers.
+        final int[] values = {Integer.MIN_VALUE, -100, -3, -2, -1, 0, 1, 2, 3, 100, Integer.MAX_VALUE};
+        final long[] codes = new long[values.length * values.length];
+        int i = 0;
+        for (final int x : values) {
+            for (final int y : values) codes[i++] = Morton.encode(x, y);
+        }
+        Arrays.sort(codes);
+        for (int j = 1; j < codes.length; j++) {
+            final var previous = Morton.decode2(codes[j - 1]);
+            final var current = Morton.decode2(codes[j]);
+            Assertions.assertTrue(compareInterleaved2(previous, current) < 0, previous + " must come before " + current);
+        }
+
+        final int[] values3 = {MIN_3D, -100, -2, -1, 0, 1, 2, 100, MAX_3D};
+        final long[] codes3 = new long[values3.length * values3.length * values3.length];
+        i = 0;
+        for (final int x : values3) {
+            for (final int y : values3) {
+                for (final int z : values3) codes3[i++] = Morton.encode(x, y, z);
+            }
+        }
+        Arrays.sort(codes3);
+        for (int j = 1; j < codes3.length; j++) {
+            final var previous = Morton.decode3(codes3[j - 1]);
+            final var current = Morton.decode3(codes3[j]);
+            Assertions.assertTrue(compareInterleaved3(previous, current) < 0, previous + " must come before " + current);
+        }
+    }
+
+    @Test
+    void hilbertOrder() {
+        // Aligned blocks are visited contiguously by the curve, so their sorted indices must be consecutive, and so must be their cells.
+        for (final int origin : new int[]{-8, 0, 8}) {
+            final long[] indices = new long[64];
+            int i = 0;
+            for (int x = origin; x < origin + 8; x++) {
+                for (int y = origin; y < origin + 8; y++) indices[i++] = Hilbert.encode(x, y);
+            }
+            Arrays.sort(indices);
+            for (int j = 1; j < indices.length; j++) {
+                Assertions.assertEquals(indices[j - 1] + 1, indices[j]);
+                final var previous = Hilbert.decode2(indices[j - 1]);
+                final var current = Hilbert.decode2(indices[j]);
+                Assertions.assertEquals(1, Math.abs(previous.x() - current.x()) + Math.abs(previous.y() - current.y()));
+            }
+        }
+        for (final int origin : new int[]{MIN_3D, -4, 0, MAX_3D - 3}) {
+            final long[] indices = new long[64];
+            int i = 0;
+            for (int x = origin; x < origin + 4; x++) {
+                for (int y = origin; y < origin + 4; y++) {
+                    for (int z = origin; z < origin + 4; z++) indices[i++] = Hilbert.encode(x, y, z);
+                }
+            }
+            Arrays.sort(indices);
+            for (int j = 1; j < indices.length; j++) {
+                Assertions.assertEquals(indices[j - 1] + 1, indices[j]);
+                final var previous = Hilbert.decode3(indices[j - 1]);
+                final var current = Hilbert.decode3(indices[j]);
+                final int distance = Math.abs(previous.x() - current.x()) + Math.abs(previous.y() - current.y()) + Math.abs(previous.z() - current.z());
+                Assertions.assertEquals(1, distance);
+            }
+        }
+    }
+
+    /// A reference Z-order, comparing the interleaved bits one at a time from the most significant.
+    private static int compareInterleaved2(Point2I32 a, Point2I32 b) {
+        final int ax = a.x() ^ Integer.MIN_VALUE, ay = a.y() ^ Integer.MIN_VALUE;
+        final int bx = b.x() ^ Integer.MIN_VALUE, by = b.y() ^ Integer.MIN_VALUE;
+        for (int bit = 31; bit >= 0; bit--) {
+            final int compareX = Integer.compare(ax >>> bit & 1, bx >>> bit & 1);
+            if (compareX != 0) return compareX;
+            final int compareY = Integer.compare(ay >>> bit & 1, by >>> bit & 1);
+            if (compareY != 0) return compareY;
+        }
+        return 0;
+    }
+
+    private static int compareInterleaved3(Point3I32 a, Point3I32 b) {
+        final int[] first = {a.x() - MIN_3D, a.y() - MIN_3D, a.z() - MIN_3D};
+        final int[] second = {b.x() - MIN_3D, b.y() - MIN_3D, b.z() - MIN_3D};
+        for (int bit = 20; bit >= 0; bit--) {
+            for (int axis = 0; axis < 3; axis++) {
+                final int compare = Integer.compare(first[axis] >>> bit & 1, second[axis] >>> bit & 1);
+                if (compare != 0) return compare;
+            }
+        }
+        return 0;
+    }
+}
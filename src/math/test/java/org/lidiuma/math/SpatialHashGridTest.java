@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.point.Point3I32;
+import org.lidiuma.math.point.SpatialHashGrid2;
+import org.lidiuma.math.point.SpatialHashGrid3;
+import org.lidiuma.math.vector.Vec2F32;
+import org.lidiuma.math.vector.Vec3F32;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/// The grids are compared against a brute force scan of the same entities.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class SpatialHashGridTest {
+
+    private static final int ENTITIES = 500;
+    private static final float CELL_SIZE = 2f;
+    private static final float WORLD = 40f;
+
+    @Test
+    void grid3() {
+
+        final var random = new Random(16);
+        final var grid = new SpatialHashGrid3(CELL_SIZE);
+        final float[] x = new float[ENTITIES], y = new float[ENTITIES], z = new float[ENTITIES];
+        final boolean[] present = new boolean[ENTITIES];
+        for (int id = 0; id < ENTITIES; id++) {
+            x[id] = coordinate(random);
+            y[id] = coordinate(random);
+            z[id] = coordinate(random);
+            present[id] = true;
+            grid.insert(id, x[id], y[id], z[id]);
+        }
+
+        // Every round moves most entities to another cell, then removes and reinserts a few.
+        for (int round = 0; round < 50; round++) {
+            for (int id = 0; id < ENTITIES; id++) {
+                if (!present[id]) continue;
+                x[id] = coordinate(random);
+                y[id] = coordinate(random);
+                z[id] = coordinate(random);
+                grid.move(id, new Vec3F32(x[id], y[id], z[id]));
+            }
+            for (int i = 0; i < 20; i++) {
+                final int id = random.nextInt(ENTITIES);
+                if (present[id]) grid.remove(id);
+                else grid.insert(id, x[id], y[id], z[id]);
+                present[id] = !present[id];
+            }
+
+            Assertions.assertEquals(count(present), grid.size());
+            for (int query = 0; query < 5; query++) {
+                final float cx = coordinate(random), cy = coordinate(random), cz = coordinate(random);
+                final float radius = random.nextFloat() * 8f;
+                final var expected = new ArrayList<Integer>();
+                for (int id = 0; id < ENTITIES; id++) {
+                    final float dx = x[id] - cx, dy = y[id] - cy, dz = z[id] - cz;
+                    if (present[id] && dx * dx + dy * dy + dz * dz <= radius * radius) expected.add(id);
+                }
+                final var visited = new ArrayList<Integer>();
+                grid.query(new Vec3F32(cx, cy, cz), radius, visited::add);
+                Assertions.assertEquals(sorted(expected), sorted(visited));
+
+                final int[] out = new int[ENTITIES];
+                final int written = grid.query(new Vec3F32(cx, cy, cz), radius, out);
+                Assertions.assertArrayEquals(toArray(sorted(expected)), sortedPrefix(out, written));
+            }
+        }
+
+        for (int id = 0; id < ENTITIES; id++) {
+            if (!present[id]) continue;
+            Assertions.assertEquals(new Vec3F32(x[id], y[id], z[id]), grid.position(id));
+        }
+        grid.clear();
+        Assertions.assertEquals(0, grid.size());
+        Assertions.assertEquals(0, grid.query(new Vec3F32(0f, 0f, 0f), WORLD * 2f, id -> {}));
+    }
+
+    @Test
+    void grid3Collisions() {
+
+        // The cells are packed in 21 bits per axis, so these three share the same key.
+        final float far = (1 << 21) * CELL_SIZE;
+        final var grid = new SpatialHashGrid3(CELL_SIZE);
+        grid.insert(0, 1f, 1f, 1f);
+        grid.insert(1, 1f + far, 1f, 1f);
+        grid.insert(2, 1f, 1f - far, 1f);
+        grid.insert(3, 1.5f, 1.5f, 1.5f);
+
+        Assertions.assertEquals(List.of(0, 3), visitCell(grid, new Point3I32(0, 0, 0)));
+        Assertions.assertEquals(List.of(1), visitCell(grid, new Point3I32(1 << 21, 0, 0)));
+        Assertions.assertEquals(List.of(2), visitCell(grid, new Point3I32(0, -(1 << 21), 0)));
+        Assertions.assertEquals(List.of(1), query(grid, new Vec3F32(1f + far, 1f, 1f), 1f));
+
+        // Removing the head of the shared list must keep the other cells reachable.
+        grid.remove(3);
+        grid.remove(0);
+        Assertions.assertEquals(List.of(), visitCell(grid, new Point3I32(0, 0, 0)));
+        Assertions.assertEquals(List.of(1), visitCell(grid, new Point3I32(1 << 21, 0, 0)));
+        grid.move(1, 1f, 1f, 1f);
+        Assertions.assertEquals(List.of(1), visitCell(grid, new Point3I32(0, 0, 0)));
+        Assertions.assertEquals(List.of(2), query(grid, new Vec3F32(1f, 1f - far, 1f), 1f));
+    }
+
+    @Test
+    void grid3CellChanges() {
+
+        // A few entities wandering over a million distinct cells, most cells end up empty.
+        final var grid = new SpatialHashGrid3(1f, 4);
+        for (int id = 0; id < 4; id++) grid.insert(id, id, 0f, 0f);
+        for (int step = 1; step <= 250_000; step++) {
+            for (int id = 0; id < 4; id++) grid.move(id, id, step, -step);
+        }
+        for (int id = 0; id < 4; id++) {
+            Assertions.assertEquals(List.of(id), visitCell(grid, new Point3I32(id, 250_000, -250_000)));
+        }
+        Assertions.assertEquals(List.of(0, 1, 2, 3), query(grid, new Vec3F32(1.5f, 250_000f, -250_000f), 2f));
+    }
+
+    @Test
+    void grid2() {
+
+        final var random = new Random(2);
+        final var grid = new SpatialHashGrid2(CELL_SIZE, 0);
+        final float[] x = new float[ENTITIES], y = new float[ENTITIES];
+        for (int id = 0; id < ENTITIES; id++) {
+            x[id] = coordinate(random);
+            y[id] = coordinate(random);
+            grid.insert(id, x[id], y[id]);
+        }
+        for (int round = 0; round < 50; round++) {
+            for (int id = 0; id < ENTITIES; id++) {
+                x[id] = coordinate(random);
+                y[id] = coordinate(random);
+                // Inserting an entity already present moves it.
+                grid.insert(id, new Vec2F32(x[id], y[id]));
+            }
+            final float cx = coordinate(random), cy = coordinate(random);
+            final float radius = random.nextFloat() * 8f;
+            final var expected = new ArrayList<Integer>();
+            for (int id = 0; id < ENTITIES; id++) {
+                final float dx = x[id] - cx, dy = y[id] - cy;
+                if (dx * dx + dy * dy <= radius * radius) expected.add(id);
+            }
+            final var visited = new ArrayList<Integer>();
+            grid.query(new Vec2F32(cx, cy), radius, visited::add);
+            Assertions.assertEquals(sorted(expected), sorted(visited));
+        }
+        for (int id = 0; id < ENTITIES; id += 2) grid.remove(id);
+        Assertions.assertEquals(ENTITIES / 2, grid.size());
+        Assertions.assertFalse(grid.contains(0));
+        Assertions.assertTrue(grid.contains(1));
+    }
+
+    private static float coordinate(Random random) {
+        return (random.nextFloat() * 2f - 1f) * WORLD;
+    }
+
+    private static int count(boolean[] present) {
+        int count = 0;
+        for (final boolean value : present) if (value) count++;
+        return count;
+    }
+
+    private static List<Integer> visitCell(SpatialHashGrid3 grid, Point3I32 cell) {
+        final var visited = new ArrayList<Integer>();
+        grid.forEachInCell(cell, visited::add);
+        return sorted(visited);
+    }
+
+    private static List<Integer> query(SpatialHashGrid3 grid, Vec3F32 center, float radius) {
+        final var visited = new ArrayList<Integer>();
+        grid.query(center, radius, visited::add);
+        return sorted(visited);
+    }
+
+    private static List<Integer> sorted(List<Integer> ids) {
+        final var copy = new ArrayList<>(ids);
+        copy.sort(null);
+        return copy;
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int[] sortedPrefix(int[] ids, int length) {
+        final int[] prefix = Arrays.copyOf(ids, length);
+        Arrays.sort(prefix);
+        return prefix;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.lidiuma.math.vector.Vec3F32;
+import org.lidiuma.math.vector.Vec3F32Buffer;
+import org.lidiuma.math.vector.Vec3F64;
+import org.lidiuma.math.vector.Vec3F64Buffer;
+import org.lidiuma.math.vector.Vec3I32;
+import org.lidiuma.math.vector.Vec3I32Buffer;
+import org.lidiuma.math.vector.Vectors;
+import java.util.Random;
+
+/// The bulk operations of the buffers are compared against the per-element `Ops`.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public value class Vec3BufferTest {
+
+    private static final int SIZE = 100;
+    /// The index of the vector set to zero before the normalization.
+    private static final int ZERO = 7;
+
+    @Test
+    void bulkF32() {
+
+        final var random = new Random(1);
+        final var op1 = randomF32(random);
+        final var op2 = randomF32(random);
+        final var out = new Vec3F32Buffer(SIZE);
+        final float[] dot = new float[SIZE];
+        final float scalar = 1.5f;
+
+        Vec3F32Buffer.add(op1, op2, out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.add(op1.get(i), op2.get(i)), out.get(i));
+        Vec3F32Buffer.add(op1, op2.get(0), out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.add(op1.get(i), op2.get(0)), out.get(i));
+        Vec3F32Buffer.multiply(op1, op2, out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.multiply(op1.get(i), op2.get(i)), out.get(i));
+        Vec3F32Buffer.multiply(op1, scalar, out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.multiply(op1.get(i), scalar), out.get(i));
+
+        // The Ops might sum the products in another order, so I compare with a tolerance.
+        Vec3F32Buffer.dot(op1, op2, dot);
+        for (int i = 0; i < SIZE; i++) {
+            final float expected = Vectors.dot(op1.get(i), op2.get(i));
+            Assertions.assertEquals(expected, dot[i], 1e-4f);
+        }
+        Vec3F32Buffer.cross(op1, op2, out);
+        for (int i = 0; i < SIZE; i++) assertEquals(Vectors.cross(op1.get(i), op2.get(i)), out.get(i), 1e-4f);
+
+        // The output may alias the operands.
+        Vec3F32Buffer.cross(op1, op2, op2);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(out.get(i), op2.get(i));
+
+        op1.set(ZERO, 0f, 0f, 0f);
+        Vec3F32Buffer.normalize(op1, out);
+        for (int i = 0; i < SIZE; i++) {
+            // Unlike the Ops, which divide by zero, a zero vector stays zero.
+            if (i == ZERO) Assertions.assertEquals(Vectors.vec3(0f, 0f, 0f), out.get(i));
+            else assertEquals(Vectors.normalize(op1.get(i)), out.get(i), 1e-6f);
+        }
+    }
+
+    @Test
+    void bulkF64() {
+
+        final var random = new Random(2);
+        final var op1 = randomF64(random);
+        final var op2 = randomF64(random);
+        final var out = new Vec3F64Buffer(SIZE);
+        final double[] dot = new double[SIZE];
+        final double scalar = 1.5d;
+
+        Vec3F64Buffer.add(op1, op2, out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.add(op1.get(i), op2.get(i)), out.get(i));
+        Vec3F64Buffer.add(op1, op2.get(0), out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.add(op1.get(i), op2.get(0)), out.get(i));
+        Vec3F64Buffer.multiply(op1, op2, out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.multiply(op1.get(i), op2.get(i)), out.get(i));
+        Vec3F64Buffer.multiply(op1, scalar, out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.multiply(op1.get(i), scalar), out.get(i));
+
+        Vec3F64Buffer.dot(op1, op2, dot);
+        for (int i = 0; i < SIZE; i++) {
+            final double expected = Vectors.dot(op1.get(i), op2.get(i));
+            Assertions.assertEquals(expected, dot[i], 1e-12d);
+        }
+        Vec3F64Buffer.cross(op1, op2, out);
+        for (int i = 0; i < SIZE; i++) assertEquals(Vectors.cross(op1.get(i), op2.get(i)), out.get(i), 1e-12d);
+
+        Vec3F64Buffer.cross(op1, op2, op2);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(out.get(i), op2.get(i));
+
+        op1.set(ZERO, 0d, 0d, 0d);
+        Vec3F64Buffer.normalize(op1, out);
+        for (int i = 0; i < SIZE; i++) {
+            if (i == ZERO) Assertions.assertEquals(Vectors.vec3(0d, 0d, 0d), out.get(i));
+            else assertEquals(Vectors.normalize(op1.get(i)), out.get(i), 1e-15d);
+        }
+    }
+
+    @Test
+    void bulkI32() {
+
+        final var random = new Random(3);
+        final var op1 = randomI32(random);
+        final var op2 = randomI32(random);
+        final var out = new Vec3I32Buffer(SIZE);
+        final int[] dot = new int[SIZE];
+        final int scalar = 3;
+
+        // Integer math has no rounding, every result must be exact.
+        Vec3I32Buffer.add(op1, op2, out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.add(op1.get(i), op2.get(i)), out.get(i));
+        Vec3I32Buffer.add(op1, op2.get(0), out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.add(op1.get(i), op2.get(0)), out.get(i));
+        Vec3I32Buffer.multiply(op1, op2, out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.multiply(op1.get(i), op2.get(i)), out.get(i));
+        Vec3I32Buffer.multiply(op1, scalar, out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.multiply(op1.get(i), scalar), out.get(i));
+
+        Vec3I32Buffer.dot(op1, op2, dot);
+        for (int i = 0; i < SIZE; i++) {
+            final int expected = Vectors.dot(op1.get(i), op2.get(i));
+            Assertions.assertEquals(expected, dot[i]);
+        }
+        Vec3I32Buffer.cross(op1, op2, out);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(Vectors.cross(op1.get(i), op2.get(i)), out.get(i));
+
+        Vec3I32Buffer.cross(op1, op2, op2);
+        for (int i = 0; i < SIZE; i++) Assertions.assertEquals(out.get(i), op2.get(i));
+    }
+
+    private static void assertEquals(Vec3F32 expected, Vec3F32 actual, float delta) {
+        Assertions.assertEquals(expected.x(), actual.x(), delta);
+        Assertions.assertEquals(expected.y(), actual.y(), delta);
+        Assertions.assertEquals(expected.z(), actual.z(), delta);
+    }
+
+    private static void assertEquals(Vec3F64 expected, Vec3F64 actual, double delta) {
+        Assertions.assertEquals(expected.x(), actual.x(), delta);
+        Assertions.assertEquals(expected.y(), actual.y(), delta);
+        Assertions.assertEquals(expected.z(), actual.z(), delta);
+    }
+
+    private static Vec3F32Buffer randomF32(Random random) {
+        final var buffer = new Vec3F32Buffer(SIZE);
+        for (int i = 0; i < SIZE; i++) buffer.set(i, random.nextFloat(-10f, 10f), random.nextFloat(-10f, 10f), random.nextFloat(-10f, 10f));
+        return buffer;
+    }
+
+    private static Vec3F64Buffer randomF64(Random random) {
+        final var buffer = new Vec3F64Buffer(SIZE);
+        for (int i = 0; i < SIZE; i++) buffer.set(i, random.nextDouble(-10d, 10d), random.nextDouble(-10d, 10d), random.nextDouble(-10d, 10d));
+        return buffer;
+    }
+
+    private static Vec3I32Buffer randomI32(Random random) {
+        final var buffer = new Vec3I32Buffer(SIZE);
+        for (int i = 0; i < SIZE; i++) buffer.set(i, random.nextInt(-100, 100), random.nextInt(-100, 100), random.nextInt(-100, 100));
+        return buffer;
+    }
+}
@@ -37,6 +37,8 @@ public final class AliasGenerator {
     // Class generation information.
     private final SequencedSet<String> imports = new LinkedHashSet<>();
     private final SequencedMap<AliasType, SequencedSet<ExecutableElement>> methods = new LinkedHashMap<>();
+    // The signatures of the generated methods, using the simple names of the types.
+    private final Set<String> signatures = new HashSet<>();
     private final Utility util;
     private final String package_;
     private final String class_;
@@ -149,7 +151,31 @@ public final class AliasGenerator {
                 final var annotated = entry.getKey();
                 final var methods = entry.getValue();
                 for (var method : methods) {
-                    dsl.addMethod(createMethod(annotated, method));
+                    // The primitive alias takes its place, see below.
+                    if (annotated instanceof AliasType.Field && unboxable(annotated, method) == Unboxable.ALL) continue;
+                    dsl.addMethod(createMethod(annotated, method, false));
+                }
+            }
+
+            // The primitive overloads go last, so they never take the place of an alias with the same signature.
+            for (var entry : methods.entrySet()) {
+
+                final var annotated = entry.getKey();
+                if (!(annotated instanceof AliasType.Field)) continue;
+                for (var method : entry.getValue()) {
+                    switch (unboxable(annotated, method)) {
+                        case NONE, SOME -> {}
+                        case SINGLE -> {
+                            if (lambdaAmbiguous(annotated, method)) continue;
+                            final String primitive = createMethod(annotated, method, true);
+                            if (primitive != null) dsl.addMethod(primitive);
+                        }
+                        case ALL -> {
+                            final String primitive = createMethod(annotated, method, true);
+                            // The signature is taken by another alias, so I fall back to the boxed one.
+                            dsl.addMethod(primitive != null ? primitive : createMethod(annotated, method, false));
+                        }
+                    }
                 }
             }
 
@@ -169,7 +195,81 @@ public final class AliasGenerator {
         return this;
     }
 
-    private String createMethod(AliasType aliasType, ExecutableElement method) {
+    /// Which parameters a primitive overload would unbox.
+    ///
+    /// Next to its boxed alias, a primitive overload with two or more unboxed parameters makes the mixed calls ambiguous,
+    ///  `lerp(1f, boxed, .5f)` needs unboxing for one and boxing for the other, so neither is more specific.
+    /// With a single unboxed parameter every call matches one of the two without any conversion,
+    ///  and when every parameter is unboxed the primitive alias replaces the boxed one, the boxed arguments simply get unboxed.
+    /// In the remaining cases I keep the boxed alias alone.
+    private Unboxable unboxable(AliasType aliasType, ExecutableElement method) {
+
+        final DeclaredType declared = annotatedType(aliasType);
+        final var arguments = method.getParameters();
+        int count = 0;
+        for (var argument : arguments) {
+            if (!primitiveClass(declared, argument.asType()).equals(retrieveClass(declared, argument.asType()))) count++;
+        }
+
+        if (count == 0) return Unboxable.NONE;
+        if (count == arguments.size()) return Unboxable.ALL;
+        return count == 1 ? Unboxable.SINGLE : Unboxable.SOME;
+    }
+
+    /// Whether the primitive overload of the method would make the calls with an implicitly typed lambda ambiguous.
+    ///
+    /// `interpolate(V, V, float, UnaryOperator<Float>)` next to `interpolate(V, V, float, FloatEasing)`, `t -> t * t` fits both interfaces,
+    ///  so neither is more specific. Without the primitive overload, the primitive calls go to the other alias and the boxed ones to the boxed alias.
+    private boolean lambdaAmbiguous(AliasType aliasType, ExecutableElement method) {
+
+        final String name = methodName(method, aliasType);
+        final List<String> primitive = parameterClasses(aliasType, method, true);
+
+        for (var entry : methods.entrySet()) {
+            for (var other : entry.getValue()) {
+
+                if (other.equals(method) || !methodName(other, entry.getKey()).equals(name)) continue;
+                if (other.getParameters().size() != primitive.size()) continue;
+
+                // The other alias may be generated in either form.
+                if (lambdaAmbiguous(aliasType, method, primitive, entry.getKey(), other, parameterClasses(entry.getKey(), other, false))) return true;
+                if (lambdaAmbiguous(aliasType, method, primitive, entry.getKey(), other, parameterClasses(entry.getKey(), other, true))) return true;
+            }
+        }
+        return false;
+    }
+
+    /// @return true if every parameter is the same, except for at least one with a different functional interface.
+    private boolean lambdaAmbiguous(AliasType aliasType, ExecutableElement method, List<String> classes, AliasType otherType, ExecutableElement other, List<String> otherClasses) {
+        boolean functional = false;
+        for (int i = 0; i < classes.size(); i++) {
+            if (classes.get(i).equals(otherClasses.get(i))) continue;
+            if (!functionalInterface(aliasType, method.getParameters().get(i).asType())) return false;
+            if (!functionalInterface(otherType, other.getParameters().get(i).asType())) return false;
+            functional = true;
+        }
+        return functional;
+    }
+
+    private boolean functionalInterface(AliasType aliasType, TypeMirror type) {
+        final TypeMirror specialized = util.specializedOfGeneric(annotatedType(aliasType), type);
+        return specialized.getKind() == TypeKind.DECLARED
+                && util.processingEnv().getElementUtils().isFunctionalInterface((TypeElement) ((DeclaredType) specialized).asElement());
+    }
+
+    /// The parameter classes as written in the alias, see [#createMethod(AliasType, ExecutableElement, boolean)].
+    private List<String> parameterClasses(AliasType aliasType, ExecutableElement method, boolean primitive) {
+        final DeclaredType declared = annotatedType(aliasType);
+        final var classes = new ArrayList<String>();
+        for (var argument : method.getParameters()) {
+            classes.add(primitive ? primitiveClass(declared, argument.asType()) : retrieveClass(declared, argument.asType()));
+        }
+        return classes;
+    }
+
+    /// @param primitive if true, the `Float`, `Double`, `Integer`, and `Long` parameters and return type are unboxed.
+    /// @return the method, or null for primitive methods without boxed parameters or with an already generated signature.
+    private String createMethod(AliasType aliasType, ExecutableElement method, boolean primitive) {
 
         final var arguments = method.getParameters();
         final DeclaredType declared = annotatedType(aliasType);
@@ -179,25 +279,53 @@ public final class AliasGenerator {
         // Constructors method names are <init>, so I fix it for the correct Javadoc format.
         final String signature = util.erasedMethodSignature(method).replaceAll("<init>", declared.asElement().getSimpleName().toString());
         final var methodDsl = JavaDSL.method()
-                .documentation("Generated alias of [" + declared.asElement() + "#" + signature + "].")
+                .documentation((primitive ? "Generated primitive alias of [" : "Generated alias of [") + declared.asElement() + "#" + signature + "].")
                 .access(AccessModifier.PUBLIC)
                 .static_(true)
-                .return_(retrieveClass(declared, returnType))
+                .return_(primitive ? primitiveClass(declared, returnType) : retrieveClass(declared, returnType))
                 .name(methodName);
 
         final MethodCallDSL callDsl = newMethodCall(method, aliasType);
+        final var aliasSignature = new StringJoiner(",", methodName + "(", ")");
+        boolean unboxed = false;
 
         for (var argument : arguments) {
-            final String type = retrieveClass(declared, argument.asType());
+            final String boxed = retrieveClass(declared, argument.asType());
+            final String type = primitive ? primitiveClass(declared, argument.asType()) : boxed;
             final String name = argument.getSimpleName().toString();
+            unboxed |= !type.equals(boxed);
             methodDsl.addParameter(type, name);
             callDsl.addParameter(name);
+            aliasSignature.add(type);
         }
 
+        // A primitive return type alone is not a valid overload.
+        if (primitive && !unboxed) return null;
+        if (!signatures.add(aliasSignature.toString()) && primitive) return null;
+
         final String returnStr = returnType.getKind() == TypeKind.VOID ? "" : "return ";
         return methodDsl.body(returnStr + callDsl).toString();
     }
 
+    /// Like [#retrieveClass(DeclaredType, TypeMirror)], but `Float`, `Double`, `Integer`, and `Long` are unboxed.
+    private String primitiveClass(DeclaredType declaredType, TypeMirror type) {
+        final TypeMirror specialized = util.specializedOfGeneric(declaredType, type);
+        if (specialized.getKind() == TypeKind.DECLARED) {
+            try {
+                final var unboxed = util.processingEnv().getTypeUtils().unboxedType(specialized);
+                switch (unboxed.getKind()) {
+                    case FLOAT, DOUBLE, INT, LONG -> {
+                        return unboxed.toString();
+                    }
+                    default -> {}
+                }
+            } catch (IllegalArgumentException _) {
+                // Not a boxed type.
+            }
+        }
+        return retrieveClass(declaredType, type);
+    }
+
     /// Imports the necessary classes and returns the class name.
     private void verifyImports(TypeMirror type) {
 
@@ -250,6 +378,10 @@ public final class AliasGenerator {
         };
     }
 
+    private enum Unboxable {
+        NONE, SINGLE, SOME, ALL
+    }
+
     private sealed interface AliasType {
 
         Element annotated();
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Xasmedy
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.lidiuma.math.processor.processing;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/// Runs the processor on a small `Ops` class, and compiles callers of the generated aliases against it.
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public final class AliasGeneratorTest {
+
+    private static final String SCALAR = """
+            package sample;
+
+            import org.lidiuma.math.processor.FieldAlias;
+            import java.util.function.UnaryOperator;
+
+            public final class Scalar {
+
+                @FieldAlias(outputClass = "Scalars")
+                public static final Ops OPS = new Ops();
+
+                // Like the traits, the boxed methods come from a generic interface.
+                public interface Easer<N> {
+                    default N ease(N t, UnaryOperator<N> curve) { return curve.apply(t); }
+                }
+
+                public static final class Ops implements Easer<Float> {
+                    public Float lerp(Float from, Float to, Float t) { return from + (to - from) * t; }
+                    public String repeat(String text, Integer times) { return text.repeat(times); }
+                    public String pad(String text, Integer left, Integer right) { return " ".repeat(left) + text + " ".repeat(right); }
+                    public float ease(float t, Curve curve) { return curve.ease(t); }
+                }
+            }
+            """;
+
+    private static final String CURVE = """
+            package sample;
+
+            @FunctionalInterface
+            public interface Curve {
+                float ease(float t);
+            }
+            """;
+
+    @Test
+    void mixedArguments() throws IOException {
+
+        // Every mix of boxed and primitive arguments must resolve to a single alias.
+        final String caller = """
+                package sample;
+
+                public final class Caller {
+                    static void call(Float boxed, Integer count) {
+                        final float lerp = Scalars.lerp(1f, boxed, .5f);
+                        final Float boxedLerp = Scalars.lerp(boxed, boxed, boxed);
+                        final float primitiveLerp = Scalars.lerp(0f, 1f, .5f);
+                        final String repeat = Scalars.repeat("a", 2) + Scalars.repeat("a", count);
+                        final String pad = Scalars.pad("a", 1, count) + Scalars.pad("a", count, count) + Scalars.pad("a", 1, 2);
+                    }
+                }
+                """;
+        final String generated = compile(caller);
+
+        // Only the single boxed parameter keeps both aliases.
+        Assertions.assertTrue(generated.contains("float lerp(float from, float to, float t)"), generated);
+        Assertions.assertFalse(generated.contains("Float lerp("), generated);
+        Assertions.assertTrue(generated.contains("String repeat(String text, Integer times)"), generated);
+        Assertions.assertTrue(generated.contains("String repeat(String text, int times)"), generated);
+        Assertions.assertTrue(generated.contains("String pad(String text, Integer left, Integer right)"), generated);
+        Assertions.assertFalse(generated.contains("String pad(String text, int left"), generated);
+    }
+
+    @Test
+    void lambdaArguments() throws IOException {
+
+        // An implicitly typed lambda fits both functional interfaces, so only one alias per argument form may take it.
+        final String caller = """
+                package sample;
+
+                public final class Caller {
+                    static void call(Float boxed) {
+                        final float primitive = Scalars.ease(.5f, t -> t * t);
+                        final Float boxedEase = Scalars.ease(boxed, t -> t * t);
+                    }
+                }
+                """;
+        final String generated = compile(caller);
+
+        Assertions.assertTrue(generated.contains("Float ease(Float t, UnaryOperator<Float> curve)"), generated);
+        Assertions.assertTrue(generated.contains("float ease(float t, Curve curve)"), generated);
+        Assertions.assertFalse(generated.contains("float ease(float t, UnaryOperator<Float> curve)"), generated);
+    }
+
+    /// Compiles [#SCALAR], [#CURVE] and the caller with the processor.
+    /// @return the generated `Scalars` source.
+    private static String compile(String caller) throws IOException {
+
+        final var compiler = ToolProvider.getSystemJavaCompiler();
+        final var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        final Path output = Files.createTempDirectory("alias");
+        final Path sources = Files.createDirectories(output.resolve("sources"));
+        final var options = List.of("-proc:full", "-classpath", System.getProperty("java.class.path"), "-d", output.toString(), "-s", sources.toString());
+
+        final var task = compiler.getTask(null, null, diagnostics, options, null, List.of(source("Scalar", SCALAR), source("Curve", CURVE), source("Caller", caller)));
+        task.setProcessors(List.of(new Processor()));
+        Assertions.assertTrue(task.call(), () -> diagnostics.getDiagnostics().toString());
+        return Files.readString(sources.resolve("sample/Scalars.java"));
+    }
+
+    private static JavaFileObject source(String name, String content) {
+        return new SimpleJavaFileObject(URI.create("string:///sample/" + name + ".java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+}